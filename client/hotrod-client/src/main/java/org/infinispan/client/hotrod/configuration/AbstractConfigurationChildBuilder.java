@@ -106,6 +106,16 @@ public ConfigurationBuilder serverFailureTimeout(int timeoutInMilliseconds) {
       return builder.serverFailureTimeout(timeoutInMilliseconds);
    }
 
+   @Override
+   public ConfigurationBuilder pipeliningWindow(int windowInMicroseconds) {
+      return builder.pipeliningWindow(windowInMicroseconds);
+   }
+
+   @Override
+   public ConfigurationBuilder pipeliningByteBudget(int bytes) {
+      return builder.pipeliningByteBudget(bytes);
+   }
+
    @Override
    public ConfigurationBuilder forceReturnValues(boolean forceReturnValues) {
       return builder.forceReturnValues(forceReturnValues);
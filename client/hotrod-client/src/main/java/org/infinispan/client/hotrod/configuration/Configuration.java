@@ -34,6 +34,8 @@
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.NEAR_CACHE_MAX_ENTRIES;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.NEAR_CACHE_MODE;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.NEAR_CACHE_NAME_PATTERN;
+import static org.infinispan.client.hotrod.impl.ConfigurationProperties.PIPELINING_BYTE_BUDGET;
+import static org.infinispan.client.hotrod.impl.ConfigurationProperties.PIPELINING_WINDOW;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.PROTOCOL_VERSION;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.REQUEST_BALANCING_STRATEGY;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.SASL_MECHANISM;
@@ -124,6 +126,8 @@ public class Configuration implements org.infinispan.api.configuration.Configura
    private final int dnsResolverNegativeTTL;
    private final RemoteCacheManagerMetricsRegistry metricRegistry;
    private final int serverFailureTimeout;
+   private final int pipeliningWindow;
+   private final int pipeliningByteBudget;
 
    public Configuration(ExecutorFactoryConfiguration asyncExecutorFactory, Supplier<FailoverRequestBalancingStrategy> balancingStrategyFactory, ClassLoader classLoader,
                         ClientIntelligence clientIntelligence, ConnectionPoolConfiguration connectionPool, int connectionTimeout, Class<? extends ConsistentHash>[] consistentHashImpl,
@@ -137,7 +141,7 @@ public Configuration(ExecutorFactoryConfiguration asyncExecutorFactory, Supplier
                         List<SerializationContextInitializer> contextInitializers,
                         Map<String, RemoteCacheConfiguration> remoteCaches,
                         TransportFactory transportFactory, boolean tracingPropagationEnabled, RemoteCacheManagerMetricsRegistry metricRegistry,
-                        int serverFailureTimeout) {
+                        int serverFailureTimeout, int pipeliningWindow, int pipeliningByteBudget) {
       this.asyncExecutorFactory = asyncExecutorFactory;
       this.balancingStrategyFactory = balancingStrategyFactory;
       this.maxRetries = maxRetries;
@@ -174,6 +178,8 @@ public Configuration(ExecutorFactoryConfiguration asyncExecutorFactory, Supplier
       this.tracingPropagationEnabled = tracingPropagationEnabled;
       this.metricRegistry = Objects.requireNonNullElse(metricRegistry, RemoteCacheManagerMetricsRegistry.DISABLED);
       this.serverFailureTimeout = serverFailureTimeout;
+      this.pipeliningWindow = pipeliningWindow;
+      this.pipeliningByteBudget = pipeliningByteBudget;
    }
 
    public ExecutorFactoryConfiguration asyncExecutorFactory() {
@@ -405,6 +411,24 @@ public int serverFailureTimeout() {
       return serverFailureTimeout;
    }
 
+   /**
+    * The time operations are gathered before being flushed to a server with requests in flight.
+    * Default is 0, meaning pipelining is disabled.
+    * @return time in microseconds
+    */
+   public int pipeliningWindow() {
+      return pipeliningWindow;
+   }
+
+   /**
+    * The number of bytes of requests after which a batch is written to the connection.
+    * Default is 65536 bytes.
+    * @return the maximum size of a single write in bytes
+    */
+   public int pipeliningByteBudget() {
+      return pipeliningByteBudget;
+   }
+
    @Override
    public String toString() {
       return "Configuration [asyncExecutorFactory=" + asyncExecutorFactory + ", balancingStrategyFactory=()->" + balancingStrategyFactory.get()
@@ -421,6 +445,8 @@ public String toString() {
             + ", statistics=" + statistics
             + ", metricRegistry=" + metricRegistry
             + ", serverFailureTimeout=" + serverFailureTimeout
+            + ", pipeliningWindow=" + pipeliningWindow
+            + ", pipeliningByteBudget=" + pipeliningByteBudget
             + "]";
    }
 
@@ -456,6 +482,8 @@ public Properties properties() {
       properties.setProperty(MAX_RETRIES, maxRetries());
       properties.setProperty(STATISTICS, statistics().enabled());
       properties.setProperty(SERVER_FAILURE_TIMEOUT, serverFailureTimeout());
+      properties.setProperty(PIPELINING_WINDOW, pipeliningWindow());
+      properties.setProperty(PIPELINING_BYTE_BUDGET, pipeliningByteBudget());
 
       properties.setProperty(DNS_RESOLVER_MIN_TTL, dnsResolverMinTTL);
       properties.setProperty(DNS_RESOLVER_MAX_TTL, dnsResolverMaxTTL);
@@ -86,6 +86,8 @@ public class ConfigurationBuilder implements ConfigurationChildBuilder, Builder<
    private int valueSizeEstimate = ConfigurationProperties.DEFAULT_VALUE_SIZE;
    private int maxRetries = ConfigurationProperties.DEFAULT_MAX_RETRIES;
    private int serverFailureTimeout = ConfigurationProperties.DEFAULT_SERVER_FAILURE_TIMEOUT;
+   private int pipeliningWindow = ConfigurationProperties.DEFAULT_PIPELINING_WINDOW;
+   private int pipeliningByteBudget = ConfigurationProperties.DEFAULT_PIPELINING_BYTE_BUDGET;
    private final NearCacheConfigurationBuilder nearCache;
    private final List<String> allowListRegExs = new ArrayList<>();
    private int batchSize = ConfigurationProperties.DEFAULT_BATCH_SIZE;
@@ -366,6 +368,18 @@ public ConfigurationBuilder serverFailureTimeout(int timeoutInMilliseconds) {
       return this;
    }
 
+   @Override
+   public ConfigurationBuilder pipeliningWindow(int windowInMicroseconds) {
+      this.pipeliningWindow = windowInMicroseconds;
+      return this;
+   }
+
+   @Override
+   public ConfigurationBuilder pipeliningByteBudget(int bytes) {
+      this.pipeliningByteBudget = bytes;
+      return this;
+   }
+
    @Override
    public ConfigurationBuilder addJavaSerialAllowList(String... regEx) {
       this.allowListRegExs.addAll(Arrays.asList(regEx));
@@ -503,6 +517,12 @@ public ConfigurationBuilder withProperties(Properties properties) {
       if (typed.containsKey(ConfigurationProperties.SERVER_FAILURE_TIMEOUT)) {
          this.serverFailureTimeout((int) typed.getDurationProperty(ConfigurationProperties.SERVER_FAILURE_TIMEOUT, serverFailureTimeout, true));
       }
+      if (typed.containsKey(ConfigurationProperties.PIPELINING_WINDOW)) {
+         this.pipeliningWindow(typed.getIntProperty(ConfigurationProperties.PIPELINING_WINDOW, pipeliningWindow, true));
+      }
+      if (typed.containsKey(ConfigurationProperties.PIPELINING_BYTE_BUDGET)) {
+         this.pipeliningByteBudget(typed.getIntProperty(ConfigurationProperties.PIPELINING_BYTE_BUDGET, pipeliningByteBudget, true));
+      }
       if (typed.containsKey(ConfigurationProperties.DNS_RESOLVER_MIN_TTL)) {
          this.dnsResolverMinTTL((int) typed.getDurationProperty(ConfigurationProperties.DNS_RESOLVER_MIN_TTL, dnsResolverMinTTL, true));
       }
@@ -645,7 +665,8 @@ public Configuration create() {
             forceReturnValues, keySizeEstimate, buildMarshaller, buildMarshallerClass, protocolVersion, servers, socketTimeout,
             security.create(), tcpNoDelay, tcpKeepAlive, valueSizeEstimate, maxRetries, nearCache.create(),
             serverClusterConfigs, allowListRegExs, batchSize, transaction.create(), statistics.create(), features,
-            contextInitializers, remoteCaches, transportFactory, tracingPropagationEnabled, metricRegistry, serverFailureTimeout);
+            contextInitializers, remoteCaches, transportFactory, tracingPropagationEnabled, metricRegistry, serverFailureTimeout,
+            pipeliningWindow, pipeliningByteBudget);
    }
 
    // Method that handles default marshaller - needed as a placeholder
@@ -697,6 +718,8 @@ public ConfigurationBuilder read(Configuration template, Combine combine) {
       this.transportFactory = template.transportFactory();
       this.valueSizeEstimate = template.valueSizeEstimate();
       this.maxRetries = template.maxRetries();
+      this.pipeliningWindow = template.pipeliningWindow();
+      this.pipeliningByteBudget = template.pipeliningByteBudget();
       this.nearCache.read(template.nearCache(), combine);
       this.allowListRegExs.addAll(template.serialWhitelist());
       this.transaction.read(template.transaction(), combine);
@@ -208,6 +208,26 @@ public interface ConfigurationChildBuilder {
     */
    ConfigurationBuilder serverFailureTimeout(int timeoutInMilliseconds);
 
+   /**
+    * Enables pipelining: the operations submitted to a server within the given window are written to its connection
+    * together, with a single flush.
+    * <p>
+    * The window only delays operations while the connection already has requests waiting for a response, so a client
+    * with no traffic in flight still sends immediately. If the value is less than or equal to 0, which is the default,
+    * pipelining is disabled and the operations are flushed as soon as the connection can write them.
+    * @param windowInMicroseconds the time to gather operations before flushing them, in microseconds
+    * @return this builder
+    */
+   ConfigurationBuilder pipeliningWindow(int windowInMicroseconds);
+
+   /**
+    * The number of bytes of requests written to a connection after which they are handed to the transport, without
+    * waiting for the rest of the batch. Defaults to 64 KiB.
+    * @param bytes the maximum number of bytes of a single write
+    * @return this builder
+    */
+   ConfigurationBuilder pipeliningByteBudget(int bytes);
+
    /**
     * List of regular expressions for classes that can be deserialized using standard Java deserialization
     * when reading data that might have been stored with a different endpoint, e.g. REST.
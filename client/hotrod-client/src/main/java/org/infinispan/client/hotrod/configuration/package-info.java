@@ -87,6 +87,18 @@
  *          <td>The {@link org.infinispan.client.hotrod.configuration.ConfigurationBuilder#serverFailureTimeout(int) timeout} for a failed server when it is retried</td>
  *       </tr>
  *       <tr>
+ *          <td><b>infinispan.client.hotrod.pipelining_window</b></td>
+ *          <td>Integer</td>
+ *          <td>0</td>
+ *          <td>The {@link org.infinispan.client.hotrod.configuration.ConfigurationBuilder#pipeliningWindow(int) window} in microseconds to gather operations to a busy server into a single flush</td>
+ *       </tr>
+ *       <tr>
+ *          <td><b>infinispan.client.hotrod.pipelining_byte_budget</b></td>
+ *          <td>Integer</td>
+ *          <td>65536</td>
+ *          <td>The {@link org.infinispan.client.hotrod.configuration.ConfigurationBuilder#pipeliningByteBudget(int) bytes} of requests after which a batch is written to the connection</td>
+ *       </tr>
+ *       <tr>
  *          <td><b>infinispan.client.hotrod.max_retries</b></td>
  *          <td>Integer</td>
  *          <td>2</td>
@@ -29,6 +29,7 @@ public final class ClientStatistics implements RemoteCacheClientStatisticsMXBean
    private final CounterTracker nearCacheHits;
    private final CounterTracker nearCacheMisses;
    private final CounterTracker nearCacheInvalidations;
+   private final CounterTracker nearCacheEvictions;
 
    public static <K, V> Function<InternalRemoteCache<K, V>, CacheOperationsFactory> functionFor(
          Function<InternalRemoteCache<K, V>, CacheOperationsFactory> delegate) {
@@ -38,8 +39,10 @@ public static <K, V> Function<InternalRemoteCache<K, V>, CacheOperationsFactory>
    ClientStatistics(TimeService timeService, NearCacheService<?, ?> nearCacheService, HotRodClientMetricsRegistry metricRegistry) {
       this.timeService = timeService;
       this.nearCacheService = nearCacheService;
-      if (nearCacheService != null)
+      if (nearCacheService != null) {
          nearCacheService.setInvalidationCallback(this::incrementNearCacheInvalidations);
+         nearCacheService.setEvictionCallback(this::incrementNearCacheEvictions);
+      }
       readHitTimes = metricRegistry.createTimer("reads.hit", "The read hits duration", Map.of(), null);
       readMissTimes = metricRegistry.createTimer("reads.miss", "The read misses duration", Map.of(), null);
       writeTimes = metricRegistry.createTimer("writes", "The writes duration", Map.of(), null);
@@ -47,6 +50,7 @@ public static <K, V> Function<InternalRemoteCache<K, V>, CacheOperationsFactory>
       nearCacheHits = metricRegistry.createCounter("nearCache.hits", "The number of near-cache read hits", Map.of(), null);
       nearCacheMisses = metricRegistry.createCounter("nearCache.misses", "The number of near-cache misses", Map.of(), null);
       nearCacheInvalidations = metricRegistry.createCounter("nearCache.invalidations", "The number of near-cache invalidations", Map.of(), null);
+      nearCacheEvictions = metricRegistry.createCounter("nearCache.evictions", "The number of near-cache evictions", Map.of(), null);
       metricRegistry.createGauge("nearCache.size", "The current number of entries stored in the near-cache", this::getNearCacheSize, Map.of(), null);
    }
 
@@ -128,6 +132,11 @@ public long getNearCacheInvalidations() {
       return counters.get(StripeB.nearCacheInvalidationsFieldUpdater);
    }
 
+   @Override
+   public long getNearCacheEvictions() {
+      return counters.get(StripeB.nearCacheEvictionsFieldUpdater);
+   }
+
    @Override
    public long getNearCacheSize() {
       return nearCacheService != null ? nearCacheService.size() : 0;
@@ -182,6 +191,11 @@ public void incrementNearCacheInvalidations() {
       nearCacheInvalidations.increment();
    }
 
+   public void incrementNearCacheEvictions() {
+      counters.increment(StripeB.nearCacheEvictionsFieldUpdater, counters.stripeForCurrentThread());
+      nearCacheEvictions.increment();
+   }
+
    @Override
    public void resetStatistics() {
       counters.reset(StripeB.remoteCacheHitsFieldUpdater);
@@ -195,6 +209,7 @@ public void resetStatistics() {
       counters.reset(StripeB.nearCacheHitsFieldUpdater);
       counters.reset(StripeB.nearCacheMissesFieldUpdater);
       counters.reset(StripeB.nearCacheInvalidationsFieldUpdater);
+      counters.reset(StripeB.nearCacheEvictionsFieldUpdater);
 
       startNanoseconds.set(timeService.time());
       resetNanoseconds.set(startNanoseconds.get());
@@ -234,6 +249,8 @@ private static class StripeB extends StripeA {
             AtomicLongFieldUpdater.newUpdater(StripeB.class, "nearCacheMisses");
       static final AtomicLongFieldUpdater<StripeB> nearCacheInvalidationsFieldUpdater =
             AtomicLongFieldUpdater.newUpdater(StripeB.class, "nearCacheInvalidations");
+      static final AtomicLongFieldUpdater<StripeB> nearCacheEvictionsFieldUpdater =
+            AtomicLongFieldUpdater.newUpdater(StripeB.class, "nearCacheEvictions");
 
       private volatile long remoteCacheHits = 0;
       private volatile long remoteCacheHitsTime = 0;
@@ -246,6 +263,7 @@ private static class StripeB extends StripeA {
       private volatile long nearCacheHits = 0;
       private volatile long nearCacheMisses = 0;
       private volatile long nearCacheInvalidations = 0;
+      private volatile long nearCacheEvictions = 0;
    }
 
    private static final class StripeC extends StripeB {
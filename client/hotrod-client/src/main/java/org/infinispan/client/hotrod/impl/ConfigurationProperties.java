@@ -54,6 +54,8 @@ public class ConfigurationProperties {
    public static final String PROTOCOL_VERSION = ICH + "protocol_version";
    public static final String TRANSPORT_FACTORY = ICH + "transport_factory";
    public static final String SERVER_FAILURE_TIMEOUT = ICH + "server_failure_timeout";
+   public static final String PIPELINING_WINDOW = ICH + "pipelining_window";
+   public static final String PIPELINING_BYTE_BUDGET = ICH + "pipelining_byte_budget";
    // Encryption properties
    public static final String USE_SSL = ICH + "use_ssl";
    public static final String KEY_STORE_FILE_NAME = ICH + "key_store_file_name";
@@ -157,6 +159,8 @@ public class ConfigurationProperties {
    public static final int DEFAULT_MIN_IDLE = -1;
    public static final boolean DEFAULT_TRACING_PROPAGATION_ENABLED = true;
    public static final int DEFAULT_SERVER_FAILURE_TIMEOUT = 30_000;
+   public static final int DEFAULT_PIPELINING_WINDOW = 0;
+   public static final int DEFAULT_PIPELINING_BYTE_BUDGET = 64 * 1024;
 
    private final TypedProperties props;
 
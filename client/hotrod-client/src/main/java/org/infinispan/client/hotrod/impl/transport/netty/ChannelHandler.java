@@ -25,6 +25,7 @@
 import org.infinispan.client.hotrod.logging.LogFactory;
 import org.infinispan.commons.CacheConfigurationException;
 import org.infinispan.commons.io.FileWatcher;
+import org.infinispan.commons.stat.DistributionSummaryTracker;
 import org.infinispan.commons.util.ProcessorInfo;
 import org.infinispan.commons.util.SslContextFactory;
 
@@ -59,6 +60,7 @@ public class ChannelHandler {
    private final FileWatcher watcher;
    private final OperationDispatcher dispatcher;
    private final Consumer<ChannelPipeline> pipelineDecorator;
+   private final DistributionSummaryTracker batchSizeMetric;
 
    public ChannelHandler(Configuration configuration, String sniHostName, ExecutorService executorService,
                          OperationDispatcher dispatcher, Consumer<ChannelPipeline> pipelineDecorator) {
@@ -96,6 +98,7 @@ public ChannelHandler(Configuration configuration, String sniHostName, ExecutorS
       }
 
       configuration.metricRegistry().createGauge("connection.pool.size", "The total number of connections", channels::size, Map.of(), null);
+      batchSizeMetric = configuration.metricRegistry().createDistributionSummery("connection.batch.size", "The number of operations sent with a single flush", Map.of(), null);
    }
 
    public <E> CompletionStage<E> submitOperation(HotRodOperation<E> operation, SocketAddress socketAddress) {
@@ -217,7 +220,8 @@ public ChannelInitializer createChannelInitializer(SocketAddress address, Bootst
    }
 
    protected OperationChannel createOperationChannel(ChannelInitializer channelInitializer, SocketAddress address) {
-      return OperationChannel.createAndStart(address, channelInitializer, dispatcher::getClientTopologyInfo, dispatcher::handleConnectionFailure);
+      return OperationChannel.createAndStart(address, channelInitializer, dispatcher::getClientTopologyInfo, dispatcher::handleConnectionFailure,
+            configuration.pipeliningWindow(), configuration.pipeliningByteBudget(), batchSizeMetric);
    }
 
    public Flowable<HotRodOperation<?>> pendingOperationFlowable() {
@@ -478,6 +478,15 @@ public void checkpoint() {
       super.checkpoint();
    }
 
+   /**
+    * Returns whether operations written to the channel are still waiting for their response. This method must be
+    * invoked in the event loop.
+    */
+   public boolean hasOutstandingOperations() {
+      assert channel.eventLoop().inEventLoop();
+      return !operations.isEmpty() || !incomplete.isEmpty();
+   }
+
    public Map<Long, HotRodOperation<?>> registeredOperationsById() {
       var map = new HashMap<Long, HotRodOperation<?>>();
       operations.forEach((opTimeout, id) -> {
@@ -7,6 +7,8 @@
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -18,6 +20,7 @@
 import org.infinispan.client.hotrod.impl.protocol.Codec;
 import org.infinispan.client.hotrod.logging.Log;
 import org.infinispan.client.hotrod.logging.LogFactory;
+import org.infinispan.commons.stat.DistributionSummaryTracker;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
@@ -32,7 +35,8 @@ public class OperationChannel implements MessagePassingQueue.Consumer<HotRodOper
 
    public static final AttributeKey<OperationChannel> OPERATION_CHANNEL_ATTRIBUTE_KEY = AttributeKey.newInstance("hotrod-operation");
 
-   private final Runnable SEND_OPERATIONS = this::sendOperations;
+   private final Runnable SEND_OPERATIONS = () -> sendOperations(true);
+   private final Runnable FLUSH_OPERATIONS = () -> sendOperations(false);
    private final SocketAddress address;
    private final ChannelInitializer newChannelInvoker;
    private final AtomicReference<CompletableFuture<Void>> attemptedConnect = new AtomicReference<>();
@@ -41,6 +45,11 @@ public class OperationChannel implements MessagePassingQueue.Consumer<HotRodOper
    private final BiConsumer<OperationChannel, Throwable> connectionFailureListener;
    // Unfortunately MessagePassingQueue doesn't implement Queue so we use the concrete class
    private final MpscUnboundedArrayQueue<HotRodOperation<?>> queue = new MpscUnboundedArrayQueue<>(128);
+   // Set while a task sending the queued operations is pending in the event loop, so submitters don't add another one
+   private final AtomicBoolean sendScheduled = new AtomicBoolean();
+   private final long pipeliningWindowNanos;
+   private final int pipeliningByteBudget;
+   private final DistributionSummaryTracker batchSizeMetric;
 
    // Volatile as operations can be submitted outside of the event loop (channel only written in event loop once)
    private volatile Channel channel;
@@ -53,20 +62,29 @@ public class OperationChannel implements MessagePassingQueue.Consumer<HotRodOper
    Codec codec;
    HeaderDecoder headerDecoder;
    ByteBuf buffer;
+   // Operations written since the last flush
+   int batchOperations;
 
    OperationChannel(SocketAddress unresolvedAddress, ChannelInitializer channelInitializer,
-                    Function<String, ClientTopology> currentCacheTopologyFunction, BiConsumer<OperationChannel, Throwable> connectionFailureListener) {
+                    Function<String, ClientTopology> currentCacheTopologyFunction, BiConsumer<OperationChannel, Throwable> connectionFailureListener,
+                    int pipeliningWindow, int pipeliningByteBudget, DistributionSummaryTracker batchSizeMetric) {
       assert !(unresolvedAddress instanceof InetSocketAddress) || ((InetSocketAddress) unresolvedAddress).isUnresolved();
       this.address = unresolvedAddress;
       this.newChannelInvoker = channelInitializer;
       this.currentCacheTopologyFunction = currentCacheTopologyFunction;
       this.connectionFailureListener = connectionFailureListener;
+      this.pipeliningWindowNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(pipeliningWindow, 0));
+      this.pipeliningByteBudget = pipeliningByteBudget;
+      this.batchSizeMetric = batchSizeMetric;
    }
 
    public static OperationChannel createAndStart(SocketAddress address, ChannelInitializer newChannelInvoker,
                                                   Function<String, ClientTopology> currentCacheTopologyFunction,
-                                                  BiConsumer<OperationChannel, Throwable> connectionFailureListener) {
-      OperationChannel operationChannel = new OperationChannel(address, newChannelInvoker, currentCacheTopologyFunction, connectionFailureListener);
+                                                  BiConsumer<OperationChannel, Throwable> connectionFailureListener,
+                                                  int pipeliningWindow, int pipeliningByteBudget,
+                                                  DistributionSummaryTracker batchSizeMetric) {
+      OperationChannel operationChannel = new OperationChannel(address, newChannelInvoker, currentCacheTopologyFunction,
+            connectionFailureListener, pipeliningWindow, pipeliningByteBudget, batchSizeMetric);
       operationChannel.attemptConnect();
       return operationChannel;
    }
@@ -140,7 +158,7 @@ public void markAcceptingRequests() {
          // We can't mark it as complete until we are authenticated
          attemptedConnect.get().complete(null);
          acceptingRequests = true;
-         sendOperations();
+         sendOperations(false);
       });
    }
 
@@ -173,8 +191,10 @@ public void sendOperation(HotRodOperation<?> operation) {
       Channel channel = this.channel;
       if (channel != null) {
          log.tracef("Enqueued operation %s to send to channel %s", operation, channel);
-         // TODO: maybe implement a way to only submit if required
-         channel.eventLoop().execute(SEND_OPERATIONS);
+         // The pending task will also send this operation
+         if (sendScheduled.compareAndSet(false, true)) {
+            channel.eventLoop().execute(SEND_OPERATIONS);
+         }
       } else {
          log.tracef("Enqueued operation %s to send to address %s when connected", operation, address);
          attemptConnect();
@@ -203,9 +223,26 @@ public Iterable<HotRodOperation<?>> reconnect(Throwable t) {
       return channelOps;
    }
 
-   private void sendOperations() {
+   /**
+    * Writes the queued operations to the channel and flushes them.
+    * <p>
+    * With a pipelining window, operations are not sent right away while the server still has to answer previous
+    * requests: waiting costs little as the connection is busy, and it lets more operations join the same flush. The
+    * task stays marked as scheduled during the window, so the submitted operations don't schedule other sends.
+    *
+    * @param mayDelay whether the operations can wait for the pipelining window before being sent
+    */
+   private void sendOperations(boolean mayDelay) {
       Channel channel = this.channel;
       assert channel == null || channel.eventLoop().inEventLoop();
+      if (mayDelay && pipeliningWindowNanos > 0 && acceptingRequests && channel != null
+            && headerDecoder.hasOutstandingOperations()) {
+         log.tracef("Delaying send of operations to channel %s while others are outstanding", channel);
+         channel.eventLoop().schedule(FLUSH_OPERATIONS, pipeliningWindowNanos, TimeUnit.NANOSECONDS);
+         return;
+      }
+      // Operations enqueued from now on need another send to be scheduled
+      sendScheduled.set(false);
       if (!acceptingRequests || queue.isEmpty() || channel == null) {
          return;
       }
@@ -216,19 +253,32 @@ private void sendOperations() {
 
       // We only send up to 256 commands a time
       queue.drain(this, 256);
-      if (buffer != null && buffer.isReadable()) {
-         log.tracef("Flushing commands to channel %s", channel);
-         channel.writeAndFlush(buffer, channel.voidPromise());
-         buffer = null;
+      writeBuffer();
+      log.tracef("Flushing %d commands to channel %s", batchOperations, channel);
+      channel.flush();
+      if (batchOperations > 0) {
+         batchSizeMetric.record(batchOperations);
+         batchOperations = 0;
       }
       if (log.isTraceEnabled()) {
          log.tracef("Queue size after: %s", queue.size());
       }
       // If Queue wasn't empty try to send again, but note this is sent on eventLoop so other operations can
       // barge in between our calls
-      if (!queue.isEmpty()) {
+      if (!queue.isEmpty() && sendScheduled.compareAndSet(false, true)) {
          log.tracef("Resubmitting as more operations in queue after sending");
-         channel.eventLoop().execute(SEND_OPERATIONS);
+         channel.eventLoop().execute(FLUSH_OPERATIONS);
+      }
+   }
+
+   private void writeBuffer() {
+      if (buffer != null) {
+         if (buffer.isReadable()) {
+            channel.write(buffer, channel.voidPromise());
+         } else {
+            buffer.release();
+         }
+         buffer = null;
       }
    }
 
@@ -245,6 +295,11 @@ public void accept(HotRodOperation<?> operation) {
          long messageId = headerDecoder.registerOperation(operation);
          codec.writeHeader(buffer, messageId, currentCacheTopologyFunction.apply(operation.getCacheName()), operation);
          operation.writeOperationRequest(channel, buffer, codec);
+         batchOperations++;
+         // Hand the requests written so far to the transport, they are flushed with the rest of the batch
+         if (buffer.readableBytes() >= pipeliningByteBudget) {
+            writeBuffer();
+         }
       } catch (Throwable t) {
          log.tracef(t, "Encountered exception while attempting to write to channel %s", channel);
       }
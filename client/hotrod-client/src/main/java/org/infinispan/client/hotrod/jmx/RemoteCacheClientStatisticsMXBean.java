@@ -71,6 +71,12 @@ public interface RemoteCacheClientStatisticsMXBean {
     */
    long getNearCacheInvalidations();
 
+   /**
+    * Returns the number of entries evicted from the near-cache because it reached its size bound. Returns a value of 0
+    * if near-caching is disabled.
+    */
+   long getNearCacheEvictions();
+
    /**
     * Returns the number of entries currently stored in the near-cache. Returns a value of 0 if near-caching is disabled.
     */
@@ -4,6 +4,7 @@
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.infinispan.client.hotrod.MetadataValue;
 import org.infinispan.client.hotrod.configuration.NearCacheConfiguration;
@@ -29,6 +30,16 @@ private BoundedConcurrentMapNearCache(Cache<K, MetadataValue<V>> cache) {
 
    public static <K, V> NearCache<K, V> create(final NearCacheConfiguration config,
                                                BiConsumer<? super K, ? super MetadataValue<V>> removedConsumer) {
+      return create(config, removedConsumer, null);
+   }
+
+   static <K, V> NearCache<K, V> create(NearCacheConfiguration config, NearCacheContext<K, V> context) {
+      return create(config, context::entryRemoved, context::entryEvicted);
+   }
+
+   private static <K, V> NearCache<K, V> create(NearCacheConfiguration config,
+                                                BiConsumer<? super K, ? super MetadataValue<V>> removedConsumer,
+                                                Consumer<? super K> evictedConsumer) {
       Cache<K, MetadataValue<V>> cache = Caffeine.newBuilder()
             .maximumSize(config.maxEntries())
             // Always run in the same thread to make operations synchronous
@@ -36,6 +47,9 @@ public static <K, V> NearCache<K, V> create(final NearCacheConfiguration config,
             .<K, MetadataValue<V>>removalListener((key, value, cause) -> {
                if (cause != RemovalCause.REPLACED) {
                   removedConsumer.accept(key, value);
+                  if (evictedConsumer != null && cause.wasEvicted()) {
+                     evictedConsumer.accept(key);
+                  }
                }
             })
             .build();
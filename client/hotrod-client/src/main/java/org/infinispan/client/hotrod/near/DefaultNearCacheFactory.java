@@ -18,6 +18,13 @@ public <K, V> NearCache<K, V> createNearCache(NearCacheConfiguration config, BiC
             : ConcurrentMapNearCache.create();
    }
 
+   @Override
+   public <K, V> NearCache<K, V> createNearCache(NearCacheConfiguration config, NearCacheContext<K, V> context) {
+      return config.maxEntries() > 0
+            ? BoundedConcurrentMapNearCache.create(config, context)
+            : ConcurrentMapNearCache.create();
+   }
+
    @Override
    public String toString() {
       return "DefaultNearCacheFactory{}";
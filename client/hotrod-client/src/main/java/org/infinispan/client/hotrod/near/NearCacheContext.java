@@ -0,0 +1,32 @@
+package org.infinispan.client.hotrod.near;
+
+import org.infinispan.client.hotrod.MetadataValue;
+
+/**
+ * The services a {@link NearCache} created by a {@link NearCacheFactory} can use from the remote cache it belongs to.
+ *
+ * @since 16.0
+ */
+public interface NearCacheContext<K, V> {
+   /**
+    * Must be invoked when an entry is removed from the near cache for any reason other than a replacement, so the
+    * bloom filter used for invalidations is kept up to date.
+    */
+   void entryRemoved(K key, MetadataValue<V> value);
+
+   /**
+    * Must be invoked when an entry is evicted because the near cache reached its size bound, after
+    * {@link #entryRemoved(Object, MetadataValue)}.
+    */
+   void entryEvicted(K key);
+
+   /**
+    * Serializes a value with the data format of the remote cache.
+    */
+   byte[] valueToBytes(V value);
+
+   /**
+    * Deserializes a value serialized with {@link #valueToBytes(Object)}.
+    */
+   V bytesToValue(byte[] bytes);
+}
@@ -10,4 +10,14 @@
  **/
 public interface NearCacheFactory {
    <K,V> NearCache<K, V> createNearCache(NearCacheConfiguration config, BiConsumer<K, MetadataValue<V>> removedConsumer);
+
+   /**
+    * Creates a near cache that can use the services of the remote cache through the given context. The default
+    * implementation only notifies the removals.
+    *
+    * @since 16.0
+    */
+   default <K,V> NearCache<K, V> createNearCache(NearCacheConfiguration config, NearCacheContext<K, V> context) {
+      return createNearCache(config, context::entryRemoved);
+   }
 }
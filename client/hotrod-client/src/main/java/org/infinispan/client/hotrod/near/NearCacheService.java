@@ -42,6 +42,7 @@
    private byte[] listenerId;
    private NearCache<K, V> cache;
    private Runnable invalidationCallback;
+   private Runnable evictionCallback;
    private final int bloomFilterBits;
    private final int bloomFilterUpdateThreshold;
    private final AtomicInteger nearCacheRemovals;
@@ -69,6 +70,7 @@ protected NearCacheService(NearCacheConfiguration config, ClientListenerNotifier
    }
 
    public Channel start(InternalRemoteCache<K, V> remote) {
+      this.remote = remote;
       if (cache == null) {
          // Create near cache
          cache = createNearCache(config, this::entryRemovedFromNearCache);
@@ -82,7 +84,6 @@ public Channel start(InternalRemoteCache<K, V> remote) {
          // Get the listener ID for faster listener connected lookups
          listenerId = listenerNotifier.findListenerId(listener);
       }
-      this.remote = remote;
       return channelUsed;
    }
 
@@ -122,7 +123,7 @@ public void stop(RemoteCache<K, V> remote) {
    }
 
    protected NearCache<K, V> createNearCache(NearCacheConfiguration config, BiConsumer<K, MetadataValue<V>> removedConsumer) {
-      return config.nearCacheFactory().createNearCache(config, removedConsumer);
+      return config.nearCacheFactory().createNearCache(config, new ServiceContext(removedConsumer));
    }
 
    public static <K, V> NearCacheService<K, V> create(
@@ -221,6 +222,10 @@ public void setInvalidationCallback(Runnable r) {
       this.invalidationCallback = r;
    }
 
+   public void setEvictionCallback(Runnable r) {
+      this.evictionCallback = r;
+   }
+
    public int getBloomFilterBits() {
       return bloomFilterBits;
    }
@@ -246,6 +251,36 @@ public byte[] calculateBloomBits() {
       return intSet.toBitSet();
    }
 
+   private class ServiceContext implements NearCacheContext<K, V> {
+      private final BiConsumer<K, MetadataValue<V>> removedConsumer;
+
+      private ServiceContext(BiConsumer<K, MetadataValue<V>> removedConsumer) {
+         this.removedConsumer = removedConsumer;
+      }
+
+      @Override
+      public void entryRemoved(K key, MetadataValue<V> value) {
+         removedConsumer.accept(key, value);
+      }
+
+      @Override
+      public void entryEvicted(K key) {
+         if (evictionCallback != null) {
+            evictionCallback.run();
+         }
+      }
+
+      @Override
+      public byte[] valueToBytes(V value) {
+         return remote.getDataFormat().valueToBytes(value);
+      }
+
+      @Override
+      public V bytesToValue(byte[] bytes) {
+         return remote.getDataFormat().valueToObj(bytes, remote.getRemoteCacheContainer().getConfiguration().getClassAllowList());
+      }
+   }
+
       @ClientListener
    private static class InvalidatedNearCacheListener<K, V> {
       private static final Log log = LogFactory.getLog(InvalidatedNearCacheListener.class);
@@ -0,0 +1,221 @@
+package org.infinispan.client.hotrod.near;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import org.infinispan.client.hotrod.MetadataValue;
+import org.infinispan.client.hotrod.impl.MetadataValueImpl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.IllegalReferenceCountException;
+
+/**
+ * Near cache that stores the values serialized in direct memory, bounded by the number of bytes they use.
+ * <p>
+ * The entries are kept in a Caffeine cache, so eviction uses the same W-TinyLFU policy as
+ * {@link BoundedConcurrentMapNearCache}, but every entry is weighted by the size of its serialized value plus
+ * {@link #ENTRY_OVERHEAD}. Values are only deserialized when they are read, into a new {@link MetadataValue} each time.
+ * Keys stay on the heap, so the bloom filter sent to the server can still be calculated from them.
+ * <p>
+ * Values without a value, like the placeholders used while a value is being loaded, are kept on the heap as they are,
+ * so they can be replaced or removed by identity.
+ *
+ * @since 16.0
+ */
+final class OffHeapNearCache<K, V> implements NearCache<K, V> {
+   /**
+    * The estimated number of heap bytes used by each entry, accounted on top of its serialized value.
+    */
+   static final int ENTRY_OVERHEAD = 128;
+
+   private final NearCacheContext<K, V> context;
+   private final Cache<K, MetadataValue<V>> cache;
+   private final ConcurrentMap<K, MetadataValue<V>> map;
+
+   private OffHeapNearCache(long maxBytes, NearCacheContext<K, V> context) {
+      this.context = context;
+      this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .<K, MetadataValue<V>>weigher((k, v) -> ENTRY_OVERHEAD + (v instanceof OffHeapValue<?> ov ? ov.size() : 0))
+            // Always run in the same thread to make operations synchronous
+            .executor(Runnable::run)
+            .<K, MetadataValue<V>>removalListener((key, value, cause) -> {
+               if (value instanceof OffHeapValue<?> ov) {
+                  ov.release();
+               }
+               if (cause != RemovalCause.REPLACED) {
+                  context.entryRemoved(key, value);
+                  if (cause.wasEvicted()) {
+                     context.entryEvicted(key);
+                  }
+               }
+            })
+            .build();
+      this.map = cache.asMap();
+   }
+
+   static <K, V> NearCache<K, V> create(long maxBytes, NearCacheContext<K, V> context) {
+      return new OffHeapNearCache<>(maxBytes, context);
+   }
+
+   @Override
+   public boolean putIfAbsent(K key, MetadataValue<V> value) {
+      MetadataValue<V> stored = toStored(value);
+      if (map.putIfAbsent(key, stored) == null) {
+         return true;
+      }
+      release(stored);
+      return false;
+   }
+
+   @Override
+   public boolean replace(K key, MetadataValue<V> prevValue, MetadataValue<V> newValue) {
+      MetadataValue<V> stored = toStored(newValue);
+      if (map.replace(key, prevValue, stored)) {
+         return true;
+      }
+      release(stored);
+      return false;
+   }
+
+   @Override
+   public boolean remove(K key) {
+      return map.remove(key) != null;
+   }
+
+   @Override
+   public boolean remove(K key, MetadataValue<V> value) {
+      return map.remove(key, value);
+   }
+
+   @Override
+   public MetadataValue<V> get(K key) {
+      MetadataValue<V> stored = map.get(key);
+      if (stored instanceof OffHeapValue<V> ov) {
+         // Null if the entry was removed concurrently and its memory already released
+         return ov.materialize();
+      }
+      return stored;
+   }
+
+   @Override
+   public void clear() {
+      map.clear();
+   }
+
+   @Override
+   public int size() {
+      // Make sure to clean up any evicted entries so the returned size is correct
+      cache.cleanUp();
+      return map.size();
+   }
+
+   @Override
+   public Iterator<Map.Entry<K, MetadataValue<V>>> iterator() {
+      return map.entrySet().iterator();
+   }
+
+   private MetadataValue<V> toStored(MetadataValue<V> value) {
+      if (value.getValue() == null) {
+         return value;
+      }
+      byte[] bytes = context.valueToBytes(value.getValue());
+      ByteBuf buf = Unpooled.directBuffer(bytes.length).writeBytes(bytes);
+      return new OffHeapValue<>(value, buf, context);
+   }
+
+   private static void release(MetadataValue<?> stored) {
+      if (stored instanceof OffHeapValue<?> ov) {
+         ov.release();
+      }
+   }
+
+   /**
+    * The metadata of an entry, with its serialized value in direct memory.
+    */
+   private static final class OffHeapValue<V> implements MetadataValue<V> {
+      private final long created;
+      private final int lifespan;
+      private final long lastUsed;
+      private final int maxIdle;
+      private final long version;
+      private final ByteBuf buf;
+      private final NearCacheContext<?, V> context;
+
+      OffHeapValue(MetadataValue<V> value, ByteBuf buf, NearCacheContext<?, V> context) {
+         this.created = value.getCreated();
+         this.lifespan = value.getLifespan();
+         this.lastUsed = value.getLastUsed();
+         this.maxIdle = value.getMaxIdle();
+         this.version = value.getVersion();
+         this.buf = buf;
+         this.context = context;
+      }
+
+      int size() {
+         return buf.readableBytes();
+      }
+
+      void release() {
+         buf.release();
+      }
+
+      MetadataValue<V> materialize() {
+         V value = getValue();
+         return value == null ? null : new MetadataValueImpl<>(created, lifespan, lastUsed, maxIdle, version, value);
+      }
+
+      @Override
+      public V getValue() {
+         try {
+            buf.retain();
+         } catch (IllegalReferenceCountException e) {
+            return null;
+         }
+         try {
+            byte[] bytes = new byte[buf.readableBytes()];
+            buf.getBytes(buf.readerIndex(), bytes);
+            return context.bytesToValue(bytes);
+         } finally {
+            buf.release();
+         }
+      }
+
+      @Override
+      public long getCreated() {
+         return created;
+      }
+
+      @Override
+      public int getLifespan() {
+         return lifespan;
+      }
+
+      @Override
+      public long getLastUsed() {
+         return lastUsed;
+      }
+
+      @Override
+      public int getMaxIdle() {
+         return maxIdle;
+      }
+
+      @Override
+      public long getVersion() {
+         return version;
+      }
+
+      @Override
+      public String toString() {
+         return "OffHeapValue{created=" + created + ", lifespan=" + lifespan + ", lastUsed=" + lastUsed +
+               ", maxIdle=" + maxIdle + ", version=" + version + ", size=" + buf.readableBytes() + '}';
+      }
+   }
+}
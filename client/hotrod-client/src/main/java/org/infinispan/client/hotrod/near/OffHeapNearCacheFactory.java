@@ -0,0 +1,48 @@
+package org.infinispan.client.hotrod.near;
+
+import java.util.function.BiConsumer;
+
+import org.infinispan.client.hotrod.MetadataValue;
+import org.infinispan.client.hotrod.configuration.NearCacheConfiguration;
+
+/**
+ * Creates near caches that store their values serialized in direct memory, bounded by the number of bytes they use
+ * instead of the number of entries. Eviction uses the W-TinyLFU policy, like the default near caches.
+ * <p>
+ * The {@link NearCacheConfiguration#maxEntries()} setting is still used to size the bloom filter, if enabled. Near
+ * caches created without access to the data format of the remote cache fall back to
+ * {@link DefaultNearCacheFactory}.
+ *
+ * @since 16.0
+ */
+public class OffHeapNearCacheFactory implements NearCacheFactory {
+   public static final long DEFAULT_MAX_BYTES = 64 * 1024 * 1024;
+
+   private final long maxBytes;
+
+   public OffHeapNearCacheFactory() {
+      this(DEFAULT_MAX_BYTES);
+   }
+
+   public OffHeapNearCacheFactory(long maxBytes) {
+      if (maxBytes <= 0) {
+         throw new IllegalArgumentException("maxBytes must be positive");
+      }
+      this.maxBytes = maxBytes;
+   }
+
+   @Override
+   public <K, V> NearCache<K, V> createNearCache(NearCacheConfiguration config, BiConsumer<K, MetadataValue<V>> removedConsumer) {
+      return DefaultNearCacheFactory.INSTANCE.createNearCache(config, removedConsumer);
+   }
+
+   @Override
+   public <K, V> NearCache<K, V> createNearCache(NearCacheConfiguration config, NearCacheContext<K, V> context) {
+      return OffHeapNearCache.create(maxBytes, context);
+   }
+
+   @Override
+   public String toString() {
+      return "OffHeapNearCacheFactory{maxBytes=" + maxBytes + '}';
+   }
+}
@@ -27,6 +27,8 @@
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.NEAR_CACHE_MAX_ENTRIES;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.NEAR_CACHE_MODE;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.NEAR_CACHE_NAME_PATTERN;
+import static org.infinispan.client.hotrod.impl.ConfigurationProperties.PIPELINING_BYTE_BUDGET;
+import static org.infinispan.client.hotrod.impl.ConfigurationProperties.PIPELINING_WINDOW;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.PROTOCOL_VERSION;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.REQUEST_BALANCING_STRATEGY;
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.SASL_MECHANISM;
@@ -117,6 +119,8 @@ public class ConfigurationTest extends AbstractInfinispanTest {
       OPTIONS.put(KEY_SIZE_ESTIMATE, Configuration::keySizeEstimate);
       OPTIONS.put(VALUE_SIZE_ESTIMATE, Configuration::valueSizeEstimate);
       OPTIONS.put(MAX_RETRIES, Configuration::maxRetries);
+      OPTIONS.put(PIPELINING_WINDOW, Configuration::pipeliningWindow);
+      OPTIONS.put(PIPELINING_BYTE_BUDGET, Configuration::pipeliningByteBudget);
       OPTIONS.put(USE_SSL, c -> c.security().ssl().enabled());
       OPTIONS.put(KEY_STORE_FILE_NAME, c -> c.security().ssl().keyStoreFileName());
       OPTIONS.put(SNI_HOST_NAME, c -> c.security().ssl().sniHostName());
@@ -204,6 +208,8 @@ public void testConfiguration() {
             .keySizeEstimate(128)
             .valueSizeEstimate(1024)
             .maxRetries(0)
+            .pipeliningWindow(50)
+            .pipeliningByteBudget(8192)
             .tcpKeepAlive(true)
             .security()
             .ssl()
@@ -270,6 +276,8 @@ public void testWithProperties() {
       p.setProperty(KEY_SIZE_ESTIMATE, "128");
       p.setProperty(VALUE_SIZE_ESTIMATE, "1024");
       p.setProperty(MAX_RETRIES, "0");
+      p.setProperty(PIPELINING_WINDOW, "50");
+      p.setProperty(PIPELINING_BYTE_BUDGET, "8192");
       p.setProperty(USE_SSL, "true");
       p.setProperty(KEY_STORE_FILE_NAME, "my-key-store.file");
       p.setProperty(KEY_STORE_PASSWORD, "my-key-store.password");
@@ -597,6 +605,8 @@ private void validateConfiguration(Configuration configuration) {
       assertEqualsConfig(128, KEY_SIZE_ESTIMATE, configuration);
       assertEqualsConfig(1024, VALUE_SIZE_ESTIMATE, configuration);
       assertEqualsConfig(0, MAX_RETRIES, configuration);
+      assertEqualsConfig(50, PIPELINING_WINDOW, configuration);
+      assertEqualsConfig(8192, PIPELINING_BYTE_BUDGET, configuration);
       assertEqualsConfig(true, USE_SSL, configuration);
       assertEqualsConfig("my-key-store.file", KEY_STORE_FILE_NAME, configuration);
       assertEqualsConfig("my-key-store.password", KEY_STORE_PASSWORD, configuration);
@@ -0,0 +1,102 @@
+package org.infinispan.client.hotrod.near;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNotSame;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.infinispan.client.hotrod.MetadataValue;
+import org.infinispan.client.hotrod.impl.MetadataValueImpl;
+import org.testng.annotations.Test;
+
+@Test(groups = "unit", testName = "client.hotrod.near.OffHeapNearCacheTest")
+public class OffHeapNearCacheTest {
+
+   public void testValueDeserializedOnHit() {
+      TestContext<String> context = new TestContext<>();
+      NearCache<String, String> cache = OffHeapNearCache.create(1024 * 1024, context);
+      MetadataValue<String> placeholder = new MetadataValueImpl<>(-1, -1, -1, -1, -1, null);
+      assertTrue(cache.putIfAbsent("k", placeholder));
+      assertFalse(cache.putIfAbsent("k", placeholder));
+      assertTrue(cache.replace("k", placeholder, new MetadataValueImpl<>(1, 2, 3, 4, 5, "v")));
+
+      MetadataValue<String> first = cache.get("k");
+      MetadataValue<String> second = cache.get("k");
+      assertEquals("v", first.getValue());
+      assertEquals(1, first.getCreated());
+      assertEquals(2, first.getLifespan());
+      assertEquals(3, first.getLastUsed());
+      assertEquals(4, first.getMaxIdle());
+      assertEquals(5, first.getVersion());
+      assertNotSame(first, second);
+      assertEquals(2, context.deserialized.get());
+
+      assertTrue(cache.remove("k"));
+      assertNull(cache.get("k"));
+      assertEquals(1, context.removed.get());
+      assertEquals(0, context.evicted.get());
+   }
+
+   public void testPlaceholderRemovedByIdentity() {
+      TestContext<String> context = new TestContext<>();
+      NearCache<String, String> cache = OffHeapNearCache.create(1024 * 1024, context);
+      MetadataValue<String> placeholder = new MetadataValueImpl<>(-1, -1, -1, -1, -1, null);
+      assertTrue(cache.putIfAbsent("k", placeholder));
+      assertFalse(cache.remove("k", new MetadataValueImpl<>(-1, -1, -1, -1, -1, null)));
+      assertFalse(cache.replace("k", new MetadataValueImpl<>(-1, -1, -1, -1, -1, null),
+            new MetadataValueImpl<>(1, 2, 3, 4, 5, "v")));
+      assertTrue(cache.remove("k", placeholder));
+      assertEquals(0, cache.size());
+   }
+
+   public void testEvictedBySize() {
+      TestContext<Integer> context = new TestContext<>();
+      int valueSize = 1024;
+      int maxBytes = 16 * (valueSize + OffHeapNearCache.ENTRY_OVERHEAD);
+      NearCache<Integer, String> cache = OffHeapNearCache.create(maxBytes, context);
+      String value = "x".repeat(valueSize);
+      for (int i = 0; i < 100; ++i) {
+         cache.putIfAbsent(i, new MetadataValueImpl<>(-1, -1, -1, -1, i, value));
+      }
+      int size = cache.size();
+      assertTrue(size <= 16);
+      assertEquals(100 - size, context.evicted.get());
+      assertEquals(100 - size, context.removed.get());
+
+      cache.clear();
+      assertEquals(0, cache.size());
+      assertEquals(100, context.removed.get());
+      assertEquals(100 - size, context.evicted.get());
+   }
+
+   private static class TestContext<K> implements NearCacheContext<K, String> {
+      final AtomicInteger removed = new AtomicInteger();
+      final AtomicInteger evicted = new AtomicInteger();
+      final AtomicInteger deserialized = new AtomicInteger();
+
+      @Override
+      public void entryRemoved(K key, MetadataValue<String> value) {
+         removed.incrementAndGet();
+      }
+
+      @Override
+      public void entryEvicted(K key) {
+         evicted.incrementAndGet();
+      }
+
+      @Override
+      public byte[] valueToBytes(String value) {
+         return value.getBytes(StandardCharsets.UTF_8);
+      }
+
+      @Override
+      public String bytesToValue(byte[] bytes) {
+         deserialized.incrementAndGet();
+         return new String(bytes, StandardCharsets.UTF_8);
+      }
+   }
+}
@@ -569,6 +569,7 @@ public interface ProtoStreamTypeIds {
    int MULTIMAP_SORTED_SET_RANDOM_FUNCTION = MULTIMAP_LOWER_BOUND + 46;
    int MULTIMAP_SUBSET_FUNCTION = MULTIMAP_LOWER_BOUND + 47;
    int MULTIMAP_TRIM_FUNCTION = MULTIMAP_LOWER_BOUND + 48;
+   int MULTIMAP_BUCKET_CHUNK_KEY = MULTIMAP_LOWER_BOUND + 49;
 
    // Server Core 5400 -> 5799
    int SERVER_CORE_LOWER_BOUND = 5400;
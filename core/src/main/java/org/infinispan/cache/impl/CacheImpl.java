@@ -71,12 +71,14 @@
 import org.infinispan.configuration.global.GlobalConfiguration;
 import org.infinispan.container.DataContainer;
 import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.container.entries.InternalCacheEntry;
 import org.infinispan.container.impl.InternalDataContainer;
 import org.infinispan.context.Flag;
 import org.infinispan.context.InvocationContext;
 import org.infinispan.context.InvocationContextFactory;
 import org.infinispan.context.impl.FlagBitSets;
 import org.infinispan.distribution.DistributionManager;
+import org.infinispan.distribution.LocalizedCacheTopology;
 import org.infinispan.distribution.ch.KeyPartitioner;
 import org.infinispan.distribution.group.impl.GroupManager;
 import org.infinispan.encoding.DataConversion;
@@ -93,7 +95,14 @@
 import org.infinispan.factories.scopes.Scope;
 import org.infinispan.factories.scopes.Scopes;
 import org.infinispan.functional.impl.Params;
+import org.infinispan.interceptors.AsyncInterceptor;
 import org.infinispan.interceptors.AsyncInterceptorChain;
+import org.infinispan.interceptors.distribution.NonTxDistributionInterceptor;
+import org.infinispan.interceptors.distribution.TriangleDistributionInterceptor;
+import org.infinispan.interceptors.impl.CallInterceptor;
+import org.infinispan.interceptors.impl.EntryWrappingInterceptor;
+import org.infinispan.interceptors.impl.InvocationContextInterceptor;
+import org.infinispan.interceptors.locking.NonTransactionalLockingInterceptor;
 import org.infinispan.jmx.annotations.DataType;
 import org.infinispan.jmx.annotations.MBean;
 import org.infinispan.jmx.annotations.ManagedAttribute;
@@ -104,6 +113,7 @@
 import org.infinispan.metadata.Metadata;
 import org.infinispan.notifications.cachelistener.CacheNotifier;
 import org.infinispan.notifications.cachelistener.ListenerHolder;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryVisited;
 import org.infinispan.notifications.cachelistener.filter.CacheEventConverter;
 import org.infinispan.notifications.cachelistener.filter.CacheEventFilter;
 import org.infinispan.notifications.cachemanagerlistener.CacheManagerNotifier;
@@ -111,6 +121,7 @@
 import org.infinispan.partitionhandling.impl.PartitionHandlingManager;
 import org.infinispan.remoting.rpc.RpcManager;
 import org.infinispan.security.AuthorizationManager;
+import org.infinispan.statetransfer.StateTransferInterceptor;
 import org.infinispan.statetransfer.StateTransferManager;
 import org.infinispan.stats.Stats;
 import org.infinispan.stats.impl.StatsImpl;
@@ -145,6 +156,10 @@
    private static final Log log = LogFactory.getLog(CacheImpl.class);
    public static final String OBJECT_NAME = "Cache";
    private static final long PFER_FLAGS = EnumUtil.bitSetOf(FAIL_SILENTLY, FORCE_ASYNCHRONOUS, ZERO_LOCK_ACQUISITION_TIMEOUT, PUT_FOR_EXTERNAL_READ, IGNORE_RETURN_VALUES);
+   // The interceptors that leave a local read of an owned key to the data container
+   private static final Set<Class<?>> DIRECT_READ_INTERCEPTORS = Set.of(InvocationContextInterceptor.class,
+         NonTransactionalLockingInterceptor.class, StateTransferInterceptor.class, NonTxDistributionInterceptor.class,
+         TriangleDistributionInterceptor.class, EntryWrappingInterceptor.class, CallInterceptor.class);
 
    @Inject protected InvocationContextFactory invocationContextFactory;
    @Inject protected CommandsFactory commandsFactory;
@@ -183,6 +198,8 @@
    private final ContextBuilder nonTxContextBuilder = this::nonTxContextBuilder;
    private final ContextBuilder defaultBuilder = i -> invocationHelper.createInvocationContextWithImplicitTransaction(i, false);
    private QueryProducer queryProducer;
+   private volatile DirectReadCheck directReadCheck;
+   private InvocationRecycler invocationRecycler;
 
    public CacheImpl(String name) {
       this.name = name;
@@ -200,6 +217,10 @@ public void preStart() {
       config.expiration().attributes().attribute(ExpirationConfiguration.MAX_IDLE).addListener((attribute, oldValue) -> updateDefaultMetadata());
       transactional = config.transaction().transactionMode().isTransactional();
       batchingEnabled = config.invocationBatching().enabled();
+      // Clustered caches may still use the commands after the invocation, e.g. for asynchronous replication
+      if (config.recycleInvocations() && !config.clustering().cacheMode().isClustered() && !transactional) {
+         invocationRecycler = new InvocationRecycler(commandsFactory);
+      }
    }
 
    private void updateDefaultMetadata() {
@@ -547,7 +568,47 @@ public final boolean containsValue(Object value) {
 
    @Override
    public final V get(Object key) {
-      return get(key, EnumUtil.EMPTY_BIT_SET, invocationContextFactory.createInvocationContext(false, 1));
+      assertKeyNotNull(key);
+      int segment = keyPartitioner.getSegment(key);
+      if (canReadDirectly(segment)) {
+         InternalCacheEntry<K, V> entry = dataContainer.peek(segment, key);
+         if (entry == null) {
+            return null;
+         }
+         // Expiration and max idle touches are handled by the interceptors
+         if (!entry.canExpire()) {
+            return entry.getValue();
+         }
+      }
+      GetKeyValueCommand command = commandsFactory.buildGetKeyValueCommand(key, segment, EnumUtil.EMPTY_BIT_SET);
+      return invocationHelper.invoke(invocationContextFactory.createInvocationContext(false, 1), command);
+   }
+
+   /**
+    * Whether a read of a key in the given segment can skip the command and the invocation context and read the data
+    * container directly, because no interceptor, listener or remote owner would take part in it.
+    */
+   private boolean canReadDirectly(int segment) {
+      List<AsyncInterceptor> readPath = invoker.getFastPath(GetKeyValueCommand.class);
+      DirectReadCheck check = directReadCheck;
+      if (check == null || check.readPath != readPath) {
+         // Stores, statistics, transactions, custom interceptors etc. all add interceptors to the read path
+         boolean direct = true;
+         for (AsyncInterceptor interceptor : readPath) {
+            direct &= DIRECT_READ_INTERCEPTORS.contains(interceptor.getClass());
+         }
+         check = new DirectReadCheck(readPath, direct);
+         directReadCheck = check;
+      }
+      if (!check.direct || !componentRegistry.getStatus().allowInvocations() ||
+            notifier.hasListener(CacheEntryVisited.class)) {
+         return false;
+      }
+      if (distributionManager == null) {
+         return true;
+      }
+      LocalizedCacheTopology cacheTopology = distributionManager.getCacheTopology();
+      return cacheTopology != null && cacheTopology.isSegmentReadOwner(segment);
    }
 
    final V get(Object key, long explicitFlags, InvocationContext ctx) {
@@ -717,6 +778,20 @@ public ContinuousQuery<K, V> continuousQuery() {
 
    final V remove(Object key, long explicitFlags, ContextBuilder contextBuilder) {
       assertKeyNotNull(key);
+      InvocationRecycler.Pool pool = acquireRecycledInvocation(contextBuilder);
+      if (pool != null) {
+         V result;
+         try {
+            RemoveCommand command = pool.removeCommand(key, keyPartitioner.getSegment(key), addUnsafeFlags(explicitFlags));
+            result = invocationHelper.invoke(pool.context(), command);
+         } catch (Throwable t) {
+            // The invocation may still be running, e.g. if waiting for it timed out
+            invocationRecycler.discard();
+            throw t;
+         }
+         pool.release();
+         return result;
+      }
       RemoveCommand command = createRemoveCommand(key, explicitFlags, false);
       return invocationHelper.invoke(contextBuilder, command, 1);
    }
@@ -1089,6 +1164,9 @@ private void requestClusterWideShutdown() {
    private void performImmediateShutdown() {
       log.debugf("Stopping cache %s on %s", getName(), managerIdentifier());
       componentRegistry.stop();
+      if (invocationRecycler != null) {
+         invocationRecycler.clear();
+      }
    }
 
    @Override
@@ -1307,10 +1385,37 @@ public final V put(K key, V value, long lifespan, TimeUnit lifespanUnit, long ma
 
    final V put(K key, V value, Metadata metadata, long explicitFlags, ContextBuilder contextBuilder) {
       assertKeyValueNotNull(key, value);
+      InvocationRecycler.Pool pool = acquireRecycledInvocation(contextBuilder);
+      if (pool != null) {
+         V result;
+         try {
+            PutKeyValueCommand command = pool.putCommand(key, value, applyDefaultMetadata(metadata),
+                  keyPartitioner.getSegment(key), addUnsafeFlags(explicitFlags));
+            result = invocationHelper.invoke(pool.context(), command);
+         } catch (Throwable t) {
+            // The invocation may still be running, e.g. if waiting for it timed out
+            invocationRecycler.discard();
+            throw t;
+         }
+         pool.release();
+         return result;
+      }
       DataWriteCommand command = createPutCommand(key, value, metadata, explicitFlags, false);
       return invocationHelper.invoke(contextBuilder, command, 1);
    }
 
+   /**
+    * @return the recycled context and commands of the current thread, or {@code null} if the invocation must allocate
+    * its own
+    */
+   private InvocationRecycler.Pool acquireRecycledInvocation(ContextBuilder contextBuilder) {
+      // Other context builders may create contexts that are not single key and non-transactional
+      if (invocationRecycler == null || contextBuilder != defaultBuilder) {
+         return null;
+      }
+      return invocationRecycler.acquire();
+   }
+
    private PutKeyValueCommand createPutCommand(K key, V value, Metadata metadata, long explicitFlags, boolean returnEntry) {
       long flags = addUnsafeFlags(explicitFlags);
       Metadata merged = applyDefaultMetadata(metadata);
@@ -1957,4 +2062,7 @@ public ContextBuilder defaultContextBuilderForWrite() {
    public CachePublisher<K, V> cachePublisher() {
       return new CachePublisherImpl<>(this, EnumUtil.EMPTY_BIT_SET);
    }
+
+   private record DirectReadCheck(List<AsyncInterceptor> readPath, boolean direct) {
+   }
 }
@@ -0,0 +1,141 @@
+package org.infinispan.cache.impl;
+
+import org.infinispan.commands.CommandInvocationId;
+import org.infinispan.commands.CommandsFactory;
+import org.infinispan.commands.write.AbstractDataWriteCommand;
+import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.commands.write.RemoveCommand;
+import org.infinispan.commons.util.EnumUtil;
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.context.impl.SingleKeyNonTxInvocationContext;
+import org.infinispan.metadata.Metadata;
+
+/**
+ * Thread-local pools of the invocation contexts and commands used by the single key writes of a local
+ * non-transactional cache, enabled with {@link Configuration#recycleInvocations()}.
+ * <p>
+ * Every thread keeps one context and one command of each type, which are only reused once the synchronous invocation
+ * that used them has completed. A write started while the objects of the thread are in use, e.g. by a listener, gets
+ * new objects instead. If the invocation fails, it may still be running, e.g. when waiting for it timed out, so the
+ * thread gives up its objects to it and creates new ones for the next write.
+ * <p>
+ * When assertions are enabled the released objects are poisoned with a key that fails on any use, so interceptors or
+ * listeners that keep a reference to them after the invocation are caught.
+ *
+ * @since 16.0
+ */
+final class InvocationRecycler {
+   private static final boolean DETECT_LEAKS = InvocationRecycler.class.desiredAssertionStatus();
+   private static final Object RELEASED_KEY = new ReleasedKey();
+
+   private final CommandsFactory commandsFactory;
+   // Replaced when the cache stops, so that the pools of all the threads can be garbage collected
+   private volatile ThreadLocal<Pool> pools = ThreadLocal.withInitial(this::newPool);
+
+   InvocationRecycler(CommandsFactory commandsFactory) {
+      this.commandsFactory = commandsFactory;
+   }
+
+   /**
+    * @return the pool of the current thread, or {@code null} if it is in use by an invocation in progress
+    */
+   Pool acquire() {
+      Pool pool = pools.get();
+      if (pool.inUse) {
+         return null;
+      }
+      pool.inUse = true;
+      pool.context.resetState();
+      pool.context.setLockOwner(null);
+      return pool;
+   }
+
+   /**
+    * Gives up the pool of the current thread to the invocation that may still be using it, the next write of the
+    * thread creates a new pool.
+    */
+   void discard() {
+      pools.remove();
+   }
+
+   /**
+    * Drops the pools of all the threads, invoked when the cache stops.
+    */
+   void clear() {
+      pools = ThreadLocal.withInitial(this::newPool);
+   }
+
+   private Pool newPool() {
+      PutKeyValueCommand putCommand = commandsFactory.buildPutKeyValueCommand(RELEASED_KEY, null, 0, null,
+            EnumUtil.EMPTY_BIT_SET, false);
+      RemoveCommand removeCommand = commandsFactory.buildRemoveCommand(RELEASED_KEY, null, 0, EnumUtil.EMPTY_BIT_SET,
+            false);
+      return new Pool(putCommand, removeCommand);
+   }
+
+   static final class Pool {
+      private final SingleKeyNonTxInvocationContext context = new SingleKeyNonTxInvocationContext(null);
+      private final PutKeyValueCommand putCommand;
+      private final RemoveCommand removeCommand;
+      private boolean inUse;
+
+      private Pool(PutKeyValueCommand putCommand, RemoveCommand removeCommand) {
+         this.putCommand = putCommand;
+         this.removeCommand = removeCommand;
+      }
+
+      SingleKeyNonTxInvocationContext context() {
+         return context;
+      }
+
+      PutKeyValueCommand putCommand(Object key, Object value, Metadata metadata, int segment, long flagsBitSet) {
+         putCommand.reinitialize(key, value, metadata, segment, flagsBitSet, nextId(putCommand));
+         return putCommand;
+      }
+
+      RemoveCommand removeCommand(Object key, int segment, long flagsBitSet) {
+         removeCommand.reinitialize(key, segment, flagsBitSet, nextId(removeCommand));
+         return removeCommand;
+      }
+
+      /**
+       * Makes the context and the commands available to the next invocation of the thread.
+       */
+      void release() {
+         if (DETECT_LEAKS) {
+            context.resetState();
+            context.putLookedUpEntry(RELEASED_KEY, null);
+            putCommand.reinitialize(RELEASED_KEY, null, null, 0, EnumUtil.EMPTY_BIT_SET,
+                  putCommand.getCommandInvocationId());
+            removeCommand.reinitialize(RELEASED_KEY, 0, EnumUtil.EMPTY_BIT_SET, removeCommand.getCommandInvocationId());
+         }
+         inUse = false;
+      }
+
+      private static CommandInvocationId nextId(AbstractDataWriteCommand command) {
+         // Keeps the address of the id generated by the commands factory
+         return CommandInvocationId.generateIdFrom(command.getCommandInvocationId());
+      }
+   }
+
+   private static final class ReleasedKey {
+      @Override
+      public boolean equals(Object obj) {
+         throw released();
+      }
+
+      @Override
+      public int hashCode() {
+         throw released();
+      }
+
+      @Override
+      public String toString() {
+         return "ReleasedKey";
+      }
+
+      private static IllegalStateException released() {
+         return new IllegalStateException("Recycled invocation context or command used after its invocation completed");
+      }
+   }
+}
@@ -110,6 +110,18 @@ public void setKey(Object key) {
       this.key = key;
    }
 
+   /**
+    * Resets the state of the command for a new local invocation, as if it was just created.
+    */
+   protected void reinitialize(Object key, int segment, long flagsBitSet) {
+      this.key = key;
+      this.segment = segment;
+      this.flags = flagsBitSet;
+      this.origin = null;
+      this.topologyId = -1;
+      this.spanAttributes = null;
+   }
+
    @Override
    public boolean equals(Object obj) {
       if (this == obj) {
@@ -33,6 +33,11 @@ protected AbstractDataWriteCommand(ByteString cacheName, Object key, int segment
       this.commandInvocationId = commandInvocationId;
    }
 
+   protected void reinitialize(Object key, int segment, long flagsBitSet, CommandInvocationId commandInvocationId) {
+      reinitialize(key, segment, flagsBitSet);
+      this.commandInvocationId = commandInvocationId;
+   }
+
    @Override
    public Collection<?> getAffectedKeys() {
       return Collections.singleton(getKey());
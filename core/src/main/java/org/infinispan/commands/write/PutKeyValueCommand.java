@@ -136,6 +136,23 @@ public void setPutIfAbsent(boolean putIfAbsent) {
       this.putIfAbsent = putIfAbsent;
    }
 
+   /**
+    * Reuses the command for a new local put, with the same state as a command created with the same arguments.
+    * <p>
+    * Only commands that were never sent to another node and are not referenced by a previous invocation can be reused.
+    */
+   public void reinitialize(Object key, Object value, Metadata metadata, int segment, long flagsBitSet,
+                            CommandInvocationId commandInvocationId) {
+      reinitialize(key, segment, flagsBitSet, commandInvocationId);
+      this.value = value;
+      this.metadata = metadata;
+      this.putIfAbsent = false;
+      this.returnEntry = false;
+      this.valueMatcher = ValueMatcher.MATCH_ALWAYS;
+      this.internalMetadata = null;
+      this.successful = true;
+   }
+
    @Override
    public boolean equals(Object o) {
       if (this == o) return true;
@@ -193,6 +193,23 @@ public void setValue(Object value) {
       this.value = value;
    }
 
+   /**
+    * Reuses the command for a new local unconditional remove, with the same state as a command created with the same
+    * arguments.
+    * <p>
+    * Only commands that were never sent to another node and are not referenced by a previous invocation can be reused.
+    */
+   public void reinitialize(Object key, int segment, long flagsBitSet, CommandInvocationId commandInvocationId) {
+      super.reinitialize(key, segment, flagsBitSet, commandInvocationId);
+      this.value = null;
+      this.metadata = null;
+      this.returnEntry = false;
+      this.nonExistent = false;
+      this.valueMatcher = ValueMatcher.MATCH_ALWAYS;
+      this.internalMetadata = null;
+      this.successful = true;
+   }
+
    @Override
    public final boolean isReturnValueExpected() {
       // IGNORE_RETURN_VALUES ignored for conditional remove
@@ -19,13 +19,14 @@
    public static final AttributeDefinition<Boolean> TRANSACTIONAL = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.TRANSACTIONAL, false).immutable().build();
    public static final AttributeDefinition<Integer> MAX_BATCH_SIZE = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.MAX_BATCH_SIZE, 100).immutable().build();
    public static final AttributeDefinition<Boolean> SEGMENTED = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.SEGMENTED, true).immutable().build();
+   public static final AttributeDefinition<Integer> BLOOM_FILTER_BITS = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.BLOOM_FILTER_BITS, 0).immutable().build();
    public static final AttributeDefinition<TypedProperties> PROPERTIES = AttributeDefinition.builder(Element.PROPERTIES, null, TypedProperties.class)
          .initializer(TypedProperties::new).autoPersist(false).immutable().build();
    private final Attribute<Integer> maxBatchSize;
 
    public static AttributeSet attributeDefinitionSet() {
       return new AttributeSet(AbstractStoreConfiguration.class, PURGE_ON_STARTUP,
-            READ_ONLY, WRITE_ONLY, PRELOAD, SHARED, TRANSACTIONAL, MAX_BATCH_SIZE, SEGMENTED, PROPERTIES);
+            READ_ONLY, WRITE_ONLY, PRELOAD, SHARED, TRANSACTIONAL, MAX_BATCH_SIZE, SEGMENTED, BLOOM_FILTER_BITS, PROPERTIES);
    }
 
    private final AsyncStoreConfiguration async;
@@ -73,6 +74,11 @@ public boolean segmented() {
       return attributes.attribute(SEGMENTED).get();
    }
 
+   @Override
+   public int bloomFilterBits() {
+      return attributes.attribute(BLOOM_FILTER_BITS).get();
+   }
+
    /**
     * If true, fetch persistent state when joining a cluster. If multiple cache stores are chained, only one of them can
     * have this property enabled. Persistent state transfer with a shared cache store does not make sense, as the same
@@ -1,5 +1,6 @@
 package org.infinispan.configuration.cache;
 
+import static org.infinispan.configuration.cache.AbstractStoreConfiguration.BLOOM_FILTER_BITS;
 import static org.infinispan.configuration.cache.AbstractStoreConfiguration.MAX_BATCH_SIZE;
 import static org.infinispan.configuration.cache.AbstractStoreConfiguration.PRELOAD;
 import static org.infinispan.configuration.cache.AbstractStoreConfiguration.PROPERTIES;
@@ -149,6 +150,12 @@ public S segmented(boolean b) {
       return self();
    }
 
+   @Override
+   public S bloomFilterBits(int bits) {
+      attributes.attribute(BLOOM_FILTER_BITS).set(bits);
+      return self();
+   }
+
    public AttributeSet attributes() {
       return attributes;
    }
@@ -199,6 +206,13 @@ private void validateStoreAttributes() {
 
       if (transactional && builder.persistence().passivation())
          throw CONFIG.transactionalStoreInPassivatedCache();
+
+      int bloomFilterBits = attributes.attribute(BLOOM_FILTER_BITS).get();
+      if (bloomFilterBits < 0)
+         throw CONFIG.invalidStoreBloomFilterBits(bloomFilterBits);
+
+      if (bloomFilterBits > 0 && shared)
+         throw CONFIG.bloomFilterWithSharedStore();
    }
 
    private void validateStoreWithAnnotations() {
@@ -65,6 +65,11 @@ public S segmented(boolean b) {
       return (S)builder.segmented(b);
    }
 
+   @Override
+   public S bloomFilterBits(int bits) {
+      return (S)builder.bloomFilterBits(bits);
+   }
+
    @Override
    public S addProperty(String key, String value) {
       return (S)builder.addProperty(key, value);
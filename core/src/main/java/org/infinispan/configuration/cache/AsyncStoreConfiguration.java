@@ -19,9 +19,10 @@ public class AsyncStoreConfiguration extends ConfigurationElement<AsyncStoreConf
    @Deprecated(forRemoval=true, since = "11.0")
    public static final AttributeDefinition<Integer> THREAD_POOL_SIZE = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.THREAD_POOL_SIZE, 1).immutable().build();
    public static final AttributeDefinition<Boolean> FAIL_SILENTLY = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.FAIL_SILENTLY, false).immutable().build();
+   public static final AttributeDefinition<Integer> FLUSH_CONCURRENCY = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.FLUSH_CONCURRENCY, 1).immutable().build();
 
    public static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(AsyncStoreConfiguration.class, ENABLED, MODIFICATION_QUEUE_SIZE, THREAD_POOL_SIZE, FAIL_SILENTLY);
+      return new AttributeSet(AsyncStoreConfiguration.class, ENABLED, MODIFICATION_QUEUE_SIZE, THREAD_POOL_SIZE, FAIL_SILENTLY, FLUSH_CONCURRENCY);
    }
 
    private final Attribute<Boolean> failSilently;
@@ -60,4 +61,12 @@ public int threadPoolSize() {
    public boolean failSilently() {
       return failSilently.get();
    }
+
+   /**
+    * The maximum number of batches of modifications written to a segmented store at the same time. Each batch only
+    * contains modifications of its own group of segments.
+    */
+   public int flushConcurrency() {
+      return attributes.attribute(FLUSH_CONCURRENCY).get();
+   }
 }
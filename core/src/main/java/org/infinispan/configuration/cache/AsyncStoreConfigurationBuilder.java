@@ -2,8 +2,10 @@
 
 import static org.infinispan.configuration.cache.AsyncStoreConfiguration.ENABLED;
 import static org.infinispan.configuration.cache.AsyncStoreConfiguration.FAIL_SILENTLY;
+import static org.infinispan.configuration.cache.AsyncStoreConfiguration.FLUSH_CONCURRENCY;
 import static org.infinispan.configuration.cache.AsyncStoreConfiguration.MODIFICATION_QUEUE_SIZE;
 import static org.infinispan.configuration.cache.AsyncStoreConfiguration.THREAD_POOL_SIZE;
+import static org.infinispan.util.logging.Log.CONFIG;
 
 import org.infinispan.commons.configuration.Builder;
 import org.infinispan.commons.configuration.Combine;
@@ -91,9 +93,22 @@ public AsyncStoreConfigurationBuilder<S> failSilently(boolean failSilently) {
       return this;
    }
 
+   /**
+    * Sets the maximum number of batches of modifications written to a segmented store at the same time. The segments
+    * are split in this many groups, and a batch of one group doesn't have to wait for the batches of the others to
+    * complete. Modifications to a store that is not segmented are always written one batch at a time.
+    */
+   public AsyncStoreConfigurationBuilder<S> flushConcurrency(int flushConcurrency) {
+      attributes.attribute(FLUSH_CONCURRENCY).set(flushConcurrency);
+      return this;
+   }
+
    @Override
    public
    void validate() {
+      int flushConcurrency = attributes.attribute(FLUSH_CONCURRENCY).get();
+      if (flushConcurrency < 1)
+         throw CONFIG.invalidAsyncStoreFlushConcurrency(flushConcurrency);
    }
 
    @Override
@@ -25,6 +25,7 @@
 public class Configuration extends ConfigurationElement<Configuration> implements BasicConfiguration {
    public static final AttributeDefinition<String> CONFIGURATION = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.CONFIGURATION, null, String.class).immutable().build();
    public static final AttributeDefinition<Boolean> SIMPLE_CACHE = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.SIMPLE_CACHE, false).immutable().build();
+   public static final AttributeDefinition<Boolean> RECYCLE_INVOCATIONS = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.RECYCLE_INVOCATIONS, false).since(16, 0).immutable().build();
    @SuppressWarnings("unchecked")
    public static final AttributeDefinition<Set<String>> ALIASES = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.ALIASES, null, (Class<Set<String>>) (Class<?>) Set.class)
          .since(15, 0)
@@ -36,7 +37,7 @@ public class Configuration extends ConfigurationElement<Configuration> implement
 
 
    public static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(Configuration.class, CONFIGURATION, SIMPLE_CACHE, ALIASES);
+      return new AttributeSet(Configuration.class, CONFIGURATION, SIMPLE_CACHE, RECYCLE_INVOCATIONS, ALIASES);
    }
 
    private final Attribute<Boolean> simpleCache;
@@ -122,6 +123,14 @@ public boolean simpleCache() {
       return simpleCache.get();
    }
 
+   /**
+    * @return whether local non-transactional caches reuse the invocation contexts and commands of their single key
+    * writes
+    */
+   public boolean recycleInvocations() {
+      return attributes.attribute(RECYCLE_INVOCATIONS).get();
+   }
+
    public ClusteringConfiguration clustering() {
       return clusteringConfiguration;
    }
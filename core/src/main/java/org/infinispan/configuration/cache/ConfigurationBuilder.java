@@ -3,6 +3,7 @@
 import static java.util.Arrays.asList;
 import static org.infinispan.configuration.cache.Configuration.ALIASES;
 import static org.infinispan.configuration.cache.Configuration.CONFIGURATION;
+import static org.infinispan.configuration.cache.Configuration.RECYCLE_INVOCATIONS;
 import static org.infinispan.configuration.cache.Configuration.SIMPLE_CACHE;
 import static org.infinispan.util.logging.Log.CONFIG;
 
@@ -79,6 +80,23 @@ public boolean simpleCache() {
       return attributes.attribute(SIMPLE_CACHE).get();
    }
 
+   /**
+    * Enables the reuse of the invocation contexts and commands of the single key writes of the cache, which are kept
+    * in thread-local pools instead of being allocated for every write. It only applies to local non-transactional
+    * caches, it is ignored for any other cache.
+    * <p>
+    * The contexts and commands are reused once the invocation completes, so interceptors added to the cache must not
+    * keep a reference to them after that.
+    */
+   public ConfigurationBuilder recycleInvocations(boolean recycleInvocations) {
+      attributes.attribute(RECYCLE_INVOCATIONS).set(recycleInvocations);
+      return this;
+   }
+
+   public boolean recycleInvocations() {
+      return attributes.attribute(RECYCLE_INVOCATIONS).get();
+   }
+
    @Override
    public ClusteringConfigurationBuilder clustering() {
       return clustering;
@@ -251,6 +251,53 @@ public EvictionStrategy evictionStrategy() {
       return whenFull();
    }
 
+   /**
+    * Sets how native memory is allocated when the storage is {@link StorageType#OFF_HEAP}. Defaults to
+    * {@link OffHeapAllocatorType#UNPOOLED}.
+    * @param allocator the allocator type
+    * @return this configuration builder
+    */
+   public MemoryConfigurationBuilder allocator(OffHeapAllocatorType allocator) {
+      attributes.attribute(MemoryConfiguration.ALLOCATOR).set(allocator);
+      return this;
+   }
+
+   public OffHeapAllocatorType allocator() {
+      return attributes.attribute(MemoryConfiguration.ALLOCATOR).get();
+   }
+
+   /**
+    * Enables reading entries from {@link StorageType#OFF_HEAP} storage without acquiring a lock. Reads are performed
+    * optimistically and only fall back to locking when a concurrent write to the same region is detected. The release
+    * of memory freed by writes is deferred until no reader can observe it anymore, which makes writes slightly more
+    * expensive. Defaults to false.
+    * @param lockFreeReads whether reads should be lock free
+    * @return this configuration builder
+    */
+   public MemoryConfigurationBuilder lockFreeReads(boolean lockFreeReads) {
+      attributes.attribute(MemoryConfiguration.LOCK_FREE_READS).set(lockFreeReads);
+      return this;
+   }
+
+   public boolean lockFreeReads() {
+      return attributes.attribute(MemoryConfiguration.LOCK_FREE_READS).get();
+   }
+
+   /**
+    * Sets the order in which entries are evicted when the storage is {@link StorageType#OFF_HEAP} and the container is
+    * bounded. Defaults to {@link OffHeapEvictionPolicy#LRU}.
+    * @param evictionPolicy the eviction policy
+    * @return this configuration builder
+    */
+   public MemoryConfigurationBuilder evictionPolicy(OffHeapEvictionPolicy evictionPolicy) {
+      attributes.attribute(MemoryConfiguration.EVICTION_POLICY).set(evictionPolicy);
+      return this;
+   }
+
+   public OffHeapEvictionPolicy evictionPolicy() {
+      return attributes.attribute(MemoryConfiguration.EVICTION_POLICY).get();
+   }
+
    boolean isSizeBounded() {
       return maxSize() != null;
    }
@@ -0,0 +1,18 @@
+package org.infinispan.configuration.cache;
+
+/**
+ * Enumeration defining how native memory is allocated when the data container uses {@link StorageType#OFF_HEAP}.
+ *
+ * @since 16.0
+ */
+public enum OffHeapAllocatorType {
+   /**
+    * Every entry is allocated and freed directly through the native allocator.
+    */
+   UNPOOLED,
+
+   /**
+    * Entries are carved out of larger slabs grouped by size class and freed memory is retained for reuse.
+    */
+   POOLED
+}
@@ -0,0 +1,21 @@
+package org.infinispan.configuration.cache;
+
+/**
+ * Enumeration defining the order in which entries are evicted when the data container uses
+ * {@link StorageType#OFF_HEAP} and is bounded. Heap storage always uses the TinyLFU policy of Caffeine.
+ *
+ * @since 16.0
+ */
+public enum OffHeapEvictionPolicy {
+   /**
+    * The least recently used entry is evicted.
+    */
+   LRU,
+
+   /**
+    * New entries go through a small LRU window and are only admitted to the main space, which is a segmented LRU, if
+    * they are used more often than the entry they would replace. Access frequencies are estimated by a native memory
+    * sketch. This keeps scans from flushing frequently used entries.
+    */
+   TINY_LFU
+}
@@ -23,9 +23,11 @@ public class SingleFileStoreConfiguration extends AbstractStoreConfiguration<Sin
    @Deprecated(forRemoval=true, since = "13.0")
    public static final AttributeDefinition<Integer> MAX_ENTRIES = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.MAX_ENTRIES, -1).immutable().build();
    public static final AttributeDefinition<Float> FRAGMENTATION_FACTOR = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.FRAGMENTATION_FACTOR, 0.75f).immutable().build();
+   public static final AttributeDefinition<Boolean> MEMORY_MAPPED = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.MEMORY_MAPPED, false).immutable().build();
+   public static final AttributeDefinition<Boolean> PERSISTENT_INDEX = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.PERSISTENT_INDEX, false).immutable().build();
 
    public static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(SingleFileStoreConfiguration.class, AbstractStoreConfiguration.attributeDefinitionSet(), LOCATION, MAX_ENTRIES, FRAGMENTATION_FACTOR);
+      return new AttributeSet(SingleFileStoreConfiguration.class, AbstractStoreConfiguration.attributeDefinitionSet(), LOCATION, MAX_ENTRIES, FRAGMENTATION_FACTOR, MEMORY_MAPPED, PERSISTENT_INDEX);
    }
 
    public SingleFileStoreConfiguration(AttributeSet attributes, AsyncStoreConfiguration async) {
@@ -47,4 +49,18 @@ public int maxEntries() {
    public float fragmentationFactor() {
       return attributes.attribute(FRAGMENTATION_FACTOR).get();
    }
+
+   /**
+    * @return true if entries are read through memory mappings of the data file
+    */
+   public boolean memoryMapped() {
+      return attributes.attribute(MEMORY_MAPPED).get();
+   }
+
+   /**
+    * @return true if the index is saved when the store stops and loaded when it starts
+    */
+   public boolean persistentIndex() {
+      return attributes.attribute(PERSISTENT_INDEX).get();
+   }
 }
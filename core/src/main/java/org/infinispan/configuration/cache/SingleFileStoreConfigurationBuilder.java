@@ -4,6 +4,8 @@
 import static org.infinispan.configuration.cache.SingleFileStoreConfiguration.FRAGMENTATION_FACTOR;
 import static org.infinispan.configuration.cache.SingleFileStoreConfiguration.LOCATION;
 import static org.infinispan.configuration.cache.SingleFileStoreConfiguration.MAX_ENTRIES;
+import static org.infinispan.configuration.cache.SingleFileStoreConfiguration.MEMORY_MAPPED;
+import static org.infinispan.configuration.cache.SingleFileStoreConfiguration.PERSISTENT_INDEX;
 
 import org.infinispan.commons.configuration.Builder;
 import org.infinispan.commons.configuration.Combine;
@@ -82,6 +84,25 @@ public SingleFileStoreConfigurationBuilder fragmentationFactor(float fragmentati
       return this;
    }
 
+   /**
+    * Reads entries through read-only memory mappings of the data file, instead of issuing a positional read for every
+    * load. The file is mapped in large chunks as it grows, so this mostly benefits large stores. Defaults to false.
+    */
+   public SingleFileStoreConfigurationBuilder memoryMapped(boolean memoryMapped) {
+      attributes.attribute(MEMORY_MAPPED).set(memoryMapped);
+      return this;
+   }
+
+   /**
+    * Writes the in-memory index to a file next to the data file when the store is stopped, and reads it back when the
+    * store is started, instead of scanning the whole data file. If the store was not stopped cleanly the index is
+    * rebuilt as usual. Defaults to false.
+    */
+   public SingleFileStoreConfigurationBuilder persistentIndex(boolean persistentIndex) {
+      attributes.attribute(PERSISTENT_INDEX).set(persistentIndex);
+      return this;
+   }
+
    @Override
    public void validate() {
       Attribute<Boolean> segmentedAttribute = attributes.attribute(SEGMENTED);
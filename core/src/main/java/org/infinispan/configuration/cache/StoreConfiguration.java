@@ -62,6 +62,15 @@ default boolean segmented() {
       return false;
    }
 
+   /**
+    * The number of bits of the Bloom filter kept for each segment of this store, which allows loads of keys that
+    * were never written to the store to complete without accessing it. 0 means no Bloom filter is used.
+    * @return the number of bits of the Bloom filter of each segment
+    */
+   default int bloomFilterBits() {
+      return 0;
+   }
+
    Properties properties();
 
    AttributeSet attributes();
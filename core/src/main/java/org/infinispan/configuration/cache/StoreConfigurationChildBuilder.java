@@ -94,6 +94,16 @@
     */
    S segmented(boolean b);
 
+   /**
+    * Sets the number of bits of a Bloom filter kept for each segment of this store. Loads of keys that the filter
+    * knows were never written complete without accessing the store, which avoids a disk access or a remote call for
+    * each cache miss. The filter only knows the keys written by this node, so it cannot be used with a shared store.
+    * Defaults to <code>0</code>, which disables the filter.
+    * @param bits the number of bits of the filter of each segment
+    * @return this
+    */
+   S bloomFilterBits(int bits);
+
    /**
     * <p>
     * Defines a single property. Can be used multiple times to define all needed properties, but the
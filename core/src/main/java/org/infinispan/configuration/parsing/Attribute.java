@@ -18,6 +18,7 @@ public enum Attribute {
     ADDRESS_COUNT,
     AFTER,
     ALIASES,
+    ALLOCATOR,
     @Deprecated(forRemoval=true, since = "11.0")
     ALLOW_DUPLICATE_DOMAINS("duplicate-domains"),
     @Deprecated(forRemoval=true, since = "11.0")
@@ -30,6 +31,7 @@ public enum Attribute {
     BEFORE,
     BIAS_ACQUISITION,
     BIAS_LIFESPAN,
+    BLOOM_FILTER_BITS,
     BLOCKING_EXECUTOR,
     CACHE_SIZE,
     CACHE_TIMEOUT,
@@ -43,6 +45,8 @@ public enum Attribute {
     CLUSTER,
     COLLECTOR_ENDPOINT,
     COMMIT_INTERVAL,
+    COMPACTION_RATE_LIMIT,
+    COMPACTION_THREADS,
     COMPACTION_THRESHOLD,
     COMPLETED_TX_TIMEOUT("complete-timeout"),
     CONCURRENCY_LEVEL,
@@ -64,6 +68,7 @@ public enum Attribute {
     EVICTION,
     @Deprecated(forRemoval=true, since = "11.0")
     EVICTION_EXECUTOR,
+    EVICTION_POLICY,
     @Deprecated(forRemoval=true, since = "11.0")
     EVICTION_STRATEGY,
     EXPIRATION_EXECUTOR,
@@ -73,6 +78,7 @@ public enum Attribute {
     FAIL_SILENTLY,
     FAILURE_POLICY_CLASS,
     FETCH_STATE,
+    FLUSH_CONCURRENCY,
     FRAGMENTATION_FACTOR,
     GAUGES,
     GROUP_NAME,
@@ -102,6 +108,7 @@ public enum Attribute {
     LIFESPAN,
     LISTENER_EXECUTOR,
     LOCATION,
+    LOCK_FREE_READS,
     LOCK_TIMEOUT,
     LOCKING,
     LOW_LEVEL_TRACE,
@@ -124,6 +131,7 @@ public enum Attribute {
     MBEAN_SERVER_LOOKUP,
     MERGE_POLICY,
     MEDIA_TYPE,
+    MEMORY_MAPPED,
     MIN_NODE_SIZE,
     MODE,
     NODE_NAME,
@@ -143,6 +151,7 @@ public enum Attribute {
     PERMISSIONS,
     @Deprecated(forRemoval=true, since = "11.0")
     PERSISTENCE_EXECUTOR,
+    PERSISTENT_INDEX,
     POSITION,
     @Deprecated(forRemoval = true, since = "16.0")
     PREFIX,
@@ -162,6 +171,7 @@ public enum Attribute {
     REAPER_WAKE_UP_INTERVAL("reaper-interval"),
     REBATCH_REQUESTS_SIZE,
     RECOVERY_INFO_CACHE_NAME("recovery-cache"),
+    RECYCLE_INVOCATIONS,
     REFRESH_INTERVAL,
     RELATIVE_TO,
     REMOTE_CACHE,
@@ -191,6 +201,8 @@ public enum Attribute {
     STACK,
     STOP_TIMEOUT,
     SYNC_WRITES,
+    SYNC_WRITES_MAX_BATCH_SIZE,
+    SYNC_WRITES_MAX_DELAY,
     TAKE_BACKUP_OFFLINE_AFTER_FAILURES("after-failures"),
     TAKE_BACKUP_OFFLINE_MIN_WAIT("min-wait"),
     THREAD_FACTORY,
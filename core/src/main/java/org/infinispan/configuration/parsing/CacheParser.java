@@ -183,6 +183,10 @@ private void parseCacheAttribute(ConfigurationReader reader,
             builder.simpleCache(ParseUtils.parseBoolean(reader, index, value));
             break;
          }
+         case RECYCLE_INVOCATIONS: {
+            builder.recycleInvocations(ParseUtils.parseBoolean(reader, index, value));
+            break;
+         }
          case STATISTICS: {
             builder.statistics().enabled(ParseUtils.parseBoolean(reader, index, value));
             break;
@@ -1016,6 +1020,20 @@ protected void parseFileStore(ConfigurationReader reader, ConfigurationBuilderHo
                   throw ParseUtils.unexpectedAttribute(reader, i);
                }
                break;
+            case COMPACTION_THREADS:
+               if (fileStoreBuilder != null) {
+                  fileStoreBuilder.compactionThreads(ParseUtils.parseInt(reader, i, value));
+               } else {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
+               break;
+            case COMPACTION_RATE_LIMIT:
+               if (fileStoreBuilder != null) {
+                  fileStoreBuilder.compactionRateLimit(ParseUtils.parseLong(reader, i, value));
+               } else {
+                  throw ParseUtils.unexpectedAttribute(reader, i);
+               }
+               break;
             case PURGE: {
                actualStoreConfig.purgeOnStartup(ParseUtils.parseBoolean(reader, i, value));
                break;
@@ -1068,6 +1086,12 @@ private void parseData(ConfigurationReader reader, SoftIndexFileStoreConfigurati
             case SYNC_WRITES:
                builder.syncWrites(ParseUtils.parseBoolean(reader, i, value));
                break;
+            case SYNC_WRITES_MAX_DELAY:
+               builder.syncWritesMaxDelay(ParseUtils.parseLong(reader, i, value));
+               break;
+            case SYNC_WRITES_MAX_BATCH_SIZE:
+               builder.syncWritesMaxBatchSize(ParseUtils.parseInt(reader, i, value));
+               break;
             default:
                throw ParseUtils.unexpectedAttribute(reader, i);
          }
@@ -1132,6 +1156,14 @@ protected void parseSingleFileStore(ConfigurationReader reader, ConfigurationBui
                storeBuilder.fragmentationFactor(Float.parseFloat(value));
                break;
             }
+            case MEMORY_MAPPED: {
+               storeBuilder.memoryMapped(ParseUtils.parseBoolean(reader, i, value));
+               break;
+            }
+            case PERSISTENT_INDEX: {
+               storeBuilder.persistentIndex(ParseUtils.parseBoolean(reader, i, value));
+               break;
+            }
             default: {
                parseStoreAttribute(reader, i, storeBuilder);
             }
@@ -1180,6 +1212,10 @@ public static void parseStoreAttribute(ConfigurationReader reader, int index, Ab
             storeBuilder.segmented(ParseUtils.parseBoolean(reader, index, value));
             break;
          }
+         case BLOOM_FILTER_BITS: {
+            storeBuilder.bloomFilterBits(ParseUtils.parseInt(reader, index, value));
+            break;
+         }
          default: {
             throw ParseUtils.unexpectedAttribute(reader, index);
          }
@@ -1225,6 +1261,9 @@ public static void parseStoreWriteBehind(ConfigurationReader reader, AsyncStoreC
             case FAIL_SILENTLY:
                storeBuilder.failSilently(ParseUtils.parseBoolean(reader, i, value));
                break;
+            case FLUSH_CONCURRENCY:
+               storeBuilder.flushConcurrency(ParseUtils.parseInt(reader, i, value));
+               break;
             case THREAD_POOL_SIZE: {
                ParseUtils.attributeRemovedSince(reader, 11, 0, i);
                ignoreAttribute(reader, i);
@@ -679,6 +679,9 @@ private void writeMemory(ConfigurationWriter writer, Configuration configuration
             attributes.write(writer, MemoryConfiguration.MAX_SIZE, Attribute.MAX_SIZE);
          }
          attributes.write(writer, MemoryConfiguration.WHEN_FULL, Attribute.WHEN_FULL);
+         attributes.write(writer, MemoryConfiguration.ALLOCATOR, Attribute.ALLOCATOR);
+         attributes.write(writer, MemoryConfiguration.LOCK_FREE_READS, Attribute.LOCK_FREE_READS);
+         attributes.write(writer, MemoryConfiguration.EVICTION_POLICY, Attribute.EVICTION_POLICY);
          writer.writeEndElement();
       }
    }
@@ -855,7 +858,9 @@ private void writeDataElement(ConfigurationWriter writer, SoftIndexFileStoreConf
       configuration.data().attributes().write(writer, Element.DATA.getLocalName(),
             DataConfiguration.DATA_LOCATION,
             DataConfiguration.MAX_FILE_SIZE,
-            DataConfiguration.SYNC_WRITES);
+            DataConfiguration.SYNC_WRITES,
+            DataConfiguration.SYNC_WRITES_MAX_DELAY,
+            DataConfiguration.SYNC_WRITES_MAX_BATCH_SIZE);
    }
 
    private void writeIndexElement(ConfigurationWriter writer, SoftIndexFileStoreConfiguration configuration) {
@@ -0,0 +1,143 @@
+package org.infinispan.container.offheap;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.infinispan.commons.util.ProcessorInfo;
+import org.infinispan.commons.util.Util;
+
+import net.jcip.annotations.GuardedBy;
+
+/**
+ * Defers the release of off-heap memory until no reader that does not hold a lock can still observe it.
+ * <p>
+ * Readers surround any unlocked access to off-heap memory with {@link #enter()} and {@link #exit(int)}. Writers
+ * hand memory that was unlinked from the map to {@link #retire(long, long)} instead of deallocating it. Retired memory
+ * is only released by {@link #reclaim()}, which advances the global epoch and then waits for every reader that entered
+ * before the advance to exit. Readers are counted per epoch parity, in counters striped by thread, so entering and
+ * exiting never contend on a shared lock.
+ * <p>
+ * A reader <b>must not</b> block between {@link #enter()} and {@link #exit(int)}, as {@link #reclaim()} spins until
+ * the readers of the previous epoch are gone and may be invoked while holding map locks.
+ * @since 16.0
+ */
+public class EpochReclaimer {
+   private static final int STRIPES = Util.findNextHighestPowerOfTwo(ProcessorInfo.availableProcessors());
+   // Each counter is 16 longs apart so that two counters never share a cache line
+   private static final int PADDING_SHIFT = 4;
+   // How many retired allocations are kept before a writer reclaims them
+   static final int RECLAIM_THRESHOLD = 256;
+
+   private final OffHeapMemoryAllocator allocator;
+   private final AtomicLongArray readers = new AtomicLongArray((STRIPES << 1) << PADDING_SHIFT);
+   private final ReentrantLock retireLock = new ReentrantLock();
+   private final ReentrantLock reclaimLock = new ReentrantLock();
+
+   private volatile long epoch;
+
+   // Pairs of address and size
+   @GuardedBy("retireLock")
+   private long[] retired = new long[64];
+   @GuardedBy("retireLock")
+   private int retiredCount;
+
+   public EpochReclaimer(OffHeapMemoryAllocator allocator) {
+      this.allocator = allocator;
+   }
+
+   private static int counterIndex(int stripe, long epoch) {
+      return ((stripe << 1) | (int) (epoch & 1)) << PADDING_SHIFT;
+   }
+
+   /**
+    * Registers the current thread as a reader of the current epoch.
+    * @return the token that must be passed to {@link #exit(int)}
+    */
+   int enter() {
+      int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+      while (true) {
+         long currentEpoch = epoch;
+         int index = counterIndex(stripe, currentEpoch);
+         readers.incrementAndGet(index);
+         // If the epoch advanced before we were counted, the reclaimer may not have seen us
+         if (epoch == currentEpoch) {
+            return index;
+         }
+         readers.decrementAndGet(index);
+      }
+   }
+
+   void exit(int token) {
+      readers.decrementAndGet(token);
+   }
+
+   /**
+    * Schedules the given memory to be deallocated once no reader can observe it anymore. If enough memory has been
+    * retired this will reclaim it before returning.
+    * @param address the address to deallocate
+    * @param size the size of the allocation as provided to {@link OffHeapMemoryAllocator#deallocate(long, long)}
+    */
+   void retire(long address, long size) {
+      boolean reclaim;
+      retireLock.lock();
+      try {
+         if (retiredCount == retired.length) {
+            retired = Arrays.copyOf(retired, retired.length << 1);
+         }
+         retired[retiredCount++] = address;
+         retired[retiredCount++] = size;
+         reclaim = retiredCount >= RECLAIM_THRESHOLD << 1;
+      } finally {
+         retireLock.unlock();
+      }
+      if (reclaim) {
+         reclaim();
+      }
+   }
+
+   /**
+    * Deallocates all memory retired before this method was invoked, waiting for any reader that may still observe it.
+    */
+   void reclaim() {
+      reclaimLock.lock();
+      try {
+         long[] toFree;
+         int count;
+         retireLock.lock();
+         try {
+            count = retiredCount;
+            if (count == 0) {
+               return;
+            }
+            toFree = retired;
+            retired = new long[Math.max(64, count)];
+            retiredCount = 0;
+         } finally {
+            retireLock.unlock();
+         }
+         long previousEpoch = epoch;
+         epoch = previousEpoch + 1;
+         awaitReaders(previousEpoch);
+         for (int i = 0; i < count; i += 2) {
+            allocator.deallocate(toFree[i], toFree[i + 1]);
+         }
+      } finally {
+         reclaimLock.unlock();
+      }
+   }
+
+   private void awaitReaders(long previousEpoch) {
+      for (int stripe = 0; stripe < STRIPES; ++stripe) {
+         int index = counterIndex(stripe, previousEpoch);
+         int spins = 0;
+         while (readers.get(index) != 0) {
+            if (++spins < 64) {
+               Thread.onSpinWait();
+            } else {
+               Thread.yield();
+            }
+         }
+      }
+   }
+}
@@ -41,6 +41,14 @@ public void deallocate() {
       allocator.deallocate(memory, (long) pointerCount << 3);
    }
 
+   /**
+    * Same as {@link #deallocate()} except that the memory is only released once no unlocked reader can observe it.
+    * @param reclaimer the reclaimer to defer the deallocation to
+    */
+   void retire(EpochReclaimer reclaimer) {
+      reclaimer.retire(memory, (long) pointerCount << 3);
+   }
+
    /**
     * Returns a stream of longs that are all of the various memory locations
     * @return stream of the various memory locations
@@ -1,6 +1,7 @@
 package org.infinispan.container.offheap;
 
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.AbstractCollection;
 import java.util.AbstractMap;
 import java.util.AbstractSet;
@@ -65,7 +66,10 @@
  * This map guarantees consistency under concurrent read ands writes through a {@link StripedLock} where each
  * {@link java.util.concurrent.locks.ReadWriteLock} instance protects an equivalent region of buckets in the underlying
  * memory lookup. Read operations, that is ones that only acquire the read lock for their specific lock region, are
- * ({@code get} and {@code peek}). Iteration on a returned entrySet or value collection will acquire only a single
+ * ({@code get} and {@code peek}). When the map is constructed with an {@link EpochReclaimer} these read operations
+ * first try an optimistic read of their lock region without acquiring any lock, only falling back to the read lock if
+ * a write to the same region happened concurrently. In that case every deallocation is deferred through the reclaimer,
+ * so that memory is never released while an optimistic reader may still be looking at it. Iteration on a returned entrySet or value collection will acquire only a single
  * read lock at a time while inspecting a given lock region for a valid value. Write operations, ones that acquire the
  * write lock for the lock region, are ({@code put}, {@code remove}, {@code replace}, {@code compute}. A clear
  * will acquire all write locks when invoked. This allows the clear to also resize the map down to the initial size.
@@ -117,6 +121,8 @@ public class OffHeapConcurrentMap implements ConcurrentMap<WrappedBytes, Interna
    private final OffHeapEntryFactory offHeapEntryFactory;
 
    private final EntryListener listener;
+   // Non null when optimistic reads are enabled
+   private final EpochReclaimer reclaimer;
 
    // Once this threshold size is met, the underlying buckets will be re-sized if possible
    // This variable can be read outside of locks - thus is volatile, however should only be modified while holding
@@ -143,9 +149,23 @@ public class OffHeapConcurrentMap implements ConcurrentMap<WrappedBytes, Interna
 
    public OffHeapConcurrentMap(OffHeapMemoryAllocator allocator,
          OffHeapEntryFactory offHeapEntryFactory, EntryListener listener) {
+      this(allocator, offHeapEntryFactory, listener, null);
+   }
+
+   /**
+    * Creates a new map, which performs {@code get} and {@code peek} without acquiring a lock when a reclaimer is
+    * provided. The same reclaimer can be shared between maps using the same allocator.
+    * @param allocator the allocator used for entries and the memory lookup
+    * @param offHeapEntryFactory the factory to create entries
+    * @param listener listener notified of entry changes, may be null
+    * @param reclaimer reclaimer to defer deallocations to, may be null to always acquire the read lock on reads
+    */
+   public OffHeapConcurrentMap(OffHeapMemoryAllocator allocator, OffHeapEntryFactory offHeapEntryFactory,
+         EntryListener listener, EpochReclaimer reclaimer) {
       this.allocator = Objects.requireNonNull(allocator);
       this.offHeapEntryFactory = Objects.requireNonNull(offHeapEntryFactory);
       this.listener = listener;
+      this.reclaimer = reclaimer;
 
       locks = new StripedLock(LOCK_COUNT);
 
@@ -275,7 +295,7 @@ private void entryRemoved(long removedAddress) {
       if (listener != null) {
          listener.entryRemoved(removedAddress);
       }
-      allocator.deallocate(removedAddress, offHeapEntryFactory.getSize(removedAddress, false));
+      deallocate(removedAddress);
    }
 
    @GuardedBy("locks#writeLock")
@@ -283,7 +303,26 @@ private void entryReplaced(long newAddress, long oldAddress) {
       if (listener != null) {
          listener.entryReplaced(newAddress, oldAddress);
       }
-      allocator.deallocate(oldAddress, offHeapEntryFactory.getSize(oldAddress, false));
+      deallocate(oldAddress);
+   }
+
+   @GuardedBy("locks#writeLock")
+   private void deallocate(long address) {
+      long size = offHeapEntryFactory.getSize(address, false);
+      if (reclaimer != null) {
+         reclaimer.retire(address, size);
+      } else {
+         allocator.deallocate(address, size);
+      }
+   }
+
+   @GuardedBy("locks#lockAll")
+   private void deallocate(MemoryAddressHash memoryLookup) {
+      if (reclaimer != null) {
+         memoryLookup.retire(reclaimer);
+      } else {
+         memoryLookup.deallocate();
+      }
    }
 
    @GuardedBy("locks#readLock")
@@ -466,7 +505,7 @@ private void transferComplete() {
       }
       this.oldMemoryLookup = null;
 
-      oldMemoryLookup.deallocate();
+      deallocate(oldMemoryLookup);
    }
 
    /**
@@ -548,8 +587,11 @@ public void close() {
       locks.lockAll();
       try {
          actualClear();
-         memoryLookup.deallocate();
+         deallocate(memoryLookup);
          memoryLookup = null;
+         if (reclaimer != null) {
+            reclaimer.reclaim();
+         }
       } finally {
          locks.unlockAll();
       }
@@ -622,6 +664,54 @@ private InternalCacheEntry<WrappedBytes, WrappedBytes> peekOrGet(WrappedBytes k,
       int hashCode = k.hashCode();
       int lockOffset = getLockOffset(hashCode);
       StampedLock stampedLock = locks.getLockWithOffset(lockOffset);
+      long stamp;
+      // A zero stamp means a writer currently holds the lock, so an optimistic read would never validate
+      if (reclaimer != null && (stamp = stampedLock.tryOptimisticRead()) != 0) {
+         InternalCacheEntry<WrappedBytes, WrappedBytes> ice = null;
+         long actualAddress = 0;
+         long readStamp = 0;
+         boolean valid = false;
+         int token = reclaimer.enter();
+         try {
+            // The fields guarded by the locks may be inconsistent here, thus the offset is always bounded by the
+            // lookup that was read and the result is only used if no write happened to the lock region meanwhile
+            IntSet pendingBlocks = this.pendingBlocks;
+            MemoryAddressHash memoryLookup = pendingBlocks != null && pendingBlocks.contains(lockOffset) ?
+                  this.oldMemoryLookup : this.memoryLookup;
+            // A null lookup means we raced with a resize completing or the map being closed
+            if (memoryLookup != null) {
+               int pointerCount = memoryLookup.getPointerCount();
+               int memoryOffset = getOffset(hashCode, 31 - Integer.numberOfTrailingZeros(pointerCount)) &
+                     (pointerCount - 1);
+               long bucketAddress = memoryLookup.getMemoryAddressOffset(memoryOffset);
+               if (bucketAddress != 0) {
+                  actualAddress = performGet(bucketAddress, k, hashCode);
+                  if (actualAddress != 0) {
+                     ice = offHeapEntryFactory.fromMemory(actualAddress);
+                  }
+               }
+               if (peek || actualAddress == 0 || listener == null) {
+                  valid = stampedLock.validate(stamp);
+               } else {
+                  readStamp = stampedLock.tryConvertToReadLock(stamp);
+                  valid = readStamp != 0;
+               }
+            }
+         } finally {
+            reclaimer.exit(token);
+         }
+         if (valid) {
+            if (readStamp != 0) {
+               // The listener may block, so it is only notified after leaving the epoch while holding the read lock
+               try {
+                  entryRetrieved(actualAddress);
+               } finally {
+                  stampedLock.unlockRead(readStamp);
+               }
+            }
+            return ice;
+         }
+      }
       long readStamp = stampedLock.readLock();
       try {
          checkDeallocation();
@@ -753,6 +843,8 @@ public InternalCacheEntry<WrappedBytes, WrappedBytes> put(WrappedBytes key,
    @GuardedBy("locks#writeLock")
    private InternalCacheEntry<WrappedBytes, WrappedBytes> performPut(long bucketHeadAddress, long actualAddress,
          long newAddress, WrappedBytes key, int memoryOffset, boolean requireReturn, boolean transfer) {
+      // Make sure the contents of the new entry are visible before it is linked, for optimistic readers
+      VarHandle.releaseFence();
       // Have to start new linked node list
       if (bucketHeadAddress == 0) {
          memoryLookup.putMemoryAddressOffset(memoryOffset, newAddress);
@@ -944,7 +1036,7 @@ private void actualClear() {
       };
       int pointerCount = memoryLookup.getPointerCount();
       memoryLookup.removeAll().forEach(removeEntries);
-      memoryLookup.deallocate();
+      deallocate(memoryLookup);
       memoryLookup = null;
       if (listener != null) {
          boolean resized = listener.resize(-pointerCount);
@@ -959,6 +1051,10 @@ private void actualClear() {
       sizeMemoryBuckets(INITIAL_SIZE);
 
       size.set(0);
+      if (reclaimer != null) {
+         // Release the memory right away, as a clear can free a large amount of it
+         reclaimer.reclaim();
+      }
       if (log.isTraceEnabled()) {
          log.trace("Cleared off-heap data");
       }
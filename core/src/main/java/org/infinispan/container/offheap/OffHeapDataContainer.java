@@ -27,7 +27,8 @@ public class OffHeapDataContainer extends AbstractInternalDataContainer<WrappedB
 
    @Start
    public void start() {
-      map = new OffHeapConcurrentMap(allocator, offHeapEntryFactory, null);
+      EpochReclaimer reclaimer = configuration.memory().lockFreeReads() ? new EpochReclaimer(allocator) : null;
+      map = new OffHeapConcurrentMap(allocator, offHeapEntryFactory, null, reclaimer);
    }
 
    @Stop
@@ -1,6 +1,5 @@
 package org.infinispan.container.offheap;
 
-import static org.infinispan.container.offheap.UnpooledOffHeapMemoryAllocator.estimateSizeOverhead;
 import static org.infinispan.container.offheap.UnpooledOffHeapMemoryAllocator.offHeapEntrySize;
 
 import java.io.IOException;
@@ -238,7 +237,7 @@ public long getSize(long entryAddress, boolean includeAllocationOverhead) {
       }
 
       int size = headerOffset + keyLength + metadataLength + valueLength + internalMetadataLength;
-      return includeAllocationOverhead ? estimateSizeOverhead(size) : size;
+      return includeAllocationOverhead ? allocator.allocationSize(size) : size;
    }
 
    @Override
@@ -592,7 +591,7 @@ public long calculateSize(WrappedBytes key, WrappedBytes value, Metadata metadat
       long internalMetadataSize = shouldWriteInternalMetadata(internalMetadata) ?
                                   marshall(internalMetadata).length + 4:
                                   0;
-      return estimateSizeOverhead(totalSize + metadataSize + internalMetadataSize);
+      return allocator.allocationSize(totalSize + metadataSize + internalMetadataSize);
    }
 
    @Override
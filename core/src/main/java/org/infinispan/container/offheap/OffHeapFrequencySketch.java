@@ -0,0 +1,133 @@
+package org.infinispan.container.offheap;
+
+import org.infinispan.commons.spi.OffHeapMemory;
+import org.infinispan.commons.util.Util;
+
+/**
+ * Count-min sketch with 4 bit counters, stored in native memory, that estimates how often a hash code was seen.
+ * <p>
+ * Each hash code maps to 4 counters, one per row, and its frequency is the minimum of them. Every row is packed in
+ * the same table of longs, each long holding 16 counters. Once the number of increments reaches ten times the
+ * table length all counters are halved, so that the frequencies age and old popular entries do not stay hot forever.
+ * <p>
+ * This class is not thread safe and must be guarded by an external lock.
+ * @since 16.0
+ */
+class OffHeapFrequencySketch {
+   private static final OffHeapMemory MEMORY = org.infinispan.commons.jdkspecific.OffHeapMemory.getInstance();
+
+   private static final long[] SEEDS = {
+         0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+   private static final long RESET_MASK = 0x7777777777777777L;
+   private static final long ONE_MASK = 0x1111111111111111L;
+
+   static final int MIN_TABLE_LENGTH = 16;
+   static final int MAX_TABLE_LENGTH = 1 << 20;
+
+   private final OffHeapMemoryAllocator allocator;
+   private final int tableLength;
+   private final int tableMask;
+   private final int sampleSize;
+   private long address;
+   private int size;
+
+   /**
+    * @param allocator the allocator to reserve the table with
+    * @param expectedEntries how many distinct entries the sketch should be able to tell apart
+    */
+   OffHeapFrequencySketch(OffHeapMemoryAllocator allocator, long expectedEntries) {
+      this.allocator = allocator;
+      long length = Math.max(MIN_TABLE_LENGTH, Math.min(MAX_TABLE_LENGTH, expectedEntries));
+      this.tableLength = Util.findNextHighestPowerOfTwo((int) length);
+      this.tableMask = tableLength - 1;
+      this.sampleSize = 10 * tableLength;
+      this.address = allocator.allocate(tableLength * 8L);
+      MEMORY.setMemory(address, tableLength * 8L, (byte) 0);
+   }
+
+   /**
+    * Returns the estimated number of times the hash code was seen, capped at 15.
+    * @param hashCode the hash code of the entry
+    * @return the estimated frequency
+    */
+   int frequency(int hashCode) {
+      int hash = spread(hashCode);
+      int start = (hash & 3) << 2;
+      int frequency = Integer.MAX_VALUE;
+      for (int i = 0; i < 4; ++i) {
+         int index = indexOf(hash, i);
+         int count = (int) ((MEMORY.getLong(address, (long) index << 3) >>> ((start + i) << 2)) & 0xfL);
+         frequency = Math.min(frequency, count);
+      }
+      return frequency;
+   }
+
+   /**
+    * Increments the popularity of the hash code, if it has not already reached the maximum.
+    * @param hashCode the hash code of the entry
+    */
+   void increment(int hashCode) {
+      int hash = spread(hashCode);
+      int start = (hash & 3) << 2;
+      boolean added = false;
+      for (int i = 0; i < 4; ++i) {
+         added |= incrementAt(indexOf(hash, i), start + i);
+      }
+      if (added && ++size == sampleSize) {
+         reset();
+      }
+   }
+
+   /**
+    * @return how many bytes of native memory the sketch holds
+    */
+   long memoryUsed() {
+      return tableLength * 8L;
+   }
+
+   /**
+    * Releases the native memory of this sketch, which must not be used afterwards.
+    */
+   void release() {
+      if (address != 0) {
+         allocator.deallocate(address, tableLength * 8L);
+         address = 0;
+      }
+   }
+
+   private boolean incrementAt(int index, int counter) {
+      long offset = (long) index << 3;
+      int shift = counter << 2;
+      long mask = 0xfL << shift;
+      long value = MEMORY.getLong(address, offset);
+      if ((value & mask) != mask) {
+         MEMORY.putLong(address, offset, value + (1L << shift));
+         return true;
+      }
+      return false;
+   }
+
+   private void reset() {
+      int oddCounters = 0;
+      for (int i = 0; i < tableLength; ++i) {
+         long offset = (long) i << 3;
+         long value = MEMORY.getLong(address, offset);
+         oddCounters += Long.bitCount(value & ONE_MASK);
+         MEMORY.putLong(address, offset, (value >>> 1) & RESET_MASK);
+      }
+      // Halving odd counters truncates them, which is compensated for on average
+      size = (size >>> 1) - (oddCounters >>> 2);
+   }
+
+   private int indexOf(int item, int i) {
+      long hash = (item + SEEDS[i]) * SEEDS[i];
+      hash += hash >>> 32;
+      return ((int) hash) & tableMask;
+   }
+
+   private static int spread(int x) {
+      x = ((x >>> 16) ^ x) * 0x45d9f3b;
+      x = ((x >>> 16) ^ x) * 0x45d9f3b;
+      return (x >>> 16) ^ x;
+   }
+}
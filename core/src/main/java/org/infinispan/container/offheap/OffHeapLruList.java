@@ -0,0 +1,130 @@
+package org.infinispan.container.offheap;
+
+import java.lang.invoke.MethodHandles;
+
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
+
+/**
+ * Doubly linked list of off-heap entries, linked through their {@link OffHeapLruNode} pointers. The first entry is
+ * the least recently used one.
+ * <p>
+ * This class is not thread safe, all methods must be invoked while holding the lock that guards the list.
+ * @since 16.0
+ */
+class OffHeapLruList {
+   private static final Log log = LogFactory.getLog(MethodHandles.lookup().lookupClass());
+
+   private long firstAddress;
+   private long lastAddress;
+
+   long first() {
+      return firstAddress;
+   }
+
+   long last() {
+      return lastAddress;
+   }
+
+   boolean isEmpty() {
+      return firstAddress == 0;
+   }
+
+   /**
+    * Method to be invoked when adding a new entry address to the end of the lru nodes.  This occurs for newly created
+    * entries.
+    *
+    * @param entryAddress the new entry address pointer *NOT* the lru node
+    */
+   void addToEnd(long entryAddress) {
+      if (log.isTraceEnabled()) {
+         log.tracef("Adding entry 0x%016x to the end of the LRU list", entryAddress);
+      }
+      // This means it is the first entry
+      if (lastAddress == 0) {
+         firstAddress = entryAddress;
+         lastAddress = entryAddress;
+         // Have to make sure the memory is cleared so we don't use unitialized values
+         OffHeapLruNode.setPrevious(entryAddress, 0);
+      } else {
+         // Writes back pointer to the old lastAddress
+         OffHeapLruNode.setPrevious(entryAddress, lastAddress);
+         // Write the forward pointer in old lastAddress to point to us
+         OffHeapLruNode.setNext(lastAddress, entryAddress);
+         // Finally make us the last address
+         lastAddress = entryAddress;
+      }
+      // Since we are last there is no pointer after us
+      OffHeapLruNode.setNext(entryAddress, 0);
+   }
+
+   /**
+    * Removes the address node and updates previous and next lru node pointers properly
+    * @param address the entry to remove, which must be part of this list
+    */
+   void remove(long address) {
+      boolean middleNode = true;
+      if (address == lastAddress) {
+         if (log.isTraceEnabled()) {
+            log.tracef("Removed entry 0x%016x from the end of the LRU list", address);
+         }
+         long previousLRUNode = OffHeapLruNode.getPrevious(address);
+         if (previousLRUNode != 0) {
+            OffHeapLruNode.setNext(previousLRUNode, 0);
+         }
+         lastAddress = previousLRUNode;
+         middleNode = false;
+      }
+      if (address == firstAddress) {
+         if (log.isTraceEnabled()) {
+            log.tracef("Removed entry 0x%016x from the beginning of the LRU list", address);
+         }
+         long nextLRUNode = OffHeapLruNode.getNext(address);
+         if (nextLRUNode != 0) {
+            OffHeapLruNode.setPrevious(nextLRUNode, 0);
+         }
+         firstAddress = nextLRUNode;
+         middleNode = false;
+      }
+      if (middleNode) {
+         if (log.isTraceEnabled()) {
+            log.tracef("Removed entry 0x%016x from the middle of the LRU list", address);
+         }
+         // We are a middle pointer so both of these have to be non zero
+         long previousLRUNode = OffHeapLruNode.getPrevious(address);
+         long nextLRUNode = OffHeapLruNode.getNext(address);
+         assert previousLRUNode != 0;
+         assert nextLRUNode != 0;
+         OffHeapLruNode.setNext(previousLRUNode, nextLRUNode);
+         OffHeapLruNode.setPrevious(nextLRUNode, previousLRUNode);
+      }
+   }
+
+   /**
+    * Method to be invoked when moving an existing lru node to the end.  This occurs when the entry is accessed for this
+    * node.
+    *
+    * @param lruNode the node to move to the end
+    */
+   void moveToEnd(long lruNode) {
+      if (lruNode != lastAddress) {
+         long nextLruNode = OffHeapLruNode.getNext(lruNode);
+         assert nextLruNode != 0;
+         if (lruNode == firstAddress) {
+            OffHeapLruNode.setPrevious(nextLruNode, 0);
+            firstAddress = nextLruNode;
+         } else {
+            long prevLruNode = OffHeapLruNode.getPrevious(lruNode);
+            assert prevLruNode != 0;
+            OffHeapLruNode.setNext(prevLruNode, nextLruNode);
+            OffHeapLruNode.setPrevious(nextLruNode, prevLruNode);
+         }
+         // Link the previous last node to our new last node
+         OffHeapLruNode.setNext(lastAddress, lruNode);
+         // Sets the previous node of our new tail node to the previous tail node
+         OffHeapLruNode.setPrevious(lruNode, lastAddress);
+         OffHeapLruNode.setNext(lruNode, 0);
+         lastAddress = lruNode;
+      }
+   }
+}
@@ -4,6 +4,10 @@
 
 /**
  * Accessors for the fields of a native LRU list node.
+ * <p>
+ * Entry addresses are always at least 8 byte aligned, so the lowest bits of the previous pointer are used to record
+ * which eviction queue the node belongs to. {@link #setPrevious(long, long)} preserves the queue and
+ * {@link #getPrevious(long)} strips it.
  *
  * @since 9.1
  */
@@ -15,6 +19,8 @@ class OffHeapLruNode {
    private static final int PREVIOUS_NODE_OFFSET = 0;
    private static final int NEXT_NODE_OFFSET = PREVIOUS_NODE_OFFSET + ADDRESS_SIZE;
 
+   private static final long QUEUE_MASK = 0x3;
+
    private OffHeapLruNode() {
    }
 
@@ -27,11 +33,22 @@ static void setNext(long lruNodeAddress, long nextAddress) {
    }
 
    static long getPrevious(long lruNodeAddress) {
-      return MEMORY.getLong(lruNodeAddress, PREVIOUS_NODE_OFFSET);
+      return MEMORY.getLong(lruNodeAddress, PREVIOUS_NODE_OFFSET) & ~QUEUE_MASK;
    }
 
    static void setPrevious(long lruNodeAddress, long previousAddress) {
-      MEMORY.putLong(lruNodeAddress, PREVIOUS_NODE_OFFSET, previousAddress);
+      long queue = MEMORY.getLong(lruNodeAddress, PREVIOUS_NODE_OFFSET) & QUEUE_MASK;
+      MEMORY.putLong(lruNodeAddress, PREVIOUS_NODE_OFFSET, previousAddress | queue);
+   }
+
+   static int getQueue(long lruNodeAddress) {
+      return (int) (MEMORY.getLong(lruNodeAddress, PREVIOUS_NODE_OFFSET) & QUEUE_MASK);
+   }
+
+   static void setQueue(long lruNodeAddress, int queue) {
+      assert (queue & ~QUEUE_MASK) == 0;
+      long previous = MEMORY.getLong(lruNodeAddress, PREVIOUS_NODE_OFFSET) & ~QUEUE_MASK;
+      MEMORY.putLong(lruNodeAddress, PREVIOUS_NODE_OFFSET, previous | queue);
    }
 
    static String debugString(long address) {
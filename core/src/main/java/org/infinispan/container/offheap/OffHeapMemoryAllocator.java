@@ -22,5 +22,28 @@ public interface OffHeapMemoryAllocator {
     */
    void deallocate(long memoryAddress, long size);
 
+   /**
+    * Returns the amount of memory currently handed out by this allocator, including any per allocation overhead.
+    * @return the allocated amount in bytes
+    */
    long getAllocatedAmount();
+
+   /**
+    * Returns the amount of native memory reserved by this allocator. This includes the allocated amount as well as any
+    * memory that was freed but is retained by the allocator for reuse.
+    * @return the reserved amount in bytes
+    */
+   default long getReservedAmount() {
+      return getAllocatedAmount();
+   }
+
+   /**
+    * Returns the amount of memory an allocation of the given size occupies, including any per allocation overhead.
+    * This is the amount memory based eviction accounts for the allocation.
+    * @param memoryLength the size of memory requested from {@link #allocate(long)}
+    * @return the occupied amount in bytes
+    */
+   default long allocationSize(long memoryLength) {
+      return UnpooledOffHeapMemoryAllocator.estimateSizeOverhead(memoryLength);
+   }
 }
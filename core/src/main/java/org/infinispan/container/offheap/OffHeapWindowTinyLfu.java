@@ -0,0 +1,210 @@
+package org.infinispan.container.offheap;
+
+import java.lang.invoke.MethodHandles;
+import java.util.function.LongUnaryOperator;
+
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
+
+/**
+ * Window TinyLFU eviction order for off-heap entries.
+ * <p>
+ * New entries are added to a small admission window, which is an LRU of 1% of the maximum size. Entries that
+ * overflow the window move to the probation segment of the main space. An entry of the probation segment that is
+ * accessed again is promoted to the protected segment, which holds up to 80% of the main space and demotes its least
+ * recently used entries back to probation when it overflows.
+ * <p>
+ * When the container has to evict, the last entry that moved from the window to probation (the candidate) competes
+ * with the least recently used probation entry (the victim), and whichever was seen less often according to an
+ * {@link OffHeapFrequencySketch} is evicted. This keeps a scan of entries that are used only once from flushing the
+ * frequently used ones.
+ * <p>
+ * The queue an entry belongs to is kept in its {@link OffHeapLruNode}. This class is not thread safe, all methods must
+ * be invoked while holding the lock that guards the eviction order.
+ * @since 16.0
+ */
+class OffHeapWindowTinyLfu {
+   private static final Log log = LogFactory.getLog(MethodHandles.lookup().lookupClass());
+
+   static final int WINDOW = 0;
+   static final int PROBATION = 1;
+   static final int PROTECTED = 2;
+
+   private final OffHeapEntryFactory offHeapEntryFactory;
+   private final LongUnaryOperator weigher;
+   private final OffHeapFrequencySketch sketch;
+   private final long maxWindow;
+   private final long maxProtected;
+
+   private final OffHeapLruList window = new OffHeapLruList();
+   private final OffHeapLruList probation = new OffHeapLruList();
+   private final OffHeapLruList protectedList = new OffHeapLruList();
+   private long windowWeight;
+   private long protectedWeight;
+   // The entry that was most recently admitted from the window to the main space and that has not yet been compared
+   private long candidate;
+
+   /**
+    * @param offHeapEntryFactory factory used to read the hash code of the entries
+    * @param allocator allocator for the frequency sketch
+    * @param weigher returns the weight of an entry address, in the same unit as the maximum size
+    * @param maxSize the maximum size of the container
+    * @param expectedEntries how many entries the container is expected to hold at most
+    */
+   OffHeapWindowTinyLfu(OffHeapEntryFactory offHeapEntryFactory, OffHeapMemoryAllocator allocator,
+         LongUnaryOperator weigher, long maxSize, long expectedEntries) {
+      this.offHeapEntryFactory = offHeapEntryFactory;
+      this.weigher = weigher;
+      this.sketch = new OffHeapFrequencySketch(allocator, expectedEntries);
+      this.maxWindow = Math.max(1, maxSize / 100);
+      this.maxProtected = (long) ((maxSize - maxWindow) * 0.8);
+   }
+
+   void entryCreated(long address) {
+      sketch.increment(offHeapEntryFactory.getHashCode(address));
+      window.addToEnd(address);
+      OffHeapLruNode.setQueue(address, WINDOW);
+      windowWeight += weigher.applyAsLong(address);
+      evictFromWindow();
+   }
+
+   void entryRetrieved(long address) {
+      sketch.increment(offHeapEntryFactory.getHashCode(address));
+      switch (OffHeapLruNode.getQueue(address)) {
+         case WINDOW:
+            window.moveToEnd(address);
+            break;
+         case PROBATION:
+            if (address == candidate) {
+               candidate = 0;
+            }
+            probation.remove(address);
+            protectedList.addToEnd(address);
+            OffHeapLruNode.setQueue(address, PROTECTED);
+            protectedWeight += weigher.applyAsLong(address);
+            demoteFromProtected();
+            break;
+         case PROTECTED:
+            protectedList.moveToEnd(address);
+            break;
+         default:
+            throw new IllegalStateException("Entry " + OffHeapLruNode.debugString(address) + " is in no queue");
+      }
+   }
+
+   void entryRemoved(long address) {
+      if (address == candidate) {
+         candidate = 0;
+      }
+      unlink(address);
+   }
+
+   /**
+    * The new entry takes over the queue of the entry it replaces, the replacement counts as an access.
+    */
+   void entryReplaced(long newAddress, long oldAddress) {
+      int queue = OffHeapLruNode.getQueue(oldAddress);
+      if (oldAddress == candidate) {
+         candidate = newAddress;
+      }
+      unlink(oldAddress);
+      switch (queue) {
+         case WINDOW:
+            window.addToEnd(newAddress);
+            windowWeight += weigher.applyAsLong(newAddress);
+            break;
+         case PROBATION:
+            probation.addToEnd(newAddress);
+            break;
+         default:
+            protectedList.addToEnd(newAddress);
+            protectedWeight += weigher.applyAsLong(newAddress);
+            break;
+      }
+      OffHeapLruNode.setQueue(newAddress, queue);
+      sketch.increment(offHeapEntryFactory.getHashCode(newAddress));
+      evictFromWindow();
+      demoteFromProtected();
+   }
+
+   /**
+    * Returns the entry that should be evicted next, or 0 if there are no entries. This method does not modify the
+    * eviction order, so it returns the same entry until an entry is added, accessed or removed.
+    * @return the address of the entry to evict
+    */
+   long victim() {
+      long victim = probation.first();
+      if (victim == 0) {
+         victim = protectedList.first();
+         if (victim == 0) {
+            return window.first();
+         }
+      }
+      if (candidate != 0 && candidate != victim) {
+         int candidateFrequency = sketch.frequency(offHeapEntryFactory.getHashCode(candidate));
+         int victimFrequency = sketch.frequency(offHeapEntryFactory.getHashCode(victim));
+         if (log.isTraceEnabled()) {
+            log.tracef("Candidate 0x%016x with frequency %d competes with victim 0x%016x with frequency %d",
+                  candidate, candidateFrequency, victim, victimFrequency);
+         }
+         // Ties go against the candidate, it has to prove it is more popular than what it replaces
+         if (candidateFrequency <= victimFrequency) {
+            return candidate;
+         }
+      }
+      return victim;
+   }
+
+   /**
+    * @return how many bytes of native memory the frequency sketch holds
+    */
+   long memoryUsed() {
+      return sketch.memoryUsed();
+   }
+
+   /**
+    * Releases the frequency sketch, this instance must not be used afterwards.
+    */
+   void release() {
+      sketch.release();
+   }
+
+   private void unlink(long address) {
+      switch (OffHeapLruNode.getQueue(address)) {
+         case WINDOW:
+            window.remove(address);
+            windowWeight -= weigher.applyAsLong(address);
+            break;
+         case PROBATION:
+            probation.remove(address);
+            break;
+         case PROTECTED:
+            protectedList.remove(address);
+            protectedWeight -= weigher.applyAsLong(address);
+            break;
+         default:
+            throw new IllegalStateException("Entry " + OffHeapLruNode.debugString(address) + " is in no queue");
+      }
+   }
+
+   private void evictFromWindow() {
+      while (windowWeight > maxWindow) {
+         long address = window.first();
+         window.remove(address);
+         windowWeight -= weigher.applyAsLong(address);
+         probation.addToEnd(address);
+         OffHeapLruNode.setQueue(address, PROBATION);
+         candidate = address;
+      }
+   }
+
+   private void demoteFromProtected() {
+      while (protectedWeight > maxProtected) {
+         long address = protectedList.first();
+         protectedList.remove(address);
+         protectedWeight -= weigher.applyAsLong(address);
+         probation.addToEnd(address);
+         OffHeapLruNode.setQueue(address, PROBATION);
+      }
+   }
+}
@@ -0,0 +1,249 @@
+package org.infinispan.container.offheap;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.infinispan.commons.spi.OffHeapMemory;
+import org.infinispan.commons.util.ProcessorInfo;
+import org.infinispan.commons.util.Util;
+import org.infinispan.factories.annotations.Stop;
+import org.infinispan.factories.scopes.Scope;
+import org.infinispan.factories.scopes.Scopes;
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
+
+/**
+ * Memory allocator that carves small allocations out of larger slabs, bucketed by size class, instead of asking the
+ * native allocator for every entry.
+ * <p>
+ * Memory is split into a number of arenas, and a thread always allocates from the same arena, which keeps lock
+ * contention low. Each slot is prefixed by an 8 byte header recording the arena it was carved from, so that freeing
+ * a slot from any thread returns it to the free list of its owning arena, where it is reused by the next allocation
+ * of the same size class. Slabs are only returned to the operating system when the allocator is stopped.
+ * <p>
+ * Slot sizes are multiples of 16 bytes up to 512 bytes, which is exactly what
+ * {@link UnpooledOffHeapMemoryAllocator#estimateSizeOverhead(long)} assumes, and quarter powers of two above that.
+ * {@link #allocationSize(long)} returns the slot size, so that memory based eviction accounts for the whole slot.
+ * Allocations larger than the biggest size class are delegated to an {@link UnpooledOffHeapMemoryAllocator}.
+ * @since 16.0
+ */
+@Scope(Scopes.NAMED_CACHE)
+public class PooledOffHeapMemoryAllocator implements OffHeapMemoryAllocator {
+   private static final Log log = LogFactory.getLog(PooledOffHeapMemoryAllocator.class, Log.class);
+   private static final OffHeapMemory MEMORY = org.infinispan.commons.jdkspecific.OffHeapMemory.getInstance();
+
+   static final int HEADER_SIZE = 8;
+   static final int DEFAULT_SLAB_SIZE = 1 << 20;
+   static final int MAX_SLOT_SIZE = 8192;
+
+   // Slot sizes include the header
+   private static final int[] SLOT_SIZES;
+   // Maps (slotSize >>> 4) to the index of the smallest size class that can hold it
+   private static final byte[] SIZE_CLASS_LOOKUP;
+
+   static {
+      int[] sizes = new int[64];
+      int count = 0;
+      for (int size = 16; size <= 512; size += 16) {
+         sizes[count++] = size;
+      }
+      for (int base = 512; base < MAX_SLOT_SIZE; base <<= 1) {
+         int step = base >>> 2;
+         for (int i = 1; i <= 4; ++i) {
+            sizes[count++] = base + step * i;
+         }
+      }
+      SLOT_SIZES = new int[count];
+      System.arraycopy(sizes, 0, SLOT_SIZES, 0, count);
+      SIZE_CLASS_LOOKUP = new byte[(MAX_SLOT_SIZE >>> 4) + 1];
+      int sizeClass = 0;
+      for (int i = 1; i < SIZE_CLASS_LOOKUP.length; ++i) {
+         while (SLOT_SIZES[sizeClass] < i << 4) {
+            sizeClass++;
+         }
+         SIZE_CLASS_LOOKUP[i] = (byte) sizeClass;
+      }
+   }
+
+   private final UnpooledOffHeapMemoryAllocator largeAllocator = new UnpooledOffHeapMemoryAllocator();
+   private final Arena[] arenas;
+   private final int arenaMask;
+   private final int slabSize;
+   private final LongAdder amountAllocated = new LongAdder();
+   private final LongAdder amountReserved = new LongAdder();
+
+   public PooledOffHeapMemoryAllocator() {
+      this(ProcessorInfo.availableProcessors() << 1, DEFAULT_SLAB_SIZE);
+   }
+
+   public PooledOffHeapMemoryAllocator(int arenaCount, int slabSize) {
+      if (slabSize < MAX_SLOT_SIZE) {
+         throw new IllegalArgumentException("Slab size " + slabSize + " must be at least " + MAX_SLOT_SIZE);
+      }
+      int actualArenaCount = Util.findNextHighestPowerOfTwo(Math.max(1, arenaCount));
+      this.arenas = new Arena[actualArenaCount];
+      for (int i = 0; i < actualArenaCount; ++i) {
+         arenas[i] = new Arena(i);
+      }
+      this.arenaMask = actualArenaCount - 1;
+      this.slabSize = slabSize;
+   }
+
+   /**
+    * Returns the slot size, including the header, that an allocation of the given size occupies or -1 if the
+    * allocation is too big to be pooled.
+    * @param size the requested allocation size
+    * @return the slot size or -1
+    */
+   static int slotSize(long size) {
+      int sizeClass = sizeClass(size);
+      return sizeClass < 0 ? -1 : SLOT_SIZES[sizeClass];
+   }
+
+   private static int sizeClass(long size) {
+      long required = size + HEADER_SIZE;
+      if (required > MAX_SLOT_SIZE) {
+         return -1;
+      }
+      return SIZE_CLASS_LOOKUP[(int) ((required + 15) >>> 4)];
+   }
+
+   @Override
+   public long allocate(long memoryLength) {
+      int sizeClass = sizeClass(memoryLength);
+      if (sizeClass < 0) {
+         return largeAllocator.allocate(memoryLength);
+      }
+      Arena arena = arenas[(int) Thread.currentThread().getId() & arenaMask];
+      long slot = arena.allocate(sizeClass);
+      amountAllocated.add(SLOT_SIZES[sizeClass]);
+      if (log.isTraceEnabled()) {
+         log.tracef("Allocated pooled off-heap memory at 0x%016x with %d bytes. Total size: %d", slot + HEADER_SIZE,
+               SLOT_SIZES[sizeClass], amountAllocated.sum());
+      }
+      return slot + HEADER_SIZE;
+   }
+
+   @Override
+   public void deallocate(long memoryAddress, long size) {
+      int sizeClass = sizeClass(size);
+      if (sizeClass < 0) {
+         largeAllocator.deallocate(memoryAddress, size);
+         return;
+      }
+      long slot = memoryAddress - HEADER_SIZE;
+      Arena arena = arenas[MEMORY.getInt(slot, 0)];
+      arena.free(sizeClass, slot);
+      amountAllocated.add(-SLOT_SIZES[sizeClass]);
+      if (log.isTraceEnabled()) {
+         log.tracef("Deallocating pooled off-heap memory at 0x%016x with %d bytes. Total size: %d", memoryAddress,
+               SLOT_SIZES[sizeClass], amountAllocated.sum());
+      }
+   }
+
+   @Override
+   public long allocationSize(long memoryLength) {
+      int slotSize = slotSize(memoryLength);
+      return slotSize < 0 ? largeAllocator.allocationSize(memoryLength) : slotSize;
+   }
+
+   @Override
+   public long getAllocatedAmount() {
+      return amountAllocated.sum() + largeAllocator.getAllocatedAmount();
+   }
+
+   @Override
+   public long getReservedAmount() {
+      return amountReserved.sum() + largeAllocator.getAllocatedAmount();
+   }
+
+   /**
+    * Releases all slabs back to the operating system. Any address previously returned by this allocator is invalid
+    * after this method returns.
+    */
+   @Stop
+   public void stop() {
+      for (Arena arena : arenas) {
+         arena.release();
+      }
+   }
+
+   private final class Arena {
+      private final int index;
+      private final ReentrantLock lock = new ReentrantLock();
+      // Head of the intrusive free list for each size class, the next pointer is stored right after the header
+      private final long[] freeLists = new long[SLOT_SIZES.length];
+      // All slabs owned by this arena, linked through the first 8 bytes of each slab
+      private long slabs;
+      private long bumpAddress;
+      private long bumpLimit;
+
+      Arena(int index) {
+         this.index = index;
+      }
+
+      long allocate(int sizeClass) {
+         lock.lock();
+         try {
+            long slot = freeLists[sizeClass];
+            if (slot != 0) {
+               freeLists[sizeClass] = MEMORY.getLong(slot, HEADER_SIZE);
+               return slot;
+            }
+            int slotSize = SLOT_SIZES[sizeClass];
+            if (bumpAddress + slotSize > bumpLimit) {
+               newSlab();
+            }
+            slot = bumpAddress;
+            bumpAddress += slotSize;
+            MEMORY.putInt(slot, 0, index);
+            return slot;
+         } finally {
+            lock.unlock();
+         }
+      }
+
+      void free(int sizeClass, long slot) {
+         lock.lock();
+         try {
+            MEMORY.putLong(slot, HEADER_SIZE, freeLists[sizeClass]);
+            freeLists[sizeClass] = slot;
+         } finally {
+            lock.unlock();
+         }
+      }
+
+      private void newSlab() {
+         long slab = MEMORY.allocate(slabSize);
+         amountReserved.add(slabSize);
+         MEMORY.putLong(slab, 0, slabs);
+         slabs = slab;
+         // The first 16 bytes of the slab hold the link to the previous slab, keeping the slots 16 byte aligned
+         bumpAddress = slab + 16;
+         bumpLimit = slab + slabSize;
+         if (log.isTraceEnabled()) {
+            log.tracef("Arena %d reserved a new slab at 0x%016x with %d bytes", index, slab, slabSize);
+         }
+      }
+
+      void release() {
+         lock.lock();
+         try {
+            long slab = slabs;
+            while (slab != 0) {
+               long next = MEMORY.getLong(slab, 0);
+               MEMORY.free(slab);
+               amountReserved.add(-slabSize);
+               slab = next;
+            }
+            slabs = 0;
+            bumpAddress = 0;
+            bumpLimit = 0;
+            Arrays.fill(freeLists, 0);
+         } finally {
+            lock.unlock();
+         }
+      }
+   }
+}
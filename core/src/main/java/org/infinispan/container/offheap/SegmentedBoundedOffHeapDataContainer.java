@@ -8,6 +8,8 @@
 import java.util.function.Supplier;
 
 import org.infinispan.commons.marshall.WrappedBytes;
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.configuration.cache.OffHeapEvictionPolicy;
 import org.infinispan.container.entries.InternalCacheEntry;
 import org.infinispan.container.impl.AbstractDelegatingInternalDataContainer;
 import org.infinispan.container.impl.AbstractInternalDataContainer;
@@ -43,6 +45,7 @@ public class SegmentedBoundedOffHeapDataContainer extends AbstractDelegatingInte
    private final OffHeapListener offHeapListener;
 
    @Inject ComponentRegistry componentRegistry;
+   @Inject Configuration configuration;
 
    @Inject protected OffHeapMemoryAllocator allocator;
    @Inject protected OffHeapEntryFactory offHeapEntryFactory;
@@ -60,10 +63,14 @@ public class SegmentedBoundedOffHeapDataContainer extends AbstractDelegatingInte
 
    // Must be updated inside lruLock#writeLock - but can be read outside of lock
    protected volatile long currentSize;
-   protected long firstAddress;
-   protected long lastAddress;
+   // Only used with the LRU eviction policy
+   protected final OffHeapLruList lruList = new OffHeapLruList();
+   // Only non null with the TinyLFU eviction policy
+   protected OffHeapWindowTinyLfu tinyLfu;
 
    protected DefaultSegmentedDataContainer dataContainer;
+   // Shared by the maps of all segments, only non null when lock free reads are enabled
+   private EpochReclaimer reclaimer;
 
    public SegmentedBoundedOffHeapDataContainer(int numSegments, long maxSize, EvictionType type) {
       this.numSegments = numSegments;
@@ -73,19 +80,37 @@ public SegmentedBoundedOffHeapDataContainer(int numSegments, long maxSize, Evict
       this.useCount = type == EvictionType.COUNT;
       OffHeapMapSupplier offHeapMapSupplier = new OffHeapMapSupplier();
       this.lruLock = new ReentrantLock();
-      firstAddress = 0;
 
       dataContainer = new DefaultSegmentedDataContainer<>(offHeapMapSupplier, numSegments);
    }
 
    @Start
    public void start() {
+      if (configuration.memory().lockFreeReads()) {
+         reclaimer = new EpochReclaimer(allocator);
+      }
+      if (configuration.memory().evictionPolicy() == OffHeapEvictionPolicy.TINY_LFU) {
+         // Memory based eviction doesn't know how many entries fit, so assume entries of 512 bytes
+         long expectedEntries = useCount ? maxSize : maxSize >>> 9;
+         tinyLfu = new OffHeapWindowTinyLfu(offHeapEntryFactory, allocator, this::getSize, maxSize, expectedEntries);
+         if (!useCount) {
+            // Just like the bucket pointers, the sketch counts against the memory limit
+            currentSize += allocator.allocationSize(tinyLfu.memoryUsed());
+         }
+      }
       dataContainer.start();
    }
 
    @Stop
    public void stop() {
       dataContainer.stop();
+      if (tinyLfu != null) {
+         if (!useCount) {
+            currentSize -= allocator.allocationSize(tinyLfu.memoryUsed());
+         }
+         tinyLfu.release();
+         tinyLfu = null;
+      }
    }
 
    @Override
@@ -175,19 +200,20 @@ private void ensureSize() {
             if (currentSize <= maxSize) {
                break;
             }
+            long evictionCandidate = evictionCandidate();
             // We shouldn't be able to get into this state
-            assert firstAddress > 0;
+            assert evictionCandidate > 0;
             // We read the key before hashCode due to how off-heap bytes are written (key requires reading metadata
             // which comes before hashCode, which should keep hashCode bytes in memory register in most cases)
-            byte[] key = offHeapEntryFactory.getKey(firstAddress);
+            byte[] key = offHeapEntryFactory.getKey(evictionCandidate);
 
             map = getMapThatContainsKey(key);
             if (map != null) {
-               int hashCode = offHeapEntryFactory.getHashCode(firstAddress);
+               int hashCode = offHeapEntryFactory.getHashCode(evictionCandidate);
                // This is always non null
                stampedLock = map.getStampedLock(hashCode);
                if ((writeStamp = stampedLock.tryWriteLock()) != 0) {
-                  addressToRemove = firstAddress;
+                  addressToRemove = evictionCandidate;
                } else {
                   addressToRemove = 0;
                }
@@ -211,15 +237,16 @@ private void ensureSize() {
                   if (currentSize <= maxSize) {
                      break;
                   }
-                  // Now that we have locks we have to verify the first address is protected by the same lock still
-                  byte[] key = offHeapEntryFactory.getKey(firstAddress);
+                  // Now that we have locks we have to verify the candidate is protected by the same lock still
+                  long evictionCandidate = evictionCandidate();
+                  byte[] key = offHeapEntryFactory.getKey(evictionCandidate);
 
                   OffHeapConcurrentMap protectedMap = getMapThatContainsKey(key);
                   if (protectedMap == map) {
-                     int hashCode = offHeapEntryFactory.getHashCode(firstAddress);
+                     int hashCode = offHeapEntryFactory.getHashCode(evictionCandidate);
                      StampedLock innerLock = map.getStampedLock(hashCode);
                      if (innerLock == stampedLock) {
-                        addressToRemove = firstAddress;
+                        addressToRemove = evictionCandidate;
                      }
                   }
                } finally {
@@ -251,11 +278,19 @@ private void ensureSize() {
       }
    }
 
+   /**
+    * Returns the address of the next entry to evict according to the eviction policy.
+    * The {@link #lruLock} <b>must</b> be held when invoking this
+    */
+   private long evictionCandidate() {
+      return tinyLfu != null ? tinyLfu.victim() : lruList.first();
+   }
+
    private class OffHeapMapSupplier implements Supplier<PeekableTouchableMap<WrappedBytes,
             WrappedBytes>> {
       @Override
       public PeekableTouchableMap<WrappedBytes, WrappedBytes> get() {
-         return new OffHeapConcurrentMap(allocator, offHeapEntryFactory, offHeapListener);
+         return new OffHeapConcurrentMap(allocator, offHeapEntryFactory, offHeapListener, reclaimer);
       }
    }
 
@@ -270,7 +305,7 @@ public boolean resize(int pointerCount) {
          try {
             boolean isNegative = pointerCount < 0;
             long memoryUsed = ((long) Math.abs(pointerCount)) << 3;
-            long change = UnpooledOffHeapMemoryAllocator.estimateSizeOverhead(memoryUsed);
+            long change = allocator.allocationSize(memoryUsed);
 
             // We only attempt to deny resizes that are an increase in pointers
             if (!isNegative) {
@@ -297,7 +332,11 @@ public void entryCreated(long newAddress) {
          lruLock.lock();
          try {
             currentSize += newSize;
-            addEntryAddressToEnd(newAddress);
+            if (tinyLfu != null) {
+               tinyLfu.entryCreated(newAddress);
+            } else {
+               lruList.addToEnd(newAddress);
+            }
          } finally {
             lruLock.unlock();
          }
@@ -310,7 +349,11 @@ public void entryRemoved(long removedAddress) {
          try {
             // Current size has to be updated in the lock
             currentSize -=  removedSize;
-            removeNode(removedAddress);
+            if (tinyLfu != null) {
+               tinyLfu.entryRemoved(removedAddress);
+            } else {
+               lruList.remove(removedAddress);
+            }
          } finally {
             lruLock.unlock();
          }
@@ -322,8 +365,12 @@ public void entryReplaced(long newAddress, long oldAddress) {
          long newSize = getSize(newAddress);
          lruLock.lock();
          try {
-            removeNode(oldAddress);
-            addEntryAddressToEnd(newAddress);
+            if (tinyLfu != null) {
+               tinyLfu.entryReplaced(newAddress, oldAddress);
+            } else {
+               lruList.remove(oldAddress);
+               lruList.addToEnd(newAddress);
+            }
 
             currentSize += newSize;
             currentSize -= oldSize;
@@ -337,112 +384,15 @@ public void entryRetrieved(long entryAddress) {
          lruLock.lock();
          try {
             if (log.isTraceEnabled()) {
-               log.tracef("Moving entry 0x%016x to the end of the LRU list", entryAddress);
+               log.tracef("Entry 0x%016x was accessed", entryAddress);
             }
-            moveToEnd(entryAddress);
-         } finally {
-            lruLock.unlock();
-         }
-      }
-
-      /**
-       * Method to be invoked when adding a new entry address to the end of the lru nodes.  This occurs for newly created
-       * entries.
-       * This method should only be invoked after acquiring the lruLock
-       *
-       * @param entryAddress the new entry address pointer *NOT* the lru node
-       */
-      private void addEntryAddressToEnd(long entryAddress) {
-         if (log.isTraceEnabled()) {
-            log.tracef("Adding entry 0x%016x to the end of the LRU list", entryAddress);
-         }
-         // This means it is the first entry
-         if (lastAddress == 0) {
-            firstAddress = entryAddress;
-            lastAddress = entryAddress;
-            // Have to make sure the memory is cleared so we don't use unitialized values
-            OffHeapLruNode.setPrevious(entryAddress, 0);
-         } else {
-            // Writes back pointer to the old lastAddress
-            OffHeapLruNode.setPrevious(entryAddress, lastAddress);
-            // Write the forward pointer in old lastAddress to point to us
-            OffHeapLruNode.setNext(lastAddress, entryAddress);
-            // Finally make us the last address
-            lastAddress = entryAddress;
-         }
-         // Since we are last there is no pointer after us
-         OffHeapLruNode.setNext(entryAddress, 0);
-      }
-
-      /**
-       * Removes the address node and updates previous and next lru node pointers properly
-       * The {@link BoundedOffHeapDataContainer#lruLock} <b>must</b> be held when invoking this
-       * @param address
-       */
-      private void removeNode(long address) {
-         boolean middleNode = true;
-         if (address == lastAddress) {
-            if (log.isTraceEnabled()) {
-               log.tracef("Removed entry 0x%016x from the end of the LRU list", address);
-            }
-            long previousLRUNode = OffHeapLruNode.getPrevious(address);
-            if (previousLRUNode != 0) {
-               OffHeapLruNode.setNext(previousLRUNode, 0);
-            }
-            lastAddress = previousLRUNode;
-            middleNode = false;
-         }
-         if (address == firstAddress) {
-            if (log.isTraceEnabled()) {
-               log.tracef("Removed entry 0x%016x from the beginning of the LRU list", address);
-            }
-            long nextLRUNode = OffHeapLruNode.getNext(address);
-            if (nextLRUNode != 0) {
-               OffHeapLruNode.setPrevious(nextLRUNode, 0);
-            }
-            firstAddress = nextLRUNode;
-            middleNode = false;
-         }
-         if (middleNode) {
-            if (log.isTraceEnabled()) {
-               log.tracef("Removed entry 0x%016x from the middle of the LRU list", address);
-            }
-            // We are a middle pointer so both of these have to be non zero
-            long previousLRUNode = OffHeapLruNode.getPrevious(address);
-            long nextLRUNode = OffHeapLruNode.getNext(address);
-            assert previousLRUNode != 0;
-            assert nextLRUNode != 0;
-            OffHeapLruNode.setNext(previousLRUNode, nextLRUNode);
-            OffHeapLruNode.setPrevious(nextLRUNode, previousLRUNode);
-         }
-      }
-
-      /**
-       * Method to be invoked when moving an existing lru node to the end.  This occurs when the entry is accessed for this
-       * node.
-       * This method should only be invoked after acquiring the lruLock.
-       *
-       * @param lruNode the node to move to the end
-       */
-      private void moveToEnd(long lruNode) {
-         if (lruNode != lastAddress) {
-            long nextLruNode = OffHeapLruNode.getNext(lruNode);
-            assert nextLruNode != 0;
-            if (lruNode == firstAddress) {
-               OffHeapLruNode.setPrevious(nextLruNode, 0);
-               firstAddress = nextLruNode;
+            if (tinyLfu != null) {
+               tinyLfu.entryRetrieved(entryAddress);
             } else {
-               long prevLruNode = OffHeapLruNode.getPrevious(lruNode);
-               assert prevLruNode != 0;
-               OffHeapLruNode.setNext(prevLruNode, nextLruNode);
-               OffHeapLruNode.setPrevious(nextLruNode, prevLruNode);
+               lruList.moveToEnd(entryAddress);
             }
-            // Link the previous last node to our new last node
-            OffHeapLruNode.setNext(lastAddress, lruNode);
-            // Sets the previous node of our new tail node to the previous tail node
-            OffHeapLruNode.setPrevious(lruNode, lastAddress);
-            OffHeapLruNode.setNext(lruNode, 0);
-            lastAddress = lruNode;
+         } finally {
+            lruLock.unlock();
          }
       }
    }
@@ -14,6 +14,7 @@
 import org.infinispan.container.impl.PeekableTouchableContainerMap;
 import org.infinispan.container.impl.PeekableTouchableMap;
 import org.infinispan.container.offheap.BoundedOffHeapDataContainer;
+import org.infinispan.container.offheap.EpochReclaimer;
 import org.infinispan.container.offheap.OffHeapConcurrentMap;
 import org.infinispan.container.offheap.OffHeapDataContainer;
 import org.infinispan.container.offheap.OffHeapEntryFactory;
@@ -50,7 +51,8 @@ public Object construct(String componentName) {
             if (shouldSegment) {
                int segments = clusteringConfiguration.hash().numSegments();
                Supplier<PeekableTouchableMap<WrappedBytes, WrappedBytes>> mapSupplier =
-                     this::createAndStartOffHeapConcurrentMap;
+                     memoryConfiguration.lockFreeReads() ? new LockFreeOffHeapMapSupplier() :
+                           this::createAndStartOffHeapConcurrentMap;
                if (clusteringConfiguration.l1().enabled()) {
                   return new L1SegmentedDataContainer<>(mapSupplier, segments);
                }
@@ -107,4 +109,21 @@ OffHeapConcurrentMap createAndStartOffHeapConcurrentMap() {
       OffHeapMemoryAllocator memoryAllocator = componentRegistry.getOrCreateComponent(OffHeapMemoryAllocator.class);
       return new OffHeapConcurrentMap(memoryAllocator, entryFactory, null);
    }
+
+   /**
+    * Creates the maps for each segment, all of them sharing the same {@link EpochReclaimer}.
+    */
+   private class LockFreeOffHeapMapSupplier implements Supplier<PeekableTouchableMap<WrappedBytes, WrappedBytes>> {
+      private EpochReclaimer reclaimer;
+
+      @Override
+      public synchronized PeekableTouchableMap<WrappedBytes, WrappedBytes> get() {
+         OffHeapEntryFactory entryFactory = componentRegistry.getOrCreateComponent(OffHeapEntryFactory.class);
+         OffHeapMemoryAllocator memoryAllocator = componentRegistry.getOrCreateComponent(OffHeapMemoryAllocator.class);
+         if (reclaimer == null) {
+            reclaimer = new EpochReclaimer(memoryAllocator);
+         }
+         return new OffHeapConcurrentMap(memoryAllocator, entryFactory, null, reclaimer);
+      }
+   }
 }
@@ -3,6 +3,7 @@
 import org.infinispan.commands.VisitableCommand;
 import org.infinispan.commons.util.Experimental;
 import org.infinispan.context.InvocationContext;
+import org.infinispan.interceptors.impl.FastPathCommands;
 
 /**
  * Interface for sequential interceptors.
@@ -27,4 +28,27 @@ public interface AsyncInterceptor {
     * Sets up the interceptor. Do not call explicitly.
     */
    void setNextInterceptor(AsyncInterceptor interceptorStage);
+
+   /**
+    * Sets up the interceptor, with a different next interceptor for each of the command types that have a fast path.
+    * Do not call explicitly.
+    *
+    * @param nextInterceptor the next interceptor for commands without a fast path
+    * @param fastPathInterceptors the next interceptor handling each type in {@link FastPathCommands#TYPES}
+    */
+   default void setNextInterceptors(AsyncInterceptor nextInterceptor, AsyncInterceptor[] fastPathInterceptors) {
+      setNextInterceptor(nextInterceptor);
+   }
+
+   /**
+    * Whether the interceptor does anything for commands of the given type, or only invokes the next interceptor.
+    * <p>
+    * The interceptor chain skips the interceptors that do not handle a command type with a fast path. If the result
+    * changes at runtime, the interceptor must call {@link AsyncInterceptorChain#rebuildFastPaths()}.
+    *
+    * @param commandType one of the types in {@link FastPathCommands#TYPES}
+    */
+   default boolean handlesCommandType(Class<? extends VisitableCommand> commandType) {
+      return true;
+   }
 }
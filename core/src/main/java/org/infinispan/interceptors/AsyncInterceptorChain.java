@@ -128,4 +128,19 @@ boolean replaceInterceptor(AsyncInterceptor replacingInterceptor,
     */
    boolean containsInterceptorType(Class<? extends AsyncInterceptor> interceptorType,
                                                    boolean alsoMatchSubClasses);
+
+   /**
+    * Returns the interceptors that commands of the given type go through, in order. For command types without a fast
+    * path, this is the same as {@link #getInterceptors()}.
+    * <p>
+    * The same instance is returned until the chain is modified or {@link #rebuildFastPaths()} is invoked, so callers
+    * can cache any decision based on the result by identity.
+    */
+   List<AsyncInterceptor> getFastPath(Class<? extends VisitableCommand> commandType);
+
+   /**
+    * Recomputes the interceptors that each command type with a fast path goes through, after an interceptor changed
+    * the result of {@link AsyncInterceptor#handlesCommandType(Class)}.
+    */
+   void rebuildFastPaths();
 }
@@ -1,5 +1,6 @@
 package org.infinispan.interceptors;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -11,6 +12,7 @@
 import org.infinispan.factories.annotations.Inject;
 import org.infinispan.factories.scopes.Scope;
 import org.infinispan.factories.scopes.Scopes;
+import org.infinispan.interceptors.impl.FastPathCommands;
 import org.infinispan.interceptors.impl.SimpleAsyncInvocationStage;
 import org.infinispan.commons.util.concurrent.CompletionStages;
 
@@ -27,16 +29,26 @@ public abstract class BaseAsyncInterceptor implements AsyncInterceptor {
 
    @Inject protected Configuration cacheConfiguration;
    private AsyncInterceptor nextInterceptor;
-   private DDAsyncInterceptor nextDDInterceptor;
+   // The next interceptor handling each of the FastPathCommands types, which may be further down the chain
+   private AsyncInterceptor[] fastPathInterceptors;
 
    /**
     * Used internally to set up the interceptor.
     */
    @Override
    public final void setNextInterceptor(AsyncInterceptor nextInterceptor) {
+      AsyncInterceptor[] fastPathInterceptors = new AsyncInterceptor[FastPathCommands.TYPES.size()];
+      Arrays.fill(fastPathInterceptors, nextInterceptor);
+      setNextInterceptors(nextInterceptor, fastPathInterceptors);
+   }
+
+   /**
+    * Used internally to set up the interceptor.
+    */
+   @Override
+   public final void setNextInterceptors(AsyncInterceptor nextInterceptor, AsyncInterceptor[] fastPathInterceptors) {
       this.nextInterceptor = nextInterceptor;
-      this.nextDDInterceptor =
-            nextInterceptor instanceof DDAsyncInterceptor ? (DDAsyncInterceptor) nextInterceptor : null;
+      this.fastPathInterceptors = fastPathInterceptors;
    }
 
    /**
@@ -54,16 +66,22 @@ public final void setNextInterceptor(AsyncInterceptor nextInterceptor) {
     */
    public final Object invokeNext(InvocationContext ctx, VisitableCommand command) {
       try {
-         if (nextDDInterceptor != null) {
-            return command.acceptVisitor(ctx, nextDDInterceptor);
-         } else {
-            return nextInterceptor.visitCommand(ctx, command);
-         }
+         return invokeNextInterceptor(ctx, command);
       } catch (Throwable throwable) {
          return new ExceptionSyncInvocationStage(throwable);
       }
    }
 
+   private Object invokeNextInterceptor(InvocationContext ctx, VisitableCommand command) throws Throwable {
+      int fastPath = FastPathCommands.indexOf(command);
+      AsyncInterceptor next = fastPath < 0 ? nextInterceptor : fastPathInterceptors[fastPath];
+      if (next instanceof DDAsyncInterceptor) {
+         // Skip DDAsyncInterceptor.visitCommand
+         return command.acceptVisitor(ctx, (DDAsyncInterceptor) next);
+      }
+      return next.visitCommand(ctx, command);
+   }
+
    /**
     * Invoke the next interceptor, possibly with a new command, and execute an {@link InvocationCallback}
     * after all the interceptors have finished successfully.
@@ -73,12 +91,7 @@ public final Object invokeNext(InvocationContext ctx, VisitableCommand command)
    public final <C extends VisitableCommand> Object invokeNextThenApply(InvocationContext ctx, C command,
                                            InvocationSuccessFunction<C> function) {
       try {
-         Object rv;
-         if (nextDDInterceptor != null) {
-            rv = command.acceptVisitor(ctx, nextDDInterceptor);
-         } else {
-            rv = nextInterceptor.visitCommand(ctx, command);
-         }
+         Object rv = invokeNextInterceptor(ctx, command);
          if (rv instanceof InvocationStage) {
             return ((InvocationStage) rv).thenApply(ctx, command, function);
          }
@@ -97,12 +110,7 @@ public final <C extends VisitableCommand> Object invokeNextThenApply(InvocationC
    public final <C extends VisitableCommand> Object invokeNextThenAccept(InvocationContext ctx, C command,
                                            InvocationSuccessAction<C> action) {
       try {
-         Object rv;
-         if (nextDDInterceptor != null) {
-            rv = command.acceptVisitor(ctx, nextDDInterceptor);
-         } else {
-            rv = nextInterceptor.visitCommand(ctx, command);
-         }
+         Object rv = invokeNextInterceptor(ctx, command);
          if (rv instanceof InvocationStage) {
             return ((InvocationStage) rv).thenAccept(ctx, command, action);
          }
@@ -122,12 +130,7 @@ public final <C extends VisitableCommand> Object invokeNextThenAccept(Invocation
    public final <C extends VisitableCommand> Object invokeNextAndExceptionally(InvocationContext ctx, C command,
                                                   InvocationExceptionFunction<C> function) {
       try {
-         Object rv;
-         if (nextDDInterceptor != null) {
-            rv = command.acceptVisitor(ctx, nextDDInterceptor);
-         } else {
-            rv = nextInterceptor.visitCommand(ctx, command);
-         }
+         Object rv = invokeNextInterceptor(ctx, command);
          if (rv instanceof InvocationStage) {
             return ((InvocationStage) rv).andExceptionally(ctx, command, function);
          }
@@ -150,11 +153,7 @@ public final <C extends VisitableCommand> Object invokeNextAndFinally(Invocation
          Object rv;
          Throwable throwable;
          try {
-            if (nextDDInterceptor != null) {
-               rv = command.acceptVisitor(ctx, nextDDInterceptor);
-            } else {
-               rv = nextInterceptor.visitCommand(ctx, command);
-            }
+            rv = invokeNextInterceptor(ctx, command);
             throwable = null;
 
             if (rv instanceof InvocationStage) {
@@ -183,11 +182,7 @@ public final <C extends VisitableCommand> Object invokeNextAndHandle(InvocationC
          Object rv;
          Throwable throwable;
          try {
-            if (nextDDInterceptor != null) {
-               rv = command.acceptVisitor(ctx, nextDDInterceptor);
-            } else {
-               rv = nextInterceptor.visitCommand(ctx, command);
-            }
+            rv = invokeNextInterceptor(ctx, command);
             throwable = null;
 
             if (rv instanceof InvocationStage) {
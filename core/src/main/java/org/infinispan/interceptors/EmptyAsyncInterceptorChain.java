@@ -104,4 +104,13 @@ public boolean containsInterceptorType(Class<? extends AsyncInterceptor> interce
          boolean alsoMatchSubClasses) {
       return false;
    }
+
+   @Override
+   public List<AsyncInterceptor> getFastPath(Class<? extends VisitableCommand> commandType) {
+      return Collections.emptyList();
+   }
+
+   @Override
+   public void rebuildFastPaths() {
+   }
 }
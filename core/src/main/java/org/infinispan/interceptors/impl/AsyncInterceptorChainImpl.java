@@ -4,6 +4,9 @@
 import static org.infinispan.commons.util.Immutables.immutableListRemove;
 import static org.infinispan.commons.util.Immutables.immutableListReplace;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.concurrent.CompletableFuture;
@@ -45,6 +48,10 @@ public class AsyncInterceptorChainImpl implements AsyncInterceptorChain {
    // Modifications are guarded with "lock", but reads do not need synchronization
    private volatile List<AsyncInterceptor> interceptors = EMPTY_INTERCEPTORS_LIST;
    private volatile AsyncInterceptor firstInterceptor = null;
+   // The first interceptor handling each of the FastPathCommands types
+   private volatile AsyncInterceptor[] firstFastPathInterceptors = null;
+   // The interceptors handling each of the FastPathCommands types
+   private volatile List<List<AsyncInterceptor>> fastPaths = List.of();
 
    @Start
    void printChainInfo() {
@@ -208,7 +215,7 @@ public void appendInterceptor(AsyncInterceptor ci, boolean isCustom) {
    @Override
    public CompletableFuture<Object> invokeAsync(InvocationContext ctx, VisitableCommand command) {
       try {
-         Object result = firstInterceptor.visitCommand(ctx, command);
+         Object result = firstInterceptor(command).visitCommand(ctx, command);
          if (result instanceof InvocationStage) {
             return ((InvocationStage) result).toCompletableFuture();
          } else {
@@ -226,7 +233,7 @@ public CompletableFuture<Object> invokeAsync(InvocationContext ctx, VisitableCom
    @Override
    public InvocationStage invokeStage(InvocationContext ctx, VisitableCommand command) {
       try {
-         return InvocationStage.makeStage(firstInterceptor.visitCommand(ctx, command));
+         return InvocationStage.makeStage(firstInterceptor(command).visitCommand(ctx, command));
       } catch (Throwable t) {
          return new ExceptionSyncInvocationStage(t);
       }
@@ -235,7 +242,7 @@ public InvocationStage invokeStage(InvocationContext ctx, VisitableCommand comma
    @Override
    public Object invoke(InvocationContext ctx, VisitableCommand command) {
       try {
-         Object result = firstInterceptor.visitCommand(ctx, command);
+         Object result = firstInterceptor(command).visitCommand(ctx, command);
          if (result instanceof InvocationStage) {
             return ((InvocationStage) result).get();
          } else {
@@ -327,15 +334,63 @@ public List<AsyncInterceptor> getInterceptors() {
       return interceptors;
    }
 
+   @Override
+   public List<AsyncInterceptor> getFastPath(Class<? extends VisitableCommand> commandType) {
+      int fastPath = FastPathCommands.TYPES.indexOf(commandType);
+      List<List<AsyncInterceptor>> fastPaths = this.fastPaths;
+      return fastPath < 0 || fastPaths.isEmpty() ? interceptors : fastPaths.get(fastPath);
+   }
+
+   @Override
+   public void rebuildFastPaths() {
+      final ReentrantLock lock = this.lock;
+      lock.lock();
+      try {
+         if (!interceptors.isEmpty()) {
+            rebuildInterceptors();
+         }
+      } finally {
+         lock.unlock();
+      }
+   }
+
+   private AsyncInterceptor firstInterceptor(VisitableCommand command) {
+      int fastPath = FastPathCommands.indexOf(command);
+      return fastPath < 0 ? firstInterceptor : firstFastPathInterceptors[fastPath];
+   }
+
    private void rebuildInterceptors() {
       ListIterator<AsyncInterceptor> it = interceptors.listIterator(interceptors.size());
-      // The CallInterceptor
+      // The CallInterceptor, which handles every command type
       AsyncInterceptor nextInterceptor = it.previous();
+      int fastPathCount = FastPathCommands.TYPES.size();
+      AsyncInterceptor[] fastPathInterceptors = new AsyncInterceptor[fastPathCount];
+      Arrays.fill(fastPathInterceptors, nextInterceptor);
+      List<List<AsyncInterceptor>> fastPaths = new ArrayList<>(fastPathCount);
+      for (int i = 0; i < fastPathCount; i++) {
+         List<AsyncInterceptor> fastPath = new ArrayList<>();
+         fastPath.add(nextInterceptor);
+         fastPaths.add(fastPath);
+      }
       while (it.hasPrevious()) {
          AsyncInterceptor interceptor = it.previous();
-         interceptor.setNextInterceptor(nextInterceptor);
+         interceptor.setNextInterceptors(nextInterceptor, fastPathInterceptors.clone());
          nextInterceptor = interceptor;
+         for (int i = 0; i < fastPathCount; i++) {
+            if (interceptor.handlesCommandType(FastPathCommands.TYPES.get(i))) {
+               fastPathInterceptors[i] = interceptor;
+               fastPaths.get(i).add(interceptor);
+            }
+         }
+      }
+      for (int i = 0; i < fastPathCount; i++) {
+         // The interceptors were added from the last one
+         List<AsyncInterceptor> fastPath = fastPaths.get(i);
+         Collections.reverse(fastPath);
+         fastPaths.set(i, Collections.unmodifiableList(fastPath));
       }
+      this.fastPaths = fastPaths;
+      this.firstFastPathInterceptors = fastPathInterceptors;
       this.firstInterceptor = nextInterceptor;
    }
 }
@@ -7,7 +7,9 @@
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -80,6 +82,7 @@
 import org.infinispan.persistence.manager.PersistenceStatus;
 import org.infinispan.persistence.spi.MarshallableEntry;
 import org.infinispan.persistence.spi.NonBlockingStore;
+import org.infinispan.persistence.support.BloomFilterNonBlockingStore;
 import org.infinispan.persistence.util.EntryLoader;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
@@ -178,8 +181,16 @@ public Object visitComputeIfAbsentCommand(InvocationContext ctx, ComputeIfAbsent
 
    private Object visitManyDataCommand(InvocationContext ctx, FlagAffectedCommand command, Collection<?> keys) {
       AggregateCompletionStage<Void> stage = null;
+      // The keys missing from memory are loaded from the stores at once, instead of a load per key
+      BatchedLoad batchedLoad = canBatchLoad() && keys.size() > 1 ? new BatchedLoad(ctx, command) : null;
       for (Object key : keys) {
-         CompletionStage<?> innerStage = loadIfNeeded(ctx, key, command);
+         CompletionStage<?> innerStage;
+         if (batchedLoad != null) {
+            int segment = SegmentSpecificCommand.extractSegment(command, key, partitioner);
+            innerStage = skipLoad(ctx, key, segment, command) ? null : batchedLoad.loadInContext(key, segment);
+         } else {
+            innerStage = loadIfNeeded(ctx, key, command);
+         }
          if (innerStage != null && !CompletionStages.isCompletedSuccessfully(innerStage)) {
             if (stage == null) {
                stage = CompletionStages.aggregateCompletionStage();
@@ -187,6 +198,9 @@ private Object visitManyDataCommand(InvocationContext ctx, FlagAffectedCommand c
             stage.dependsOn(innerStage);
          }
       }
+      if (batchedLoad != null) {
+         batchedLoad.load();
+      }
       if (stage != null) {
          return asyncInvokeNext(ctx, command, stage.freeze());
       }
@@ -383,12 +397,52 @@ private void putInContext(InvocationContext ctx, Object key, FlagAffectedCommand
    public CompletionStage<InternalCacheEntry<K, V>> loadAndStoreInDataContainer(InvocationContext ctx, Object key,
                                                                                 int segment, FlagAffectedCommand cmd) {
       InternalCacheEntry<K, V> entry = dataContainer.peek(segment, key);
+      boolean includeStores = true;
       if (entry != null) {
          if (!entry.canExpire() || !entry.isExpired(timeService.wallClockTime())) {
             return CompletableFuture.completedFuture(entry);
          }
+         // If it was expired we only check the loaders - since they can have different metadata than a store
+         includeStores = false;
+      }
+      return persistenceManager.<K, V>loadFromAllStores(key, segment, ctx.isOriginLocal(), includeStores)
+            .thenCompose(loaded -> storeInDataContainer(ctx, key, segment, cmd, loaded));
+   }
+
+   /**
+    * Whether the keys of multi key commands can be loaded from the stores at once. The loads bypass
+    * {@link #loadAndStoreInDataContainer(InvocationContext, Object, int, FlagAffectedCommand)}, so subclasses that
+    * have to order each load with other operations should return false.
+    */
+   protected boolean canBatchLoad() {
+      return true;
+   }
+
+   private CompletionStage<InternalCacheEntry<K, V>> storeInDataContainer(InvocationContext ctx, Object key, int segment,
+                                                                         FlagAffectedCommand cmd,
+                                                                         MarshallableEntry<K, V> loaded) {
+      if (log.isTraceEnabled()) {
+         log.tracef("Loaded %s for key %s from persistence.", loaded, key);
+      }
+      if (loaded == null) {
+         if (getStatisticsEnabled()) {
+            cacheMisses.incrementAndGet();
+         }
+         return CompletableFutures.completedNull();
       }
-      return null;
+      if (getStatisticsEnabled()) {
+         cacheLoads.incrementAndGet();
+      }
+      InternalCacheEntry<K, V> loadedEntry = PersistenceUtil.convert(loaded, iceFactory);
+      // Keep the entry if a concurrent write stored it in memory while it was loaded
+      DataContainer.ComputeAction<K, V> computeAction = (k, oldEntry, factory) ->
+            oldEntry == null || (oldEntry.canExpire() && oldEntry.isExpired(timeService.wallClockTime())) ?
+                  loadedEntry : oldEntry;
+      InternalCacheEntry<K, V> entry = dataContainer.compute(segment, (K) key, computeAction);
+      V value = entry.getValue();
+      return sendNotification(key, value, true, ctx, cmd)
+            .thenCompose(ignore -> sendNotification(key, value, false, ctx, cmd))
+            .thenApply(ignore -> entry);
    }
 
    private boolean skipLoad(InvocationContext ctx, Object key, int segment, FlagAffectedCommand cmd) {
@@ -479,6 +533,19 @@ public long getCacheLoaderMisses() {
       return cacheMisses.get();
    }
 
+   @ManagedAttribute(
+         description = "Number of loads answered by the Bloom filters of the cache stores without reading the store",
+         displayName = "Number of cache store loads skipped by Bloom filters",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getBloomFilterSkippedLoads() {
+      long skipped = 0;
+      for (BloomFilterNonBlockingStore<?, ?> store : persistenceManager.getStores(BloomFilterNonBlockingStore.class)) {
+         skipped += store.getSkippedLoads();
+      }
+      return skipped;
+   }
+
    @Override
    public void resetStatistics() {
       cacheLoads.set(0);
@@ -530,6 +597,75 @@ private Predicate<? super StoreConfiguration> resolveStorePredicate(FlagAffected
       return BOTH;
    }
 
+   /**
+    * Collects the keys of a multi key command that are not in memory, and loads them from the stores at once.
+    */
+   private class BatchedLoad {
+      private final InvocationContext ctx;
+      private final FlagAffectedCommand cmd;
+      private final Map<Object, Integer> segments = new HashMap<>();
+      private final Map<Object, CompletableFuture<InternalCacheEntry<K, V>>> futures = new HashMap<>();
+
+      BatchedLoad(InvocationContext ctx, FlagAffectedCommand cmd) {
+         this.ctx = ctx;
+         this.cmd = cmd;
+      }
+
+      /**
+       * Same as {@link #loadInContext(InvocationContext, Object, int, FlagAffectedCommand)} except that the key is
+       * only loaded from the stores once {@link #load()} is invoked.
+       */
+      CompletionStage<?> loadInContext(Object key, int segment) {
+         CompletableFuture<InternalCacheEntry<K, V>> cf = new CompletableFuture<>();
+
+         CompletionStage<InternalCacheEntry<K, V>> otherCF = pendingLoads.putIfAbsent(key, cf);
+         if (otherCF != null) {
+            if (log.isTraceEnabled()) {
+               log.tracef("Piggybacking on concurrent load for key %s", key);
+            }
+            return otherCF.thenAcceptAsync(entry -> putInContext(ctx, key, cmd, entry), nonBlockingExecutor);
+         }
+
+         InternalCacheEntry<K, V> entry = dataContainer.peek(segment, key);
+         if (entry != null) {
+            if (!entry.canExpire() || !entry.isExpired(timeService.wallClockTime())) {
+               finishLoadInContext(ctx, key, cmd, cf, entry, null);
+            } else {
+               // Expired entries are only loaded from the loaders, which the batch doesn't do
+               loadAndStoreInDataContainer(ctx, key, segment, cmd)
+                     .whenComplete((value, throwable) -> finishLoadInContext(ctx, key, cmd, cf, value, throwable));
+            }
+            return cf;
+         }
+         segments.put(key, segment);
+         futures.put(key, cf);
+         return cf;
+      }
+
+      void load() {
+         if (futures.isEmpty()) {
+            return;
+         }
+         if (log.isTraceEnabled()) {
+            log.tracef("Loading keys %s from persistence for command %s", futures.keySet(), cmd);
+         }
+         CompletionStage<Map<Object, MarshallableEntry<K, V>>> stage;
+         try {
+            stage = persistenceManager.loadAllFromAllStores(futures.keySet(), ctx.isOriginLocal(), true);
+         } catch (Throwable t) {
+            stage = CompletableFuture.failedFuture(t);
+         }
+         stage.whenComplete((entries, throwable) -> futures.forEach((key, cf) -> {
+            if (throwable != null) {
+               finishLoadInContext(ctx, key, cmd, cf, null, throwable);
+            } else {
+               storeInDataContainer(ctx, key, segments.get(key), cmd, entries.get(key))
+                     .whenComplete((value, t) -> finishLoadInContext(ctx, key, cmd, cf, value, t));
+            }
+         }));
+      }
+   }
+
    private class WrappedEntrySet extends InternalCacheSet<CacheEntry<K, V>> {
       protected final CacheSet<CacheEntry<K, V>> next;
       private final FlagAffectedCommand command;
@@ -14,6 +14,7 @@
 
 import org.infinispan.AdvancedCache;
 import org.infinispan.commands.FlagAffectedCommand;
+import org.infinispan.commands.VisitableCommand;
 import org.infinispan.commands.functional.AbstractWriteManyCommand;
 import org.infinispan.commands.functional.ReadOnlyKeyCommand;
 import org.infinispan.commands.functional.ReadOnlyManyCommand;
@@ -63,6 +64,7 @@
 import org.infinispan.factories.annotations.Start;
 import org.infinispan.factories.impl.ComponentRef;
 import org.infinispan.functional.impl.StatsEnvelope;
+import org.infinispan.interceptors.AsyncInterceptorChain;
 import org.infinispan.jmx.annotations.MBean;
 import org.infinispan.jmx.annotations.ManagedAttribute;
 import org.infinispan.jmx.annotations.MeasurementType;
@@ -90,6 +92,7 @@ public final class CacheMgmtInterceptor extends JmxStatsCommandInterceptor imple
    @Inject GlobalConfiguration globalConfiguration;
    @Inject ComponentRef<PersistenceManager> persistenceManager;
    @Inject DistributionManager distributionManager;
+   @Inject ComponentRef<AsyncInterceptorChain> interceptorChain;
 
    private final AtomicLong startNanoseconds = new AtomicLong(0);
    private final AtomicLong resetNanoseconds = new AtomicLong(0);
@@ -108,6 +111,23 @@ public Collection<MetricInfo> getCustomMetrics(GlobalMetricsConfiguration config
       return keyMetrics.getMetrics(configuration.histograms(), cacheMgmtInterceptor -> cacheMgmtInterceptor.keyMetrics, distributionManager == null);
    }
 
+   @Override
+   public void setStatisticsEnabled(boolean enabled) {
+      boolean changed = enabled != getStatisticsEnabled();
+      super.setStatisticsEnabled(enabled);
+      // The interceptor may be used outside a chain
+      AsyncInterceptorChain chain = interceptorChain != null ? interceptorChain.wired() : null;
+      if (changed && chain != null) {
+         chain.rebuildFastPaths();
+      }
+   }
+
+   @Override
+   public boolean handlesCommandType(Class<? extends VisitableCommand> commandType) {
+      // Reads and writes only need to go through this interceptor to collect statistics
+      return getStatisticsEnabled();
+   }
+
    @Override
    public Object visitEvictCommand(InvocationContext ctx, EvictCommand command) throws Throwable {
       // This is just here to notify that evictions are counted in the ClusteringDependentLogic via NotifyHelper and
@@ -763,6 +783,27 @@ public long getOffHeapMemoryUsed() {
       return allocator.getAllocatedAmount();
    }
 
+   @ManagedAttribute(
+         description = "Amount of off-heap memory reserved by this cache, including memory retained for reuse (bytes)",
+         displayName = "Off-Heap memory reserved"
+   )
+   public long getOffHeapMemoryReserved() {
+      return allocator.getReservedAmount();
+   }
+
+   @ManagedAttribute(
+         description = "Percentage of the reserved off-heap memory that is not currently in use",
+         displayName = "Off-Heap memory fragmentation",
+         units = Units.PERCENTAGE
+   )
+   public double getOffHeapMemoryFragmentation() {
+      long reserved = allocator.getReservedAmount();
+      if (reserved <= 0) {
+         return 0;
+      }
+      return (double) (reserved - allocator.getAllocatedAmount()) / reserved;
+   }
+
    @ManagedAttribute(
          description = "Amount of nodes required to guarantee data consistency",
          displayName = "Required Minimum Nodes"
@@ -5,6 +5,7 @@
 
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.infinispan.commands.FlagAffectedCommand;
@@ -52,7 +53,10 @@
 import org.infinispan.jmx.annotations.MBean;
 import org.infinispan.jmx.annotations.ManagedAttribute;
 import org.infinispan.jmx.annotations.MeasurementType;
+import org.infinispan.jmx.annotations.Units;
+import org.infinispan.persistence.async.AsyncNonBlockingStore;
 import org.infinispan.persistence.manager.PersistenceManager;
+import org.infinispan.persistence.sifs.NonBlockingSoftIndexFileStore;
 import org.infinispan.persistence.spi.MarshallableEntry;
 import org.infinispan.persistence.spi.MarshallableEntryFactory;
 import org.infinispan.transaction.impl.AbstractCacheTransaction;
@@ -457,6 +461,104 @@ public int getNumberOfPersistedEntries() {
       return (int) Math.min(size, Integer.MAX_VALUE);
    }
 
+   @ManagedAttribute(
+         description = "Number of modifications waiting to be written to the write-behind stores",
+         displayName = "Write-behind queue size"
+   )
+   public int getWriteBehindQueueSize() {
+      int queueSize = 0;
+      for (AsyncNonBlockingStore<?, ?> store : persistenceManager.getStores(AsyncNonBlockingStore.class)) {
+         queueSize += store.getQueueSize();
+      }
+      return queueSize;
+   }
+
+   @ManagedAttribute(
+         description = "Ratio of the modifications submitted to the write-behind stores that were replaced by a later modification before being written",
+         displayName = "Write-behind coalesce ratio",
+         units = Units.PERCENTAGE
+   )
+   public double getWriteBehindCoalesceRatio() {
+      long submitted = 0;
+      long coalesced = 0;
+      for (AsyncNonBlockingStore<?, ?> store : persistenceManager.getStores(AsyncNonBlockingStore.class)) {
+         submitted += store.getSubmittedModifications();
+         coalesced += store.getCoalescedModifications();
+      }
+      if (submitted == 0)
+         return 0;
+      return (double) coalesced / submitted;
+   }
+
+   @ManagedAttribute(
+         description = "Average number of milliseconds to write a batch of modifications of the write-behind stores",
+         displayName = "Average write-behind flush time",
+         units = Units.MILLISECONDS
+   )
+   public long getAverageWriteBehindFlushTime() {
+      long flushes = 0;
+      long flushTime = 0;
+      for (AsyncNonBlockingStore<?, ?> store : persistenceManager.getStores(AsyncNonBlockingStore.class)) {
+         flushes += store.getFlushes();
+         flushTime += store.getFlushTime(TimeUnit.NANOSECONDS);
+      }
+      if (flushes == 0)
+         return 0;
+      return TimeUnit.NANOSECONDS.toMillis(flushTime / flushes);
+   }
+
+   @ManagedAttribute(
+         description = "Number of bytes freed from the disk by compacting the data files of the soft-index file stores",
+         displayName = "Bytes reclaimed by compaction",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getCompactionBytesReclaimed() {
+      long bytes = 0;
+      for (NonBlockingSoftIndexFileStore<?, ?> store : persistenceManager.getStores(NonBlockingSoftIndexFileStore.class)) {
+         bytes += store.getCompactionBytesReclaimed();
+      }
+      return bytes;
+   }
+
+   @ManagedAttribute(
+         description = "Number of data files of the soft-index file stores that were compacted and deleted",
+         displayName = "Number of compacted files",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getCompactedFiles() {
+      long files = 0;
+      for (NonBlockingSoftIndexFileStore<?, ?> store : persistenceManager.getStores(NonBlockingSoftIndexFileStore.class)) {
+         files += store.getCompactedFiles();
+      }
+      return files;
+   }
+
+   @ManagedAttribute(
+         description = "Number of milliseconds spent compacting the data files of the soft-index file stores, summed over the compaction threads",
+         displayName = "Compaction time",
+         units = Units.MILLISECONDS,
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getCompactionTime() {
+      long time = 0;
+      for (NonBlockingSoftIndexFileStore<?, ?> store : persistenceManager.getStores(NonBlockingSoftIndexFileStore.class)) {
+         time += store.getCompactionTime(TimeUnit.MILLISECONDS);
+      }
+      return time;
+   }
+
+   @ManagedAttribute(
+         description = "Number of data files of the soft-index file stores that are scheduled for compaction or being compacted",
+         displayName = "Compaction backlog"
+   )
+   public int getCompactionBacklog() {
+      int backlog = 0;
+      for (NonBlockingSoftIndexFileStore<?, ?> store : persistenceManager.getStores(NonBlockingSoftIndexFileStore.class)) {
+         backlog += store.getCompactionBacklog();
+      }
+      return backlog;
+   }
+
    CompletionStage<Void> storeEntry(InvocationContext ctx, Object key, FlagAffectedCommand command) {
       return storeEntry(ctx, key, command, true);
    }
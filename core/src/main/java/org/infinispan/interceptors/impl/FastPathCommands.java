@@ -0,0 +1,46 @@
+package org.infinispan.interceptors.impl;
+
+import java.util.List;
+
+import org.infinispan.commands.VisitableCommand;
+import org.infinispan.commands.read.GetCacheEntryCommand;
+import org.infinispan.commands.read.GetKeyValueCommand;
+import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.commands.write.RemoveCommand;
+
+/**
+ * The command types for which the interceptor chain keeps a specialized path, which only goes through the
+ * interceptors that handle the type.
+ * <p>
+ * Only the commands of the single key read and write hot paths are specialized, every other command goes through all
+ * the interceptors.
+ *
+ * @since 16.0
+ */
+public final class FastPathCommands {
+   /**
+    * The specialized command types, in the order of their indexes.
+    */
+   public static final List<Class<? extends VisitableCommand>> TYPES = List.of(GetKeyValueCommand.class,
+         GetCacheEntryCommand.class, PutKeyValueCommand.class, RemoveCommand.class);
+
+   private FastPathCommands() { }
+
+   /**
+    * @return the index of the fast path for the command in {@link #TYPES}, or {@code -1} if its type has no fast path
+    */
+   public static int indexOf(VisitableCommand command) {
+      // Subclasses like EvictCommand are visited with their own methods, so only the exact classes match
+      Class<?> type = command.getClass();
+      if (type == GetKeyValueCommand.class) {
+         return 0;
+      } else if (type == GetCacheEntryCommand.class) {
+         return 1;
+      } else if (type == PutKeyValueCommand.class) {
+         return 2;
+      } else if (type == RemoveCommand.class) {
+         return 3;
+      }
+      return -1;
+   }
+}
@@ -3,6 +3,7 @@
 import java.util.Map;
 
 import org.infinispan.commands.FlagAffectedCommand;
+import org.infinispan.commands.VisitableCommand;
 import org.infinispan.commands.functional.ReadWriteKeyCommand;
 import org.infinispan.commands.write.ComputeCommand;
 import org.infinispan.commands.write.ComputeIfAbsentCommand;
@@ -11,6 +12,7 @@
 import org.infinispan.commands.write.PutMapCommand;
 import org.infinispan.commands.write.RemoveCommand;
 import org.infinispan.commands.write.ReplaceCommand;
+import org.infinispan.commands.write.WriteCommand;
 import org.infinispan.commons.marshall.NotSerializableException;
 import org.infinispan.commons.marshall.StreamAwareMarshaller;
 import org.infinispan.context.InvocationContext;
@@ -157,4 +159,8 @@ private void checkMarshallable(Map<Object, Object> objs) throws NotSerializableE
       }
    }
 
+   @Override
+   public boolean handlesCommandType(Class<? extends VisitableCommand> commandType) {
+      return WriteCommand.class.isAssignableFrom(commandType);
+   }
 }
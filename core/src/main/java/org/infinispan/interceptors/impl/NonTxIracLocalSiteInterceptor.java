@@ -2,6 +2,7 @@
 
 import static org.infinispan.commands.SegmentSpecificCommand.extractSegment;
 
+import org.infinispan.commands.VisitableCommand;
 import org.infinispan.commands.functional.ReadWriteKeyCommand;
 import org.infinispan.commands.functional.ReadWriteKeyValueCommand;
 import org.infinispan.commands.functional.ReadWriteManyCommand;
@@ -167,5 +168,8 @@ private void handleWriteCommand(InvocationContext ctx, WriteCommand command, Obj
       }
    }
 
-
+   @Override
+   public boolean handlesCommandType(Class<? extends VisitableCommand> commandType) {
+      return WriteCommand.class.isAssignableFrom(commandType);
+   }
 }
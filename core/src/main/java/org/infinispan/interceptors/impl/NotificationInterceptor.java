@@ -59,4 +59,10 @@ public Object visitRollbackCommand(TxInvocationContext ctx, RollbackCommand comm
       }
       return invokeNextThenApply(ctx, command, rollbackSuccessAction);
    }
+
+   @Override
+   public boolean handlesCommandType(Class<? extends VisitableCommand> commandType) {
+      // Only transaction commands are intercepted
+      return false;
+   }
 }
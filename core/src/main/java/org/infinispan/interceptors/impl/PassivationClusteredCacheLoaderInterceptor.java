@@ -28,4 +28,10 @@ public CompletionStage<InternalCacheEntry<K, V>> loadAndStoreInDataContainer(Inv
 
       return retrievalStage.whenComplete((v, t) -> orderer.completeOperation(key, future, DataOperationOrderer.Operation.READ));
    }
+
+   @Override
+   protected boolean canBatchLoad() {
+      // Every load has to be ordered with the passivation of its key
+      return false;
+   }
 }
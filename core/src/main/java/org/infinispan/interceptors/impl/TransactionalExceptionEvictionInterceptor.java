@@ -10,6 +10,7 @@
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
+import org.infinispan.commands.VisitableCommand;
 import org.infinispan.commands.tx.CommitCommand;
 import org.infinispan.commands.tx.PrepareCommand;
 import org.infinispan.commands.tx.RollbackCommand;
@@ -276,4 +277,10 @@ public Object visitCommitCommand(TxInvocationContext ctx, CommitCommand command)
       pendingSize.remove(ctx.getGlobalTransaction());
       return super.visitCommitCommand(ctx, command);
    }
+
+   @Override
+   public boolean handlesCommandType(Class<? extends VisitableCommand> commandType) {
+      // Only the commands removing entries in bulk and the transaction commands are intercepted
+      return false;
+   }
 }
@@ -1,6 +1,7 @@
 package org.infinispan.interceptors.impl;
 
 import org.infinispan.commands.MetadataAwareCommand;
+import org.infinispan.commands.VisitableCommand;
 import org.infinispan.commands.write.ReplaceCommand;
 import org.infinispan.container.versioning.VersionGenerator;
 import org.infinispan.context.InvocationContext;
@@ -32,4 +33,10 @@ protected void addVersionIfNeeded(MetadataAwareCommand cmd) {
          cmd.setMetadata(newMetadata);
       }
    }
+
+   @Override
+   public boolean handlesCommandType(Class<? extends VisitableCommand> commandType) {
+      // Only replace commands are intercepted
+      return false;
+   }
 }
@@ -3,6 +3,7 @@
 import java.util.HashMap;
 import java.util.Map;
 
+import org.infinispan.commands.VisitableCommand;
 import org.infinispan.commands.functional.ReadWriteKeyCommand;
 import org.infinispan.commands.functional.ReadWriteKeyValueCommand;
 import org.infinispan.commands.functional.ReadWriteManyCommand;
@@ -178,4 +179,9 @@ private Object handleMultipleKeysWriteReturn(InvocationContext ctx, WriteCommand
             DataConversion.IDENTITY_VALUE);
       return backupSender.backupWrite(crossSiteCommand, writeCommand).thenReturn(ctx, writeCommand, rv);
    }
+
+   @Override
+   public boolean handlesCommandType(Class<? extends VisitableCommand> commandType) {
+      return WriteCommand.class.isAssignableFrom(commandType);
+   }
 }
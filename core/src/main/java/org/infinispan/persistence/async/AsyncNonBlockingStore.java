@@ -2,15 +2,20 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -19,6 +24,7 @@
 import org.infinispan.commons.IllegalLifecycleStateException;
 import org.infinispan.commons.marshall.WrappedByteArray;
 import org.infinispan.commons.reactive.RxJavaInterop;
+import org.infinispan.commons.time.TimeService;
 import org.infinispan.commons.util.IntSet;
 import org.infinispan.commons.util.concurrent.CompletableFutures;
 import org.infinispan.configuration.cache.AsyncStoreConfiguration;
@@ -31,6 +37,7 @@
 import org.infinispan.persistence.spi.NonBlockingStore;
 import org.infinispan.persistence.support.DelegatingNonBlockingStore;
 import org.infinispan.persistence.support.SegmentPublisherWrapper;
+import org.infinispan.persistence.support.SingleSegmentPublisher;
 import org.infinispan.security.actions.SecurityActions;
 import org.infinispan.commons.util.concurrent.CompletionStages;
 import org.infinispan.util.logging.Log;
@@ -39,21 +46,26 @@
 
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
 import io.reactivex.rxjava3.flowables.ConnectableFlowable;
 import io.reactivex.rxjava3.functions.Function;
 import net.jcip.annotations.GuardedBy;
 
 /**
  * A delegating NonBlockingStore implementation that batches write operations and runs the resulting batches on the
- * delegate store in a non overlapping manner. That is that only a single batch will be running at a time.
+ * delegate store in a non overlapping manner. The segments of a segmented store are split in
+ * {@link AsyncStoreConfiguration#flushConcurrency()} stripes, and only a single batch of each stripe will be running at
+ * a time.
  * <p>
- * Whenever a write operation is performed it will also attempt to start a batch write immediately to the delegate store.
- * Any concurrent writes during this time may be included in the batch. Any additional writes will be enqueued until
- * the batch completes in which case it will automatically submit the pending batch, if there is one.  Write operations
- * to the same key in the same batch will be coalesced with only the last write being written to the underlying store.
- * If the number of enqueued pending write operations becomes equal or larger than the modification queue, then any
- * subsequent write will be added to the queue, but the returned Stage will not complete until the current batch completes
- * in an attempt to provide some backpressure to slow writes.
+ * Whenever a write operation is performed it will also attempt to start a batch write of its stripe immediately to the
+ * delegate store. Any concurrent writes during this time may be included in the batch. Any additional writes will be
+ * enqueued until the batch completes in which case it will automatically submit the pending batch, if there is one.
+ * Write operations to the same key that are pending will be coalesced with only the last write being written to the
+ * underlying store. If the number of enqueued pending write operations becomes equal or larger than the modification
+ * queue, then any subsequent write will be added to the queue, but the returned Stage will not complete until the
+ * current batch of its stripe completes in an attempt to provide some backpressure to slow writes.
+ * <p>
+ * A clear waits for the running batches of all stripes to complete, and no batch is started until it completes.
  * <p>
  * Read operations may be resolved by this store immediately if the given key is still being updated in the
  * delegate store or if it is enqueued for the next batch. If the key is in neither it will query the underlying store
@@ -67,7 +79,13 @@
    private static final Log log = LogFactory.getLog(MethodHandles.lookup().lookupClass());
    private final NonBlockingStore<K, V> actual;
 
+   private final LongAdder submittedModifications = new LongAdder();
+   private final LongAdder coalescedModifications = new LongAdder();
+   private final LongAdder flushes = new LongAdder();
+   private final LongAdder flushTimeNanos = new LongAdder();
+
    private Executor nonBlockingExecutor;
+   private TimeService timeService;
    private int segmentCount;
    private int modificationQueueSize;
    private PersistenceConfiguration persistenceConfiguration;
@@ -76,11 +94,15 @@
    // "Non blocking" scheduler used for the purpose of delaying retry batch operations on failures
    private ScheduledExecutorService scheduler;
 
-   // This variable will be non null if there is a pending batch being sent to the underlying store
-   // If a request causes the modification queue to overflow it will receive a stage back that is only complete
-   // when this future is completed (aka. previous replication has completed)
+   // The pending and replicating modifications of each group of segments, the array itself is only written on start
+   private Stripe[] stripes = {};
+   // How many stripes have a batch being sent to the underlying store
+   @GuardedBy("this")
+   private int runningBatches;
+   // This variable will be non null if there is a clear waiting for the running batches or being sent to the underlying
+   // store. Writes submitted meanwhile that cause the modification queue to overflow receive this future back
    @GuardedBy("this")
-   private CompletableFuture<Void> batchFuture;
+   private CompletableFuture<Void> clearFuture;
 
    // This variable will be non null if the underlying store has been found to be not available
    // Note that the async store will still be available as long as the queue size (ie. modificationMap.size) is not
@@ -88,18 +110,9 @@
    @GuardedBy("this")
    private CompletableFuture<Void> delegateAvailableFuture;
 
-   // Any pending modifications will be enqueued in this map
-   @GuardedBy("this")
-   private Map<Object, Modification> pendingModifications = new HashMap<>();
    // If there is a pending clear this will be true
    @GuardedBy("this")
    private boolean hasPendingClear;
-   // The next two variables are held temporarily until a replication of the values is complete. We need to retain
-   // these values until we are sure the entries are actually in the store - note these variables are only written to
-   // via reference (thus the map is safe to read outside of this lock, but the reference must be read in synchronized)
-   // This map contains all the modifications currently being replicated to the delegating store
-   @GuardedBy("this")
-   private Map<Object, Modification> replicatingModifications = Collections.emptyMap();
    // True if there is an outstanding clear that is being ran on the delegating store
    @GuardedBy("this")
    private boolean isReplicatingClear;
@@ -128,6 +141,11 @@ public CompletionStage<Void> start(InitializationContext ctx) {
       asyncConfiguration = storeConfiguration.async();
       modificationQueueSize = asyncConfiguration.modificationQueueSize();
       nonBlockingExecutor = ctx.getNonBlockingExecutor();
+      timeService = ctx.getTimeService();
+      stripes = new Stripe[Math.min(asyncConfiguration.flushConcurrency(), segmentCount)];
+      for (int i = 0; i < stripes.length; ++i) {
+         stripes[i] = new Stripe();
+      }
       stopped = false;
       return actual.start(ctx);
    }
@@ -154,7 +172,10 @@ public CompletionStage<Void> stop() {
    private CompletionStage<Void> awaitQuiescence() {
       CompletionStage<Void> stage;
       synchronized (this) {
-         stage = batchFuture;
+         stage = clearFuture;
+         for (int i = 0; stage == null && i < stripes.length; ++i) {
+            stage = stripes[i].batchFuture;
+         }
       }
       if (stage == null) {
          return CompletableFutures.completedNull();
@@ -166,93 +187,153 @@ private CompletionStage<Void> awaitQuiescence() {
    }
 
    void putModification(Object key, Modification modification) {
-      pendingModifications.put(key, modification);
+      Modification previous = stripeFor(modification.getSegment()).pendingModifications.put(key, modification);
+      if (previous != null) {
+         coalescedModifications.increment();
+      }
    }
 
    void putClearModification() {
-      pendingModifications.clear();
+      for (Stripe stripe : stripes) {
+         coalescedModifications.add(stripe.pendingModifications.size());
+         stripe.pendingModifications.clear();
+      }
       hasPendingClear = true;
+      if (clearFuture == null) {
+         clearFuture = new CompletableFuture<>();
+      }
+   }
+
+   private Stripe stripeFor(int segment) {
+      return stripes[segment % stripes.length];
    }
 
    /**
-    * This method submits a batch of modifications to the underlying store and completes {@code batchFuture}
-    * when the modifications are done.
+    * This method submits a batch of the modifications of the given stripe to the underlying store and completes the
+    * {@code batchFuture} of the stripe when the modifications are done.
     *
-    * If there are any pending modifications at that time, it automatically submits a new batch,
+    * If the stripe has any pending modifications at that time, it automatically submits a new batch,
     * otherwise it sets {@code batchFuture} to null.
     *
-    * Callers must atomically check that {@code batchFuture} is null and set it to a non-null value,
-    * to ensure that only one batch is being processed at any time.
+    * Callers must atomically check that the {@code batchFuture} of the stripe is null and set it to a non-null value,
+    * to ensure that only one batch of each stripe is being processed at any time.
     */
-   private void submitTask() {
+   private void submitTask(Stripe stripe) {
       Map<Object, Modification> newMap = new HashMap<>();
       if (log.isTraceEnabled()) {
          log.tracef("Starting new batch with id %s", System.identityHashCode(newMap));
       }
-      boolean ourClearToReplicate;
       Map<Object, Modification> ourModificationsToReplicate;
       synchronized (this) {
-         // The isReplicatingClear would be true or replicatingModifications non empty if an update was currently pending
-         // But we should only allow one at a time
-         assert replicatingModifications.isEmpty() && !isReplicatingClear;
-         replicatingModifications = pendingModifications;
-         ourModificationsToReplicate = pendingModifications;
-         pendingModifications = newMap;
-         isReplicatingClear = hasPendingClear;
-         ourClearToReplicate = hasPendingClear;
-         hasPendingClear = false;
+         // The replicatingModifications would be non empty if an update was currently pending
+         // But we should only allow one at a time per stripe
+         assert stripe.replicatingModifications.isEmpty() && !isReplicatingClear;
+         stripe.replicatingModifications = stripe.pendingModifications;
+         ourModificationsToReplicate = stripe.pendingModifications;
+         stripe.pendingModifications = newMap;
       }
 
+      long start = timeService.time();
       CompletionStage<Void> asyncBatchStage;
-      if (ourClearToReplicate) {
+      if (!ourModificationsToReplicate.isEmpty()) {
          if (log.isTraceEnabled()) {
-            log.tracef("Sending clear to underlying store for id %s", System.identityHashCode(ourModificationsToReplicate));
+            log.tracef("Sending batch of %d write/remove operations to underlying store with id %s", ourModificationsToReplicate.size(),
+                  System.identityHashCode(ourModificationsToReplicate));
          }
-         asyncBatchStage = retry(actual::clear, persistenceConfiguration.connectionAttempts()).whenComplete((ignore, t) -> {
-            synchronized (this) {
-               isReplicatingClear = false;
-            }
-         });
+         asyncBatchStage = retry(() -> replicateModifications(ourModificationsToReplicate), persistenceConfiguration.connectionAttempts());
       } else {
+         // The pending modifications were removed with their segments
          asyncBatchStage = CompletableFutures.completedNull();
       }
 
-      if (!ourModificationsToReplicate.isEmpty()) {
-         asyncBatchStage = asyncBatchStage.thenCompose(ignore -> {
-            if (log.isTraceEnabled()) {
-               log.tracef("Sending batch of %d write/remove operations to underlying store with id %s", ourModificationsToReplicate.size(),
-                     System.identityHashCode(ourModificationsToReplicate));
-            }
-            return retry(() -> replicateModifications(ourModificationsToReplicate), persistenceConfiguration.connectionAttempts())
-                  .whenComplete((ignore2, t) -> {
-               synchronized (this) {
-                  replicatingModifications = Collections.emptyMap();
-               }
-            });
-         });
-      }
-
       asyncBatchStage.whenComplete((ignore, t) -> {
          if (log.isTraceEnabled()) {
             log.tracef("Async operations completed for id %s", System.identityHashCode(ourModificationsToReplicate));
          }
+         flushes.increment();
+         flushTimeNanos.add(timeService.timeDuration(start, TimeUnit.NANOSECONDS));
          boolean submitNewBatch;
+         boolean submitClear;
          CompletableFuture<Void> future;
          synchronized (this) {
-            submitNewBatch = !pendingModifications.isEmpty() || hasPendingClear;
-            future = batchFuture;
-            batchFuture = submitNewBatch ? new CompletableFuture<>() : null;
+            stripe.replicatingModifications = Collections.emptyMap();
+            // A pending clear must run before any new batch
+            submitNewBatch = !hasPendingClear && !stripe.pendingModifications.isEmpty();
+            future = stripe.batchFuture;
+            stripe.batchFuture = submitNewBatch ? new CompletableFuture<>() : null;
+            if (!submitNewBatch) {
+               runningBatches--;
+            }
+            submitClear = hasPendingClear && runningBatches == 0;
+            if (submitClear) {
+               markClearSubmitted();
+            }
          }
          if (t != null) {
             future.completeExceptionally(t);
          } else {
             future.complete(null);
          }
-         if (submitNewBatch) {
+         if (submitClear) {
+            if (log.isTraceEnabled()) {
+               log.trace("Submitting clear after completion of all running batches");
+            }
+            submitClearTask();
+         } else if (submitNewBatch) {
             if (log.isTraceEnabled()) {
                log.trace("Submitting new batch after completion of prior");
             }
-            submitTask();
+            submitTask(stripe);
+         }
+      });
+   }
+
+   /**
+    * This method sends a clear to the underlying store and completes {@code clearFuture} when it is done, then it
+    * submits a batch for every stripe that has pending modifications.
+    *
+    * Callers must invoke {@link #markClearSubmitted()} in the same synchronized block that decides to submit the clear.
+    */
+   private void submitClearTask() {
+      if (log.isTraceEnabled()) {
+         log.trace("Sending clear to underlying store");
+      }
+      retry(actual::clear, persistenceConfiguration.connectionAttempts()).whenComplete((ignore, t) -> {
+         boolean submitClear;
+         CompletableFuture<Void> future = null;
+         List<Stripe> stripesToSubmit = null;
+         synchronized (this) {
+            isReplicatingClear = false;
+            // Another clear was submitted while this one was running, the pending modifications are newer than it
+            submitClear = hasPendingClear;
+            if (submitClear) {
+               markClearSubmitted();
+            } else {
+               future = clearFuture;
+               clearFuture = null;
+               for (Stripe stripe : stripes) {
+                  if (!stripe.pendingModifications.isEmpty()) {
+                     if (stripesToSubmit == null) {
+                        stripesToSubmit = new ArrayList<>();
+                     }
+                     stripe.batchFuture = new CompletableFuture<>();
+                     runningBatches++;
+                     stripesToSubmit.add(stripe);
+                  }
+               }
+            }
+         }
+         if (submitClear) {
+            submitClearTask();
+            return;
+         }
+         if (t != null) {
+            future.completeExceptionally(t);
+         } else {
+            future.complete(null);
+         }
+         if (stripesToSubmit != null) {
+            stripesToSubmit.forEach(this::submitTask);
          }
       });
    }
@@ -394,39 +475,69 @@ private <E> Publisher<E> abstractPublish(IntSet segments, Predicate<? super K> f
    }
 
    private Map.Entry<Boolean, Map<Object, Modification>> flattenModificationMaps() {
-      Map<Object, Modification> modificationCopy;
-      Map<Object, Modification> modificationsToReplicate;
+      Map<Object, Modification> modificationCopy = new HashMap<>();
+      List<Map<Object, Modification>> modificationsToReplicate;
       boolean clearToReplicate;
       synchronized (this) {
-         modificationCopy = new HashMap<>(pendingModifications);
+         for (Stripe stripe : stripes) {
+            modificationCopy.putAll(stripe.pendingModifications);
+         }
          if (hasPendingClear) {
             return new AbstractMap.SimpleImmutableEntry<>(Boolean.TRUE, modificationCopy);
          }
-         modificationsToReplicate = this.replicatingModifications;
+         modificationsToReplicate = new ArrayList<>(stripes.length);
+         for (Stripe stripe : stripes) {
+            modificationsToReplicate.add(stripe.replicatingModifications);
+         }
          clearToReplicate = this.isReplicatingClear;
       }
 
-      modificationCopy.putAll(modificationsToReplicate);
+      // The pending modifications are newer than the ones being replicated
+      for (Map<Object, Modification> modifications : modificationsToReplicate) {
+         modifications.forEach(modificationCopy::putIfAbsent);
+      }
       return new AbstractMap.SimpleImmutableEntry<>(clearToReplicate, modificationCopy);
    }
 
    @Override
    public CompletionStage<MarshallableEntry<K, V>> load(int segment, Object key) {
       assertNotStopped();
-      CompletionStage<MarshallableEntry<K, V>> pendingStage = getStageFromPending(key);
+      CompletionStage<MarshallableEntry<K, V>> pendingStage = getStageFromPending(segmentToUse(segment), key);
       if (pendingStage != null) {
          return pendingStage;
       }
       return actual.load(segment, key);
    }
 
-   private CompletionStage<MarshallableEntry<K, V>> getStageFromPending(Object key) {
+   @Override
+   public Publisher<MarshallableEntry<K, V>> batchLoad(int publisherCount,
+         Publisher<SegmentedPublisher<Object>> keyPublisher) {
+      assertNotStopped();
+      // Keys with a pending modification are answered from it, only the remaining keys are loaded from the actual store
+      Queue<CompletionStage<MarshallableEntry<K, V>>> pendingStages = new ConcurrentLinkedQueue<>();
+      Flowable<SegmentedPublisher<Object>> actualKeyPublisher = Flowable.fromPublisher(keyPublisher)
+            .map(sp -> SingleSegmentPublisher.singleSegment(sp.getSegment(), Flowable.fromPublisher(sp)
+                  .filter(key -> {
+                     CompletionStage<MarshallableEntry<K, V>> pendingStage = getStageFromPending(segmentToUse(sp.getSegment()), key);
+                     if (pendingStage == null) {
+                        return true;
+                     }
+                     pendingStages.add(pendingStage);
+                     return false;
+                  })));
+      return Flowable.concat(actual.batchLoad(publisherCount, actualKeyPublisher),
+            Flowable.defer(() -> Flowable.fromIterable(pendingStages)
+                  .concatMapMaybe(Maybe::fromCompletionStage)));
+   }
+
+   private CompletionStage<MarshallableEntry<K, V>> getStageFromPending(int segment, Object key) {
       Object wrappedKey = wrapKeyIfNeeded(key);
       Map<Object, Modification> modificationsToReplicate;
       boolean clearToReplicate;
       synchronized (this) {
+         Stripe stripe = stripeFor(segment);
          // Note that writes to this map are done only in synchronized block, so we have to do same for get
-         Modification modification = pendingModifications.get(wrappedKey);
+         Modification modification = stripe.pendingModifications.get(wrappedKey);
          if (modification != null) {
             if (log.isTraceEnabled()) {
                log.tracef("Found entry was pending write in async store: %s", modification);
@@ -440,7 +551,7 @@ private CompletionStage<MarshallableEntry<K, V>> getStageFromPending(Object key)
             return CompletableFutures.completedNull();
          }
          // This map is never written to so just reading reference in synchronized block is sufficient
-         modificationsToReplicate = this.replicatingModifications;
+         modificationsToReplicate = stripe.replicatingModifications;
          clearToReplicate = this.isReplicatingClear;
       }
       Modification modification = modificationsToReplicate.get(wrappedKey);
@@ -476,41 +587,78 @@ public CompletionStage<Void> batch(int publisherCount, Publisher<SegmentedPublis
             .toCompletionStage(null);
    }
 
+   /**
+    * Marks the pending clear as sent to the underlying store. This must happen while holding the lock that saw there
+    * are no running batches, otherwise a batch completing and a new clear could both submit the same clear.
+    */
+   @GuardedBy("this")
+   private void markClearSubmitted() {
+      assert runningBatches == 0 && !isReplicatingClear;
+      isReplicatingClear = true;
+      hasPendingClear = false;
+   }
+
    CompletionStage<Void> submitModification(Modification modification) {
       boolean isTraceEnabled = log.isTraceEnabled();
-      boolean startNewBatch;
+      submittedModifications.increment();
+      Stripe stripe = modification == ClearModification.INSTANCE ? null : stripeFor(modification.getSegment());
+      boolean startNewBatch = false;
+      boolean startClear = false;
       CompletionStage<Void> submitStage;
       synchronized (this) {
          int previousBatchId;
          if (isTraceEnabled) {
-            previousBatchId = System.identityHashCode(replicatingModifications);
-            int currentBatchId = System.identityHashCode(pendingModifications);
+            previousBatchId = stripe == null ? 0 : System.identityHashCode(stripe.replicatingModifications);
+            int currentBatchId = stripe == null ? 0 : System.identityHashCode(stripe.pendingModifications);
             log.tracef("Adding modification %s to batch %s", modification, currentBatchId);
          } else {
             previousBatchId = 0;
          }
          modification.apply(this);
 
-         startNewBatch = batchFuture == null;
-         if (startNewBatch) {
-            batchFuture = new CompletableFuture<>();
+         CompletableFuture<Void> waitFuture;
+         if (hasPendingClear || isReplicatingClear) {
+            // Batches are submitted once the clear completes
+            startClear = stripe == null && runningBatches == 0 && !isReplicatingClear;
+            if (startClear) {
+               markClearSubmitted();
+            }
+            waitFuture = clearFuture;
+         } else {
+            startNewBatch = stripe.batchFuture == null;
+            if (startNewBatch) {
+               stripe.batchFuture = new CompletableFuture<>();
+               runningBatches++;
+            }
+            waitFuture = stripe.batchFuture;
          }
 
-         int queueSize = pendingModifications.size() + replicatingModifications.size();
-         submitStage = queueSize > modificationQueueSize ? batchFuture : null;
+         int queueSize = queueSize();
+         submitStage = queueSize > modificationQueueSize ? waitFuture : null;
          if (submitStage != null && isTraceEnabled) {
             log.tracef("Too many modifications queued (%d), operation must wait until previous batch %d completes",
                        queueSize, previousBatchId);
          }
       }
 
-      if (startNewBatch) {
-         submitTask();
+      if (startClear) {
+         submitClearTask();
+      } else if (startNewBatch) {
+         submitTask(stripe);
       }
       return submitStage == null ? CompletableFutures.completedNull() :
              submitStage.thenApplyAsync(CompletableFutures.toNullFunction(), nonBlockingExecutor);
    }
 
+   @GuardedBy("this")
+   private int queueSize() {
+      int queueSize = 0;
+      for (Stripe stripe : stripes) {
+         queueSize += stripe.pendingModifications.size() + stripe.replicatingModifications.size();
+      }
+      return queueSize;
+   }
+
    @Override
    public CompletionStage<Void> write(int segment, MarshallableEntry<? extends K, ? extends V> entry) {
       assertNotStopped();
@@ -551,7 +699,9 @@ public CompletionStage<Void> addSegments(IntSet segments) {
    public CompletionStage<Void> removeSegments(IntSet segments) {
       assertNotStopped();
       synchronized (this) {
-         pendingModifications.values().removeIf(modification -> segments.contains(modification.getSegment()));
+         for (Stripe stripe : stripes) {
+            stripe.pendingModifications.values().removeIf(modification -> segments.contains(modification.getSegment()));
+         }
       }
       return actual.removeSegments(segments);
    }
@@ -598,8 +748,11 @@ public CompletionStage<Boolean> isAvailable() {
          boolean isReplicating;
          int queueSize;
          synchronized (this) {
-            isReplicating = !replicatingModifications.isEmpty() || isReplicatingClear;
-            queueSize = pendingModifications.size();
+            isReplicating = runningBatches > 0 || isReplicatingClear;
+            queueSize = 0;
+            for (Stripe stripe : stripes) {
+               queueSize += stripe.pendingModifications.size();
+            }
             if (delegateUnavailable = delegateAvailableFuture == null) {
                delegateAvailableFuture = new CompletableFuture<>();
             }
@@ -616,6 +769,42 @@ public NonBlockingStore<K, V> delegate() {
       return actual;
    }
 
+   /**
+    * @return how many modifications are waiting to be written to the underlying store, including the ones being written
+    */
+   public synchronized int getQueueSize() {
+      return queueSize();
+   }
+
+   /**
+    * @return how many write, remove and clear operations were submitted to this store
+    */
+   public long getSubmittedModifications() {
+      return submittedModifications.sum();
+   }
+
+   /**
+    * @return how many submitted modifications were replaced by a later modification before they were written to the
+    * underlying store
+    */
+   public long getCoalescedModifications() {
+      return coalescedModifications.sum();
+   }
+
+   /**
+    * @return how many batches were written to the underlying store
+    */
+   public long getFlushes() {
+      return flushes.sum();
+   }
+
+   /**
+    * @return the total time spent writing batches to the underlying store, including retries
+    */
+   public long getFlushTime(TimeUnit unit) {
+      return unit.convert(flushTimeNanos.sum(), TimeUnit.NANOSECONDS);
+   }
+
    private void assertNotStopped() throws CacheException {
       if (stopped)
          throw new IllegalLifecycleStateException("AsyncCacheWriter stopped; no longer accepting more entries.");
@@ -632,4 +821,20 @@ static Object wrapKeyIfNeeded(Object key) {
       }
       return key;
    }
+
+   /**
+    * The modifications of a group of segments, all fields are guarded by the store.
+    */
+   private static class Stripe {
+      // This variable will be non null if there is a batch of this stripe being sent to the underlying store
+      // If a request causes the modification queue to overflow it will receive a stage back that is only complete
+      // when this future is completed (aka. previous replication has completed)
+      CompletableFuture<Void> batchFuture;
+      // Any pending modifications will be enqueued in this map
+      Map<Object, Modification> pendingModifications = new HashMap<>();
+      // This map contains all the modifications currently being replicated to the delegating store. We need to retain
+      // these values until we are sure the entries are actually in the store - note this map is only written to via
+      // reference (thus the map is safe to read outside of the lock, but the reference must be read in synchronized)
+      Map<Object, Modification> replicatingModifications = Collections.emptyMap();
+   }
 }
@@ -3,10 +3,17 @@
 import static io.reactivex.rxjava3.core.Flowable.defer;
 import static org.infinispan.util.logging.Log.PERSISTENCE;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -28,6 +35,7 @@
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.locks.StampedLock;
 import java.util.function.Predicate;
@@ -96,6 +104,17 @@
  * source.
   * This class is fully thread safe, yet allows for concurrent load / store
  * of individual cache entries.
+  * When {@link SingleFileStoreConfiguration#memoryMapped()} is enabled, loads read the
+ * data file through read-only memory mappings of fixed size chunks instead of
+ * issuing a positional read per entry. The last chunk of the file is only mapped up to the end of the file,
+ * and mapped again once the file grows. A load whose bytes are in a chunk already mapped and
+ * that looks resident in memory is completed on the invoking thread, without going through the blocking executor.
+ * Residency is only a hint, so this avoids the thread hop on a best-effort basis and such a load can still fault.
+ * Writes, and loads of entries that are not resident, still go through the blocking executor.
+ * When {@link SingleFileStoreConfiguration#persistentIndex()}
+ * is enabled, the index is written to <code>&lt;location&gt;/&lt;cache name&gt;.idx</code>
+ * when the store is stopped and read back on the next start, which avoids scanning
+ * the whole data file.
  *
  * @author Karsten Blees
  * @author Mircea Markus
@@ -135,6 +154,11 @@
    private static final int TIMESTAMP_BYTES = 8 + 8;
    private static final int SMALLEST_ENTRY_SIZE = 128;
 
+   public static final byte[] INDEX_MAGIC = new byte[]{'F', 'C', 'I', '1'};
+   // Size of the regions of the data file that are memory mapped when memory mapping is enabled
+   static final int MAPPED_CHUNK_SIZE = 1 << 28;
+   private static final MappedByteBuffer[] NO_MAPPED_CHUNKS = new MappedByteBuffer[0];
+
    private SingleFileStoreConfiguration configuration;
 
    protected InitializationContext ctx;
@@ -155,11 +179,19 @@
    private boolean segmented;
    private int actualNumSegments;
    private int maxEntries;
+   private boolean memoryMapped;
+   // A chunk is mapped up to the end of the file and mapped again when an entry beyond its mapping is read
+   int mappedChunkSize = MAPPED_CHUNK_SIZE;
+   private volatile MappedByteBuffer[] mappedChunks = NO_MAPPED_CHUNKS;
 
    public static File getStoreFile(String directoryPath, String cacheName) {
       return new File(new File(directoryPath), cacheName + ".dat");
    }
 
+   public static File getIndexFile(String directoryPath, String cacheName) {
+      return new File(new File(directoryPath), cacheName + ".idx");
+   }
+
    @Override
    public CompletionStage<Void> start(InitializationContext ctx) {
       this.ctx = ctx;
@@ -170,6 +202,7 @@ public CompletionStage<Void> start(InitializationContext ctx) {
 
       keyPartitioner = ctx.getKeyPartitioner();
       maxEntries = configuration.maxEntries();
+      memoryMapped = configuration.memoryMapped();
       segmented = configuration.segmented();
       if (segmented) {
          actualNumSegments = ctx.getCache().getCacheConfiguration().clustering().hash().numSegments();
@@ -198,16 +231,21 @@ private void blockingStart() {
 
             byte[] magicHeader = validateExistingFile(channel, file.getAbsolutePath());
             if (magicHeader != null) {
+               deleteIndexFile();
                migrateNonSegmented(magicHeader);
             } else {
-               rebuildIndex();
+               if (!loadIndex()) {
+                  rebuildIndex();
+               }
                processFreeEntries();
             }
          } else if (hasAnyComposedSegmentedFiles()) {
+            deleteIndexFile();
             migrateFromComposedSegmentedLoadWriteStore();
          } else {
             // No existing files
             if (!readOnly) {
+               deleteIndexFile();
                File dir = file.getParentFile();
                if (!(dir.mkdirs() || dir.exists())) {
                   throw PERSISTENCE.directoryCannotBeCreated(dir.getAbsolutePath());
@@ -329,11 +367,15 @@ private void blockingStop() {
       long stamp = resizeLock.writeLock();
       try {
          if (channel != null) {
+            if (configuration.persistentIndex() && !configuration.ignoreModifications()) {
+               writeIndex();
+            }
             // reset state
             channel.close();
             channel = null;
             entries = null;
             freeList = null;
+            mappedChunks = NO_MAPPED_CHUNKS;
          }
       } catch (Exception e) {
          throw new PersistenceException(e);
@@ -352,6 +394,130 @@ public CompletionStage<Boolean> isAvailable() {
       return CompletableFutures.booleanStage(file.exists());
    }
 
+   private File getIndexFile() {
+      return getIndexFile(file.getParent(), cacheName());
+   }
+
+   private void deleteIndexFile() {
+      File indexFile = getIndexFile();
+      if (indexFile.exists() && !indexFile.delete()) {
+         throw new PersistenceException("Cannot delete index file " + indexFile);
+      }
+   }
+
+   /**
+    * Writes the in-memory index and the free list to the index file, so that the next start does not need to scan
+    * the data file. The index is first written to a temporary file and then moved, so a partially written index is
+    * never read.
+    */
+   @GuardedBy("resizeLock#writeLock")
+   private void writeIndex() throws IOException {
+      File indexFile = getIndexFile();
+      File tmpFile = new File(indexFile.getParentFile(), indexFile.getName() + ".tmp");
+      PersistenceMarshaller marshaller = ctx.getPersistenceMarshaller();
+      try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+         output.write(INDEX_MAGIC);
+         output.writeLong(filePos);
+         for (Map<K, FileEntry> segmentEntries : entries) {
+            if (segmentEntries == null)
+               continue;
+
+            synchronized (segmentEntries) {
+               output.writeInt(segmentEntries.size());
+               for (Map.Entry<K, FileEntry> e : segmentEntries.entrySet()) {
+                  FileEntry fe = e.getValue();
+                  byte[] keyBytes = marshaller.objectToByteBuffer(e.getKey());
+                  output.writeInt(keyBytes.length);
+                  output.write(keyBytes);
+                  output.writeLong(fe.offset);
+                  output.writeInt(fe.size);
+                  output.writeInt(fe.keyLen);
+                  output.writeInt(fe.dataLen);
+                  output.writeInt(fe.metadataLen);
+                  output.writeInt(fe.internalMetadataLen);
+                  output.writeLong(fe.expiryTime);
+               }
+            }
+         }
+         // No more used entries
+         output.writeInt(-1);
+         synchronized (freeList) {
+            output.writeInt(freeList.size());
+            for (FileEntry fe : freeList) {
+               output.writeLong(fe.offset);
+               output.writeInt(fe.size);
+            }
+         }
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new PersistenceException(e);
+      }
+      Files.move(tmpFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      if (log.isTraceEnabled()) log.tracef("Wrote index of store %s to %s", cacheName(), indexFile);
+   }
+
+   /**
+    * Loads the index written by {@link #writeIndex()} when the store was last stopped. The index file is always deleted
+    * afterwards, so that a crash before the next stop cannot leave an index that no longer matches the data file.
+    *
+    * @return {@code true} if the index was loaded, {@code false} if it must be rebuilt from the data file
+    */
+   private boolean loadIndex() throws IOException {
+      File indexFile = getIndexFile();
+      if (!indexFile.exists()) {
+         return false;
+      }
+      try {
+         if (!configuration.persistentIndex()) {
+            return false;
+         }
+         try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            byte[] magic = new byte[INDEX_MAGIC.length];
+            input.readFully(magic);
+            long fileSize = input.readLong();
+            if (!Arrays.equals(INDEX_MAGIC, magic) || fileSize != channel.size()) {
+               if (log.isTraceEnabled()) log.tracef("Ignoring index %s that does not match the data file", indexFile);
+               return false;
+            }
+            PersistenceMarshaller marshaller = ctx.getPersistenceMarshaller();
+            byte[] keyBytes = new byte[64];
+            int count;
+            while ((count = input.readInt()) >= 0) {
+               for (int i = 0; i < count; i++) {
+                  int keyLength = input.readInt();
+                  if (keyBytes.length < keyLength) {
+                     keyBytes = new byte[keyLength];
+                  }
+                  input.readFully(keyBytes, 0, keyLength);
+                  K key = (K) marshaller.objectFromByteBuffer(keyBytes, 0, keyLength);
+                  FileEntry fe = new FileEntry(input.readLong(), input.readInt(), input.readInt(), input.readInt(),
+                        input.readInt(), input.readInt(), input.readLong());
+                  getSegmentEntries(getSegment(key)).put(key, fe);
+               }
+            }
+            int freeCount = input.readInt();
+            for (int i = 0; i < freeCount; i++) {
+               freeList.add(new FileEntry(input.readLong(), input.readInt()));
+            }
+            filePos = fileSize;
+            if (log.isTraceEnabled()) log.tracef("Loaded index of store %s from %s", cacheName(), indexFile);
+            return true;
+         } catch (IOException | ClassNotFoundException e) {
+            PERSISTENCE.debugf(e, "Cannot read index %s, rebuilding it from the data file", indexFile);
+            // Discard anything that was read before the failure
+            for (Map<K, FileEntry> segmentEntries : entries) {
+               if (segmentEntries != null) {
+                  segmentEntries.clear();
+               }
+            }
+            freeList.clear();
+            return false;
+         }
+      } finally {
+         deleteIndexFile();
+      }
+   }
+
    /**
     * Rebuilds the in-memory index from file.
     */
@@ -1044,6 +1210,8 @@ private void blockingClear() {
          channel.truncate(4);
          channel.write(ByteBuffer.wrap(MAGIC_LATEST), 0);
          filePos = MAGIC_LATEST.length;
+         // The mapped chunks are now beyond the end of the file
+         mappedChunks = NO_MAPPED_CHUNKS;
       } catch (Exception e) {
          throw new PersistenceException(e);
       } finally {
@@ -1108,6 +1276,14 @@ public CompletionStage<MarshallableEntry<K, V>> load(int segment, Object key) {
             return CompletableFutures.completedNull();
          }
 
+         if (memoryMapped) {
+            byte[] data = readResident(fe);
+            if (data != null) {
+               fe.unlock();
+               return CompletableFuture.completedFuture(toMarshallableEntry(fe, key, data, true, true));
+            }
+         }
+
          // Perform the actual read holding only the FileEntry lock
          return blockingManager.supplyBlocking(() -> readFromDisk(fe, key, true, true), "sfs-load");
       }
@@ -1156,8 +1332,6 @@ private FileEntry getFileEntryWithReadLock(int segment, Object key, long stamp,
    }
 
    private MarshallableEntry<K, V> readFromDisk(FileEntry fe, Object key, boolean loadValue, boolean loadMetadata) {
-      org.infinispan.commons.io.ByteBuffer valueBb = null;
-
       // If we only require the key, then no need to read disk
       if (!loadValue && !loadMetadata) {
          try {
@@ -1172,7 +1346,10 @@ private MarshallableEntry<K, V> readFromDisk(FileEntry fe, Object key, boolean l
          // load serialized data from disk
          data = new byte[fe.keyLen + fe.dataLen + (loadMetadata ? fe.metadataLen + fe.internalMetadataLen : 0)];
          // The entry lock will prevent clear() from truncating the file at this point
-         channel.read(ByteBuffer.wrap(data), fe.offset + KEY_POS_LATEST);
+         long position = fe.offset + KEY_POS_LATEST;
+         if (!memoryMapped || !readMapped(data, position)) {
+            channel.read(ByteBuffer.wrap(data), position);
+         }
       } catch (Exception e) {
          throw new PersistenceException(e);
       } finally {
@@ -1180,7 +1357,12 @@ private MarshallableEntry<K, V> readFromDisk(FileEntry fe, Object key, boolean l
          // FileEntry is immutable, so its members can't be changed by another thread.
          fe.unlock();
       }
+      return toMarshallableEntry(fe, key, data, loadValue, loadMetadata);
+   }
 
+   private MarshallableEntry<K, V> toMarshallableEntry(FileEntry fe, Object key, byte[] data, boolean loadValue,
+                                                      boolean loadMetadata) {
+      org.infinispan.commons.io.ByteBuffer valueBb = null;
       if (log.isTraceEnabled()) log.tracef("Read entry %s at %d:%d", key, fe.offset, fe.actualSize());
       ByteBufferFactory factory = ctx.getByteBufferFactory();
       org.infinispan.commons.io.ByteBuffer keyBb = factory.newByteBuffer(data, 0, fe.keyLen);
@@ -1218,6 +1400,98 @@ private MarshallableEntry<K, V> readFromDisk(FileEntry fe, Object key, boolean l
       return entryFactory.create(keyBb, valueBb);
    }
 
+   /**
+    * Copies the key, value and metadata of the entry from a chunk that is already mapped, but only if all the pages
+    * holding them are resident in memory, so the load can complete on the invoking thread instead of being handed to
+    * the blocking executor. {@link MappedByteBuffer#isLoaded()} is only a hint and a page can be evicted between the
+    * check and the copy, so this avoids the thread hop on a best-effort basis and the copy may still fault.
+    *
+    * @return the bytes of the entry, or {@code null} if they must be read by a blocking thread
+    */
+   private byte[] readResident(FileEntry fe) {
+      int length = fe.keyLen + fe.dataLen + fe.metadataLen + fe.internalMetadataLen;
+      long position = fe.offset + KEY_POS_LATEST;
+      int chunk = (int) (position / mappedChunkSize);
+      int chunkOffset = (int) (position % mappedChunkSize);
+      MappedByteBuffer[] chunks = mappedChunks;
+      if (chunk >= chunks.length) {
+         return null;
+      }
+      MappedByteBuffer mapped = chunks[chunk];
+      // The entry may have been written after the chunk was mapped
+      if (mapped == null || chunkOffset + length > mapped.capacity()) {
+         return null;
+      }
+      if (!mapped.slice(chunkOffset, length).isLoaded()) {
+         return null;
+      }
+      byte[] data = new byte[length];
+      mapped.get(chunkOffset, data);
+      return data;
+   }
+
+   /**
+    * Copies the bytes at the given position of the data file from its memory mapping.
+    *
+    * @return {@code false} if the bytes are not in a single fully written chunk and must be read from the channel
+    */
+   private boolean readMapped(byte[] data, long position) throws IOException {
+      int chunk = (int) (position / mappedChunkSize);
+      int chunkOffset = (int) (position % mappedChunkSize);
+      if (chunkOffset + data.length > mappedChunkSize) {
+         return false;
+      }
+      MappedByteBuffer mapped = getMappedChunk(chunk, chunkOffset + data.length);
+      if (mapped == null) {
+         return false;
+      }
+      // Absolute bulk get doesn't modify the buffer position, so the mapping can be shared between readers
+      mapped.get(chunkOffset, data);
+      return true;
+   }
+
+   /**
+    * Returns the mapping of the given chunk, mapping it again if the current mapping is shorter than the given length.
+    *
+    * @return the mapping or {@code null} if the file doesn't hold the given length of the chunk yet
+    */
+   private MappedByteBuffer getMappedChunk(int chunk, int minLength) throws IOException {
+      MappedByteBuffer[] chunks = mappedChunks;
+      if (chunk < chunks.length && chunks[chunk] != null && chunks[chunk].capacity() >= minLength) {
+         return chunks[chunk];
+      }
+      synchronized (this) {
+         chunks = mappedChunks;
+         if (chunk < chunks.length && chunks[chunk] != null && chunks[chunk].capacity() >= minLength) {
+            return chunks[chunk];
+         }
+         long chunkStart = (long) chunk * mappedChunkSize;
+         // Mapping beyond the end of a writable file would extend it, so only map up to the end of the file
+         long length = Math.min(mappedChunkSize, channel.size() - chunkStart);
+         if (length < minLength) {
+            return null;
+         }
+         MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, chunkStart, length);
+         MappedByteBuffer[] newChunks = Arrays.copyOf(chunks, Math.max(chunks.length, chunk + 1));
+         newChunks[chunk] = mapped;
+         mappedChunks = newChunks;
+         if (log.isTraceEnabled()) log.tracef("Mapped chunk %d of store %s at %d:%d", chunk, cacheName(), chunkStart, length);
+         return mapped;
+      }
+   }
+
+   /**
+    * Drops the mappings of the chunks that extend past the given file size, they are mapped again by the next read.
+    */
+   private void unmapChunksFrom(long fileSize) {
+      synchronized (this) {
+         int firstChunk = (int) (fileSize / mappedChunkSize);
+         if (firstChunk < mappedChunks.length) {
+            mappedChunks = Arrays.copyOf(mappedChunks, firstChunk);
+         }
+      }
+   }
+
    /**
     * @return The entries of a segment, or {@code null} if the segment is not owned
     */
@@ -1399,6 +1673,9 @@ private void truncateFile(List<FileEntry> entries) {
       if (truncateOffset > 0) {
          try {
             channel.truncate(truncateOffset);
+            if (memoryMapped) {
+               unmapChunksFrom(truncateOffset);
+            }
          } catch (IOException e) {
             throw new PersistenceException("Error while truncating file", e);
          }
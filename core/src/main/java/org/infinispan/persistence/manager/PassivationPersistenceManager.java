@@ -1,8 +1,11 @@
 package org.infinispan.persistence.manager;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -72,6 +75,36 @@ public <K, V> CompletionStage<MarshallableEntry<K, V>> loadFromAllStores(Object
       return super.loadFromAllStores(key, localInvocation, includeStores);
    }
 
+   @Override
+   public <K, V> CompletionStage<Map<Object, MarshallableEntry<K, V>>> loadAllFromAllStores(Collection<?> keys,
+                                                                                           boolean localInvocation,
+                                                                                           boolean includeStores) {
+      if (map.isEmpty()) {
+         return super.loadAllFromAllStores(keys, localInvocation, includeStores);
+      }
+      Map<Object, MarshallableEntry<K, V>> passivatedEntries = new HashMap<>();
+      List<Object> keysToLoad = new ArrayList<>(keys.size());
+      for (Object key : keys) {
+         MarshallableEntry entry = map.get(key);
+         if (entry != null) {
+            if (log.isTraceEnabled()) {
+               log.tracef("Retrieved entry for key %s from temporary passivation map", key);
+            }
+            passivatedEntries.put(key, entry);
+         } else {
+            keysToLoad.add(key);
+         }
+      }
+      if (passivatedEntries.isEmpty()) {
+         return super.loadAllFromAllStores(keys, localInvocation, includeStores);
+      }
+      return super.<K, V>loadAllFromAllStores(keysToLoad, localInvocation, includeStores)
+            .thenApply(entries -> {
+               passivatedEntries.putAll(entries);
+               return passivatedEntries;
+            });
+   }
+
    @Override
    public <K> Publisher<K> publishKeys(Predicate<? super K> filter, Predicate<? super StoreConfiguration> predicate) {
       if (map.isEmpty()) {
@@ -9,12 +9,16 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -76,6 +80,7 @@
 import org.infinispan.persistence.spi.NonBlockingStore.Characteristic;
 import org.infinispan.persistence.spi.PersistenceException;
 import org.infinispan.persistence.spi.StoreUnavailableException;
+import org.infinispan.persistence.support.BloomFilterNonBlockingStore;
 import org.infinispan.persistence.support.DelegatingNonBlockingStore;
 import org.infinispan.persistence.support.NonBlockingStoreAdapter;
 import org.infinispan.persistence.support.SegmentPublisherWrapper;
@@ -245,11 +250,17 @@ private Completable startStoresOnly(Iterable<StoreConfiguration> storeConfigurat
             // We have to ensure stores are started in configured order to ensure the stores map retains that order
             .concatMapSingle(storeConfiguration -> {
                NonBlockingStore<?, ?> actualStore = PersistenceUtil.storeFromConfiguration(storeConfiguration);
-               NonBlockingStore<?, ?> nonBlockingStore;
+               NonBlockingStore<?, ?> asyncStore;
                if (storeConfiguration.async().enabled()) {
-                  nonBlockingStore = new AsyncNonBlockingStore<>(actualStore);
+                  asyncStore = new AsyncNonBlockingStore<>(actualStore);
+               } else {
+                  asyncStore = actualStore;
+               }
+               NonBlockingStore<?, ?> nonBlockingStore;
+               if (storeConfiguration.bloomFilterBits() > 0) {
+                  nonBlockingStore = new BloomFilterNonBlockingStore<>(asyncStore, storeConfiguration.bloomFilterBits());
                } else {
-                  nonBlockingStore = actualStore;
+                  nonBlockingStore = asyncStore;
                }
                InitializationContextImpl ctx =
                      new InitializationContextImpl(storeConfiguration, cache.wired(), keyPartitioner, persistenceMarshaller,
@@ -601,8 +612,8 @@ public CompletionStage<Void> disableStore(String storeType) {
    }
 
    private <K, V> NonBlockingStore<K, V> unwrapStore(NonBlockingStore<K, V> store) {
-      if (store instanceof DelegatingNonBlockingStore) {
-         return ((DelegatingNonBlockingStore<K, V>) store).delegate();
+      while (store instanceof DelegatingNonBlockingStore) {
+         store = ((DelegatingNonBlockingStore<K, V>) store).delegate();
       }
       return store;
    }
@@ -628,16 +639,32 @@ public <T> Set<T> getStores(Class<T> storeClass) {
          }
          return stores.stream()
                .map(StoreStatus::store)
-               .map(this::unwrapStore)
-               .map(this::unwrapOldSPI)
-               .filter(storeClass::isInstance)
-               .map(storeClass::cast)
+               .map(store -> findStore(store, storeClass))
+               .filter(Objects::nonNull)
                .collect(Collectors.toCollection(HashSet::new));
       } finally {
          releaseReadLock(stamp);
       }
    }
 
+   /**
+    * Returns the actual store if it is an instance of the given class, otherwise the outermost store wrapping it that
+    * is, e.g. {@link AsyncNonBlockingStore}.
+    */
+   private <T> T findStore(NonBlockingStore<?, ?> store, Class<T> storeClass) {
+      Object actualStore = unwrapOldSPI(unwrapStore(store));
+      if (storeClass.isInstance(actualStore)) {
+         return storeClass.cast(actualStore);
+      }
+      while (store instanceof DelegatingNonBlockingStore) {
+         if (storeClass.isInstance(store)) {
+            return storeClass.cast(store);
+         }
+         store = ((DelegatingNonBlockingStore<?, ?>) store).delegate();
+      }
+      return null;
+   }
+
    @Override
    public Collection<String> getStoresAsString() {
       long stamp = acquireReadLock();
@@ -890,13 +917,7 @@ private <K, V> CompletionStage<MarshallableEntry<K, V>> loadFromStoresIterator(O
          CompletionStage<MarshallableEntry<K, V>> loadStage = store.load(segmentOrZero(storeStatus, segment), key);
          return loadStage.thenCompose(e -> {
             if (e != null) {
-               // Read only we apply lifespan expiration to the entry, so it can be reread later
-               // Max Idle is only allowed when the store has passivation, so it can't be read only
-               if (storeStatus.hasCharacteristic(Characteristic.READ_ONLY) && configuration.expiration().lifespan() > 0) {
-                  e = marshallableEntryFactory.cloneWithExpiration((MarshallableEntry) e, timeService.wallClockTime(),
-                        configuration.expiration().lifespan());
-               }
-               return CompletableFuture.completedFuture(e);
+               return CompletableFuture.completedFuture(applyLoaderExpiration(storeStatus, e));
             } else {
                return loadFromStoresIterator(key, segment, iterator, localInvocation, includeStores);
             }
@@ -905,6 +926,75 @@ private <K, V> CompletionStage<MarshallableEntry<K, V>> loadFromStoresIterator(O
       return CompletableFutures.completedNull();
    }
 
+   private <K, V> MarshallableEntry<K, V> applyLoaderExpiration(StoreStatus storeStatus, MarshallableEntry<K, V> entry) {
+      // Read only we apply lifespan expiration to the entry, so it can be reread later
+      // Max Idle is only allowed when the store has passivation, so it can't be read only
+      if (storeStatus.hasCharacteristic(Characteristic.READ_ONLY) && configuration.expiration().lifespan() > 0) {
+         return marshallableEntryFactory.cloneWithExpiration((MarshallableEntry) entry, timeService.wallClockTime(),
+               configuration.expiration().lifespan());
+      }
+      return entry;
+   }
+
+   @Override
+   public <K, V> CompletionStage<Map<Object, MarshallableEntry<K, V>>> loadAllFromAllStores(Collection<?> keys,
+         boolean localInvocation, boolean includeStores) {
+      long stamp = acquireReadLock();
+      boolean release = true;
+      try {
+         if (!checkStoreAvailability()) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+         }
+         if (log.isTraceEnabled()) {
+            log.tracef("Loading entries for keys %s", keys);
+         }
+         Iterator<StoreStatus> iterator = stores.iterator();
+         CompletionStage<Map<Object, MarshallableEntry<K, V>>> stage =
+               loadAllFromStoresIterator(keys, new ConcurrentHashMap<>(), iterator, localInvocation, includeStores);
+         if (CompletionStages.isCompletedSuccessfully(stage)) {
+            return stage;
+         } else {
+            release = false;
+            return stage.whenComplete((e, throwable) -> releaseReadLock(stamp));
+         }
+      } finally {
+         if (release) {
+            releaseReadLock(stamp);
+         }
+      }
+   }
+
+   private <K, V> CompletionStage<Map<Object, MarshallableEntry<K, V>>> loadAllFromStoresIterator(Collection<?> keys,
+         Map<Object, MarshallableEntry<K, V>> entries, Iterator<StoreStatus> iterator, boolean localInvocation,
+         boolean includeStores) {
+      while (iterator.hasNext()) {
+         StoreStatus storeStatus = iterator.next();
+         if (!allowLoad(storeStatus, localInvocation, includeStores)) {
+            continue;
+         }
+         // Only the keys that were not found in the previous stores are loaded, grouped by segment
+         Map<Integer, List<Object>> keysBySegment = new HashMap<>();
+         for (Object key : keys) {
+            if (!entries.containsKey(key)) {
+               int segment = segmentOrZero(storeStatus, keyPartitioner.getSegment(key));
+               keysBySegment.computeIfAbsent(segment, s -> new ArrayList<>()).add(key);
+            }
+         }
+         if (keysBySegment.isEmpty()) {
+            break;
+         }
+         NonBlockingStore<K, V> store = storeStatus.store();
+         Flowable<NonBlockingStore.SegmentedPublisher<Object>> keyPublisher = Flowable.fromIterable(keysBySegment.entrySet())
+               .map(e -> SingleSegmentPublisher.singleSegment(e.getKey(), Flowable.fromIterable(e.getValue())));
+         return Flowable.fromPublisher(store.batchLoad(keysBySegment.size(), keyPublisher))
+               .doOnNext(e -> entries.put(e.getKey(), applyLoaderExpiration(storeStatus, e)))
+               .ignoreElements()
+               .toCompletionStage(null)
+               .thenCompose(ignore -> loadAllFromStoresIterator(keys, entries, iterator, localInvocation, includeStores));
+      }
+      return CompletableFuture.completedFuture(entries);
+   }
+
    private boolean allowLoad(StoreStatus storeStatus, boolean localInvocation, boolean includeStores) {
       return !storeStatus.hasCharacteristic(Characteristic.WRITE_ONLY) &&
             (localInvocation || !isLocalOnlyLoader(storeStatus.store)) &&
@@ -914,12 +1004,7 @@ private boolean allowLoad(StoreStatus storeStatus, boolean localInvocation, bool
 
    private boolean isLocalOnlyLoader(NonBlockingStore<?, ?> store) {
       if (store instanceof LocalOnlyCacheLoader) return true;
-      NonBlockingStore<?, ?> unwrappedStore;
-      if (store instanceof DelegatingNonBlockingStore) {
-         unwrappedStore = ((DelegatingNonBlockingStore<?, ?>) store).delegate();
-      } else {
-         unwrappedStore = store;
-      }
+      NonBlockingStore<?, ?> unwrappedStore = unwrapStore(store);
       if (unwrappedStore instanceof LocalOnlyCacheLoader) {
          return true;
       }
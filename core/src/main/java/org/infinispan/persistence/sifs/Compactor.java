@@ -6,14 +6,20 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 import org.infinispan.commons.io.ByteBuffer;
 import org.infinispan.commons.io.ByteBufferImpl;
@@ -39,6 +45,12 @@
  * Component keeping the data about log file usage - as soon as entries from some file are overwritten so that the file
  * becomes cluttered with old records, the valid records are moved to another file and the old ones are dropped.
  * Expired records are moved as tombstones without values (records of entry removal).
+ * <p>
+ * Up to <code>compactionThreads</code> files are compacted concurrently, each by a {@link CompactionWorker} that
+ * writes the live records to its own output file. An output file is only completed, and so may be compacted itself,
+ * once the index points to all the records moved into it. The rate at which the compacted files are read can be
+ * limited to <code>compactionRateLimit</code> bytes per second, so that compaction does not starve the writes of the
+ * {@link LogAppender} from disk bandwidth.
  *
  * @author Radim Vansa &lt;rvansa@redhat.com&gt;
  */
@@ -54,6 +66,8 @@ class Compactor {
    private final KeyPartitioner keyPartitioner;
    private final int maxFileSize;
    private final double compactionThreshold;
+   private final int compactionThreads;
+   private final long compactionRateLimit;
    private final Executor blockingExecutor;
 
    // Initialize so we can enqueue operations until start begins
@@ -67,17 +81,28 @@ class Compactor {
    // This variable is never to be null
    private volatile CompletableFuture<?> stopped = CompletableFutures.completedNull();
 
-   // This buffer is used by the compactor thread to avoid allocating buffers per entry written that are smaller
-   // than the header size
-   private final java.nio.ByteBuffer REUSED_BUFFER = java.nio.ByteBuffer.allocate(EntryHeader.HEADER_SIZE_11_0);
+   // Workers that are not compacting a file, there are never more requests processed concurrently than workers
+   private final Queue<CompactionWorker> idleWorkers = new ConcurrentLinkedQueue<>();
+   private final CompactionWorker[] workers;
+   // Compaction requests that were taken by a worker and are not yet complete, a clear has to wait for them
+   private final Set<CompactionRequest> inFlight = ConcurrentHashMap.newKeySet();
+   // Time (as in TimeService#time) until which the read bandwidth given by compactionRateLimit is already used
+   private final AtomicLong throttledUntil = new AtomicLong();
 
-   FileProvider.Log logFile = null;
-   long nextExpirationTime = -1;
-   int currentOffset = 0;
+   private final LongAdder bytesReclaimed = new LongAdder();
+   private final LongAdder filesCompacted = new LongAdder();
+   private final LongAdder compactionNanos = new LongAdder();
 
    public Compactor(NonBlockingManager nonBlockingManager, FileProvider fileProvider, TemporaryTable temporaryTable,
          Marshaller marshaller, TimeService timeService, KeyPartitioner keyPartitioner, int maxFileSize,
          double compactionThreshold, Executor blockingExecutor) {
+      this(nonBlockingManager, fileProvider, temporaryTable, marshaller, timeService, keyPartitioner, maxFileSize,
+            compactionThreshold, 1, 0, blockingExecutor);
+   }
+
+   public Compactor(NonBlockingManager nonBlockingManager, FileProvider fileProvider, TemporaryTable temporaryTable,
+         Marshaller marshaller, TimeService timeService, KeyPartitioner keyPartitioner, int maxFileSize,
+         double compactionThreshold, int compactionThreads, long compactionRateLimit, Executor blockingExecutor) {
       this.nonBlockingManager = nonBlockingManager;
       this.fileProvider = fileProvider;
       this.temporaryTable = temporaryTable;
@@ -86,7 +111,14 @@ public Compactor(NonBlockingManager nonBlockingManager, FileProvider fileProvide
       this.keyPartitioner = keyPartitioner;
       this.maxFileSize = maxFileSize;
       this.compactionThreshold = compactionThreshold;
+      this.compactionThreads = compactionThreads;
+      this.compactionRateLimit = compactionRateLimit;
       this.blockingExecutor = blockingExecutor;
+      this.workers = new CompactionWorker[compactionThreads];
+      for (int i = 0; i < compactionThreads; ++i) {
+         workers[i] = new CompactionWorker();
+         idleWorkers.add(workers[i]);
+      }
    }
 
    public void setIndex(Index index) {
@@ -156,8 +188,9 @@ public void start() {
       stopped = new CompletableFuture<>();
 
       Scheduler scheduler = Schedulers.from(blockingExecutor);
-      processor.observeOn(scheduler)
-            .concatMapCompletable(stage -> {
+      // Every request is subscribed to on its own blocking thread, so that up to compactionThreads files are
+      // compacted at the same time
+      processor.flatMapCompletable(stage -> Completable.defer(() -> {
                processRequest(stage);
                Completable completable = Completable.fromCompletionStage(stage);
                // If stage is completed asynchronously it could be on a non blocking thread, make sure to resume
@@ -166,7 +199,7 @@ public void start() {
                   completable = completable.observeOn(scheduler);
                }
                return completable;
-            })
+            }).subscribeOn(scheduler), false, compactionThreads)
             .subscribe(() -> stopped.complete(null), error -> {
                log.compactorEncounteredException(error, -1);
                stopped.completeExceptionally(error);
@@ -273,6 +306,42 @@ Set<Integer> getFiles() {
       return fileStats.keySet();
    }
 
+   /**
+    * @return how many bytes were freed from the disk by compacting files, this does not include the expiration of
+    * entries in log files as those are kept
+    */
+   public long getBytesReclaimed() {
+      return bytesReclaimed.sum();
+   }
+
+   /**
+    * @return how many files were compacted and deleted
+    */
+   public long getFilesCompacted() {
+      return filesCompacted.sum();
+   }
+
+   /**
+    * @return how long the workers spent compacting files in total, which may exceed the elapsed time when files are
+    * compacted concurrently
+    */
+   public long getCompactionTime(TimeUnit unit) {
+      return unit.convert(compactionNanos.sum(), TimeUnit.NANOSECONDS);
+   }
+
+   /**
+    * @return how many files are scheduled for compaction or being compacted
+    */
+   public int getCompactionBacklog() {
+      int backlog = 0;
+      for (Stats stats : fileStats.values()) {
+         if (stats.isScheduled() && !stats.markedForDeletion()) {
+            backlog++;
+         }
+      }
+      return backlog;
+   }
+
    private Stats getStats(int file, int currentSize, long expirationTime) {
       Stats stats = fileStats.get(file);
       if (stats == null) {
@@ -359,11 +428,14 @@ public void stopOperations() {
       // The stopped CompletableFuture is completed in onComplete or onError callback for the processor, so this will
       // return after all compaction calls are completed
       stopped.join();
-      if (logFile != null) {
-         Util.close(logFile);
-         // Complete the file, this file should not be compacted
-         completeFile(logFile.fileId, currentOffset, nextExpirationTime, false);
-         logFile = null;
+      for (CompactionWorker worker : workers) {
+         if (worker.logFile != null) {
+            Util.close(worker.logFile);
+            // Complete the file, this file should not be compacted
+            completeFile(worker.logFile.fileId, worker.currentOffset, worker.nextExpirationTime, false);
+            worker.logFile = null;
+            worker.nextExpirationTime = -1;
+         }
       }
 
       // Reinitialize processor so it can be started again possibly
@@ -413,13 +485,15 @@ public void processRequest(CompletableFuture<Void> stageRequest) throws Throwabl
          if (stageRequest instanceof ClearFuture) {
             log.tracef("Compactor ignoring all future compactions until clear completes");
 
-            if (logFile != null) {
-               logFile.close();
-               logFile = null;
-               nextExpirationTime = -1;
-            }
-
-            completeFuture(stageRequest);
+            // Other workers may still be compacting, their output files can only be closed once they are done
+            CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0]))
+                  .handleAsync((ignore, t) -> {
+                     for (CompactionWorker worker : workers) {
+                        worker.closeLogFile();
+                     }
+                     completeFuture(stageRequest);
+                     return null;
+                  }, blockingExecutor);
          } else {
             log.tracef("Ignoring compaction request for %s as compactor is being cleared", stageRequest);
             completeFuture(stageRequest);
@@ -428,6 +502,17 @@ public void processRequest(CompletableFuture<Void> stageRequest) throws Throwabl
       }
 
       CompactionRequest request = (CompactionRequest) stageRequest;
+      // Register before checking the clear signal again, so a clear either waits for this request or this request
+      // sees the signal
+      inFlight.add(request);
+      request.whenComplete((ignore, t) -> inFlight.remove(request));
+      if (clearSignal.get()) {
+         log.tracef("Ignoring compaction request for %s as compactor is being cleared", request);
+         completeFuture(request);
+         return;
+      }
+      CompactionWorker worker = idleWorkers.poll();
+      assert worker != null : "More concurrent compactions than workers";
       try {
          // Any other type submitted has to be a positive integer
          Stats stats = fileStats.get(request.fileId);
@@ -435,7 +520,7 @@ public void processRequest(CompletableFuture<Void> stageRequest) throws Throwabl
          // Double check that the file wasn't removed. If stats are null that means the file was previously removed
          // and also make sure the file wasn't marked for deletion, but hasn't yet
          if (stats != null && !stats.markedForDeletion()) {
-            compactSingleFile(request, timeService.wallClockTime());
+            compactSingleFile(worker, request, timeService.wallClockTime());
             if (request.isLogFile) {
                // Unschedule the compaction for log file as we can't remove it
                stats.scheduled.set(false);
@@ -452,6 +537,8 @@ public void processRequest(CompletableFuture<Void> stageRequest) throws Throwabl
       } catch (Throwable t) {
          log.trace("Completing compaction for file: " + request.fileId + " due to exception!", t);
          request.completeExceptionally(t);
+      } finally {
+         idleWorkers.add(worker);
       }
    }
 
@@ -462,11 +549,12 @@ public void processRequest(CompletableFuture<Void> stageRequest) throws Throwabl
     * moved to the new log file and the current file is deleted afterwards. If an expired entry is found during compaction
     * of a non log file the expiration listener is notified and the entry is not moved, however if no expiration listener
     * is provided the expired entry is moved to the new file as is still expired.
+    * @param worker the worker that owns the file the entries are moved to
     * @param compactionRequest the request containing the fileId and if it is a log file and optional subscriber
     * @throws IOException            thrown if there was an issue with reading or writing to a file
     * @throws ClassNotFoundException thrown if there is an issue deserializing the key for an entry
     */
-   private void compactSingleFile(CompactionRequest compactionRequest,
+   private void compactSingleFile(CompactionWorker worker, CompactionRequest compactionRequest,
          long currentTimeMilliseconds) throws IOException, ClassNotFoundException {
       int scheduledFile = compactionRequest.fileId;
       assert scheduledFile >= 0;
@@ -484,7 +572,10 @@ private void compactSingleFile(CompactionRequest compactionRequest,
       } else {
          log.tracef("Removing expired entries from file %d isLogFile %b", scheduledFile, Boolean.valueOf(isLogFile));
       }
+      long startTime = timeService.time();
       int scheduledOffset = 0;
+      long fileSize;
+      long writtenBytes = 0;
       // Store expired entries to remove after we update the index
       List<EntryPosition> expiredTemp = subscriber != null ? new ArrayList<>() : null;
       List<EntryRecord> expiredIndex = subscriber != null ? new ArrayList<>() : null;
@@ -493,7 +584,7 @@ private void compactSingleFile(CompactionRequest compactionRequest,
          throw new IllegalStateException("Compactor should not get deleted file for compaction!");
       }
       try (handle) {
-         long fileSize = handle.getFileSize();
+         fileSize = handle.getFileSize();
          AggregateCompletionStage<Void> aggregateCompletionStage = CompletionStages.aggregateCompletionStage();
          EntryHeader header;
          while ((header = EntryRecord.readEntryHeader(handle, scheduledOffset)) != null) {
@@ -512,6 +603,7 @@ private void compactSingleFile(CompactionRequest compactionRequest,
                log.compactedFileNotLongEnough(serializedKey, scheduledFile, scheduledOffset, fileSize, header);
                break;
             }
+            throttle(header.totalLength());
             byte[] serializedKey = EntryRecord.readKey(handle, header, scheduledOffset);
             if (serializedKey == null) {
                throw new IllegalStateException("Concurrent update to compacting file when reading key on "
@@ -641,15 +733,8 @@ private void compactSingleFile(CompactionRequest compactionRequest,
                }
                index.handleRequest(IndexRequest.dropped(segment, key, ByteBufferImpl.create(serializedKey), prevFile, prevOffset, scheduledFile, scheduledOffset));
             } else {
-               if (logFile == null || currentOffset + header.totalLength() > maxFileSize) {
-                  if (logFile != null) {
-                     logFile.close();
-                     completeFile(logFile.fileId, currentOffset, nextExpirationTime);
-                     nextExpirationTime = -1;
-                  }
-                  currentOffset = 0;
-                  logFile = fileProvider.getFileForLog();
-                  log.debugf("Compacting to %d", (Object) logFile.fileId);
+               if (worker.logFile == null || worker.currentOffset + header.totalLength() > maxFileSize) {
+                  aggregateCompletionStage.dependsOn(worker.nextLogFile());
                }
 
                byte[] serializedValue = null;
@@ -665,16 +750,16 @@ private void compactSingleFile(CompactionRequest compactionRequest,
                   if (header.internalMetadataLength() > 0) {
                      serializedInternalMetadata = EntryRecord.readInternalMetadata(handle, header, scheduledOffset);
                   }
-                  entryOffset = currentOffset;
+                  entryOffset = worker.currentOffset;
                   writtenLength = header.totalLength();
                   // Update the next expiration time only for entries that are not removed
-                  nextExpirationTime = ExpiryHelper.mostRecentExpirationTime(nextExpirationTime, header.expiryTime());
+                  worker.nextExpirationTime = ExpiryHelper.mostRecentExpirationTime(worker.nextExpirationTime, header.expiryTime());
                } else {
-                  entryOffset = ~currentOffset;
+                  entryOffset = ~worker.currentOffset;
                   writtenLength = header.getHeaderLength() + header.keyLength();
                }
-               EntryRecord.writeEntry(logFile.fileChannel, REUSED_BUFFER, serializedKey, metadata, serializedValue, serializedInternalMetadata, header.seqId(), header.expiryTime());
-               TemporaryTable.LockedEntry lockedEntry = temporaryTable.replaceOrLock(segment, key, logFile.fileId, entryOffset, scheduledFile, indexedOffset);
+               EntryRecord.writeEntry(worker.logFile.fileChannel, worker.buffer, serializedKey, metadata, serializedValue, serializedInternalMetadata, header.seqId(), header.expiryTime());
+               TemporaryTable.LockedEntry lockedEntry = temporaryTable.replaceOrLock(segment, key, worker.logFile.fileId, entryOffset, scheduledFile, indexedOffset);
                if (lockedEntry == null) {
                   if (log.isTraceEnabled()) {
                      log.trace("Found entry in temporary table");
@@ -695,7 +780,7 @@ private void compactSingleFile(CompactionRequest compactionRequest,
                      }
                   } finally {
                      if (update) {
-                        temporaryTable.updateAndUnlock(lockedEntry, logFile.fileId, entryOffset);
+                        temporaryTable.updateAndUnlock(lockedEntry, worker.logFile.fileId, entryOffset);
                      } else {
                         temporaryTable.removeAndUnlock(lockedEntry, segment, key);
                      }
@@ -703,22 +788,25 @@ private void compactSingleFile(CompactionRequest compactionRequest,
                }
                if (log.isTraceEnabled()) {
                   log.tracef("Update %d:%d -> %d:%d | %d,%d", scheduledFile, indexedOffset,
-                        logFile.fileId, entryOffset, logFile.fileChannel.position(), logFile.fileChannel.size());
+                        worker.logFile.fileId, entryOffset, worker.logFile.fileChannel.position(), worker.logFile.fileChannel.size());
                }
                IndexRequest indexRequest;
                ByteBuffer keyBuffer = ByteBufferImpl.create(serializedKey);
                if (isLogFile) {
                   // When it is a log file we are still keeping the original entry, we are just updating it to say
                   // it was expired
-                  indexRequest = IndexRequest.update(segment, key, keyBuffer, logFile.fileId, entryOffset, writtenLength);
+                  indexRequest = IndexRequest.update(segment, key, keyBuffer, worker.logFile.fileId, entryOffset, writtenLength);
                } else {
                   // entryFile cannot be used as we have to report the file due to free space statistics
-                  indexRequest = IndexRequest.moved(segment, key, keyBuffer, logFile.fileId, entryOffset, writtenLength,
+                  indexRequest = IndexRequest.moved(segment, key, keyBuffer, worker.logFile.fileId, entryOffset, writtenLength,
                         scheduledFile, indexedOffset);
                }
-               aggregateCompletionStage.dependsOn(index.handleRequest(indexRequest));
+               CompletionStage<Object> indexStage = index.handleRequest(indexRequest);
+               aggregateCompletionStage.dependsOn(indexStage);
+               worker.logFileUpdates.dependsOn(indexStage);
 
-               currentOffset += writtenLength;
+               worker.currentOffset += writtenLength;
+               writtenBytes += writtenLength;
             }
             scheduledOffset += header.totalLength();
          }
@@ -743,7 +831,7 @@ private void compactSingleFile(CompactionRequest compactionRequest,
                // execution pipeline otherwise we can invoke compactor operations in the wrong thread
                aggregate.whenComplete((ignore, t) -> {
                   if (t != null) {
-                     log.error("There was a problem moving indexes for compactor with file " + logFile.fileId, t);
+                     log.error("There was a problem moving indexes for compactor with file " + scheduledFile, t);
                      compactionRequest.completeExceptionally(t);
                   } else {
                      log.tracef("Compaction ended after index was updated for %s", scheduledFile);
@@ -771,6 +859,86 @@ private void compactSingleFile(CompactionRequest compactionRequest,
             stats.markForDeletion();
          }
          index.deleteFileAsync(scheduledFile);
+         filesCompacted.increment();
+         bytesReclaimed.add(Math.max(0, fileSize - writtenBytes));
+      }
+      long elapsed = timeService.timeDuration(startTime, TimeUnit.NANOSECONDS);
+      compactionNanos.add(elapsed);
+      if (log.isDebugEnabled()) {
+         log.debugf("Processed file %d in %d ms, wrote %d of %d bytes", scheduledFile,
+               TimeUnit.NANOSECONDS.toMillis(elapsed), writtenBytes, fileSize);
+      }
+   }
+
+   /**
+    * Waits until reading the given amount of bytes does not exceed the configured rate limit. The bandwidth is shared
+    * by all workers, each of them waits for the bytes read before it by any worker.
+    * @param bytes how many bytes are about to be read
+    */
+   private void throttle(int bytes) {
+      if (compactionRateLimit <= 0) {
+         return;
+      }
+      long cost = TimeUnit.SECONDS.toNanos(bytes) / compactionRateLimit;
+      long now = timeService.time();
+      long start;
+      long previous;
+      do {
+         previous = throttledUntil.get();
+         start = Math.max(previous, now);
+      } while (!throttledUntil.compareAndSet(previous, start + cost));
+      long wait = start - now;
+      if (wait > 0) {
+         LockSupport.parkNanos(wait);
+      }
+   }
+
+   /**
+    * State of a thread compacting files: the file live entries are moved to and the index updates that point to it.
+    * A worker is only used by one compaction at a time.
+    */
+   private class CompactionWorker {
+      // Avoids allocating buffers per entry written that are smaller than the header size
+      private final java.nio.ByteBuffer buffer = java.nio.ByteBuffer.allocate(EntryHeader.HEADER_SIZE_11_0);
+      private FileProvider.Log logFile;
+      private int currentOffset;
+      private long nextExpirationTime = -1;
+      // Index updates for the entries moved to logFile
+      private AggregateCompletionStage<Void> logFileUpdates = CompletionStages.aggregateCompletionStage();
+
+      /**
+       * Closes the current file, if any, and opens a new one to move entries to. The closed file is completed once
+       * the index points to all the entries moved into it, so that another worker cannot compact it while
+       * those updates are pending.
+       * @return a stage that completes after the closed file was completed
+       */
+      CompletionStage<Void> nextLogFile() throws IOException {
+         CompletionStage<Void> completed = CompletableFutures.completedNull();
+         if (logFile != null) {
+            logFile.close();
+            int fileId = logFile.fileId;
+            int fileSize = currentOffset;
+            long fileExpirationTime = nextExpirationTime;
+            completed = logFileUpdates.freeze().handle((ignore, t) -> {
+               completeFile(fileId, fileSize, fileExpirationTime);
+               return null;
+            });
+            nextExpirationTime = -1;
+         }
+         logFileUpdates = CompletionStages.aggregateCompletionStage();
+         currentOffset = 0;
+         logFile = fileProvider.getFileForLog();
+         log.debugf("Compacting to %d", (Object) logFile.fileId);
+         return completed;
+      }
+
+      void closeLogFile() {
+         if (logFile != null) {
+            Util.close(logFile);
+            logFile = null;
+            nextExpirationTime = -1;
+            logFileUpdates = CompletionStages.aggregateCompletionStage();
+         }
       }
    }
 
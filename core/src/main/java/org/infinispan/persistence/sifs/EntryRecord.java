@@ -3,6 +3,7 @@
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.List;
 
 import org.infinispan.commons.util.Util;
 
@@ -234,6 +235,53 @@ static void writeEntry(FileChannel fileChannel, ByteBuffer reusedBuffer, ByteBuf
       }
    }
 
+   /**
+    * Adds the buffers that make up an entry, in the same layout as written by
+    * {@link #writeEntry(FileChannel, ByteBuffer, ByteBuffer, ByteBuffer, ByteBuffer, ByteBuffer, long, long, long, long)},
+    * so that several entries can be written with a single call to {@link #write(FileChannel, ByteBuffer[])}.
+    */
+   static void addEntryBuffers(List<ByteBuffer> buffers, ByteBuffer serializedKey,
+                               ByteBuffer serializedMetadata,
+                               ByteBuffer serializedInternalMetadata,
+                               ByteBuffer serializedValue,
+                               long seqId, long expiration, long created, long lastUsed) {
+      ByteBuffer header = ByteBuffer.allocate(EntryHeader.HEADER_SIZE_11_0);
+      EntryHeader.writeHeader(header, (short) serializedKey.remaining(), EntryMetadata.size(serializedMetadata),
+            serializedValue == null ? 0 : serializedValue.remaining(),
+            serializedInternalMetadata == null ? 0 : (short) serializedInternalMetadata.remaining(),
+            seqId, expiration);
+      header.flip();
+      buffers.add(header);
+      buffers.add(serializedKey);
+      if (serializedMetadata != null) {
+         buffers.add(serializedMetadata);
+         ByteBuffer timestamps = ByteBuffer.allocate(EntryMetadata.TIMESTAMP_BYTES);
+         timestamps.putLong(created);
+         timestamps.putLong(lastUsed);
+         timestamps.flip();
+         buffers.add(timestamps);
+      }
+      if (serializedValue != null) {
+         buffers.add(serializedValue);
+      }
+      if (serializedInternalMetadata != null) {
+         buffers.add(serializedInternalMetadata);
+      }
+   }
+
+   /**
+    * Writes all the buffers with as few gathering writes as possible.
+    */
+   static void write(FileChannel fileChannel, ByteBuffer[] buffers) throws IOException {
+      int offset = 0;
+      while (offset < buffers.length) {
+         fileChannel.write(buffers, offset, buffers.length - offset);
+         while (offset < buffers.length && !buffers[offset].hasRemaining()) {
+            offset++;
+         }
+      }
+   }
+
    private static void writeTimestamps(FileChannel fileChannel, ByteBuffer reusedBuffer, long created, long lastUsed) throws IOException {
       assert reusedBuffer.position() == 0;
       int previousLimit = reusedBuffer.limit();
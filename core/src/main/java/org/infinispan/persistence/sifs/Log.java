@@ -103,4 +103,16 @@ public interface Log extends BasicLogger {
 
    @Message(value = "Failed acquiring lock '%s' for SIFS", id = 29025)
    PersistenceException failedAcquiringLockFile(@Cause Throwable cause, FileSystemLock lock);
+
+   @Message(value = "Compaction threads (%d) must be at least 1.", id = 29026)
+   CacheConfigurationException invalidCompactionThreads(int value);
+
+   @Message(value = "Compaction rate limit (%d) must not be negative.", id = 29027)
+   CacheConfigurationException invalidCompactionRateLimit(long value);
+
+   @Message(value = "Sync writes max delay (%d) must not be negative.", id = 29028)
+   CacheConfigurationException invalidSyncWritesMaxDelay(long value);
+
+   @Message(value = "Sync writes max batch size (%d) must be at least 1.", id = 29029)
+   CacheConfigurationException invalidSyncWritesMaxBatchSize(int value);
 }
@@ -1,5 +1,6 @@
 package org.infinispan.persistence.sifs;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -7,6 +8,8 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.infinispan.commons.io.ByteBuffer;
@@ -32,12 +35,18 @@ public class LogAppender implements Consumer<LogAppender.WriteOperation> {
    private final FileProvider fileProvider;
    private final boolean syncWrites;
    private final int maxFileSize;
+   private final ScheduledExecutorService scheduledExecutor;
+   private final long syncWritesMaxDelay;
+   private final int syncWritesMaxBatchSize;
    // Used to keep track of how many log requests have been submitted. This way if the blocking thread has consumed
    // the same number of log requests it can immediately flush.
    private final AtomicInteger submittedCount = new AtomicInteger();
    // This variable is null unless sync writes are enabled. When sync writes are enabled this list holds
    // all the log requests that should be completed when the disk is ensured to be flushed
-   private final List<Consumer<LogAppender>> toSyncLogRequests;
+   private final List<LogRequest> toSyncLogRequests;
+   // This variable is null unless sync writes are enabled. Holds the buffers of the entries in toSyncLogRequests, which
+   // are written together with a single gathering write before the file is forced
+   private final List<java.nio.ByteBuffer> toSyncBuffers;
 
    // This buffer is used by the log appender thread to avoid allocating buffers per entry written that are smaller
    // than the header size
@@ -51,6 +60,8 @@ public class LogAppender implements Consumer<LogAppender.WriteOperation> {
    private List<LogRequest> delayedLogRequests;
    private FileProvider.Log logFile;
    private long nextExpirationTime = -1;
+   private int toSyncBytes;
+   private boolean flushScheduled;
 
    // This is volatile as it can be read from different threads when submitting
    private volatile FlowableProcessor<LogRequest> requestProcessor;
@@ -64,6 +75,20 @@ public class LogAppender implements Consumer<LogAppender.WriteOperation> {
    public LogAppender(NonBlockingManager nonBlockingManager, Index index,
                       TemporaryTable temporaryTable, Compactor compactor,
                       FileProvider fileProvider, boolean syncWrites, int maxFileSize) {
+      this(nonBlockingManager, index, temporaryTable, compactor, fileProvider, syncWrites, maxFileSize, null, 0,
+            Integer.MAX_VALUE);
+   }
+
+   /**
+    * @param scheduledExecutor executor used to flush the pending writes after {@code syncWritesMaxDelay}, only required
+    *                          when the delay is greater than 0
+    * @param syncWritesMaxDelay how long in milliseconds sync writes may wait for more writes to be forced together
+    * @param syncWritesMaxBatchSize how many bytes of sync writes may be pending before they are forced
+    */
+   public LogAppender(NonBlockingManager nonBlockingManager, Index index,
+                      TemporaryTable temporaryTable, Compactor compactor,
+                      FileProvider fileProvider, boolean syncWrites, int maxFileSize,
+                      ScheduledExecutorService scheduledExecutor, long syncWritesMaxDelay, int syncWritesMaxBatchSize) {
       this.nonBlockingManager = nonBlockingManager;
       this.index = index;
       this.temporaryTable = temporaryTable;
@@ -71,8 +96,12 @@ public LogAppender(NonBlockingManager nonBlockingManager, Index index,
       this.fileProvider = fileProvider;
       this.syncWrites = syncWrites;
       this.maxFileSize = maxFileSize;
+      this.scheduledExecutor = scheduledExecutor;
+      this.syncWritesMaxDelay = syncWritesMaxDelay;
+      this.syncWritesMaxBatchSize = syncWritesMaxBatchSize;
 
       this.toSyncLogRequests = syncWrites ? new ArrayList<>() : null;
+      this.toSyncBuffers = syncWrites ? new ArrayList<>() : null;
    }
 
    public synchronized void start(Executor executor) {
@@ -91,6 +120,7 @@ public synchronized void start(Executor executor) {
       writeProcessor = UnicastProcessor.create();
       writeProcessor.observeOn(Schedulers.from(executor))
             .subscribe(this, e -> log.warn("Exception encountered while performing write log request ", e), () -> {
+               flushPendingWrites();
                completionProcessor.onComplete();
                completionProcessor = null;
                if (logFile != null) {
@@ -214,7 +244,11 @@ private static <I> CompletionStage<I> cast(CompletionStage stage) {
     * @param request the log request
     */
    private void callerAccept(LogRequest request) {
-      if (request.isPause()) {
+      if (request.isFlush()) {
+         // Flushes must not wait for a resume, as pending writes would not complete while the appender is paused
+         writeProcessor.onNext(WriteOperation.fromLogRequest(request));
+         return;
+      } else if (request.isPause()) {
          delayedLogRequests = new ArrayList<>();
          // This request is created in the same thread - so there can be no dependents
          request.complete(null);
@@ -249,6 +283,11 @@ private void sendToWriteProcessor(LogRequest request) {
    @Override
    public void accept(WriteOperation writeOperation) {
       LogRequest actualRequest = writeOperation.logRequest;
+      if (actualRequest.isFlush()) {
+         flushScheduled = false;
+         flushPendingWrites();
+         return;
+      }
       try {
          if (logFile == null) {
             logFile = fileProvider.getFileForLog();
@@ -256,8 +295,11 @@ public void accept(WriteOperation writeOperation) {
          }
 
          if (actualRequest.isClear()) {
-            logFile.close();
-            completePendingLogRequests();
+            flushPendingWrites();
+            // A failed flush may have left the file already
+            if (logFile != null) {
+               logFile.close();
+            }
             nextExpirationTime = -1;
             currentOffset = 0;
             logFile = null;
@@ -272,42 +314,54 @@ public void accept(WriteOperation writeOperation) {
          int actualLength = actualRequest.length();
          if (currentOffset != 0 && currentOffset + actualLength > maxFileSize) {
             // switch to next file
-            logFile.close();
-            completePendingLogRequests();
-
-            final int fileId = logFile.fileId;
-            final int offset = currentOffset;
-            final long exp = nextExpirationTime;
-            // Have to schedule the compaction after all other log appender operations are complete and register their
-            // index updates. Then we can do a sync index call to ensure the compactor is ran after all updates are done
-            completionProcessor.onNext(la -> la.index.ensureRunOnLast(() -> compactor.completeFile(fileId, offset, exp)));
-
+            flushPendingWrites();
+            // A failed flush may have left the file already
+            if (logFile != null) {
+               completeLogFile();
+            }
+         }
+         if (logFile == null) {
             logFile = fileProvider.getFileForLog();
-            nextExpirationTime = -1;
-            currentOffset = 0;
             log.tracef("Appending records to %s", logFile.fileId);
          }
          long seqId = nextSeqId();
          log.tracef("Appending record to %s:%s", logFile.fileId, currentOffset);
          nextExpirationTime = ExpiryHelper.mostRecentExpirationTime(nextExpirationTime, actualRequest.getExpiration());
-         EntryRecord.writeEntry(logFile.fileChannel, REUSED_BUFFER, writeOperation.serializedKey,
-               writeOperation.serializedMetadata, writeOperation.serializedInternalMetadata,
-               writeOperation.serializedValue, seqId, actualRequest.getExpiration(), actualRequest.getCreated(),
-               actualRequest.getLastUsed());
          actualRequest.setFile(logFile.fileId);
          actualRequest.setFileOffset(currentOffset);
 
          if (!syncWrites) {
+            try {
+               EntryRecord.writeEntry(logFile.fileChannel, REUSED_BUFFER, writeOperation.serializedKey,
+                     writeOperation.serializedMetadata, writeOperation.serializedInternalMetadata,
+                     writeOperation.serializedValue, seqId, actualRequest.getExpiration(), actualRequest.getCreated(),
+                     actualRequest.getLastUsed());
+            } catch (Exception e) {
+               REUSED_BUFFER.clear();
+               rewind(currentOffset);
+               throw e;
+            }
+            currentOffset += actualLength;
             completionProcessor.onNext(writeOperation);
          } else {
-            // This cannot be null when sync writes is true
-            toSyncLogRequests.add(la -> la.handleRequestCompletion(actualRequest));
-            if (submittedCount.get() == ++receivedCount || toSyncLogRequests.size() == 1000) {
-               logFile.fileChannel.force(false);
-               completePendingLogRequests();
+            // The entry is only written when the pending writes are flushed, so that all of them are written with a
+            // single call and forced once
+            EntryRecord.addEntryBuffers(toSyncBuffers, writeOperation.serializedKey,
+                  writeOperation.serializedMetadata, writeOperation.serializedInternalMetadata,
+                  writeOperation.serializedValue, seqId, actualRequest.getExpiration(), actualRequest.getCreated(),
+                  actualRequest.getLastUsed());
+            toSyncLogRequests.add(actualRequest);
+            toSyncBytes += actualLength;
+            currentOffset += actualLength;
+            boolean drained = submittedCount.get() == ++receivedCount;
+            if (toSyncBytes >= syncWritesMaxBatchSize || (drained && syncWritesMaxDelay <= 0)) {
+               flushPendingWrites();
+            } else if (drained && !flushScheduled) {
+               // No other writes are queued, give concurrent writers some time to join this batch
+               flushScheduled = true;
+               scheduledExecutor.schedule(this::requestFlush, syncWritesMaxDelay, TimeUnit.MILLISECONDS);
             }
          }
-         currentOffset += actualLength;
       } catch (Exception e) {
          log.debugf("Exception encountered while processing log request %s", actualRequest);
          actualRequest.completeExceptionally(e);
@@ -318,19 +372,84 @@ public void complete(Consumer<LogAppender> consumer) throws Throwable {
       consumer.accept(this);
    }
 
+   private void requestFlush() {
+      FlowableProcessor<LogRequest> processor = requestProcessor;
+      if (processor != null) {
+         processor.onNext(LogRequest.flushRequest());
+      }
+   }
+
    /**
-    * Must only be invoked by {@link #accept(WriteOperation)} method.
+    * Writes the pending sync writes, forces them to disk and completes their requests. Must only be invoked by the
+    * writeProcessor thread.
     */
-   private void completePendingLogRequests() {
-      if (toSyncLogRequests != null) {
-         for (Iterator<Consumer<LogAppender>> iter = toSyncLogRequests.iterator(); iter.hasNext(); ) {
-            Consumer<LogAppender> consumer = iter.next();
+   private void flushPendingWrites() {
+      if (toSyncLogRequests == null || toSyncLogRequests.isEmpty()) {
+         return;
+      }
+      try {
+         EntryRecord.write(logFile.fileChannel, toSyncBuffers.toArray(new java.nio.ByteBuffer[0]));
+         logFile.fileChannel.force(false);
+         for (Iterator<LogRequest> iter = toSyncLogRequests.iterator(); iter.hasNext(); ) {
+            LogRequest request = iter.next();
             iter.remove();
-            completionProcessor.onNext(consumer);
+            completionProcessor.onNext(la -> la.handleRequestCompletion(request));
+         }
+      } catch (Exception e) {
+         log.debugf("Exception encountered while flushing %d log requests", toSyncLogRequests.size());
+         // None of the pending records is known to be on disk, so the following records take their place
+         rewind(toSyncLogRequests.get(0).getFileOffset());
+         for (LogRequest request : toSyncLogRequests) {
+            request.completeExceptionally(e);
+         }
+         toSyncLogRequests.clear();
+      } finally {
+         toSyncBuffers.clear();
+         toSyncBytes = 0;
+      }
+   }
+
+   /**
+    * Drops whatever a failed write left in the log file after the given offset, so that the offsets given to the
+    * following records match their position in the file. If the file can't be rewound, it is completed at the given
+    * offset and the following records are appended to a new file. Must only be invoked by the writeProcessor thread.
+    */
+   private void rewind(int offset) {
+      currentOffset = offset;
+      try {
+         logFile.fileChannel.truncate(offset);
+         logFile.fileChannel.position(offset);
+      } catch (Exception e) {
+         log.debugf(e, "Unable to rewind log file %d to offset %d, appending to a new file", logFile.fileId, offset);
+         try {
+            completeLogFile();
+         } catch (Exception closeException) {
+            log.debugf(closeException, "Exception encountered while closing log file");
          }
       }
    }
 
+   /**
+    * Closes the current log file and hands it to the compactor once the index is updated, the next record is appended
+    * to a new file.
+    */
+   private void completeLogFile() throws IOException {
+      FileProvider.Log completed = logFile;
+      final int fileId = completed.fileId;
+      final int offset = currentOffset;
+      final long exp = nextExpirationTime;
+      logFile = null;
+      nextExpirationTime = -1;
+      currentOffset = 0;
+      try {
+         completed.close();
+      } finally {
+         // Have to schedule the compaction after all other log appender operations are complete and register their
+         // index updates. Then we can do a sync index call to ensure the compactor is ran after all updates are done
+         completionProcessor.onNext(la -> la.index.ensureRunOnLast(() -> compactor.completeFile(fileId, offset, exp)));
+      }
+   }
+
    public void setSeqId(long seqId) {
       this.seqId = seqId;
    }
@@ -217,6 +217,7 @@ public CompletionStage<Void> start(InitializationContext ctx) {
             configuration.maxFileSize());
       compactor = new Compactor(ctx.getNonBlockingManager(), fileProvider, temporaryTable, marshaller, timeService,
             keyPartitioner, configuration.maxFileSize(), configuration.compactionThreshold(),
+            configuration.compactionThreads(), configuration.compactionRateLimit(),
             blockingManager.asExecutor("sifs-compactor"));
       try {
          index = new Index(ctx.getNonBlockingManager(), fileProvider, getIndexLocation(), cacheSegments,
@@ -226,13 +227,14 @@ public CompletionStage<Void> start(InitializationContext ctx) {
          throw log.cannotOpenIndex(configuration.indexLocation(), e);
       }
       compactor.setIndex(index);
+      ScheduledExecutorService timeoutExecutor = ComponentRegistry.componentOf(ctx.getCache(), ScheduledExecutorService.class, TIMEOUT_SCHEDULE_EXECUTOR);
       logAppender = new LogAppender(ctx.getNonBlockingManager(), index, temporaryTable, compactor, fileProvider,
-            configuration.syncWrites(), configuration.maxFileSize());
+            configuration.syncWrites(), configuration.maxFileSize(), timeoutExecutor,
+            configuration.syncWritesMaxDelay(), configuration.syncWritesMaxBatchSize());
       logAppender.start(blockingManager.asExecutor("sifs-log-processor"));
       startIndex();
       final AtomicLong maxSeqId = new AtomicLong(0);
       TimeService ts = ComponentRegistry.componentOf(ctx.getCache(), TimeService.class);
-      ScheduledExecutorService timeoutExecutor = ComponentRegistry.componentOf(ctx.getCache(), ScheduledExecutorService.class, TIMEOUT_SCHEDULE_EXECUTOR);
       Configuration cfg = ComponentRegistry.of(ctx.getCache()).getConfiguration();
       long timeout = cfg.clustering().remoteTimeout();
       progressTracker = new ProgressTracker("sifs-task-" + ctx.getCache().getName(), timeoutExecutor, ts, timeout, TimeUnit.MILLISECONDS);
@@ -577,6 +579,38 @@ public CompletionStage<Long> approximateSize(IntSet segments) {
       return CompletableFuture.completedFuture(index.approximateSize(segments));
    }
 
+   /**
+    * @return how many bytes were freed from the disk by compacting data files
+    */
+   public long getCompactionBytesReclaimed() {
+      Compactor compactor = this.compactor;
+      return compactor == null ? 0 : compactor.getBytesReclaimed();
+   }
+
+   /**
+    * @return how many data files were compacted and deleted
+    */
+   public long getCompactedFiles() {
+      Compactor compactor = this.compactor;
+      return compactor == null ? 0 : compactor.getFilesCompacted();
+   }
+
+   /**
+    * @return the total time spent compacting data files, summed over the compaction threads
+    */
+   public long getCompactionTime(TimeUnit unit) {
+      Compactor compactor = this.compactor;
+      return compactor == null ? 0 : compactor.getCompactionTime(unit);
+   }
+
+   /**
+    * @return how many data files are scheduled for compaction or being compacted
+    */
+   public int getCompactionBacklog() {
+      Compactor compactor = this.compactor;
+      return compactor == null ? 0 : compactor.getCompactionBacklog();
+   }
+
    @Override
    public CompletionStage<Void> write(int segment, MarshallableEntry<? extends K, ? extends V> entry) {
       int keyLength = entry.getKeyBytes().getLength();
@@ -3,6 +3,8 @@
 import static org.infinispan.persistence.sifs.configuration.DataConfiguration.DATA_LOCATION;
 import static org.infinispan.persistence.sifs.configuration.DataConfiguration.MAX_FILE_SIZE;
 import static org.infinispan.persistence.sifs.configuration.DataConfiguration.SYNC_WRITES;
+import static org.infinispan.persistence.sifs.configuration.DataConfiguration.SYNC_WRITES_MAX_BATCH_SIZE;
+import static org.infinispan.persistence.sifs.configuration.DataConfiguration.SYNC_WRITES_MAX_DELAY;
 
 import org.infinispan.commons.configuration.Builder;
 import org.infinispan.commons.configuration.Combine;
@@ -35,6 +37,16 @@ public DataConfigurationBuilder syncWrites(boolean syncWrites) {
       return this;
    }
 
+   public DataConfigurationBuilder syncWritesMaxDelay(long syncWritesMaxDelay) {
+      attributes.attribute(SYNC_WRITES_MAX_DELAY).set(syncWritesMaxDelay);
+      return this;
+   }
+
+   public DataConfigurationBuilder syncWritesMaxBatchSize(int syncWritesMaxBatchSize) {
+      attributes.attribute(SYNC_WRITES_MAX_BATCH_SIZE).set(syncWritesMaxBatchSize);
+      return this;
+   }
+
    @Override
    public DataConfiguration create() {
       return new DataConfiguration(attributes.protect());
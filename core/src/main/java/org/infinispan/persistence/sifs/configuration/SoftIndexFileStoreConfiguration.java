@@ -19,11 +19,14 @@ public class SoftIndexFileStoreConfiguration extends AbstractStoreConfiguration<
 
    public static final AttributeDefinition<Integer> OPEN_FILES_LIMIT = AttributeDefinition.builder(Attribute.OPEN_FILES_LIMIT, 1000).immutable().build();
    public static final AttributeDefinition<Double> COMPACTION_THRESHOLD = AttributeDefinition.builder(Attribute.COMPACTION_THRESHOLD, 0.5d).immutable().build();
+   public static final AttributeDefinition<Integer> COMPACTION_THREADS = AttributeDefinition.builder(Attribute.COMPACTION_THREADS, 1).immutable().build();
+   public static final AttributeDefinition<Long> COMPACTION_RATE_LIMIT = AttributeDefinition.builder(Attribute.COMPACTION_RATE_LIMIT, 0L).immutable().build();
    private final IndexConfiguration index;
    private final DataConfiguration data;
 
    public static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(SoftIndexFileStoreConfiguration.class, AbstractStoreConfiguration.attributeDefinitionSet(), OPEN_FILES_LIMIT, COMPACTION_THRESHOLD);
+      return new AttributeSet(SoftIndexFileStoreConfiguration.class, AbstractStoreConfiguration.attributeDefinitionSet(), OPEN_FILES_LIMIT, COMPACTION_THRESHOLD,
+            COMPACTION_THREADS, COMPACTION_RATE_LIMIT);
    }
 
    public SoftIndexFileStoreConfiguration(AttributeSet attributes,
@@ -71,6 +74,22 @@ public boolean syncWrites() {
       return data.syncWrites();
    }
 
+   /**
+    * How long in milliseconds sync writes may wait for other writes so that they are forced to disk together.
+    * A value of 0 forces the pending writes as soon as no other write is queued.
+    */
+   public long syncWritesMaxDelay() {
+      return data.syncWritesMaxDelay();
+   }
+
+   /**
+    * How many bytes of sync writes may be pending before they are written and forced to disk, regardless of
+    * {@link #syncWritesMaxDelay()}.
+    */
+   public int syncWritesMaxBatchSize() {
+      return data.syncWritesMaxBatchSize();
+   }
+
    /**
     * The maximum number of files that will be open at a given time for all the data and index files, which does
     * not include compactor and current log file (which will always be 2).
@@ -89,6 +108,26 @@ public double compactionThreshold() {
       return attributes.attribute(COMPACTION_THRESHOLD).get();
    }
 
+   /**
+    * The maximum number of data files that are compacted concurrently. Each of them moves its entries to its own
+    * file, which is not counted by {@link #openFilesLimit()}.
+    *
+    * @return How many files SIFS compacts at the same time
+    */
+   public int compactionThreads() {
+      return attributes.attribute(COMPACTION_THREADS).get();
+   }
+
+   /**
+    * The maximum number of bytes per second that the compactor reads from the data files, shared by all the
+    * compaction threads. A value of <code>0</code> means compaction is not throttled.
+    *
+    * @return The compaction read rate limit in bytes per second
+    */
+   public long compactionRateLimit() {
+      return attributes.attribute(COMPACTION_RATE_LIMIT).get();
+   }
+
    public IndexConfiguration index() {
       return index;
    }
@@ -1,6 +1,8 @@
 package org.infinispan.persistence.sifs.configuration;
 
 import static org.infinispan.configuration.cache.AbstractStoreConfiguration.SEGMENTED;
+import static org.infinispan.persistence.sifs.configuration.SoftIndexFileStoreConfiguration.COMPACTION_RATE_LIMIT;
+import static org.infinispan.persistence.sifs.configuration.SoftIndexFileStoreConfiguration.COMPACTION_THREADS;
 import static org.infinispan.persistence.sifs.configuration.SoftIndexFileStoreConfiguration.COMPACTION_THRESHOLD;
 import static org.infinispan.persistence.sifs.configuration.SoftIndexFileStoreConfiguration.OPEN_FILES_LIMIT;
 
@@ -120,6 +122,28 @@ public SoftIndexFileStoreConfigurationBuilder syncWrites(boolean syncWrites) {
       return this;
    }
 
+   /**
+    * Sets how long in milliseconds a sync write may wait for other writes, so that all of them are written and
+    * fsynced to disk together. Only used when {@link #syncWrites(boolean)} is enabled.
+    * <p>
+    * Defaults to <code>0</code>, which fsyncs the pending writes as soon as no other write is queued.
+    */
+   public SoftIndexFileStoreConfigurationBuilder syncWritesMaxDelay(long syncWritesMaxDelay) {
+      data.syncWritesMaxDelay(syncWritesMaxDelay);
+      return this;
+   }
+
+   /**
+    * Sets how many bytes of sync writes may be pending before they are written and fsynced to disk, even if
+    * {@link #syncWritesMaxDelay(long)} has not elapsed. Only used when {@link #syncWrites(boolean)} is enabled.
+    * <p>
+    * Defaults to <code>1048576</code>.
+    */
+   public SoftIndexFileStoreConfigurationBuilder syncWritesMaxBatchSize(int syncWritesMaxBatchSize) {
+      data.syncWritesMaxBatchSize(syncWritesMaxBatchSize);
+      return this;
+   }
+
    /**
     * Sets the maximum number of open files.
     * <p>
@@ -140,6 +164,27 @@ public SoftIndexFileStoreConfigurationBuilder compactionThreshold(double compact
       return this;
    }
 
+   /**
+    * Sets how many data files can be compacted concurrently, each of them is written to its own new file.
+    * <p>
+    * Defaults to <code>1</code>.
+    */
+   public SoftIndexFileStoreConfigurationBuilder compactionThreads(int compactionThreads) {
+      attributes.attribute(COMPACTION_THREADS).set(compactionThreads);
+      return this;
+   }
+
+   /**
+    * Limits how many bytes per second the compaction reads from the data files, across all compaction threads, so
+    * that it does not take the disk bandwidth needed by writes.
+    * <p>
+    * Defaults to <code>0</code>, which does not limit the compaction.
+    */
+   public SoftIndexFileStoreConfigurationBuilder compactionRateLimit(long bytesPerSecond) {
+      attributes.attribute(COMPACTION_RATE_LIMIT).set(bytesPerSecond);
+      return this;
+   }
+
    @Override
    public SoftIndexFileStoreConfiguration create() {
       return new SoftIndexFileStoreConfiguration(attributes.protect(), async.create(), index.create(), data.create());
@@ -170,6 +215,22 @@ protected void validate(boolean skipClassChecks) {
       if (compactionThreshold <= 0 || compactionThreshold > 1) {
          throw log.invalidCompactionThreshold(compactionThreshold);
       }
+      int compactionThreads = attributes.attribute(COMPACTION_THREADS).get();
+      if (compactionThreads < 1) {
+         throw log.invalidCompactionThreads(compactionThreads);
+      }
+      long compactionRateLimit = attributes.attribute(COMPACTION_RATE_LIMIT).get();
+      if (compactionRateLimit < 0) {
+         throw log.invalidCompactionRateLimit(compactionRateLimit);
+      }
+      long syncWritesMaxDelay = data.attributes().attribute(DataConfiguration.SYNC_WRITES_MAX_DELAY).get();
+      if (syncWritesMaxDelay < 0) {
+         throw log.invalidSyncWritesMaxDelay(syncWritesMaxDelay);
+      }
+      int syncWritesMaxBatchSize = data.attributes().attribute(DataConfiguration.SYNC_WRITES_MAX_BATCH_SIZE).get();
+      if (syncWritesMaxBatchSize < 1) {
+         throw log.invalidSyncWritesMaxBatchSize(syncWritesMaxBatchSize);
+      }
    }
 
    @Override
@@ -19,6 +19,7 @@
 
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
 import jakarta.transaction.Transaction;
 
 /**
@@ -315,6 +316,55 @@ default CompletionStage<Boolean> containsKey(int segment, Object key) {
             .thenApply(Objects::nonNull);
    }
 
+   /**
+    * Loads the entries of all the keys provided by the Publisher, so that a store can answer many keys with a single
+    * read or round trip instead of a {@link #load(int, Object)} per key. Only the entries that are present in the store
+    * are published, in no specific order.
+    * <p>
+    * The Publisher may publish up to {@code publisherCount} publishers where each publisher is separated by the segment
+    * each key maps to. Failure to request at least {@code publisherCount} publishers from the Publisher may cause a
+    * deadlock.
+    * <h4>Summary of Characteristics Effects</h4>
+    * <table border="1" ><caption>Summary of Characteristics Effects</caption>
+    *    <tr>
+    *       <th>Characteristic</th>
+    *       <th>Effect</th>
+    *    </tr>
+    *    <tr>
+    *       <td>{@link Characteristic#WRITE_ONLY}</td>
+    *       <td>This method will never be invoked.</td>
+    *    </tr>
+    *    <tr>
+    *       <td>{@link Characteristic#EXPIRATION}</td>
+    *       <td>When set the returned publisher must not publish expired entries.</td>
+    *    </tr>
+    *    <tr>
+    *       <td>{@link Characteristic#SEGMENTABLE}</td>
+    *       <td>If not set or segmentation is disabled in the
+    *       {@link StoreConfiguration#segmented() configuration},
+    *       the {@code publisherCount} parameter has a value of 1,
+    *       which means there is only be one {@code SegmentedPublisher} to subscribe to.</td>
+    *    </tr>
+    * </table>
+    * <p>
+    * If a problem is encountered, it is recommended to wrap any created/caught Throwable in a
+    * {@link PersistenceException} and the publisher be completed exceptionally.
+    * <p>
+    * The default implementation invokes {@link #load(int, Object)} for each of the keys concurrently.
+    * @param publisherCount the maximum number of {@code SegmentPublisher}s the publisher will publish
+    * @param keyPublisher publishes the keys to load
+    * @return a publisher of the entries that were found
+    * @since 16.0
+    */
+   default Publisher<MarshallableEntry<K, V>> batchLoad(int publisherCount,
+         Publisher<SegmentedPublisher<Object>> keyPublisher) {
+      return Flowable.fromPublisher(keyPublisher)
+            .flatMap(sp ->
+                  Flowable.fromPublisher(sp)
+                        .flatMapMaybe(key -> Maybe.fromCompletionStage(load(sp.getSegment(), key)))
+                  , publisherCount);
+   }
+
    /**
     * Writes the entry to the store for the given segment returning a stage that completes normally when it is finished.
     * <h4>Summary of Characteristics Effects</h4>
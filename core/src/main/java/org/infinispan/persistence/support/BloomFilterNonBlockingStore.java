@@ -0,0 +1,235 @@
+package org.infinispan.persistence.support;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+import jakarta.transaction.Transaction;
+
+import org.infinispan.commons.util.BloomFilter;
+import org.infinispan.commons.util.IntSet;
+import org.infinispan.commons.util.IntSets;
+import org.infinispan.commons.util.concurrent.CompletableFutures;
+import org.infinispan.distribution.ch.KeyPartitioner;
+import org.infinispan.persistence.spi.InitializationContext;
+import org.infinispan.persistence.spi.MarshallableEntry;
+import org.infinispan.persistence.spi.NonBlockingStore;
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
+import org.reactivestreams.Publisher;
+
+import io.reactivex.rxjava3.core.Flowable;
+
+/**
+ * Store that keeps a Bloom filter per segment of the keys written to the store it wraps, so that loads of keys that
+ * were never written can be answered without invoking the actual store.
+ * <p>
+ * Keys are added to the filter before they are written, and the filters are filled from the keys already in the store
+ * when it starts and when segments are added. A filter is only consulted once it has been filled, until then every load
+ * is sent to the actual store. Removals and clears don't unset any bit, as a write concurrent with them could still
+ * reach the store, they only make false positives more likely until the store is restarted.
+ * <p>
+ * The filters only know about the keys written through this node, so they must not be used with a store that can be
+ * modified by other nodes or applications.
+ * @since 16.0
+ */
+public class BloomFilterNonBlockingStore<K, V> extends DelegatingNonBlockingStore<K, V> {
+   private static final Log log = LogFactory.getLog(MethodHandles.lookup().lookupClass());
+   private static final List<ToIntFunction<Object>> HASH_FUNCTIONS = List.of(hashFunction(239), hashFunction(1847),
+         hashFunction(2719));
+
+   private final NonBlockingStore<K, V> actual;
+   private final int bitsPerSegment;
+   private final LongAdder skippedLoads = new LongAdder();
+
+   private boolean segmented;
+   private int numSegments;
+   private KeyPartitioner keyPartitioner;
+   // A null element means the filter of the segment is not known, so any key may be present
+   private volatile AtomicReferenceArray<SegmentFilter> filters;
+
+   public BloomFilterNonBlockingStore(NonBlockingStore<K, V> actual, int bitsPerSegment) {
+      this.actual = actual;
+      this.bitsPerSegment = bitsPerSegment;
+   }
+
+   @Override
+   public NonBlockingStore<K, V> delegate() {
+      return actual;
+   }
+
+   @Override
+   public CompletionStage<Void> start(InitializationContext ctx) {
+      segmented = ctx.getConfiguration().segmented();
+      numSegments = ctx.getCache().getCacheConfiguration().clustering().hash().numSegments();
+      keyPartitioner = ctx.getKeyPartitioner();
+      filters = new AtomicReferenceArray<>(segmented ? numSegments : 1);
+      IntSet allSegments = IntSets.immutableRangeSet(numSegments);
+      SegmentFilter[] installed = installFilters(allSegments);
+      return actual.start(ctx).thenRun(() -> fill(allSegments, installed));
+   }
+
+   @Override
+   public CompletionStage<MarshallableEntry<K, V>> load(int segment, Object key) {
+      if (!possiblyPresent(segment, key)) {
+         skippedLoads.increment();
+         return CompletableFutures.completedNull();
+      }
+      return actual.load(segment, key);
+   }
+
+   @Override
+   public CompletionStage<Boolean> containsKey(int segment, Object key) {
+      if (!possiblyPresent(segment, key)) {
+         skippedLoads.increment();
+         return CompletableFutures.completedFalse();
+      }
+      return actual.containsKey(segment, key);
+   }
+
+   @Override
+   public Publisher<MarshallableEntry<K, V>> batchLoad(int publisherCount,
+         Publisher<SegmentedPublisher<Object>> keyPublisher) {
+      return actual.batchLoad(publisherCount, Flowable.fromPublisher(keyPublisher)
+            .map(sp -> SingleSegmentPublisher.singleSegment(sp.getSegment(), Flowable.fromPublisher(sp)
+                  .filter(key -> {
+                     if (possiblyPresent(sp.getSegment(), key)) {
+                        return true;
+                     }
+                     skippedLoads.increment();
+                     return false;
+                  }))));
+   }
+
+   @Override
+   public CompletionStage<Void> write(int segment, MarshallableEntry<? extends K, ? extends V> entry) {
+      addKey(segment, entry.getKey());
+      return actual.write(segment, entry);
+   }
+
+   @Override
+   public CompletionStage<Void> batch(int publisherCount, Publisher<SegmentedPublisher<Object>> removePublisher,
+         Publisher<SegmentedPublisher<MarshallableEntry<K, V>>> writePublisher) {
+      return actual.batch(publisherCount, removePublisher, addKeys(writePublisher));
+   }
+
+   @Override
+   public CompletionStage<Void> prepareWithModifications(Transaction transaction, int publisherCount,
+         Publisher<SegmentedPublisher<Object>> removePublisher,
+         Publisher<SegmentedPublisher<MarshallableEntry<K, V>>> writePublisher) {
+      return actual.prepareWithModifications(transaction, publisherCount, removePublisher, addKeys(writePublisher));
+   }
+
+   @Override
+   public CompletionStage<Void> addSegments(IntSet segments) {
+      if (!segmented) {
+         return actual.addSegments(segments);
+      }
+      // The filters must be in place before state transfer writes to the new segments
+      SegmentFilter[] installed = installFilters(segments);
+      return actual.addSegments(segments).thenRun(() -> fill(segments, installed));
+   }
+
+   @Override
+   public CompletionStage<Void> removeSegments(IntSet segments) {
+      if (segmented) {
+         AtomicReferenceArray<SegmentFilter> filters = this.filters;
+         segments.forEach((int segment) -> filters.set(segment, null));
+      }
+      return actual.removeSegments(segments);
+   }
+
+   /**
+    * @return how many loads were answered by the Bloom filters without invoking the actual store
+    */
+   public long getSkippedLoads() {
+      return skippedLoads.sum();
+   }
+
+   private boolean possiblyPresent(int segment, Object key) {
+      SegmentFilter segmentFilter = filters.get(filterIndex(segment));
+      return segmentFilter == null || !segmentFilter.ready || segmentFilter.filter.possiblyPresent(key);
+   }
+
+   private void addKey(int segment, Object key) {
+      SegmentFilter segmentFilter = filters.get(filterIndex(segment));
+      if (segmentFilter != null) {
+         segmentFilter.filter.addToFilter(key);
+      }
+   }
+
+   private Publisher<SegmentedPublisher<MarshallableEntry<K, V>>> addKeys(
+         Publisher<SegmentedPublisher<MarshallableEntry<K, V>>> writePublisher) {
+      return Flowable.fromPublisher(writePublisher)
+            .map(sp -> SingleSegmentPublisher.singleSegment(sp.getSegment(), Flowable.fromPublisher(sp)
+                  .doOnNext(entry -> addKey(sp.getSegment(), entry.getKey()))));
+   }
+
+   private int filterIndex(int segment) {
+      return segmented ? segment : 0;
+   }
+
+   /**
+    * Installs new filters for the given segments, which are not consulted until they are filled.
+    */
+   private SegmentFilter[] installFilters(IntSet segments) {
+      AtomicReferenceArray<SegmentFilter> filters = this.filters;
+      if (!segmented) {
+         SegmentFilter segmentFilter = new SegmentFilter(bitsPerSegment);
+         filters.set(0, segmentFilter);
+         return new SegmentFilter[]{segmentFilter};
+      }
+      SegmentFilter[] installed = new SegmentFilter[segments.size()];
+      int i = 0;
+      for (PrimitiveIterator.OfInt iter = segments.iterator(); iter.hasNext(); ) {
+         SegmentFilter segmentFilter = new SegmentFilter(bitsPerSegment);
+         filters.set(iter.nextInt(), segmentFilter);
+         installed[i++] = segmentFilter;
+      }
+      return installed;
+   }
+
+   /**
+    * Adds all the keys in the store to the filters, and marks the installed filters as ready once done. If the store
+    * cannot be read the filters are never marked ready, so all loads are still sent to the store.
+    */
+   private void fill(IntSet segments, SegmentFilter[] installed) {
+      Flowable.fromPublisher(actual.publishKeys(segments, null))
+            .subscribe(key -> addKey(keyPartitioner.getSegment(key), key),
+                  t -> log.debugf(t, "Unable to fill the Bloom filters of segments %s, all loads are sent to the store",
+                        segments),
+                  () -> {
+                     for (SegmentFilter segmentFilter : installed) {
+                        segmentFilter.ready = true;
+                     }
+                     if (log.isTraceEnabled()) log.tracef("Filled the Bloom filters of segments %s", segments);
+                  });
+   }
+
+   private static ToIntFunction<Object> hashFunction(int seed) {
+      return key -> {
+         // Spread the hash code with the finalizer of MurmurHash3, so every seed sets different bits
+         int h = key.hashCode() * seed;
+         h ^= h >>> 16;
+         h *= 0x85ebca6b;
+         h ^= h >>> 13;
+         h *= 0xc2b2ae35;
+         h ^= h >>> 16;
+         // BloomFilter uses the absolute value, which is negative for Integer.MIN_VALUE
+         return h & Integer.MAX_VALUE;
+      };
+   }
+
+   private static class SegmentFilter {
+      private final BloomFilter<Object> filter;
+      private volatile boolean ready;
+
+      private SegmentFilter(int bits) {
+         this.filter = BloomFilter.createConcurrentFilter(bits, HASH_FUNCTIONS);
+      }
+   }
+}
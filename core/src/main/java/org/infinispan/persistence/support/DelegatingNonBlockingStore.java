@@ -45,6 +45,12 @@ public CompletionStage<Boolean> containsKey(int segment, Object key) {
       return delegate().containsKey(segment, key);
    }
 
+   @Override
+   public Publisher<MarshallableEntry<K, V>> batchLoad(int publisherCount,
+         Publisher<NonBlockingStore.SegmentedPublisher<Object>> keyPublisher) {
+      return delegate().batchLoad(publisherCount, keyPublisher);
+   }
+
    @Override
    public CompletionStage<Void> write(int segment, MarshallableEntry<? extends K, ? extends V> entry) {
       return delegate().write(segment, entry);
@@ -2415,4 +2415,13 @@ CacheConfigurationException storeConfiguredHasBothReadAndWriteOnly(String storeC
    @LogMessage(level = ERROR)
    @Message(value = "Failed to initialize global registry", id = 710)
    void failedToInitializeGlobalRegistry(@Cause Throwable t);
+
+   @Message(value = "The number of bits of a store Bloom filter (%d) must not be negative", id = 711)
+   CacheConfigurationException invalidStoreBloomFilterBits(int bits);
+
+   @Message(value = "A store Bloom filter cannot be used with a shared store, as it only knows the keys written by this node", id = 712)
+   CacheConfigurationException bloomFilterWithSharedStore();
+
+   @Message(value = "The flush concurrency of a write-behind store (%d) must be greater than 0", id = 713)
+   CacheConfigurationException invalidAsyncStoreFlushConcurrency(int flushConcurrency);
 }
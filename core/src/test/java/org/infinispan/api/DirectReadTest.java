@@ -0,0 +1,126 @@
+package org.infinispan.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.infinispan.commands.CommandsFactory;
+import org.infinispan.commands.read.GetKeyValueCommand;
+import org.infinispan.commons.time.ControlledTimeService;
+import org.infinispan.commons.time.TimeService;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.context.InvocationContext;
+import org.infinispan.interceptors.AsyncInterceptorChain;
+import org.infinispan.interceptors.DDAsyncInterceptor;
+import org.infinispan.interceptors.impl.CallInterceptor;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryVisited;
+import org.infinispan.notifications.cachelistener.event.CacheEntryVisitedEvent;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.mockito.AdditionalAnswers;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that reads which skip the interceptors on a local cache still see interceptors, listeners and expiration
+ * added to the cache.
+ */
+@Test(groups = "functional", testName = "api.DirectReadTest")
+public class DirectReadTest extends SingleCacheManagerTest {
+   private final ControlledTimeService timeService = new ControlledTimeService();
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      ConfigurationBuilder builder = TestCacheManagerFactory.getDefaultCacheConfiguration(false);
+      builder.statistics().enabled(false);
+      EmbeddedCacheManager cm = TestCacheManagerFactory.createCacheManager(builder);
+      TestingUtil.replaceComponent(cm, TimeService.class, timeService, true);
+      return cm;
+   }
+
+   public void testReadSkipsInterceptors() {
+      cache.put("k", "v");
+      cache.put("expiring", "v", 10, TimeUnit.SECONDS);
+      CommandsFactory commandsFactory = TestingUtil.extractComponent(cache, CommandsFactory.class);
+      CommandsFactory spy = mock(CommandsFactory.class, AdditionalAnswers.delegatesTo(commandsFactory));
+      TestingUtil.replaceComponent(cache, CommandsFactory.class, spy, true);
+      try {
+         assertEquals("v", cache.get("k"));
+         assertNull(cache.get("missing"));
+         verify(spy, never()).buildGetKeyValueCommand(any(), anyInt(), anyLong());
+         // Entries that can expire still go through the interceptors
+         assertEquals("v", cache.get("expiring"));
+         verify(spy).buildGetKeyValueCommand(eq("expiring"), anyInt(), anyLong());
+      } finally {
+         TestingUtil.replaceComponent(cache, CommandsFactory.class, commandsFactory, true);
+      }
+   }
+
+   public void testInterceptorAddedAfterStartSeesReads() {
+      cache.put("k", "v");
+      AsyncInterceptorChain chain = TestingUtil.extractInterceptorChain(cache);
+      CountingInterceptor interceptor = new CountingInterceptor();
+      chain.addInterceptorBefore(interceptor, CallInterceptor.class);
+      try {
+         assertEquals("v", cache.get("k"));
+         assertNull(cache.get("missing"));
+         assertEquals(2, interceptor.reads.get());
+      } finally {
+         chain.removeInterceptor(CountingInterceptor.class);
+      }
+      assertEquals("v", cache.get("k"));
+      assertEquals(2, interceptor.reads.get());
+   }
+
+   public void testVisitedListenerNotified() {
+      cache.put("k", "v");
+      VisitedListener listener = new VisitedListener();
+      cache.addListener(listener);
+      try {
+         assertEquals("v", cache.get("k"));
+         // One event before and one after the read
+         assertEquals(2, listener.visits.get());
+      } finally {
+         cache.removeListener(listener);
+      }
+   }
+
+   public void testExpiredEntryNotReturned() {
+      cache.put("k", "v", 10, TimeUnit.SECONDS);
+      assertEquals("v", cache.get("k"));
+      timeService.advance(TimeUnit.SECONDS.toMillis(11));
+      assertNull(cache.get("k"));
+      assertEquals(0, cache.getAdvancedCache().getDataContainer().sizeIncludingExpired());
+   }
+
+   static class CountingInterceptor extends DDAsyncInterceptor {
+      final AtomicInteger reads = new AtomicInteger();
+
+      @Override
+      public Object visitGetKeyValueCommand(InvocationContext ctx, GetKeyValueCommand command) throws Throwable {
+         reads.incrementAndGet();
+         return super.visitGetKeyValueCommand(ctx, command);
+      }
+   }
+
+   @Listener
+   public static class VisitedListener {
+      final AtomicInteger visits = new AtomicInteger();
+
+      @CacheEntryVisited
+      public void visited(CacheEntryVisitedEvent<?, ?> event) {
+         visits.incrementAndGet();
+      }
+   }
+}
@@ -0,0 +1,154 @@
+package org.infinispan.api;
+
+import static org.infinispan.commons.test.Exceptions.expectException;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotSame;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.commons.CacheException;
+import org.infinispan.commands.write.RemoveCommand;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.context.InvocationContext;
+import org.infinispan.interceptors.DDAsyncInterceptor;
+import org.infinispan.interceptors.impl.CallInterceptor;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryCreated;
+import org.infinispan.notifications.cachelistener.event.CacheEntryCreatedEvent;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestException;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that a local cache with {@code recycle-invocations} reuses the contexts and commands of its writes only once
+ * they complete, and that references kept after that are detected.
+ */
+@Test(groups = "functional", testName = "api.RecycledInvocationTest")
+public class RecycledInvocationTest extends SingleCacheManagerTest {
+   private final CapturingInterceptor interceptor = new CapturingInterceptor();
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      ConfigurationBuilder builder = TestCacheManagerFactory.getDefaultCacheConfiguration(false);
+      builder.recycleInvocations(true);
+      EmbeddedCacheManager cm = TestCacheManagerFactory.createCacheManager(builder);
+      TestingUtil.extractInterceptorChain(cm.getCache()).addInterceptorBefore(interceptor, CallInterceptor.class);
+      return cm;
+   }
+
+   @AfterMethod
+   public void clearCaptured() {
+      interceptor.failingKey = null;
+      interceptor.contexts.clear();
+      interceptor.commands.clear();
+   }
+
+   public void testWritesReuseContextAndCommands() {
+      assertNull(cache.put("k1", "v1"));
+      assertEquals("v1", cache.put("k1", "v2"));
+      assertNull(cache.put("k2", "v3"));
+      assertEquals("v2", cache.remove("k1"));
+      assertNull(cache.remove("k1"));
+      assertEquals("v3", cache.remove("k2"));
+      assertEquals(0, cache.size());
+
+      List<InvocationContext> contexts = interceptor.contexts;
+      List<Object> commands = interceptor.commands;
+      assertEquals(6, contexts.size());
+      for (InvocationContext context : contexts) {
+         assertSame(contexts.get(0), context);
+      }
+      assertSame(commands.get(0), commands.get(1));
+      assertSame(commands.get(0), commands.get(2));
+      assertSame(commands.get(3), commands.get(4));
+      assertSame(commands.get(3), commands.get(5));
+   }
+
+   public void testWriteFromListenerDoesNotReuseObjectsInUse() {
+      WritingListener listener = new WritingListener();
+      cache.addListener(listener);
+      try {
+         cache.put("k", "v");
+      } finally {
+         cache.removeListener(listener);
+      }
+      assertEquals("v", cache.get("k"));
+      assertEquals("nested", cache.get("nested"));
+
+      assertEquals(2, interceptor.commands.size());
+      assertNotSame(interceptor.contexts.get(0), interceptor.contexts.get(1));
+      assertNotSame(interceptor.commands.get(0), interceptor.commands.get(1));
+   }
+
+   public void testReferenceKeptAfterInvocationDetected() {
+      cache.put("k", "v");
+      InvocationContext context = interceptor.contexts.get(0);
+      PutKeyValueCommand command = (PutKeyValueCommand) interceptor.commands.get(0);
+      // Only checked when assertions are enabled, like in the test suite
+      expectException(IllegalStateException.class, () -> context.lookupEntry("k"));
+      expectException(IllegalStateException.class, () -> command.getKey().hashCode());
+   }
+
+   public void testFailedWriteDoesNotReuseObjects() {
+      interceptor.failingKey = "failing";
+      expectException(CacheException.class, TestException.class, () -> cache.put("failing", "v"));
+      expectException(CacheException.class, TestException.class, () -> cache.remove("failing"));
+      cache.put("k", "v");
+      cache.put("k", "v2");
+
+      // The failed invocations may still be running, so the next writes must not get their objects
+      List<InvocationContext> contexts = interceptor.contexts;
+      List<Object> commands = interceptor.commands;
+      assertEquals(4, contexts.size());
+      assertNotSame(contexts.get(0), contexts.get(1));
+      assertNotSame(contexts.get(1), contexts.get(2));
+      assertNotSame(contexts.get(0), contexts.get(2));
+      assertNotSame(commands.get(0), commands.get(2));
+      assertSame(contexts.get(2), contexts.get(3));
+      assertSame(commands.get(2), commands.get(3));
+   }
+
+   static class CapturingInterceptor extends DDAsyncInterceptor {
+      final List<InvocationContext> contexts = new ArrayList<>();
+      final List<Object> commands = new ArrayList<>();
+      volatile Object failingKey;
+
+      @Override
+      public Object visitPutKeyValueCommand(InvocationContext ctx, PutKeyValueCommand command) throws Throwable {
+         contexts.add(ctx);
+         commands.add(command);
+         if (command.getKey().equals(failingKey)) {
+            throw new TestException();
+         }
+         return super.visitPutKeyValueCommand(ctx, command);
+      }
+
+      @Override
+      public Object visitRemoveCommand(InvocationContext ctx, RemoveCommand command) throws Throwable {
+         contexts.add(ctx);
+         commands.add(command);
+         if (command.getKey().equals(failingKey)) {
+            throw new TestException();
+         }
+         return super.visitRemoveCommand(ctx, command);
+      }
+   }
+
+   @Listener
+   public class WritingListener {
+      @CacheEntryCreated
+      public void created(CacheEntryCreatedEvent<Object, Object> event) {
+         if (!event.isPre() && event.getKey().equals("k")) {
+            cache.put("nested", "nested");
+         }
+      }
+   }
+}
@@ -0,0 +1,93 @@
+package org.infinispan.cache.impl.profiling;
+
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures {@code Cache.get} on a local cache, where hits and misses are read directly from the data container
+ * without statistics and go through the interceptors with statistics.
+ * <p>
+ * The {@code gc.alloc.rate.norm} metric of the GC profiler shows the bytes allocated per read, which should be 0
+ * without statistics.
+ */
+public class LocalReadBenchmark {
+
+   private static final int MEASUREMENT_ITERATIONS_COUNT = 10;
+   private static final int WARMUP_ITERATIONS_COUNT = 10;
+   private static final int KEYS = 1024;
+
+   public static void main(String[] args) throws Exception {
+      Options opt = new OptionsBuilder()
+            .include(LocalReadBenchmark.class.getName() + ".*")
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .warmupIterations(WARMUP_ITERATIONS_COUNT)
+            .measurementIterations(MEASUREMENT_ITERATIONS_COUNT)
+            .threads(Runtime.getRuntime().availableProcessors())
+            .addProfiler(GCProfiler.class)
+            .forks(3)
+            .shouldFailOnError(true)
+            .build();
+
+      new Runner(opt).run();
+   }
+
+   @org.openjdk.jmh.annotations.State(Scope.Benchmark)
+   public static class CacheState {
+      @Param({"false", "true"})
+      boolean statistics;
+
+      EmbeddedCacheManager cacheManager;
+      Cache<String, String> cache;
+      String[] keys;
+
+      @Setup(Level.Trial)
+      public void setup() {
+         cacheManager = new DefaultCacheManager();
+         ConfigurationBuilder builder = new ConfigurationBuilder();
+         builder.statistics().enabled(statistics);
+         cacheManager.defineConfiguration("local", builder.build());
+         cache = cacheManager.getCache("local");
+         // Only the even keys are written, so half the reads are misses
+         keys = new String[KEYS];
+         for (int i = 0; i < KEYS; ++i) {
+            keys[i] = "key" + i;
+            if (i % 2 == 0) {
+               cache.put(keys[i], "value" + i);
+            }
+         }
+      }
+
+      @TearDown(Level.Trial)
+      public void tearDown() {
+         cacheManager.stop();
+      }
+   }
+
+   @org.openjdk.jmh.annotations.State(Scope.Thread)
+   public static class Position {
+      int next;
+   }
+
+   @Benchmark
+   public String get(CacheState state, Position position) {
+      int next = position.next;
+      position.next = (next + 1) & (KEYS - 1);
+      return state.cache.get(state.keys[next]);
+   }
+}
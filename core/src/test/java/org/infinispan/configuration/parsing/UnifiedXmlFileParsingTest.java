@@ -40,6 +40,8 @@
 import org.infinispan.configuration.cache.IndexingMode;
 import org.infinispan.configuration.cache.IsolationLevel;
 import org.infinispan.configuration.cache.MemoryConfiguration;
+import org.infinispan.configuration.cache.OffHeapAllocatorType;
+import org.infinispan.configuration.cache.OffHeapEvictionPolicy;
 import org.infinispan.configuration.cache.PartitionHandlingConfiguration;
 import org.infinispan.configuration.cache.PersistenceConfiguration;
 import org.infinispan.configuration.cache.QueryConfiguration;
@@ -121,6 +123,25 @@ public void testParseAndConstructUnifiedXmlFile(Path config) throws IOException
    }
 
    public enum ParserVersionCheck {
+      INFINISPAN_160(16, 0) {
+         @Override
+         public void check(ConfigurationBuilderHolder holder, int schemaMajor, int schemaMinor) {
+            MemoryConfiguration mc = getConfiguration(holder, "off_heap_pooled").memory();
+            assertEquals(StorageType.OFF_HEAP, mc.storage());
+            assertEquals(OffHeapAllocatorType.POOLED, mc.allocator());
+            mc = getConfiguration(holder, "off_heap_tiny_lfu").memory();
+            assertEquals(OffHeapEvictionPolicy.TINY_LFU, mc.evictionPolicy());
+            SoftIndexFileStoreConfiguration fileStore = (SoftIndexFileStoreConfiguration) getConfiguration(holder, "local").persistence().stores().get(0);
+            assertEquals(4, fileStore.compactionThreads());
+            assertEquals(1048576, fileStore.compactionRateLimit());
+            assertTrue(fileStore.syncWrites());
+            assertEquals(5, fileStore.syncWritesMaxDelay());
+            assertEquals(65536, fileStore.syncWritesMaxBatchSize());
+            assertEquals(65536, fileStore.bloomFilterBits());
+            assertEquals(4, fileStore.async().flushConcurrency());
+            assertTrue(getConfiguration(holder, "pojo-cache").recycleInvocations());
+         }
+      },
       INFINISPAN_151(15, 1) {
          @Override
          public void check(ConfigurationBuilderHolder holder, int schemaMajor, int schemaMinor) {
@@ -0,0 +1,24 @@
+package org.infinispan.container.offheap;
+
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.IsolationLevel;
+import org.infinispan.configuration.cache.StorageType;
+import org.testng.annotations.Test;
+
+/**
+ * Runs the bounded off-heap tests with lock free reads, which must still update the LRU order.
+ */
+@Test(groups = "functional", testName = "container.offheap.LockFreeReadOffHeapBoundedSingleNodeTest")
+public class LockFreeReadOffHeapBoundedSingleNodeTest extends OffHeapBoundedSingleNodeTest {
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder dcc = getDefaultClusteredCacheConfig(CacheMode.LOCAL, false);
+      dcc.memory().storage(StorageType.OFF_HEAP).maxCount(51).lockFreeReads(true);
+      dcc.locking().isolationLevel(IsolationLevel.READ_COMMITTED);
+      addClusterEnabledCacheManager(dcc);
+
+      configureTimeService();
+   }
+}
@@ -0,0 +1,24 @@
+package org.infinispan.container.offheap;
+
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.StorageType;
+import org.testng.annotations.Test;
+
+/**
+ * Runs the segmented off-heap tests with lock free reads.
+ */
+@Test(groups = "functional", testName = "container.offheap.LockFreeReadOffHeapMultiNodeTest")
+public class LockFreeReadOffHeapMultiNodeTest extends OffHeapMultiNodeTest {
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder dcc = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      dcc.memory().storage(StorageType.OFF_HEAP).lockFreeReads(true);
+      dcc.clustering().stateTransfer().timeout(30, TimeUnit.SECONDS);
+      createCluster(dcc, 4);
+      waitForClusterToForm();
+   }
+}
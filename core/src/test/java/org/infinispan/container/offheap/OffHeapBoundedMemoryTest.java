@@ -2,6 +2,7 @@
 
 import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
 
 import java.util.concurrent.TimeUnit;
 
@@ -9,6 +10,7 @@
 import org.infinispan.Cache;
 import org.infinispan.commons.util.ByteQuantity;
 import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.OffHeapEvictionPolicy;
 import org.infinispan.configuration.cache.StorageType;
 import org.infinispan.container.DataContainer;
 import org.infinispan.container.versioning.NumericVersion;
@@ -140,4 +142,30 @@ public void testAllocatedAmountEqualWithVersionAndExpiration() {
 
       assertEquals(allocator.getAllocatedAmount(), container.currentSize);
    }
+
+   public void testAllocatedAmountEqualWithTinyLfu() {
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      builder.memory()
+            .maxSize("1MB")
+            .evictionPolicy(OffHeapEvictionPolicy.TINY_LFU)
+            .storage(StorageType.OFF_HEAP);
+      EmbeddedCacheManager manager = TestCacheManagerFactory.createCacheManager(builder);
+      AdvancedCache<Object, Object> cache = manager.getCache().getAdvancedCache();
+
+      OffHeapMemoryAllocator allocator =  ComponentRegistry.componentOf(cache, OffHeapMemoryAllocator.class);
+      BoundedOffHeapDataContainer container = (BoundedOffHeapDataContainer) getContainer(cache);
+      // The frequency sketch counts against the limit
+      assertEquals(allocator.getAllocatedAmount(), container.currentSize);
+
+      for (int i = 0; i < 20_000; ++i) {
+         cache.put(i, "value" + i);
+      }
+
+      assertEquals(allocator.getAllocatedAmount(), container.currentSize);
+      assertTrue(container.currentSize <= container.capacity());
+
+      cache.clear();
+
+      assertEquals(allocator.getAllocatedAmount(), container.currentSize);
+   }
 }
@@ -0,0 +1,139 @@
+package org.infinispan.container.offheap;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.infinispan.commons.marshall.WrappedByteArray;
+import org.infinispan.commons.marshall.WrappedBytes;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.container.entries.ImmortalCacheEntry;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.container.impl.InternalEntryFactoryImpl;
+import org.infinispan.test.AbstractInfinispanTest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the {@link OffHeapConcurrentMap} when reads are performed without locks through an {@link EpochReclaimer}.
+ */
+@Test(groups = "functional", testName = "container.offheap.OffHeapConcurrentMapLockFreeReadTest")
+public class OffHeapConcurrentMapLockFreeReadTest extends AbstractInfinispanTest {
+   private static final int KEY_COUNT = 64;
+
+   private OffHeapMemoryAllocator allocator;
+   private OffHeapConcurrentMap map;
+
+   @BeforeMethod
+   void initializeMap() {
+      allocator = new UnpooledOffHeapMemoryAllocator();
+      OffHeapEntryFactoryImpl offHeapEntryFactory = new OffHeapEntryFactoryImpl();
+      offHeapEntryFactory.allocator = allocator;
+      offHeapEntryFactory.internalEntryFactory = new InternalEntryFactoryImpl();
+      offHeapEntryFactory.configuration = new ConfigurationBuilder().build();
+      offHeapEntryFactory.start();
+
+      map = new OffHeapConcurrentMap(allocator, offHeapEntryFactory, null, new EpochReclaimer(allocator));
+   }
+
+   @AfterMethod(alwaysRun = true)
+   void afterMethod() {
+      if (map != null) {
+         map.close();
+         assertEquals(0, allocator.getAllocatedAmount());
+      }
+   }
+
+   public void testReadAfterWrites() {
+      WrappedBytes key = key(1);
+      assertNull(map.get(key));
+      WrappedBytes value = value(1);
+      map.put(key, new ImmortalCacheEntry(key, value));
+      assertEquals(value, map.get(key).getValue());
+      value = value(2);
+      map.put(key, new ImmortalCacheEntry(key, value));
+      assertEquals(value, map.peek(key).getValue());
+      map.remove(key);
+      assertNull(map.get(key));
+   }
+
+   public void testClearReleasesRetiredMemory() {
+      long initial = allocator.getAllocatedAmount();
+      for (int i = 0; i < KEY_COUNT; ++i) {
+         WrappedBytes key = key(i);
+         map.put(key, new ImmortalCacheEntry(key, value(i)));
+         // Replacing retires the previous entry
+         map.put(key, new ImmortalCacheEntry(key, value(i + 1)));
+      }
+      map.clear();
+      assertEquals(initial, allocator.getAllocatedAmount());
+   }
+
+   public void testConcurrentReadsWithWritesAndResizes() throws Exception {
+      AtomicBoolean stop = new AtomicBoolean();
+      List<Future<Void>> readers = new ArrayList<>();
+      for (int i = 0; i < 3; ++i) {
+         readers.add(fork(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (!stop.get()) {
+               int i1 = random.nextInt(KEY_COUNT);
+               InternalCacheEntry<WrappedBytes, WrappedBytes> ice = map.get(key(i1));
+               if (ice != null) {
+                  // Values always start with the key's id, no matter how many times they were replaced
+                  assertEquals(key(i1), ice.getKey());
+                  assertEquals((byte) i1, ice.getValue().getByte(0));
+               }
+            }
+         }));
+      }
+      Future<Void> writer = fork(() -> {
+         ThreadLocalRandom random = ThreadLocalRandom.current();
+         for (int iteration = 0; iteration < 20; ++iteration) {
+            for (int j = 0; j < 5_000; ++j) {
+               int i = random.nextInt(KEY_COUNT);
+               WrappedBytes key = key(i);
+               if (random.nextInt(4) == 0) {
+                  map.remove(key);
+               } else {
+                  map.put(key, new ImmortalCacheEntry(key, value(i)));
+               }
+            }
+            // Forces the lookup to be resized and replaced while readers are running
+            for (int j = 0; j < OffHeapConcurrentMap.INITIAL_SIZE; ++j) {
+               WrappedBytes key = new WrappedByteArray(new byte[] { 1, 2, (byte) j, (byte) (j >> 8), (byte) iteration });
+               map.put(key, new ImmortalCacheEntry(key, value(0)));
+            }
+            map.clear();
+         }
+      });
+      writer.get(30, TimeUnit.SECONDS);
+      stop.set(true);
+      for (Future<Void> reader : readers) {
+         reader.get(10, TimeUnit.SECONDS);
+      }
+      for (int i = 0; i < KEY_COUNT; ++i) {
+         WrappedBytes key = key(i);
+         map.put(key, new ImmortalCacheEntry(key, value(i)));
+         assertNotNull(map.get(key));
+      }
+   }
+
+   private static WrappedBytes key(int i) {
+      return new WrappedByteArray(new byte[] { (byte) i, 0, 0, 0 });
+   }
+
+   private static WrappedBytes value(int i) {
+      byte[] bytes = new byte[32];
+      bytes[0] = (byte) (i % KEY_COUNT);
+      bytes[1] = (byte) ThreadLocalRandom.current().nextInt();
+      return new WrappedByteArray(bytes);
+   }
+}
@@ -0,0 +1,71 @@
+package org.infinispan.container.offheap;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * @since 16.0
+ */
+@Test(groups = "functional", testName = "container.offheap.OffHeapFrequencySketchTest")
+public class OffHeapFrequencySketchTest {
+   private OffHeapMemoryAllocator allocator;
+   private OffHeapFrequencySketch sketch;
+
+   @BeforeMethod
+   void createSketch() {
+      allocator = new UnpooledOffHeapMemoryAllocator();
+      sketch = new OffHeapFrequencySketch(allocator, 512);
+   }
+
+   @AfterMethod(alwaysRun = true)
+   void releaseSketch() {
+      sketch.release();
+      assertEquals(0, allocator.getAllocatedAmount());
+   }
+
+   public void testTableIsSizedToExpectedEntries() {
+      assertEquals(512 * 8, sketch.memoryUsed());
+      assertEquals(UnpooledOffHeapMemoryAllocator.estimateSizeOverhead(512 * 8), allocator.getAllocatedAmount());
+   }
+
+   public void testIncrement() {
+      assertEquals(0, sketch.frequency(42));
+      sketch.increment(42);
+      assertEquals(1, sketch.frequency(42));
+      sketch.increment(42);
+      assertEquals(2, sketch.frequency(42));
+   }
+
+   public void testFrequencyIsCapped() {
+      for (int i = 0; i < 20; ++i) {
+         sketch.increment(7);
+      }
+      assertEquals(15, sketch.frequency(7));
+   }
+
+   public void testPopularIsDistinguished() {
+      for (int i = 0; i < 100; ++i) {
+         sketch.increment(i);
+      }
+      for (int i = 0; i < 10; ++i) {
+         sketch.increment(-1);
+      }
+      assertTrue(sketch.frequency(-1) > sketch.frequency(3));
+   }
+
+   public void testCountersAreHalvedAfterSample() {
+      for (int i = 0; i < 8; ++i) {
+         sketch.increment(1234);
+      }
+      int frequency = sketch.frequency(1234);
+      // The sample size is 10 times the table length
+      for (int i = 0; i < 10 * 512; ++i) {
+         sketch.increment(i + 1_000_000);
+      }
+      assertTrue("Frequency was " + sketch.frequency(1234), sketch.frequency(1234) <= frequency / 2);
+   }
+}
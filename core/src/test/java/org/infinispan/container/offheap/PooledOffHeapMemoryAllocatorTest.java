@@ -0,0 +1,153 @@
+package org.infinispan.container.offheap;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Future;
+
+import org.infinispan.commons.spi.OffHeapMemory;
+import org.infinispan.test.AbstractInfinispanTest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @since 16.0
+ */
+@Test(groups = "functional", testName = "container.offheap.PooledOffHeapMemoryAllocatorTest")
+public class PooledOffHeapMemoryAllocatorTest extends AbstractInfinispanTest {
+   private static final OffHeapMemory MEMORY = org.infinispan.commons.jdkspecific.OffHeapMemory.getInstance();
+
+   private PooledOffHeapMemoryAllocator allocator;
+
+   @BeforeMethod
+   void createAllocator() {
+      allocator = new PooledOffHeapMemoryAllocator(4, 64 * 1024);
+   }
+
+   @AfterMethod(alwaysRun = true)
+   void stopAllocator() {
+      allocator.stop();
+      assertEquals(0, allocator.getReservedAmount());
+   }
+
+   @DataProvider(name = "slotSizes")
+   Object[][] slotSizes() {
+      return new Object[][] {
+            { 2, 16 },
+            { 14, 32 },
+            { 123, 144 },
+            { 504, 512 },
+            { 505, 640 },
+            { 1000, 1024 },
+            { 8184, 8192 },
+            { 8185, -1 },
+      };
+   }
+
+   @Test(dataProvider = "slotSizes")
+   public void testSlotSizes(long size, int expected) {
+      assertEquals(expected, PooledOffHeapMemoryAllocator.slotSize(size));
+      if (size + PooledOffHeapMemoryAllocator.HEADER_SIZE <= 512) {
+         // Small slots must match what the memory based eviction estimates
+         assertEquals(UnpooledOffHeapMemoryAllocator.estimateSizeOverhead(size), expected);
+      }
+   }
+
+   @Test(dataProvider = "slotSizes")
+   public void testAllocationSizeMatchesAllocatedAmount(long size, int expected) {
+      long address = allocator.allocate(size);
+      try {
+         // Memory based eviction must account exactly for what the allocator hands out
+         assertEquals(allocator.allocationSize(size), allocator.getAllocatedAmount());
+         if (expected > 0) {
+            assertEquals(expected, allocator.allocationSize(size));
+         }
+      } finally {
+         allocator.deallocate(address, size);
+      }
+   }
+
+   public void testFreedSlotIsReused() {
+      long address = allocator.allocate(100);
+      long reserved = allocator.getReservedAmount();
+      assertEquals(PooledOffHeapMemoryAllocator.slotSize(100), allocator.getAllocatedAmount());
+      allocator.deallocate(address, 100);
+      assertEquals(0, allocator.getAllocatedAmount());
+      assertEquals(reserved, allocator.getReservedAmount());
+
+      // Any size in the same class reuses the freed slot
+      assertEquals(address, allocator.allocate(104));
+      allocator.deallocate(address, 104);
+   }
+
+   public void testAllocationsDoNotOverlap() {
+      List<Long> addresses = new ArrayList<>();
+      // Enough allocations to require multiple slabs
+      for (int i = 0; i < 2_000; ++i) {
+         long size = 1 + (i % 300);
+         long address = allocator.allocate(size);
+         MEMORY.setMemory(address, size, (byte) i);
+         addresses.add(address);
+      }
+      assertTrue(allocator.getReservedAmount() > 64 * 1024);
+      for (int i = 0; i < addresses.size(); ++i) {
+         long size = 1 + (i % 300);
+         long address = addresses.get(i);
+         for (int j = 0; j < size; ++j) {
+            assertEquals((byte) i, MEMORY.getByte(address, j));
+         }
+         allocator.deallocate(address, size);
+      }
+      assertEquals(0, allocator.getAllocatedAmount());
+   }
+
+   public void testLargeAllocationsBypassPool() {
+      long address = allocator.allocate(100_000);
+      assertEquals(UnpooledOffHeapMemoryAllocator.estimateSizeOverhead(100_000), allocator.getAllocatedAmount());
+      assertEquals(allocator.getAllocatedAmount(), allocator.getReservedAmount());
+      allocator.deallocate(address, 100_000);
+      assertEquals(0, allocator.getAllocatedAmount());
+   }
+
+   public void testFreeFromOtherThreadReturnsToOwningArena() throws Exception {
+      long address = allocator.allocate(64);
+      Future<Void> future = fork(() -> allocator.deallocate(address, 64));
+      future.get();
+      assertEquals(0, allocator.getAllocatedAmount());
+      // The slot went back to the arena of this thread, so it is handed out again
+      assertEquals(address, allocator.allocate(64));
+      allocator.deallocate(address, 64);
+   }
+
+   public void testConcurrentAllocations() throws Exception {
+      int threads = 4;
+      List<Future<Set<Long>>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; ++t) {
+         futures.add(fork(() -> {
+            Set<Long> addresses = new HashSet<>();
+            for (int i = 0; i < 1_000; ++i) {
+               assertTrue(addresses.add(allocator.allocate(48)));
+            }
+            return addresses;
+         }));
+      }
+      Set<Long> all = new HashSet<>();
+      for (Future<Set<Long>> future : futures) {
+         for (long address : future.get()) {
+            assertTrue(all.add(address));
+         }
+      }
+      for (long address : all) {
+         allocator.deallocate(address, 48);
+      }
+      assertEquals(0, allocator.getAllocatedAmount());
+      assertFalse(all.isEmpty());
+   }
+}
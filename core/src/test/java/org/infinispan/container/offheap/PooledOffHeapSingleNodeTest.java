@@ -0,0 +1,39 @@
+package org.infinispan.container.offheap;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.OffHeapAllocatorType;
+import org.infinispan.configuration.cache.StorageType;
+import org.infinispan.test.TestingUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Runs the off-heap single node tests using the {@link PooledOffHeapMemoryAllocator}.
+ */
+@Test(groups = "functional", testName = "container.offheap.PooledOffHeapSingleNodeTest")
+public class PooledOffHeapSingleNodeTest extends OffHeapSingleNodeTest {
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder dcc = getDefaultClusteredCacheConfig(CacheMode.LOCAL, false);
+      dcc.memory().storage(StorageType.OFF_HEAP).allocator(OffHeapAllocatorType.POOLED);
+      addClusterEnabledCacheManager(dcc);
+
+      configureTimeService();
+   }
+
+   public void testPooledAllocatorInstalled() {
+      Cache<String, String> cache = cache(0);
+      OffHeapMemoryAllocator allocator = TestingUtil.extractComponent(cache, OffHeapMemoryAllocator.class);
+      assertTrue(allocator instanceof PooledOffHeapMemoryAllocator);
+
+      cache.put("key", "value");
+      assertTrue(allocator.getReservedAmount() >= allocator.getAllocatedAmount());
+      cache.remove("key");
+      assertEquals("value2", cache.computeIfAbsent("key", k -> "value2"));
+   }
+}
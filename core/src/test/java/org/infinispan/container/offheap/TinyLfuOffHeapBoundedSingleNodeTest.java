@@ -0,0 +1,69 @@
+package org.infinispan.container.offheap;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.IsolationLevel;
+import org.infinispan.configuration.cache.OffHeapEvictionPolicy;
+import org.infinispan.configuration.cache.StorageType;
+import org.testng.annotations.Test;
+
+/**
+ * Runs the bounded off-heap tests with the TinyLFU eviction policy.
+ */
+@Test(groups = "functional", testName = "container.offheap.TinyLfuOffHeapBoundedSingleNodeTest")
+public class TinyLfuOffHeapBoundedSingleNodeTest extends OffHeapBoundedSingleNodeTest {
+   private static final int COUNT = 51;
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder dcc = getDefaultClusteredCacheConfig(CacheMode.LOCAL, false);
+      dcc.memory().storage(StorageType.OFF_HEAP).maxCount(COUNT).evictionPolicy(OffHeapEvictionPolicy.TINY_LFU);
+      dcc.locking().isolationLevel(IsolationLevel.READ_COMMITTED);
+      addClusterEnabledCacheManager(dcc);
+
+      configureTimeService();
+   }
+
+   public void testScanDoesNotEvictFrequentlyUsed() {
+      Cache<String, String> cache = cache(0);
+      int hotCount = COUNT / 2;
+      // Every write to an existing entry counts as an access to it
+      for (int j = 0; j < 5; ++j) {
+         for (int i = 0; i < hotCount; ++i) {
+            cache.put("hot" + i, "value" + i);
+         }
+      }
+
+      // A scan of entries that are only used once, it would flush every hot entry with an LRU policy
+      for (int i = 0; i < COUNT * 10; ++i) {
+         cache.put("scan" + i, "value" + i);
+      }
+
+      assertEquals(COUNT, cache.size());
+      for (int i = 0; i < hotCount; ++i) {
+         assertEquals("value" + i, cache.get("hot" + i));
+      }
+   }
+
+   public void testReplaceKeepsEntryAdmitted() {
+      Cache<String, String> cache = cache(0);
+      for (int i = 0; i < COUNT * 2; ++i) {
+         cache.put("key" + i, "value" + i);
+         cache.put("key" + i, "other" + i);
+      }
+      assertEquals(COUNT, cache.size());
+      int present = 0;
+      for (int i = 0; i < COUNT * 2; ++i) {
+         String value = cache.get("key" + i);
+         if (value != null) {
+            assertEquals("other" + i, value);
+            present++;
+         }
+      }
+      assertTrue(present <= COUNT);
+   }
+}
@@ -0,0 +1,117 @@
+package org.infinispan.container.offheap.profiling;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.container.offheap.OffHeapMemoryAllocator;
+import org.infinispan.container.offheap.PooledOffHeapMemoryAllocator;
+import org.infinispan.container.offheap.UnpooledOffHeapMemoryAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the {@link UnpooledOffHeapMemoryAllocator} against the {@link PooledOffHeapMemoryAllocator} with a
+ * replace-like workload, where every operation frees an entry and allocates a new one of a random size.
+ *
+ * @since 16.0
+ */
+public class OffHeapMemoryAllocatorBenchmark {
+
+   private static final int MEASUREMENT_ITERATIONS_COUNT = 10;
+   private static final int WARMUP_ITERATIONS_COUNT = 10;
+   private static final int LIVE_ENTRIES = 4096;
+
+   public static void main(String[] args) throws Exception {
+      Options opt = new OptionsBuilder()
+            .include(OffHeapMemoryAllocatorBenchmark.class.getName() + ".*")
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .warmupIterations(WARMUP_ITERATIONS_COUNT)
+            .measurementIterations(MEASUREMENT_ITERATIONS_COUNT)
+            .threads(Runtime.getRuntime().availableProcessors())
+            .forks(3)
+            .shouldFailOnError(true)
+            .build();
+
+      new Runner(opt).run();
+   }
+
+   @org.openjdk.jmh.annotations.State(Scope.Benchmark)
+   public static class AllocatorState {
+      @Param({"UNPOOLED", "POOLED"})
+      String allocatorType;
+
+      OffHeapMemoryAllocator allocator;
+
+      @Setup(Level.Trial)
+      public void setup() {
+         allocator = "POOLED".equals(allocatorType) ? new PooledOffHeapMemoryAllocator() :
+               new UnpooledOffHeapMemoryAllocator();
+      }
+
+      @TearDown(Level.Trial)
+      public void tearDown() {
+         if (allocator instanceof PooledOffHeapMemoryAllocator) {
+            ((PooledOffHeapMemoryAllocator) allocator).stop();
+         }
+      }
+   }
+
+   @org.openjdk.jmh.annotations.State(Scope.Thread)
+   public static class Entries {
+      @Param({"64", "256", "1024"})
+      int maxEntrySize;
+
+      long[] addresses;
+      long[] sizes;
+      int position;
+
+      @Setup(Level.Trial)
+      public void setup(AllocatorState state) {
+         addresses = new long[LIVE_ENTRIES];
+         sizes = new long[LIVE_ENTRIES];
+         for (int i = 0; i < LIVE_ENTRIES; ++i) {
+            sizes[i] = nextSize();
+            addresses[i] = state.allocator.allocate(sizes[i]);
+         }
+      }
+
+      @TearDown(Level.Trial)
+      public void tearDown(AllocatorState state) {
+         for (int i = 0; i < LIVE_ENTRIES; ++i) {
+            state.allocator.deallocate(addresses[i], sizes[i]);
+         }
+      }
+
+      long nextSize() {
+         return 16 + ThreadLocalRandom.current().nextInt(maxEntrySize);
+      }
+   }
+
+   @Benchmark
+   @OperationsPerInvocation(100)
+   public long replace(AllocatorState state, Entries entries) {
+      OffHeapMemoryAllocator allocator = state.allocator;
+      long sum = 0;
+      for (int i = 0; i < 100; ++i) {
+         int position = entries.position;
+         entries.position = (position + 1) & (LIVE_ENTRIES - 1);
+         allocator.deallocate(entries.addresses[position], entries.sizes[position]);
+         long size = entries.nextSize();
+         long address = allocator.allocate(size);
+         entries.addresses[position] = address;
+         entries.sizes[position] = size;
+         sum += address;
+      }
+      return sum;
+   }
+}
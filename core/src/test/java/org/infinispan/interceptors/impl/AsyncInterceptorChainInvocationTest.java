@@ -9,6 +9,7 @@
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 
@@ -153,6 +154,46 @@ public Object visitCommand(InvocationContext ctx, VisitableCommand command) thro
       assertEquals("subCommand", returnValue);
    }
 
+   public void testFastPathSkipsInterceptors() {
+      AtomicBoolean handlesFastPath = new AtomicBoolean();
+      AtomicReference<String> visited = new AtomicReference<>("");
+      AsyncInterceptorChain chain = newInterceptorChain(new BaseAsyncInterceptor() {
+         @Override
+         public Object visitCommand(InvocationContext ctx, VisitableCommand command) throws Throwable {
+            visited.set(visited.get() + "1");
+            return invokeNext(ctx, command);
+         }
+      }, new BaseAsyncInterceptor() {
+         @Override
+         public Object visitCommand(InvocationContext ctx, VisitableCommand command) throws Throwable {
+            visited.set(visited.get() + "2");
+            return invokeNext(ctx, command);
+         }
+
+         @Override
+         public boolean handlesCommandType(Class<? extends VisitableCommand> commandType) {
+            return handlesFastPath.get();
+         }
+      }, new BaseAsyncInterceptor() {
+         @Override
+         public Object visitCommand(InvocationContext ctx, VisitableCommand command) throws Throwable {
+            return "v";
+         }
+      });
+      InvocationContext context = newInvocationContext();
+
+      // GetKeyValueCommand has a fast path, LockControlCommand doesn't
+      assertEquals("v", chain.invoke(context, testCommand));
+      assertEquals("1", visited.getAndSet(""));
+      assertEquals("v", chain.invoke(context, testSubCommand));
+      assertEquals("12", visited.getAndSet(""));
+
+      handlesFastPath.set(true);
+      chain.rebuildFastPaths();
+      assertEquals("v", chain.invoke(context, testCommand));
+      assertEquals("12", visited.getAndSet(""));
+   }
+
    public void testInvokeNextAsyncSubCommand() throws Exception {
       CompletableFuture<Object> f = new CompletableFuture<>();
       AsyncInterceptorChain chain = newInterceptorChain(new BaseAsyncInterceptor() {
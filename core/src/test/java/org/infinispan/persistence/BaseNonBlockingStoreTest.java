@@ -11,6 +11,7 @@
 import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
@@ -44,6 +45,7 @@
 import org.infinispan.persistence.spi.PersistenceException;
 import org.infinispan.persistence.support.EnsureNonBlockingStore;
 import org.infinispan.persistence.support.NonBlockingStoreAdapter;
+import org.infinispan.persistence.support.SingleSegmentPublisher;
 import org.infinispan.protostream.ProtobufUtil;
 import org.infinispan.protostream.SerializationContext;
 import org.infinispan.protostream.SerializationContextInitializer;
@@ -576,6 +578,28 @@ public void testLoadAll() throws PersistenceException {
       }
    }
 
+   public void testBatchLoad() {
+      assertIsEmpty();
+
+      for (int i = 0; i < 10; ++i) {
+         store.write(marshalledEntry("k" + i, "v" + i));
+      }
+      // The last two keys were never written
+      Map<Integer, List<Object>> keysBySegment = IntStream.range(0, 12)
+            .mapToObj(i -> keyToStorage("k" + i))
+            .collect(Collectors.groupingBy(keyPartitioner::getSegment));
+      Flowable<NonBlockingStore.SegmentedPublisher<Object>> keyPublisher = Flowable.fromIterable(keysBySegment.entrySet())
+            .map(e -> SingleSegmentPublisher.singleSegment(e.getKey(), Flowable.fromIterable(e.getValue())));
+
+      Map<Object, Object> loaded = Flowable.fromPublisher(store.batchLoad(2, keyPublisher))
+            .toMap(MarshallableEntry::getKey, MarshallableEntry::getValue)
+            .blockingGet();
+      assertEquals(10, loaded.size());
+      for (int i = 0; i < 10; ++i) {
+         assertEquals(valueToStorage("v" + i), loaded.get(keyToStorage("k" + i)));
+      }
+   }
+
    public void testReplaceEntry() {
       assertIsEmpty();
       InternalCacheEntry tmpIce = internalCacheEntry("ok", "v1", -1);
@@ -13,6 +13,7 @@
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.infinispan.AdvancedCache;
@@ -515,6 +516,20 @@ public void testLoadingToMemory() throws PersistenceException {
       assertEquals("v2", cache.get("k2"));
    }
 
+   public void testGetAllLoadingToMemory() throws PersistenceException {
+      assertNotInCacheAndStore("k1", "k2", "k3", "k4");
+      for (int i = 1; i < 4; i++) store.write(MarshalledEntryUtil.create("k" + i, "v" + i, cache));
+      assertEquals("v1", cache.get("k1"));
+      assertInStoreNotInCache("k2", "k3");
+
+      Map<String, String> entries = cache.getAdvancedCache().getAll(Set.of("k1", "k2", "k3", "k4"));
+      assertEquals(Map.of("k1", "v1", "k2", "v2", "k3", "v3"), entries);
+
+      for (int i = 1; i < 4; i++) assertInCacheAndStore("k" + i, "v" + i);
+      assertNotInCacheAndStore("k4");
+      assertNoLocks(cache);
+   }
+
    public void testSkipLocking(Method m) {
       String name = m.getName();
       AdvancedCache<String, String> advancedCache = cache.getAdvancedCache();
@@ -1,7 +1,9 @@
 package org.infinispan.persistence.file;
 
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
@@ -69,6 +71,8 @@ public void testParsingEmptyElement() throws Exception {
       SingleFileStoreConfiguration fileStoreConfig = (SingleFileStoreConfiguration) storeConfigs.get(0);
       assertNull(fileStoreConfig.location());
       assertEquals(-1, fileStoreConfig.maxEntries());
+      assertFalse(fileStoreConfig.memoryMapped());
+      assertFalse(fileStoreConfig.persistentIndex());
    }
 
    public void testParsingElement() throws Exception {
@@ -76,7 +80,7 @@ public void testParsingElement() throws Exception {
             "<cache-container default-cache=\"default\">" +
             "   <local-cache name=\"default\">\n" +
             "      <persistence passivation=\"false\"> \n" +
-            "         <single-file-store path=\"other-location\" segmented=\"false\" max-entries=\"100\" shared=\"false\" preload=\"true\" fragmentation-factor=\"0.75\"/> \n" +
+            "         <single-file-store path=\"other-location\" segmented=\"false\" max-entries=\"100\" shared=\"false\" preload=\"true\" fragmentation-factor=\"0.75\" memory-mapped=\"true\" persistent-index=\"true\"/> \n" +
             "      </persistence>\n" +
             "   </local-cache>\n" +
             "</cache-container>");
@@ -88,6 +92,8 @@ public void testParsingElement() throws Exception {
       assertEquals("other-location", fileStoreConfig.location());
       assertEquals(100, fileStoreConfig.maxEntries());
       assertEquals(0.75f, fileStoreConfig.fragmentationFactor(), 0f);
+      assertTrue(fileStoreConfig.memoryMapped());
+      assertTrue(fileStoreConfig.persistentIndex());
       Util.recursiveFileRemove("other-location");
    }
 
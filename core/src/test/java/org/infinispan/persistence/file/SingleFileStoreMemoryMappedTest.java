@@ -0,0 +1,233 @@
+package org.infinispan.persistence.file;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.CompletionStage;
+
+import org.infinispan.commons.test.CommonsTestingUtil;
+import org.infinispan.configuration.cache.PersistenceConfigurationBuilder;
+import org.infinispan.configuration.cache.SingleFileStoreConfigurationBuilder;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.persistence.spi.MarshallableEntry;
+import org.infinispan.persistence.spi.NonBlockingStore;
+import org.infinispan.test.TestingUtil;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+
+/**
+ * Runs the {@link SingleFileStoreTest} suite with memory mapped reads and a persistent index, with the default chunk
+ * size and with small chunks so that entries are read both from the mappings and from the channel.
+ */
+@Test(groups = "unit", testName = "persistence.SingleFile.SingleFileStoreMemoryMappedTest")
+public class SingleFileStoreMemoryMappedTest extends SingleFileStoreTest {
+
+   private final String location = CommonsTestingUtil.tmpDirectory(this.getClass());
+   private int chunkSize = SingleFileStore.MAPPED_CHUNK_SIZE;
+
+   SingleFileStoreMemoryMappedTest chunkSize(int chunkSize) {
+      this.chunkSize = chunkSize;
+      return this;
+   }
+
+   @Factory
+   @Override
+   public Object[] factory() {
+      return new Object[] {
+            new SingleFileStoreMemoryMappedTest().segmented(false),
+            new SingleFileStoreMemoryMappedTest().segmented(true),
+            new SingleFileStoreMemoryMappedTest().chunkSize(1024).segmented(false),
+            new SingleFileStoreMemoryMappedTest().chunkSize(1024).segmented(true),
+      };
+   }
+
+   @Override
+   protected String parameters() {
+      return super.parameters() + "[" + chunkSize + "]";
+   }
+
+   @Override
+   protected SingleFileStoreConfigurationBuilder createCacheStoreConfig(PersistenceConfigurationBuilder lcb) {
+      return super.createCacheStoreConfig(lcb).memoryMapped(true).persistentIndex(true);
+   }
+
+   @Override
+   protected NonBlockingStore createStore() {
+      SingleFileStore<?, ?> store = (SingleFileStore<?, ?>) super.createStore();
+      store.mappedChunkSize = chunkSize;
+      return store;
+   }
+
+   public void testIndexLoadedOnRestart() {
+      for (int i = 0; i < 100; ++i) {
+         InternalCacheEntry<Object, Object> entry = internalCacheEntry("k" + i, "v" + i, -1);
+         store.write(marshalledEntry(entry));
+      }
+      store.delete(keyToStorage("k0"));
+
+      store.stopAndWait();
+      assertEquals(1, indexFiles().length);
+
+      startStore(store);
+      // The index is consumed on start, so a crash before the next stop cannot load a stale index
+      assertEquals(0, indexFiles().length);
+
+      assertNull(store.loadEntry(keyToStorage("k0")));
+      for (int i = 1; i < 100; ++i) {
+         assertNotNull(store.loadEntry(keyToStorage("k" + i)));
+         assertEquals(valueToStorage("v" + i), store.loadEntry(keyToStorage("k" + i)).getValue());
+      }
+
+      // The free entry left by the removal must still be reused
+      InternalCacheEntry<Object, Object> entry = internalCacheEntry("k0", "v0", -1);
+      store.write(marshalledEntry(entry));
+      assertEquals(valueToStorage("v0"), store.loadEntry(keyToStorage("k0")).getValue());
+   }
+
+   public void testStaleIndexIgnored() throws Exception {
+      store.write(marshalledEntry(internalCacheEntry("k1", "v1", -1)));
+      store.stopAndWait();
+
+      File[] indexFiles = indexFiles();
+      assertEquals(1, indexFiles.length);
+      File dataFile = new File(indexFiles[0].getParentFile(), indexFiles[0].getName().replace(".idx", ".dat"));
+      assertTrue(dataFile.exists());
+      // Appending to the data file makes the recorded file size differ, so the index is rebuilt from the data file
+      try (RandomAccessFile raf = new RandomAccessFile(dataFile, "rw")) {
+         raf.setLength(raf.length() + 16);
+      }
+
+      startStore(store);
+      assertEquals(0, indexFiles().length);
+      assertEquals(valueToStorage("v1"), store.loadEntry(keyToStorage("k1")).getValue());
+      assertFalse(store.contains(keyToStorage("k2")));
+   }
+
+   public void testResidentLoadCompletesOnInvokingThread() {
+      for (int i = 0; i < 100; ++i) {
+         store.write(marshalledEntry(internalCacheEntry("k" + i, "v" + i, -1)));
+      }
+      Object key = keyToStorage("k0");
+      int segment = keyPartitioner.getSegment(key);
+      // The first load maps the chunk holding the entry
+      assertEquals(valueToStorage("v0"), store.loadEntry(key).getValue());
+
+      CompletionStage<MarshallableEntry<Object, Object>> stage = store.delegate().load(segment, key);
+      assertTrue(stage.toCompletableFuture().isDone());
+      assertEquals(valueToStorage("v0"), stage.toCompletableFuture().join().getValue());
+   }
+
+   public void testResidentLoadsOfMultiMegabyteFile() throws Exception {
+      // Several megabytes of data, so the whole file lies in the first chunk only with the default chunk size
+      String value = "v".repeat(4096);
+      for (int i = 0; i < 1000; ++i) {
+         store.write(marshalledEntry(internalCacheEntry("k" + i, value + i, -1)));
+      }
+      assertTrue(fileChannel().size() > 4_000_000);
+      for (int i = 0; i < 1000; ++i) {
+         assertEquals(valueToStorage(value + i), store.loadEntry(keyToStorage("k" + i)).getValue());
+      }
+
+      int inline = 0;
+      for (int i = 0; i < 1000; ++i) {
+         Object key = keyToStorage("k" + i);
+         CompletionStage<MarshallableEntry<Object, Object>> stage = store.delegate().load(keyPartitioner.getSegment(key), key);
+         if (stage.toCompletableFuture().isDone()) {
+            inline++;
+         }
+         assertEquals(valueToStorage(value + i), stage.toCompletableFuture().join().getValue());
+      }
+      if (chunkSize == SingleFileStore.MAPPED_CHUNK_SIZE) {
+         assertEquals(1000, inline);
+      }
+   }
+
+   public void testMappingFollowsFileGrowth() throws Exception {
+      // The last entry of the file is always read from the channel, its unset timestamps are not in the file
+      store.write(marshalledEntry(internalCacheEntry("k0", "v0", -1)));
+      store.write(marshalledEntry(internalCacheEntry("k1", "v1", -1)));
+      // Maps the chunk up to the current end of the file
+      assertEquals(valueToStorage("v0"), store.loadEntry(keyToStorage("k0")).getValue());
+      long mappedLength = mappedLength();
+      assertTrue(mappedLength > 0);
+      for (int i = 2; i < 100; ++i) {
+         store.write(marshalledEntry(internalCacheEntry("k" + i, "v" + i, -1)));
+      }
+
+      // An entry written after the chunk was mapped is read through a new mapping
+      Object key = keyToStorage("k98");
+      assertEquals(valueToStorage("v98"), store.loadEntry(key).getValue());
+      assertTrue(mappedLength() > mappedLength);
+      CompletionStage<MarshallableEntry<Object, Object>> stage = store.delegate().load(keyPartitioner.getSegment(key), key);
+      assertTrue(stage.toCompletableFuture().isDone());
+      assertEquals(valueToStorage("v98"), stage.toCompletableFuture().join().getValue());
+      assertMappedWithinFile();
+   }
+
+   public void testTruncateDropsMappings() throws Exception {
+      for (int i = 0; i < 100; ++i) {
+         store.write(marshalledEntry(internalCacheEntry("k" + i, "v" + i, -1)));
+      }
+      for (int i = 0; i < 100; ++i) {
+         assertEquals(valueToStorage("v" + i), store.loadEntry(keyToStorage("k" + i)).getValue());
+      }
+      long fileSize = fileChannel().size();
+
+      // Freeing the entries at the end of the file lets the purge truncate it
+      for (int i = 50; i < 100; ++i) {
+         store.delete(keyToStorage("k" + i));
+      }
+      store.purge();
+      assertTrue(fileChannel().size() < fileSize);
+      assertMappedWithinFile();
+
+      for (int i = 0; i < 50; ++i) {
+         assertEquals(valueToStorage("v" + i), store.loadEntry(keyToStorage("k" + i)).getValue());
+      }
+      // The file grows again over the dropped mappings
+      for (int i = 100; i < 150; ++i) {
+         store.write(marshalledEntry(internalCacheEntry("k" + i, "v" + i, -1)));
+         assertEquals(valueToStorage("v" + i), store.loadEntry(keyToStorage("k" + i)).getValue());
+      }
+      assertEquals(valueToStorage("v100"), store.loadEntry(keyToStorage("k100")).getValue());
+      assertTrue(mappedLength() > 0);
+      assertMappedWithinFile();
+   }
+
+   private FileChannel fileChannel() {
+      return TestingUtil.extractField(store.delegate(), "channel");
+   }
+
+   private long mappedLength() {
+      MappedByteBuffer[] chunks = TestingUtil.extractField(store.delegate(), "mappedChunks");
+      long length = 0;
+      for (MappedByteBuffer chunk : chunks) {
+         if (chunk != null) {
+            length += chunk.capacity();
+         }
+      }
+      return length;
+   }
+
+   private void assertMappedWithinFile() throws Exception {
+      MappedByteBuffer[] chunks = TestingUtil.extractField(store.delegate(), "mappedChunks");
+      long fileSize = fileChannel().size();
+      for (int i = 0; i < chunks.length; ++i) {
+         if (chunks[i] != null) {
+            assertTrue((long) i * chunkSize + chunks[i].capacity() <= fileSize);
+         }
+      }
+   }
+
+   private File[] indexFiles() {
+      File[] files = new File(location).listFiles((dir, name) -> name.endsWith(".idx"));
+      return files == null ? new File[0] : files;
+   }
+}
@@ -0,0 +1,85 @@
+package org.infinispan.persistence.sifs;
+
+import static org.infinispan.test.TestingUtil.getCacheObjectName;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.infinispan.commons.jmx.MBeanServerLookup;
+import org.infinispan.commons.jmx.TestMBeanServerLookup;
+import org.infinispan.commons.test.CommonsTestingUtil;
+import org.infinispan.commons.util.Util;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.global.GlobalConfigurationBuilder;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the compaction statistics of the soft-index file store are exposed by the CacheStore MBean.
+ */
+@Test(groups = "functional", testName = "persistence.sifs.SoftIndexFileStoreCompactionStatisticsTest")
+public class SoftIndexFileStoreCompactionStatisticsTest extends SingleCacheManagerTest {
+   private static final String JMX_DOMAIN = SoftIndexFileStoreCompactionStatisticsTest.class.getName();
+
+   private final String tmpDirectory = CommonsTestingUtil.tmpDirectory(getClass());
+   private final MBeanServerLookup mBeanServerLookup = TestMBeanServerLookup.create();
+
+   @AfterClass(alwaysRun = true)
+   @Override
+   protected void destroyAfterClass() {
+      super.destroyAfterClass();
+      Util.recursiveFileRemove(tmpDirectory);
+   }
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      ConfigurationBuilder configuration = getDefaultStandaloneCacheConfig(false);
+      configuration.statistics().enable()
+            .persistence()
+            .addSoftIndexFileStore()
+            .dataLocation(Paths.get(tmpDirectory, "data").toString())
+            .indexLocation(Paths.get(tmpDirectory, "index").toString())
+            .maxFileSize(1000)
+            .compactionThreads(2);
+
+      GlobalConfigurationBuilder globalConfiguration = new GlobalConfigurationBuilder();
+      globalConfiguration.cacheContainer().statistics(true)
+            .jmx().enabled(true).domain(JMX_DOMAIN).mBeanServerLookup(mBeanServerLookup);
+      globalConfiguration.globalState().persistentLocation(tmpDirectory);
+      return TestCacheManagerFactory.createCacheManager(globalConfiguration, configuration);
+   }
+
+   public void testCompactionStatistics() throws Exception {
+      MBeanServer mBeanServer = mBeanServerLookup.getMBeanServer();
+      ObjectName storeObjName = getCacheObjectName(JMX_DOMAIN, TestingUtil.getDefaultCacheName(cacheManager) + "(local)", "CacheStore");
+      assertEquals(0L, mBeanServer.getAttribute(storeObjName, "CompactedFiles"));
+      assertEquals(0L, mBeanServer.getAttribute(storeObjName, "CompactionBytesReclaimed"));
+
+      for (int round = 0; round < 3; ++round) {
+         for (int i = 0; i < 100; ++i) {
+            cache.put("key" + i, "value" + round + "-" + i);
+         }
+      }
+      NonBlockingSoftIndexFileStore<Object, Object> store = TestingUtil.getFirstStore(cache);
+      Compactor compactor = TestingUtil.extractField(store, "compactor");
+      compactor.forceCompactionForAllNonLogFiles().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+      long compactedFiles = (long) mBeanServer.getAttribute(storeObjName, "CompactedFiles");
+      long bytesReclaimed = (long) mBeanServer.getAttribute(storeObjName, "CompactionBytesReclaimed");
+      assertTrue(compactedFiles > 0);
+      assertTrue(bytesReclaimed > 0);
+      assertEquals(compactor.getFilesCompacted(), compactedFiles);
+      assertEquals(compactor.getBytesReclaimed(), bytesReclaimed);
+      assertEquals(compactor.getCompactionTime(TimeUnit.MILLISECONDS), mBeanServer.getAttribute(storeObjName, "CompactionTime"));
+      assertEquals(compactor.getCompactionBacklog(), mBeanServer.getAttribute(storeObjName, "CompactionBacklog"));
+   }
+}
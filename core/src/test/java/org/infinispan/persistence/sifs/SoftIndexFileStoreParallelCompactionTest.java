@@ -0,0 +1,68 @@
+package org.infinispan.persistence.sifs;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.persistence.spi.MarshallableEntry;
+import org.infinispan.test.TestingUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Runs the {@link SoftIndexFileStoreTest} suite with several compaction threads.
+ */
+@Test(groups = "unit", testName = "persistence.sifs.SoftIndexFileStoreParallelCompactionTest")
+public class SoftIndexFileStoreParallelCompactionTest extends SoftIndexFileStoreTest {
+
+   @Override
+   protected Configuration buildConfig(ConfigurationBuilder configurationBuilder) {
+      configurationBuilder.clustering().hash().numSegments(2);
+      return configurationBuilder.persistence()
+            .addSoftIndexFileStore()
+            .dataLocation(Paths.get(tmpDirectory, "data").toString())
+            .indexLocation(Paths.get(tmpDirectory, "index").toString())
+            .maxFileSize(1000)
+            .compactionThreads(4)
+            .build();
+   }
+
+   public void testConcurrentCompactionKeepsLatestValues() throws Exception {
+      int keys = 200;
+      for (int round = 0; round < 3; ++round) {
+         for (int i = 0; i < keys; ++i) {
+            store.write(marshalledEntry(internalCacheEntry("key" + i, "value" + round + "-" + i, -1)));
+         }
+      }
+      for (int i = 0; i < keys; i += 2) {
+         store.delete("key" + i);
+      }
+
+      Compactor compactor = TestingUtil.extractField(store.delegate(), "compactor");
+      compactor.forceCompactionForAllNonLogFiles().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+      assertTrue(compactor.getFilesCompacted() > 1);
+      assertTrue(compactor.getBytesReclaimed() > 0);
+
+      for (int i = 0; i < keys; ++i) {
+         MarshallableEntry<Object, Object> entry = store.loadEntry("key" + i);
+         if (i % 2 == 0) {
+            assertNull(entry);
+         } else {
+            assertEquals("value2-" + i, entry.getValue());
+         }
+      }
+
+      store.stopAndWait();
+      startStore(store);
+
+      for (int i = 1; i < keys; i += 2) {
+         assertEquals("value2-" + i, store.loadEntry("key" + i).getValue());
+      }
+      assertEquals(keys / 2, store.sizeWait(segments));
+   }
+}
@@ -0,0 +1,80 @@
+package org.infinispan.persistence.sifs;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.persistence.spi.NonBlockingStore;
+import org.infinispan.util.PersistenceMockUtil;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+/**
+ * Runs the {@link SoftIndexFileStoreTest} suite with sync writes, which are batched for a few milliseconds before
+ * they are written and forced to disk.
+ */
+@Test(groups = "unit", testName = "persistence.sifs.SoftIndexFileStoreSyncWritesTest")
+public class SoftIndexFileStoreSyncWritesTest extends SoftIndexFileStoreTest {
+   private final ScheduledExecutorService timeoutExecutor =
+         Executors.newSingleThreadScheduledExecutor(getTestThreadFactory("timeout"));
+
+   @AfterClass(alwaysRun = true)
+   protected void shutdownTimeoutExecutor() {
+      timeoutExecutor.shutdownNow();
+   }
+
+   @Override
+   protected void modifyInitializationContext(PersistenceMockUtil.InvocationContextBuilder contextBuilder) {
+      super.modifyInitializationContext(contextBuilder);
+      // The pending writes are flushed by the timeout executor once the max delay elapses
+      contextBuilder.setScheduledExecutor(timeoutExecutor);
+   }
+
+   @Override
+   protected Configuration buildConfig(ConfigurationBuilder configurationBuilder) {
+      configurationBuilder.clustering().hash().numSegments(2);
+      return configurationBuilder.persistence()
+            .addSoftIndexFileStore()
+            .dataLocation(Paths.get(tmpDirectory, "data").toString())
+            .indexLocation(Paths.get(tmpDirectory, "index").toString())
+            .maxFileSize(1000)
+            .syncWrites(true)
+            .syncWritesMaxDelay(5)
+            .syncWritesMaxBatchSize(512)
+            .build();
+   }
+
+   public void testConcurrentWritesAreBatched() throws Exception {
+      NonBlockingStore<Object, Object> nonBlockingStore = store.delegate();
+      int keys = 100;
+      List<CompletionStage<Void>> stages = new ArrayList<>(keys);
+      for (int i = 0; i < keys; ++i) {
+         Object key = keyToStorage("key" + i);
+         stages.add(nonBlockingStore.write(keyPartitioner.getSegment(key),
+               marshalledEntry(internalCacheEntry("key" + i, "value" + i, -1))));
+      }
+      CompletableFuture.allOf(stages.stream().map(CompletionStage::toCompletableFuture).toArray(CompletableFuture[]::new))
+            .get(10, TimeUnit.SECONDS);
+
+      for (int i = 0; i < keys; ++i) {
+         assertEquals("value" + i, store.loadEntry("key" + i).getValue());
+      }
+
+      store.stopAndWait();
+      startStore(store);
+
+      for (int i = 0; i < keys; ++i) {
+         assertEquals("value" + i, store.loadEntry("key" + i).getValue());
+      }
+      assertEquals(keys, store.sizeWait(segments));
+   }
+}
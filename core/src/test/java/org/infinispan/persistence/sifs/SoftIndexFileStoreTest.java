@@ -1,6 +1,7 @@
 package org.infinispan.persistence.sifs;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.anyInt;
@@ -14,6 +15,12 @@
 import static org.testng.AssertJUnit.fail;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Paths;
 import java.util.ArrayDeque;
 import java.util.Queue;
@@ -427,6 +434,7 @@ private <V> V performWhileStarting(Supplier<V> callable) throws InterruptedExcep
       PersistenceMockUtil.InvocationContextBuilder builder = new PersistenceMockUtil.InvocationContextBuilder(getClass(), configuration, getMarshaller())
             .setTimeService(timeService)
             .setKeyPartitioner(keyPartitioner);
+      modifyInitializationContext(builder);
 
       CheckPoint checkPoint = new CheckPoint();
       checkPoint.triggerForever(Mocks.AFTER_RELEASE);
@@ -474,4 +482,138 @@ public void testRestartReusesSequenceId() throws ExecutionException, Interrupted
       verify(index).getMaxSeqId();
       verify(index, never()).getOrCalculateMaxSeqId();
    }
+
+   public void testFailedWriteDoesNotShiftFollowingRecords() {
+      store.write(marshalledEntry(internalCacheEntry("k1", "v1", -1)));
+
+      // Wrap the channel of the current log file with one that fails after writing part of the record
+      LogAppender logAppender = TestingUtil.extractField(store.delegate(), "logAppender");
+      FileProvider fileProvider = TestingUtil.extractField(store.delegate(), "fileProvider");
+      FileProvider.Log logFile = TestingUtil.extractField(logAppender, "logFile");
+      FailingFileChannel channel = new FailingFileChannel(logFile.fileChannel);
+      TestingUtil.replaceField(fileProvider.new Log(logFile.fileId, channel), "logFile", logAppender, LogAppender.class);
+
+      channel.fail = true;
+      assertThatThrownBy(() -> store.write(marshalledEntry(internalCacheEntry("k2", "v2", -1))))
+            .hasRootCauseInstanceOf(IOException.class);
+      channel.fail = false;
+
+      store.write(marshalledEntry(internalCacheEntry("k3", "v3", -1)));
+      assertEquals("v1", store.loadEntry("k1").getValue());
+      assertNull(store.loadEntry("k2"));
+      assertEquals("v3", store.loadEntry("k3").getValue());
+
+      store.stopAndWait();
+      startStore(store);
+      assertEquals("v1", store.loadEntry("k1").getValue());
+      assertNull(store.loadEntry("k2"));
+      assertEquals("v3", store.loadEntry("k3").getValue());
+   }
+
+   /**
+    * Writes half of the bytes it is given and then fails while {@link #fail} is set.
+    */
+   private static class FailingFileChannel extends FileChannel {
+      private final FileChannel delegate;
+      volatile boolean fail;
+
+      FailingFileChannel(FileChannel delegate) {
+         this.delegate = delegate;
+      }
+
+      @Override
+      public int write(ByteBuffer src) throws IOException {
+         if (fail) {
+            ByteBuffer half = src.slice(src.position(), Math.max(1, src.remaining() / 2));
+            delegate.write(half);
+            throw new IOException("Injected write failure");
+         }
+         return delegate.write(src);
+      }
+
+      @Override
+      public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+         if (fail) {
+            write(srcs[offset]);
+         }
+         return delegate.write(srcs, offset, length);
+      }
+
+      @Override
+      public int read(ByteBuffer dst) throws IOException {
+         return delegate.read(dst);
+      }
+
+      @Override
+      public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+         return delegate.read(dsts, offset, length);
+      }
+
+      @Override
+      public long position() throws IOException {
+         return delegate.position();
+      }
+
+      @Override
+      public FileChannel position(long newPosition) throws IOException {
+         delegate.position(newPosition);
+         return this;
+      }
+
+      @Override
+      public long size() throws IOException {
+         return delegate.size();
+      }
+
+      @Override
+      public FileChannel truncate(long size) throws IOException {
+         delegate.truncate(size);
+         return this;
+      }
+
+      @Override
+      public void force(boolean metaData) throws IOException {
+         delegate.force(metaData);
+      }
+
+      @Override
+      public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+         return delegate.transferTo(position, count, target);
+      }
+
+      @Override
+      public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+         return delegate.transferFrom(src, position, count);
+      }
+
+      @Override
+      public int read(ByteBuffer dst, long position) throws IOException {
+         return delegate.read(dst, position);
+      }
+
+      @Override
+      public int write(ByteBuffer src, long position) throws IOException {
+         return delegate.write(src, position);
+      }
+
+      @Override
+      public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+         return delegate.map(mode, position, size);
+      }
+
+      @Override
+      public FileLock lock(long position, long size, boolean shared) throws IOException {
+         return delegate.lock(position, size, shared);
+      }
+
+      @Override
+      public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+         return delegate.tryLock(position, size, shared);
+      }
+
+      @Override
+      protected void implCloseChannel() throws IOException {
+         delegate.close();
+      }
+   }
 }
@@ -211,6 +211,28 @@ public int segmentForKey(Object key) {
       return String.valueOf(key).hashCode() % CACHE_SEGMENT_MAX;
    }
 
+   @Test(timeOut=30000)
+   public void testConcurrentClearsAndWrites() throws Exception {
+      TestResourceTracker.testThreadStarted(this.getTestName());
+      createStore();
+
+      // Clears submitted while batches complete must only be sent once to the underlying store
+      // The waits are only bounded by the method timeout, the loops are kept short for loaded hosts
+      Future<Void> writer = fork(() -> {
+         for (int i = 0; i < 1000; i++) {
+            InternalCacheEntry cacheEntry = TestInternalCacheEntryFactory.create("k" + i, "v" + i);
+            CompletionStages.join(store.write(segmentForKey(cacheEntry.getKey()), MarshalledEntryUtil.create(cacheEntry, marshaller)));
+         }
+         return null;
+      });
+      for (int i = 0; i < 100; i++) {
+         CompletionStages.join(store.clear());
+      }
+      writer.get();
+
+      doTestClear(1000, "k");
+   }
+
    private void doTestPut(int number, String key, String value) {
       for (int i = 0; i < number; i++) {
          InternalCacheEntry cacheEntry = TestInternalCacheEntryFactory.create(key + i, value + i);
@@ -305,6 +327,68 @@ public void testModificationQueueSize(final Method m) throws Exception {
       }
    }
 
+   public void testFlushConcurrency(final Method m) throws Exception {
+      DelayStore underlying = new DelayStore();
+      ConfigurationBuilder builder = TestCacheManagerFactory.getDefaultCacheConfiguration(false);
+      builder.clustering().hash().numSegments(2);
+      builder.persistence()
+             .addStore(DelayStore.ConfigurationBuilder.class)
+             .async()
+             .flushConcurrency(2);
+
+      store = new AsyncNonBlockingStore<>(underlying);
+      InitializationContext ctx = PersistenceMockUtil.createContext(getClass(), builder.build(), marshaller);
+      CompletionStages.join(store.start(ctx));
+      // Delay the batch of segment 0 before it writes anything
+      underlying.delayBeforeModification(1);
+      try {
+         CompletionStages.join(store.write(0, MarshalledEntryUtil.create(k(m, 0), v(m, 0), marshaller)));
+         // The batch of segment 1 doesn't wait for the batch of segment 0
+         CompletionStages.join(store.write(1, MarshalledEntryUtil.create(k(m, 1), v(m, 1), marshaller)));
+         eventuallyEquals(1L, underlying::size);
+         assertEquals(1, store.getQueueSize());
+
+         underlying.endDelay();
+         eventuallyEquals(0, store::getQueueSize);
+         assertEquals(2, underlying.size());
+         assertEquals(2, store.getFlushes());
+      } finally {
+         underlying.endDelay();
+         CompletionStages.join(store.stop());
+      }
+   }
+
+   public void testCoalescedModifications(final Method m) throws Exception {
+      DelayStore underlying = new DelayStore();
+      ConfigurationBuilder builder = TestCacheManagerFactory.getDefaultCacheConfiguration(false);
+      builder.persistence()
+             .addStore(DelayStore.ConfigurationBuilder.class)
+             .async();
+
+      store = new AsyncNonBlockingStore<>(underlying);
+      InitializationContext ctx = PersistenceMockUtil.createContext(getClass(), builder.build(), marshaller);
+      CompletionStages.join(store.start(ctx));
+      underlying.delayBeforeModification(1);
+      try {
+         // The first write is replicating, the others are pending and only the last one is written
+         for (int i = 0; i < 4; i++) {
+            CompletionStages.join(store.write(0, MarshalledEntryUtil.create(k(m), v(m, i), marshaller)));
+         }
+         assertEquals(4, store.getSubmittedModifications());
+         assertEquals(2, store.getCoalescedModifications());
+         assertEquals(2, store.getQueueSize());
+         assertEquals(v(m, 3), CompletionStages.join(store.load(0, k(m))).getValue());
+
+         underlying.endDelay();
+         eventuallyEquals(0, store::getQueueSize);
+         MarshallableEntry<Object, Object> me = CompletionStages.join(store.delegate().load(0, k(m)));
+         assertEquals(v(m, 3), me.getValue());
+      } finally {
+         underlying.endDelay();
+         CompletionStages.join(store.stop());
+      }
+   }
+
    private abstract static class OneEntryCacheManagerCallable extends CacheManagerCallable {
       protected final Cache<String, String> cache;
       protected final DelayStore store;
@@ -0,0 +1,77 @@
+package org.infinispan.persistence.support;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.persistence.BaseNonBlockingStoreTest;
+import org.infinispan.persistence.dummy.DummyInMemoryStore;
+import org.infinispan.persistence.dummy.DummyInMemoryStoreConfigurationBuilder;
+import org.infinispan.persistence.spi.NonBlockingStore;
+import org.testng.annotations.Test;
+
+/**
+ * Runs the {@link BaseNonBlockingStoreTest} suite against a {@link DummyInMemoryStore} behind Bloom filters.
+ */
+@Test(groups = "unit", testName = "persistence.support.BloomFilterNonBlockingStoreTest")
+public class BloomFilterNonBlockingStoreTest extends BaseNonBlockingStoreTest {
+
+   @Override
+   protected NonBlockingStore createStore() {
+      return new BloomFilterNonBlockingStore<>(new DummyInMemoryStore(), 1024);
+   }
+
+   @Override
+   protected Configuration buildConfig(ConfigurationBuilder configurationBuilder) {
+      return configurationBuilder.persistence()
+            .addStore(DummyInMemoryStoreConfigurationBuilder.class)
+            .storeName(getClass().getName())
+            .bloomFilterBits(1024)
+            .build();
+   }
+
+   public void testMissingKeysSkipStore() {
+      for (int i = 0; i < 10; ++i) {
+         store.write(marshalledEntry(internalCacheEntry("k" + i, "v" + i, -1)));
+      }
+      BloomFilterNonBlockingStore<?, ?> bloomFilterStore = (BloomFilterNonBlockingStore<?, ?>) store.delegate();
+      // The filters are filled in the background once the store is started
+      eventually(() -> {
+         long skippedBefore = bloomFilterStore.getSkippedLoads();
+         assertNull(store.loadEntry(keyToStorage("missing")));
+         return bloomFilterStore.getSkippedLoads() > skippedBefore;
+      });
+
+      long skippedBefore = bloomFilterStore.getSkippedLoads();
+      for (int i = 0; i < 100; ++i) {
+         assertFalse(store.contains(keyToStorage("missing" + i)));
+      }
+      // Every segment holds at most a few keys, so false positives are rare
+      assertTrue(bloomFilterStore.getSkippedLoads() - skippedBefore > 90);
+
+      for (int i = 0; i < 10; ++i) {
+         assertEquals(valueToStorage("v" + i), store.loadEntry(keyToStorage("k" + i)).getValue());
+      }
+   }
+
+   public void testKeysWrittenBeforeRestartAreLoaded() {
+      for (int i = 0; i < 10; ++i) {
+         store.write(marshalledEntry(internalCacheEntry("k" + i, "v" + i, -1)));
+      }
+      store.stopAndWait();
+      startStore(store);
+
+      BloomFilterNonBlockingStore<?, ?> bloomFilterStore = (BloomFilterNonBlockingStore<?, ?>) store.delegate();
+      eventually(() -> {
+         long skippedBefore = bloomFilterStore.getSkippedLoads();
+         store.loadEntry(keyToStorage("missing"));
+         return bloomFilterStore.getSkippedLoads() > skippedBefore;
+      });
+      for (int i = 0; i < 10; ++i) {
+         assertEquals(valueToStorage("v" + i), store.loadEntry(keyToStorage("k" + i)).getValue());
+      }
+   }
+}
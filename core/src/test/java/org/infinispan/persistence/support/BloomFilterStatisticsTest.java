@@ -0,0 +1,64 @@
+package org.infinispan.persistence.support;
+
+import static org.infinispan.test.TestingUtil.getCacheObjectName;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.infinispan.commons.jmx.MBeanServerLookup;
+import org.infinispan.commons.jmx.TestMBeanServerLookup;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.global.GlobalConfigurationBuilder;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.persistence.manager.PersistenceManager;
+import org.infinispan.persistence.dummy.DummyInMemoryStoreConfigurationBuilder;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the loads skipped by the Bloom filters of the stores are exposed by the CacheLoader MBean.
+ */
+@Test(groups = "functional", testName = "persistence.support.BloomFilterStatisticsTest")
+public class BloomFilterStatisticsTest extends SingleCacheManagerTest {
+   private static final String JMX_DOMAIN = BloomFilterStatisticsTest.class.getName();
+
+   private final MBeanServerLookup mBeanServerLookup = TestMBeanServerLookup.create();
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      ConfigurationBuilder configuration = getDefaultStandaloneCacheConfig(false);
+      configuration.statistics().enable()
+            .persistence()
+            .passivation(false)
+            .addStore(DummyInMemoryStoreConfigurationBuilder.class)
+            .bloomFilterBits(1024);
+
+      GlobalConfigurationBuilder globalConfiguration = new GlobalConfigurationBuilder();
+      globalConfiguration.cacheContainer().statistics(true)
+            .jmx().enabled(true).domain(JMX_DOMAIN).mBeanServerLookup(mBeanServerLookup);
+      return TestCacheManagerFactory.createCacheManager(globalConfiguration, configuration);
+   }
+
+   public void testSkippedLoads() throws Exception {
+      MBeanServer mBeanServer = mBeanServerLookup.getMBeanServer();
+      ObjectName loaderObjName = getCacheObjectName(JMX_DOMAIN, TestingUtil.getDefaultCacheName(cacheManager) + "(local)", "CacheLoader");
+      assertEquals(0L, mBeanServer.getAttribute(loaderObjName, "BloomFilterSkippedLoads"));
+
+      cache.put("key", "value");
+      for (int i = 0; i < 10; ++i) {
+         assertNull(cache.get("missing" + i));
+      }
+
+      PersistenceManager persistenceManager = TestingUtil.extractComponent(cache, PersistenceManager.class);
+      BloomFilterNonBlockingStore<?, ?> store = persistenceManager.getStores(BloomFilterNonBlockingStore.class).iterator().next();
+      long skipped = (long) mBeanServer.getAttribute(loaderObjName, "BloomFilterSkippedLoads");
+      assertEquals(store.getSkippedLoads(), skipped);
+      // A 1024 bit filter holding a single key can't give 10 false positives out of 10
+      assertTrue(skipped > 0);
+   }
+}
@@ -95,6 +95,15 @@ public Publisher<MarshallableEntry<K, V>> publishEntries(IntSet segments, Predic
       );
    }
 
+   @Override
+   public Publisher<MarshallableEntry<K, V>> batchLoad(int publisherCount,
+         Publisher<NonBlockingStore.SegmentedPublisher<Object>> keyPublisher) {
+      return BlockHoundHelper.ensureNonBlocking(() ->
+            Flowable.fromPublisher(delegate().batchLoad(publisherCount, keyPublisher))
+                  .subscribeOn(Schedulers.from(BlockHoundHelper.ensureNonBlockingExecutor()))
+      );
+   }
+
    @Override
    public Publisher<K> publishKeys(IntSet segments, Predicate<? super K> filter) {
       return BlockHoundHelper.ensureNonBlocking(() ->
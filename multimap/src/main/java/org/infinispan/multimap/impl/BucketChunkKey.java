@@ -0,0 +1,77 @@
+package org.infinispan.multimap.impl;
+
+import org.infinispan.commons.marshall.ProtoStreamTypeIds;
+import org.infinispan.distribution.ch.AffinityTaggedKey;
+import org.infinispan.marshall.protostream.impl.MarshallableUserObject;
+import org.infinispan.multimap.impl.internal.MultimapObjectWrapper;
+import org.infinispan.protostream.annotations.ProtoFactory;
+import org.infinispan.protostream.annotations.ProtoField;
+import org.infinispan.protostream.annotations.ProtoTypeId;
+
+/**
+ * Cache key of one chunk of a structure split across several cache entries.
+ * <p>
+ * Every chunk of a structure carries the segment of the structure key, so with an
+ * {@link org.infinispan.distribution.ch.impl.AffinityPartitioner} all the chunks are stored by the same owners.
+ *
+ * @param <K>: The type of key identifying the structure.
+ * @since 16.0
+ */
+@ProtoTypeId(ProtoStreamTypeIds.MULTIMAP_BUCKET_CHUNK_KEY)
+public final class BucketChunkKey<K> implements AffinityTaggedKey {
+
+   private final MultimapObjectWrapper<K> key;
+
+   @ProtoField(number = 2, defaultValue = "0")
+   final int chunk;
+
+   @ProtoField(number = 3, defaultValue = "-1")
+   final int segment;
+
+   public BucketChunkKey(K key, int chunk, int segment) {
+      this.key = new MultimapObjectWrapper<>(key);
+      this.chunk = chunk;
+      this.segment = segment;
+   }
+
+   @ProtoFactory
+   BucketChunkKey(MarshallableUserObject<K> wrappedKey, int chunk, int segment) {
+      this(wrappedKey.get(), chunk, segment);
+   }
+
+   @ProtoField(1)
+   MarshallableUserObject<K> wrappedKey() {
+      return new MarshallableUserObject<>(key.get());
+   }
+
+   public K getKey() {
+      return key.get();
+   }
+
+   public int getChunk() {
+      return chunk;
+   }
+
+   @Override
+   public int getAffinitySegmentId() {
+      return segment;
+   }
+
+   @Override
+   public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof BucketChunkKey<?> other)) return false;
+
+      return chunk == other.chunk && key.equals(other.key);
+   }
+
+   @Override
+   public int hashCode() {
+      return 31 * key.hashCode() + chunk;
+   }
+
+   @Override
+   public String toString() {
+      return "BucketChunkKey{key=" + key + ", chunk=" + chunk + '}';
+   }
+}
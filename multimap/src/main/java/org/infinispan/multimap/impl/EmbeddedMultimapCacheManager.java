@@ -70,6 +70,21 @@ public <HK, HV> EmbeddedMultimapPairCache<K, HK, HV> getMultimapPair(String cach
       return new EmbeddedMultimapPairCache<>(cache);
    }
 
+   /**
+    * Provides an api to manipulate key/values with hash maps split into several cache entries.
+    *
+    * @param cacheName, name of the cache
+    * @param chunks, number of entries each hash map is split into
+    * @return EmbeddedMultimapPairCache
+    */
+   public <HK, HV> EmbeddedMultimapPairCache<K, HK, HV> getMultimapPair(String cacheName, int chunks) {
+      Cache<K, HashMapBucket<HK, HV>> cache = cacheManager.getCache(cacheName);
+      if (cache == null) {
+         throw new IllegalStateException("Cache must exist: " + cacheName);
+      }
+      return new EmbeddedMultimapPairCache<>(cache, chunks);
+   }
+
    public EmbeddedSetCache<K, V> getMultimapSet(String cacheName) {
       Cache<K, SetBucket<V>> cache = cacheManager.getCache(cacheName);
       if (cache == null) {
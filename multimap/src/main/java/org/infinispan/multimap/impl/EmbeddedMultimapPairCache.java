@@ -4,6 +4,8 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -11,10 +13,13 @@
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.infinispan.AdvancedCache;
 import org.infinispan.Cache;
+import org.infinispan.distribution.ch.KeyPartitioner;
+import org.infinispan.factories.ComponentRegistry;
 import org.infinispan.functional.FunctionalMap;
 import org.infinispan.functional.impl.FunctionalMapImpl;
 import org.infinispan.functional.impl.ReadWriteMapImpl;
@@ -23,6 +28,7 @@
 import org.infinispan.multimap.impl.function.hmap.HashMapRemoveFunction;
 import org.infinispan.multimap.impl.function.hmap.HashMapReplaceFunction;
 import org.infinispan.multimap.impl.function.hmap.HashMapValuesFunction;
+import org.infinispan.multimap.impl.internal.MultimapObjectWrapper;
 
 import static java.util.Objects.requireNonNull;
 
@@ -33,6 +39,15 @@
  *    entry. It is possible to add or remove attributes dynamically, varying the structure format between keys.
  * </p>
  * Note that the structure is not distributed, it is under a single key, and the distribution happens per key.
+ * <p>
+ *    Huge structures can instead be split into a fixed number of chunks, each stored as a separate {@link HashMapBucket}
+ *    under a {@link BucketChunkKey}. A property always belongs to the same chunk, so reads and writes of a property
+ *    only access and marshall its chunk, while operations on the whole structure read all the chunks. The chunks are
+ *    co-located when the cache uses an {@link org.infinispan.distribution.ch.impl.AffinityPartitioner}. Writes
+ *    touching several chunks are only atomic in transactional caches. The number of chunks is fixed for the
+ *    multimap, there is no header entry, and only embedded users can choose it: the RESP server always stores a hash
+ *    under its own key. Lists and sorted sets have no chunked layout.
+ * </p>
  *
  * @param <K>: The type of key to identify the structure.
  * @param <HK>: The structure type for keys.
@@ -48,12 +63,28 @@
    public static final String ERR_PROPERTIES_CANT_BE_EMPTY = "properties can't be empty";
    public static final String ERR_COUNT_MUST_BE_POSITIVE = "count must be positive";
 
-   private final FunctionalMap.ReadWriteMap<K, HashMapBucket<HK, HV>> readWriteMap;
-   private final AdvancedCache<K, HashMapBucket<HK, HV>> cache;
+   public static final String ERR_CHUNKS_MUST_BE_POSITIVE = "chunks must be positive";
+
+   private final FunctionalMap.ReadWriteMap<Object, HashMapBucket<HK, HV>> readWriteMap;
+   private final AdvancedCache<Object, HashMapBucket<HK, HV>> cache;
+   private final int chunks;
+   private final KeyPartitioner keyPartitioner;
 
    public EmbeddedMultimapPairCache(Cache<K, HashMapBucket<HK, HV>> cache) {
-      this.cache = cache.getAdvancedCache();
-      FunctionalMapImpl<K, HashMapBucket<HK, HV>> functionalMap = FunctionalMapImpl.create(this.cache);
+      this(cache, 1);
+   }
+
+   /**
+    * @param cache: The cache to store the structures.
+    * @param chunks: The number of entries each structure is split into, 1 stores every structure under its own key.
+    */
+   @SuppressWarnings("unchecked")
+   public EmbeddedMultimapPairCache(Cache<K, HashMapBucket<HK, HV>> cache, int chunks) {
+      requirePositive(chunks, ERR_CHUNKS_MUST_BE_POSITIVE);
+      this.cache = (AdvancedCache<Object, HashMapBucket<HK, HV>>) cache.getAdvancedCache();
+      this.chunks = chunks;
+      this.keyPartitioner = chunks > 1 ? ComponentRegistry.componentOf(cache, KeyPartitioner.class) : null;
+      FunctionalMapImpl<Object, HashMapBucket<HK, HV>> functionalMap = FunctionalMapImpl.create(this.cache);
       this.readWriteMap = ReadWriteMapImpl.create(functionalMap);
    }
 
@@ -69,7 +100,11 @@ public EmbeddedMultimapPairCache(Cache<K, HashMapBucket<HK, HV>> cache) {
    public final CompletionStage<Integer> set(K key, Map.Entry<HK, HV>... entries) {
       requireNonNull(key, ERR_KEY_CAN_T_BE_NULL);
       List<Map.Entry<HK, HV>> values = new ArrayList<>(Arrays.asList(entries));
-      return readWriteMap.eval(key, new HashMapPutFunction<>(values));
+      if (chunks == 1) {
+         return readWriteMap.eval(key, new HashMapPutFunction<>(values));
+      }
+      return sum(byChunk(key, values, Map.Entry::getKey), (chunkKey, chunkValues) ->
+            readWriteMap.eval(chunkKey, new HashMapPutFunction<>(chunkValues)));
    }
 
    /**
@@ -87,7 +122,7 @@ public final CompletionStage<Boolean> setIfAbsent(K key, HK propertyKey, HV prop
       requireNonNull(key, ERR_KEY_CAN_T_BE_NULL);
       requireNonNull(propertyKey, ERR_PROPERTY_CANT_BE_NULL);
       requireNonNull(propertyValue, ERR_VALUE_CANT_BE_NULL);
-      return readWriteMap.eval(key, new HashMapPutFunction<>(List.of(Map.entry(propertyKey, propertyValue)), true))
+      return readWriteMap.eval(chunkKey(key, propertyKey), new HashMapPutFunction<>(List.of(Map.entry(propertyKey, propertyValue)), true))
             .thenApply(v -> v > 0L);
    }
 
@@ -100,21 +135,13 @@ public final CompletionStage<Boolean> setIfAbsent(K key, HK propertyKey, HV prop
     */
    public CompletionStage<Map<HK, HV>> get(K key) {
       requireNonNull(key, ERR_KEY_CAN_T_BE_NULL);
-      return cache.getCacheEntryAsync(key)
-            .thenApply(entry -> {
-               if (entry == null) {
-                  return Map.of();
-               }
-
-               HashMapBucket<HK, HV> bucket = entry.getValue();
-               return bucket.converted();
-            });
+      return buckets(key).thenApply(EmbeddedMultimapPairCache::converted);
    }
 
    public CompletionStage<HV> get(K key, HK property) {
       requireNonNull(key, ERR_KEY_CAN_T_BE_NULL);
       requireNonNull(property, ERR_KEY_CAN_T_BE_NULL);
-      return cache.getCacheEntryAsync(key)
+      return cache.getCacheEntryAsync(chunkKey(key, property))
             .thenApply(entry -> {
                if (entry == null) {
                   return null;
@@ -142,14 +169,36 @@ public final CompletionStage<Map<HK, HV>> get(K key, HK ... properties) {
       Set<HK> propertySet = Set.of(properties);
       requireNonNullArgument(propertySet, ERR_PROPERTY_CANT_BE_NULL);
 
-      return cache.getCacheEntryAsync(key)
-            .thenApply(entry -> {
-               if (entry == null) {
+      if (chunks == 1) {
+         return cache.getCacheEntryAsync(key)
+               .thenApply(entry -> {
+                  if (entry == null) {
+                     return Map.of();
+                  }
+
+                  HashMapBucket<HK, HV> bucket = entry.getValue();
+                  return bucket.getAll(propertySet);
+               });
+      }
+
+      Map<Object, List<HK>> byChunk = byChunk(key, propertySet, Function.identity());
+      return cache.getAllAsync(byChunk.keySet())
+            .thenApply(found -> {
+               // Only the chunks holding the properties are read, so the key counts as missing if none of them exist
+               if (found.isEmpty()) {
                   return Map.of();
                }
 
-               HashMapBucket<HK, HV> bucket = entry.getValue();
-               return bucket.getAll(propertySet);
+               Map<HK, HV> response = new HashMap<>(propertySet.size());
+               byChunk.forEach((chunkKey, chunkProperties) -> {
+                  HashMapBucket<HK, HV> bucket = found.get(chunkKey);
+                  if (bucket == null) {
+                     chunkProperties.forEach(p -> response.put(p, null));
+                  } else {
+                     response.putAll(bucket.getAll(new HashSet<>(chunkProperties)));
+                  }
+               });
+               return response;
             });
    }
 
@@ -161,14 +210,13 @@ public final CompletionStage<Map<HK, HV>> get(K key, HK ... properties) {
     */
    public CompletionStage<Integer> size(K key) {
       requireNonNull(key, ERR_KEY_CAN_T_BE_NULL);
-      return cache.getCacheEntryAsync(key)
-            .thenApply(entry -> {
-               if (entry == null) {
-                  return 0;
+      return buckets(key)
+            .thenApply(buckets -> {
+               int size = 0;
+               for (HashMapBucket<HK, HV> bucket : buckets) {
+                  size += bucket.size();
                }
-
-               HashMapBucket<HK, HV> bucket = entry.getValue();
-               return bucket.size();
+               return size;
             });
    }
 
@@ -180,7 +228,14 @@ public CompletionStage<Integer> size(K key) {
     */
    public CompletionStage<Set<HK>> keySet(K key) {
       requireNonNull(key, ERR_KEY_CAN_T_BE_NULL);
-      return readWriteMap.eval(key, HashMapKeySetFunction.instance());
+      if (chunks == 1) {
+         return readWriteMap.eval(key, HashMapKeySetFunction.instance());
+      }
+      return buckets(key).thenApply(buckets -> {
+         Set<HK> keySet = new HashSet<>();
+         buckets.forEach(bucket -> keySet.addAll(bucket.keySet()));
+         return keySet;
+      });
    }
 
    /**
@@ -192,7 +247,14 @@ public CompletionStage<Set<HK>> keySet(K key) {
     */
    public CompletionStage<Collection<HV>> values(K key) {
       requireNonNull(key, ERR_KEY_CAN_T_BE_NULL);
-      return readWriteMap.eval(key, HashMapValuesFunction.instance());
+      if (chunks == 1) {
+         return readWriteMap.eval(key, HashMapValuesFunction.instance());
+      }
+      return buckets(key).thenApply(buckets -> {
+         List<HV> values = new ArrayList<>();
+         buckets.forEach(bucket -> values.addAll(bucket.values()));
+         return values;
+      });
    }
 
    /**
@@ -205,7 +267,7 @@ public CompletionStage<Collection<HV>> values(K key) {
    public CompletionStage<Boolean> contains(K key, HK property) {
       requireNonNull(key, ERR_KEY_CAN_T_BE_NULL);
       requireNonNull(property, ERR_PROPERTY_CANT_BE_NULL);
-      return cache.getCacheEntryAsync(key)
+      return cache.getCacheEntryAsync(chunkKey(key, property))
             .thenApply(entry -> {
                if (entry == null) {
                   return false;
@@ -231,7 +293,7 @@ public final CompletionStage<Integer> remove(K key, HK property, HK ...propertie
       List<HK> propertiesList = new ArrayList<>();
       propertiesList.add(property);
       propertiesList.addAll(Arrays.asList(properties));
-      return readWriteMap.eval(key, new HashMapRemoveFunction<>(propertiesList));
+      return remove(key, propertiesList);
    }
 
    /**
@@ -246,7 +308,11 @@ public final CompletionStage<Integer> remove(K key, Collection<HK> properties) {
       requireNonNull(properties, ERR_PROPERTY_CANT_BE_NULL);
 
       if (properties.isEmpty()) return CompletableFuture.completedFuture(0);
-      return readWriteMap.eval(key, new HashMapRemoveFunction<>(properties));
+      if (chunks == 1) {
+         return readWriteMap.eval(key, new HashMapRemoveFunction<>(properties));
+      }
+      return sum(byChunk(key, properties, Function.identity()), (chunkKey, chunkProperties) ->
+            readWriteMap.eval(chunkKey, new HashMapRemoveFunction<>(chunkProperties)));
    }
 
    /**
@@ -264,7 +330,8 @@ public final CompletionStage<Integer> remove(K key, Collection<HK> properties) {
    public CompletionStage<HV> compute(K key, HK property, BiFunction<HK, HV, HV> biConsumer) {
       requireNonNull(key, ERR_KEY_CAN_T_BE_NULL);
       requireNonNull(property, ERR_PROPERTY_CANT_BE_NULL);
-      return cache.getCacheEntryAsync(key)
+      Object chunkKey = chunkKey(key, property);
+      return cache.getCacheEntryAsync(chunkKey)
             .thenCompose(entry -> {
                HV newValue;
                HV oldValue = null;
@@ -274,7 +341,7 @@ public CompletionStage<HV> compute(K key, HK property, BiFunction<HK, HV, HV> bi
                }
 
                newValue = biConsumer.apply(property, oldValue);
-               CompletionStage<Boolean> done = readWriteMap.eval(key, new HashMapReplaceFunction<>(property, oldValue, newValue));
+               CompletionStage<Boolean> done = readWriteMap.eval(chunkKey, new HashMapReplaceFunction<>(property, oldValue, newValue));
                return done.thenCompose(replaced -> {
                   if (replaced)
                      return CompletableFuture.completedFuture(newValue);
@@ -297,11 +364,11 @@ public CompletionStage<HV> compute(K key, HK property, BiFunction<HK, HV, HV> bi
    public CompletionStage<Map<HK, HV>> subSelect(K key, int count) {
       requireNonNull(key, ERR_KEY_CAN_T_BE_NULL);
       requirePositive(count, ERR_COUNT_MUST_BE_POSITIVE);
-      return cache.getCacheEntryAsync(key)
-            .thenApply(entry -> {
-               if (entry == null) return null;
+      return buckets(key)
+            .thenApply(buckets -> {
+               if (buckets.isEmpty()) return null;
 
-               Map<HK, HV> converted = entry.getValue().converted();
+               Map<HK, HV> converted = converted(buckets);
                if (count >= converted.size()) return converted;
 
                List<Map.Entry<HK, HV>> entries = new ArrayList<>(converted.entrySet());
@@ -312,6 +379,56 @@ public CompletionStage<Map<HK, HV>> subSelect(K key, int count) {
             });
    }
 
+   private Object chunkKey(K key, Object property) {
+      if (chunks == 1) {
+         return key;
+      }
+      int chunk = Math.floorMod(new MultimapObjectWrapper<>(property).hashCode(), chunks);
+      return new BucketChunkKey<>(key, chunk, keyPartitioner.getSegment(key));
+   }
+
+   private <T> Map<Object, List<T>> byChunk(K key, Collection<T> values, Function<T, ?> property) {
+      Map<Object, List<T>> byChunk = new HashMap<>();
+      for (T value : values) {
+         byChunk.computeIfAbsent(chunkKey(key, property.apply(value)), ignore -> new ArrayList<>()).add(value);
+      }
+      return byChunk;
+   }
+
+   private CompletionStage<Collection<HashMapBucket<HK, HV>>> buckets(K key) {
+      if (chunks == 1) {
+         return cache.getCacheEntryAsync(key)
+               .thenApply(entry -> entry == null ? List.of() : List.of(entry.getValue()));
+      }
+      int segment = keyPartitioner.getSegment(key);
+      Set<Object> chunkKeys = new HashSet<>(chunks);
+      for (int i = 0; i < chunks; i++) {
+         chunkKeys.add(new BucketChunkKey<>(key, i, segment));
+      }
+      return cache.getAllAsync(chunkKeys).thenApply(Map::values);
+   }
+
+   private static <HK, HV> Map<HK, HV> converted(Collection<HashMapBucket<HK, HV>> buckets) {
+      if (buckets.isEmpty()) {
+         return Map.of();
+      }
+      if (buckets.size() == 1) {
+         return buckets.iterator().next().converted();
+      }
+      Map<HK, HV> converted = new HashMap<>();
+      buckets.forEach(bucket -> converted.putAll(bucket.converted()));
+      return converted;
+   }
+
+   private static <T> CompletionStage<Integer> sum(Map<Object, List<T>> byChunk,
+                                                   BiFunction<Object, List<T>, CompletionStage<Integer>> operation) {
+      CompletionStage<Integer> total = CompletableFuture.completedFuture(0);
+      for (Map.Entry<Object, List<T>> entry : byChunk.entrySet()) {
+         total = total.thenCombine(operation.apply(entry.getKey(), entry.getValue()), Integer::sum);
+      }
+      return total;
+   }
+
    private static void requirePositive(int value, String message) {
       if (value <= 0) {
          throw new IllegalArgumentException(message);
@@ -11,8 +11,8 @@
 import java.util.stream.Collectors;
 
 import org.infinispan.commons.marshall.ProtoStreamTypeIds;
-import org.infinispan.commons.util.ByRef;
 import org.infinispan.marshall.protostream.impl.MarshallableUserObject;
+import org.infinispan.multimap.impl.internal.ImmutableHashMap;
 import org.infinispan.multimap.impl.internal.MultimapObjectWrapper;
 import org.infinispan.protostream.annotations.ProtoFactory;
 import org.infinispan.protostream.annotations.ProtoField;
@@ -21,16 +21,20 @@
 @ProtoTypeId(ProtoStreamTypeIds.MULTIMAP_HASH_MAP_BUCKET)
 public class HashMapBucket<K, V> {
 
-   final Map<MultimapObjectWrapper<K>, V> values;
+   // Immutable, so single field updates share the fields with the previous bucket instead of copying them
+   final ImmutableHashMap<MultimapObjectWrapper<K>, V> values;
 
-   private HashMapBucket(Map<MultimapObjectWrapper<K>, V> values) {
+   private HashMapBucket(ImmutableHashMap<MultimapObjectWrapper<K>, V> values) {
       this.values = values;
    }
 
    @ProtoFactory
    HashMapBucket(Collection<BucketEntry<K, V>> wrappedValues) {
-      this.values = wrappedValues.stream()
-            .collect(Collectors.toMap(e -> new MultimapObjectWrapper<>(e.getKey()), BucketEntry::getValue));
+      ImmutableHashMap<MultimapObjectWrapper<K>, V> map = ImmutableHashMap.empty();
+      for (BucketEntry<K, V> entry : wrappedValues) {
+         map = map.with(new MultimapObjectWrapper<>(entry.getKey()), entry.getValue());
+      }
+      this.values = map;
    }
 
    public static <K, V> HashMapBucket<K, V> create(Map<K, V> values) {
@@ -43,26 +47,30 @@ Collection<BucketEntry<K, V>> getWrappedValues() {
    }
 
    public HashMapBucketResponse<Integer, K, V> putAll(Map<K, V> map) {
-      Map<MultimapObjectWrapper<K>, V> copied = new HashMap<>(values);
+      ImmutableHashMap<MultimapObjectWrapper<K>, V> copied = values;
       int res = 0;
       for (Map.Entry<K, V> entry : map.entrySet()) {
-         V prev = copied.put(new MultimapObjectWrapper<>(entry.getKey()), entry.getValue());
-         if (prev == null) res++;
+         MultimapObjectWrapper<K> key = new MultimapObjectWrapper<>(entry.getKey());
+         if (copied.get(key) == null) res++;
+         copied = copied.with(key, entry.getValue());
       }
       return new HashMapBucketResponse<>(res, new HashMapBucket<>(copied));
    }
 
    public HashMapBucketResponse<Integer, K, V> putIfAbsent(Map<K, V> map) {
-      ByRef.Integer created = new ByRef.Integer(0);
-      Map<MultimapObjectWrapper<K>, V> copied = new HashMap<>(values);
+      int created = 0;
+      ImmutableHashMap<MultimapObjectWrapper<K>, V> copied = values;
       for (Map.Entry<K, V> entry : map.entrySet()) {
-         // The `values` map can have null values, we use compute instead of putIfAbsent.
-         copied.computeIfAbsent(new MultimapObjectWrapper<>(entry.getKey()), ignore -> {
-            created.inc();
-            return entry.getValue();
-         });
+         MultimapObjectWrapper<K> key = new MultimapObjectWrapper<>(entry.getKey());
+         // The `values` map can have null values, which are replaced like with computeIfAbsent.
+         if (copied.get(key) == null) {
+            created++;
+            if (entry.getValue() != null) {
+               copied = copied.with(key, entry.getValue());
+            }
+         }
       }
-      return new HashMapBucketResponse<>(created.get(), new HashMapBucket<>(copied));
+      return new HashMapBucketResponse<>(created, new HashMapBucket<>(copied));
    }
 
    public Map<K, V> getAll(Set<K> keys) {
@@ -83,17 +91,11 @@ public boolean isEmpty() {
    }
 
    public HashMapBucketResponse<Integer, K, V> removeAll(Collection<K> keys) {
-      int res = 0;
-      Map<MultimapObjectWrapper<K>, V> copied = new HashMap<>(values.size());
-      for (Map.Entry<MultimapObjectWrapper<K>, V> entry : values.entrySet()) {
-         if (containsKey(keys, entry.getKey())) {
-            res++;
-            continue;
-         }
-
-         copied.put(entry.getKey(), entry.getValue());
+      ImmutableHashMap<MultimapObjectWrapper<K>, V> copied = values;
+      for (K key : keys) {
+         copied = copied.without(new MultimapObjectWrapper<>(key));
       }
-      return new HashMapBucketResponse<>(res, new HashMapBucket<>(copied));
+      return new HashMapBucketResponse<>(values.size() - copied.size(), new HashMapBucket<>(copied));
    }
 
    public V get(K k) {
@@ -130,19 +132,9 @@ public HashMapBucket<K, V> replace(K key, V expected, V replacement) {
       if (!equalValues(current, expected)) return null;
       if (equalValues(current, replacement)) return this;
 
-      if (values.isEmpty()) {
-         Map<MultimapObjectWrapper<K>, V> copied = new HashMap<>();
-         copied.put(storeKey, replacement);
-         return new HashMapBucket<>(copied);
-      }
-
-      Map<MultimapObjectWrapper<K>, V> copied = new HashMap<>(values);
-      if (replacement == null) {
-         copied.remove(storeKey, expected);
-      } else {
-         copied.put(storeKey, replacement);
-      }
-      return new HashMapBucket<>(copied);
+      return replacement == null
+            ? new HashMapBucket<>(values.without(storeKey))
+            : new HashMapBucket<>(values.with(storeKey, replacement));
    }
 
    private boolean equalValues(V one, Object other) {
@@ -155,10 +147,10 @@ private boolean equalValues(V one, Object other) {
       return eq;
    }
 
-   private static <K, V> Map<MultimapObjectWrapper<K>, V> toStore(Map<K, V> raw) {
-      Map<MultimapObjectWrapper<K>, V> converted = new HashMap<>();
+   private static <K, V> ImmutableHashMap<MultimapObjectWrapper<K>, V> toStore(Map<K, V> raw) {
+      ImmutableHashMap<MultimapObjectWrapper<K>, V> converted = ImmutableHashMap.empty();
       for (Map.Entry<K, V> entry : raw.entrySet()) {
-         converted.put(new MultimapObjectWrapper<>(entry.getKey()), entry.getValue());
+         converted = converted.with(new MultimapObjectWrapper<>(entry.getKey()), entry.getValue());
       }
       return converted;
    }
@@ -171,14 +163,6 @@ private Map<K, V> fromStore() {
       return converted;
    }
 
-   private boolean containsKey(Collection<K> keys, MultimapObjectWrapper<K> entry) {
-      for (K key : keys) {
-         if (MultimapObjectWrapper.wrappedEquals(entry.get(), key))
-            return true;
-      }
-      return false;
-   }
-
    @Override
    public boolean equals(Object o) {
       if (this == o) return true;
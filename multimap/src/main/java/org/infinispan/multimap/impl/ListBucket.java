@@ -3,6 +3,7 @@
 import org.infinispan.commons.marshall.ProtoStreamTypeIds;
 import org.infinispan.commons.util.Util;
 import org.infinispan.marshall.protostream.impl.MarshallableUserObject;
+import org.infinispan.multimap.impl.internal.ImmutableDeque;
 import org.infinispan.multimap.impl.internal.MultimapObjectWrapper;
 import org.infinispan.protostream.annotations.ProtoFactory;
 import org.infinispan.protostream.annotations.ProtoField;
@@ -28,30 +29,28 @@
 @ProtoTypeId(ProtoStreamTypeIds.MULTIMAP_LIST_BUCKET)
 public class ListBucket<V> implements SortableBucket<V> {
 
-   final Deque<V> values;
+   // Immutable, so single element updates share the elements with the previous bucket instead of copying them
+   final ImmutableDeque<V> values;
 
    public ListBucket() {
-      this.values = new ArrayDeque<>(0);
+      this.values = ImmutableDeque.empty();
    }
 
    public ListBucket(V value) {
-      Deque<V> deque = new ArrayDeque<>(1);
-      deque.add(value);
-      this.values = deque;
+      this.values = ImmutableDeque.<V>empty().addLast(value);
    }
 
-   private ListBucket(Deque<V> values) {
+   private ListBucket(ImmutableDeque<V> values) {
       this.values = values;
    }
 
    public static <V> ListBucket<V> create(Collection<V> value) {
-      return new ListBucket<>(new ArrayDeque<V>(value));
+      return new ListBucket<>(ImmutableDeque.of(value));
    }
 
    @ProtoFactory
    ListBucket(Collection<MarshallableUserObject<V>> wrappedValues) {
-      this((Deque<V>) wrappedValues.stream().map(MarshallableUserObject::get)
-            .collect(Collectors.toCollection(ArrayDeque::new)));
+      this(ImmutableDeque.of(wrappedValues.stream().map(MarshallableUserObject::get).collect(Collectors.toList())));
    }
 
    @ProtoField(number = 1, collectionImplementation = ArrayList.class)
@@ -89,14 +88,14 @@ public String toString() {
    }
 
    public ListBucket<V> offer(Collection<V> value, boolean first) {
-      Deque<V> newItems = new ArrayDeque<>(values);
+      ImmutableDeque<V> newItems = values;
       if (first) {
          for (V v : value) {
-            newItems.offerFirst(v);
+            newItems = newItems.addFirst(v);
          }
       } else {
          for (V v : value) {
-            newItems.offerLast(v);
+            newItems = newItems.addLast(v);
          }
       }
       return new ListBucket<>(newItems);
@@ -133,7 +132,7 @@ public ListBucket<V> set(long index, V value) {
             currentIndex--;
          }
       }
-      return new ListBucket<>(newBucket);
+      return new ListBucket<>(ImmutableDeque.of(newBucket));
    }
 
    public Collection<V> sublist(long from, long to) {
@@ -216,7 +215,7 @@ public ListBucket<V> trim(long from, long to) {
          ite.remove();
       }
 
-      return new ListBucket<>(newValues);
+      return new ListBucket<>(ImmutableDeque.of(newValues));
    }
 
    public Collection<Long> indexOf(V element, long count, long rank, long maxLen) {
@@ -280,7 +279,7 @@ public ListBucket<V> insert(boolean before, V pivot, V element) {
       if (!found) {
          return null;
       }
-      return new ListBucket<>(newValues);
+      return new ListBucket<>(ImmutableDeque.of(newValues));
    }
 
    public ListBucketResult<Long, V> remove(long count, V element) {
@@ -308,20 +307,23 @@ public ListBucketResult<Long, V> remove(long count, V element) {
          }
       }
 
-      return new ListBucketResult<>(removedElements, new ListBucket<>(newItems));
+      return new ListBucketResult<>(removedElements, new ListBucket<>(ImmutableDeque.of(newItems)));
    }
 
    public ListBucketResult<V, V> rotate(boolean rotateRight) {
-      Deque<V> newItems = new ArrayDeque<>(values);
+      if (values.isEmpty()) {
+         return new ListBucketResult<>(null, this);
+      }
+      ImmutableDeque<V> newItems;
       V element;
       if (rotateRight) {
          // from head to tail
-         element = newItems.pollFirst();
-         newItems.offerLast(element);
+         element = values.first();
+         newItems = values.removeFirst().addLast(element);
       } else {
          // from tail to head
-         element = newItems.pollLast();
-         newItems.offerFirst(element);
+         element = values.last();
+         newItems = values.removeLast().addFirst(element);
       }
       return new ListBucketResult<>(element, new ListBucket<>(newItems));
    }
@@ -351,7 +353,7 @@ public List<ScoredValue<V>> sort(SortOptions sortOptions) {
 
    public ListBucket<V> replace(Deque<V> list) {
       if (list != null && !list.isEmpty()) {
-         return new ListBucket<>(list);
+         return new ListBucket<>(ImmutableDeque.of(list));
       }
 
       return new ListBucket<>();
@@ -373,12 +375,14 @@ public ListBucketResult<Collection<V>, V> poll(boolean first, long count) {
          return new ListBucketResult<>(polledValues, new ListBucket<>());
       }
 
-      Deque<V> newItems = new ArrayDeque<>(values);
+      ImmutableDeque<V> newItems = values;
       for (int i = 0; i < count; i++) {
          if (first) {
-            polledValues.add(newItems.pollFirst());
+            polledValues.add(newItems.first());
+            newItems = newItems.removeFirst();
          } else {
-            polledValues.add(newItems.pollLast());
+            polledValues.add(newItems.last());
+            newItems = newItems.removeLast();
          }
       }
       return new ListBucketResult<>(polledValues, new ListBucket<>(newItems));
@@ -386,10 +390,10 @@ public ListBucketResult<Collection<V>, V> poll(boolean first, long count) {
 
    public V index(long index) {
       if (index == 0) {
-         return values.element();
+         return values.first();
       }
       if (index == values.size() - 1 || index == -1) {
-         return values.getLast();
+         return values.last();
       }
       V result = null;
       if (index > 0) {
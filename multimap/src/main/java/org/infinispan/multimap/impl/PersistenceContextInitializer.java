@@ -8,6 +8,7 @@
       dependsOn = org.infinispan.marshall.persistence.impl.PersistenceContextInitializer.class,
       includeClasses = {
             Bucket.class,
+            BucketChunkKey.class,
             ListBucket.class,
             HashMapBucket.class,
             HashMapBucket.BucketEntry.class,
@@ -2,7 +2,6 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -11,6 +10,7 @@
 
 import org.infinispan.commons.marshall.ProtoStreamTypeIds;
 import org.infinispan.commons.util.Util;
+import org.infinispan.multimap.impl.internal.ImmutableHashSet;
 import org.infinispan.multimap.impl.internal.MultimapObjectWrapper;
 import org.infinispan.protostream.annotations.ProtoFactory;
 import org.infinispan.protostream.annotations.ProtoField;
@@ -24,24 +24,23 @@
  */
 @ProtoTypeId(ProtoStreamTypeIds.MULTIMAP_SET_BUCKET)
 public class SetBucket<V> implements SortableBucket<V>, BaseSetBucket<V> {
-   final Set<MultimapObjectWrapper<V>> values;
+   // Immutable, so single element updates share the elements with the previous bucket instead of copying them
+   final ImmutableHashSet<MultimapObjectWrapper<V>> values;
 
    public SetBucket() {
-      this.values = new HashSet<>();
+      this.values = ImmutableHashSet.empty();
    }
 
    public SetBucket(V value) {
-      Set<MultimapObjectWrapper<V>> set = new HashSet<>(1);
-      set.add(new MultimapObjectWrapper<>(value));
-      this.values = set;
+      this.values = ImmutableHashSet.<MultimapObjectWrapper<V>>empty().with(new MultimapObjectWrapper<>(value));
    }
 
-   private SetBucket(Set<MultimapObjectWrapper<V>> values) {
+   private SetBucket(ImmutableHashSet<MultimapObjectWrapper<V>> values) {
       this.values = values;
    }
 
    public static <V> SetBucket<V> create(Collection<V> values) {
-      return new SetBucket<>(values.stream().map(MultimapObjectWrapper::new).collect(Collectors.toSet()));
+      return new SetBucket<>(ImmutableHashSet.of(values.stream().map(MultimapObjectWrapper::new).toList()));
    }
 
    public static <V> SetBucket<V> create(V value) {
@@ -50,7 +49,7 @@ public static <V> SetBucket<V> create(V value) {
 
    @ProtoFactory
    SetBucket(Collection<MultimapObjectWrapper<V>> wrappedValues) {
-      this.values = new HashSet<>(wrappedValues);
+      this.values = ImmutableHashSet.of(wrappedValues);
    }
 
    @ProtoField(number = 1, collectionImplementation = ArrayList.class)
@@ -112,34 +111,19 @@ public String toString() {
    }
 
    public SetBucketResult<Boolean, V> addAll(Collection<V> values) {
-      Set<MultimapObjectWrapper<V>> existing = new HashSet<>(this.values);
-      boolean added = false;
+      ImmutableHashSet<MultimapObjectWrapper<V>> existing = this.values;
       for (V value : values) {
-         added |= existing.add(new MultimapObjectWrapper<>(value));
+         existing = existing.with(new MultimapObjectWrapper<>(value));
       }
-      return new SetBucketResult<>(added, new SetBucket<>(existing));
+      return new SetBucketResult<>(existing != this.values, new SetBucket<>(existing));
    }
 
    public SetBucketResult<Boolean, V> removeAll(Collection<V> values) {
-      Boolean changed = Boolean.FALSE;
-      Set<MultimapObjectWrapper<V>> existing = new HashSet<>(this.values.size());
-      for (MultimapObjectWrapper<V> value : this.values) {
-         if (contains(values, value)) {
-            changed = Boolean.TRUE;
-            continue;
-         }
-
-         existing.add(value);
-      }
-      return new SetBucketResult<>(changed, new SetBucket<>(existing));
-   }
-
-   private boolean contains(Collection<V> collection, MultimapObjectWrapper<V> wrapped) {
-      for (V v : collection) {
-         if (wrapped.wrappedEquals(v))
-            return true;
+      ImmutableHashSet<MultimapObjectWrapper<V>> existing = this.values;
+      for (V value : values) {
+         existing = existing.without(new MultimapObjectWrapper<>(value));
       }
-      return false;
+      return new SetBucketResult<>(existing != this.values, new SetBucket<>(existing));
    }
 
    @Override
@@ -5,11 +5,8 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.SortedSet;
@@ -19,6 +16,8 @@
 import java.util.stream.Stream;
 
 import org.infinispan.commons.marshall.ProtoStreamTypeIds;
+import org.infinispan.multimap.impl.internal.ImmutableHashMap;
+import org.infinispan.multimap.impl.internal.ImmutableSortedSet;
 import org.infinispan.multimap.impl.internal.MultimapObjectWrapper;
 import org.infinispan.protostream.annotations.Proto;
 import org.infinispan.protostream.annotations.ProtoFactory;
@@ -33,8 +32,10 @@
  */
 @ProtoTypeId(ProtoStreamTypeIds.MULTIMAP_SORTED_SET_BUCKET)
 public class SortedSetBucket<V> implements SortableBucket<V>, BaseSetBucket<V> {
-   private final TreeSet<ScoredValue<V>> scoredEntries;
-   private final Map<MultimapObjectWrapper<V>, Double> entries;
+   // Immutable, so single member updates share the members with the previous bucket instead of copying them.
+   // They are only reassigned while a new bucket is being built, before it is returned.
+   private ImmutableSortedSet<ScoredValue<V>> scoredEntries;
+   private ImmutableHashMap<MultimapObjectWrapper<V>, Double> entries;
 
    @Proto
    @ProtoTypeId(ProtoStreamTypeIds.MULTIMAP_SORTED_SET_BUCKET_AGGREGATE_FUNCTION)
@@ -112,10 +113,18 @@ public List<ScoredValue<V>> randomMembers(int count) {
 
    @ProtoFactory
    SortedSetBucket(Collection<ScoredValue<V>> wrappedValues) {
-      scoredEntries = new TreeSet<>();
-      scoredEntries.addAll(wrappedValues);
-      entries = new HashMap<>();
-      wrappedValues.forEach(e -> entries.put(e.wrappedValue(), e.score()));
+      scoredEntries = ImmutableSortedSet.of(wrappedValues);
+      ImmutableHashMap<MultimapObjectWrapper<V>, Double> map = ImmutableHashMap.empty();
+      for (ScoredValue<V> e : wrappedValues) {
+         map = map.with(e.wrappedValue(), e.score());
+      }
+      entries = map;
+   }
+
+   private SortedSetBucket(ImmutableSortedSet<ScoredValue<V>> scoredEntries,
+                           ImmutableHashMap<MultimapObjectWrapper<V>, Double> entries) {
+      this.scoredEntries = scoredEntries;
+      this.entries = entries;
    }
 
    @ProtoField(number = 1, collectionImplementation = ArrayList.class)
@@ -140,8 +149,8 @@ public List<ScoredValue<V>> getScoredEntriesAsList() {
    }
 
    public SortedSetBucket() {
-      this.scoredEntries = new TreeSet<>();
-      this.entries = new HashMap<>();
+      this.scoredEntries = ImmutableSortedSet.empty();
+      this.entries = ImmutableHashMap.empty();
    }
 
    public SortedSetResult<Collection<ScoredValue<V>>, V> pop(boolean min, long count) {
@@ -149,18 +158,11 @@ public SortedSetResult<Collection<ScoredValue<V>>, V> pop(boolean min, long coun
             ? scoredEntries.iterator()
             : scoredEntries.descendingIterator();
 
-      int i = 0;
       List<ScoredValue<V>> popped = new ArrayList<>();
-      List<ScoredValue<V>> remaining = new ArrayList<>();
-      while (it.hasNext()) {
-         ScoredValue<V> sv = it.next();
-         if (++i > count) {
-            remaining.add(sv);
-         } else {
-            popped.add(sv);
-         }
+      while (it.hasNext() && popped.size() < count) {
+         popped.add(it.next());
       }
-      return new SortedSetResult<>(popped, new SortedSetBucket<>(remaining));
+      return new SortedSetResult<>(popped, removeAllInternal(popped).bucket());
    }
 
    public List<Double> scores(List<V> members) {
@@ -173,9 +175,9 @@ public IndexValue indexOf(V member, boolean isRev) {
       if (score == null) {
          return null;
       }
-      SortedSet<ScoredValue<V>> tailedHead = scoredEntries.headSet(new ScoredValue<>(score, wrapMember));
-      return isRev? IndexValue.of(score, scoredEntries.size() - tailedHead.size() - 1)
-            : IndexValue.of(score, tailedHead.size());
+      int rank = scoredEntries.rank(new ScoredValue<>(score, wrapMember));
+      return isRev? IndexValue.of(score, scoredEntries.size() - rank - 1)
+            : IndexValue.of(score, rank);
    }
 
    public SortedSetBucket<V> replace(Collection<ScoredValue<V>> scoredValues) {
@@ -195,7 +197,7 @@ public SortedSetResult<AddOrUpdatesCounters, V> addMany(Collection<ScoredValue<V
                                        boolean updateGreaterScoresOnly) {
 
       AddOrUpdatesCounters addResult = new AddOrUpdatesCounters();
-      SortedSetBucket<V> next = new SortedSetBucket<>(scoredEntries);
+      SortedSetBucket<V> next = new SortedSetBucket<>(scoredEntries, entries);
       long startSize = next.size();
 
       for (ScoredValue<V> scoredValue : scoredValues) {
@@ -234,7 +236,7 @@ public SortedSetResult<Double, V> incrScore(double incr, V member, boolean addOn
             throw new IllegalStateException("resulting score is not a number (NaN)");
       }
 
-      SortedSetBucket<V> next = new SortedSetBucket<>(scoredEntries);
+      SortedSetBucket<V> next = new SortedSetBucket<>(scoredEntries, entries);
       next.addOrUpdate(new AddOrUpdatesCounters(), new ScoredValue<>(newScore, wrappedValue));
       return new SortedSetResult<>(newScore, next);
    }
@@ -287,14 +289,13 @@ private void addOrUpdate(AddOrUpdatesCounters addResult, ScoredValue<V> scoredVa
 
    private void updateScoredValue(ScoredValue<V> newScoredValue, Double existingScore) {
       ScoredValue<V> oldScoredValue = new ScoredValue<>(existingScore, newScoredValue.wrappedValue());
-      scoredEntries.remove(oldScoredValue);
-      scoredEntries.add(newScoredValue);
-      entries.put(newScoredValue.wrappedValue(), newScoredValue.score());
+      scoredEntries = scoredEntries.without(oldScoredValue).with(newScoredValue);
+      entries = entries.with(newScoredValue.wrappedValue(), newScoredValue.score());
    }
 
    private void addScoredValue(ScoredValue<V> scoredValue) {
-      scoredEntries.add(scoredValue);
-      entries.put(scoredValue.wrappedValue(), scoredValue.score());
+      scoredEntries = scoredEntries.with(scoredValue);
+      entries = entries.with(scoredValue.wrappedValue(), scoredValue.score());
    }
 
    public SortedSetResult<Long, V> removeAll(Collection<V> values) {
@@ -327,12 +328,14 @@ private SortedSetResult<Long, V> removeAllInternal(Collection<ScoredValue<V>> su
       if (subset.isEmpty())
          return new SortedSetResult<>(0L, this);
 
-      List<ScoredValue<V>> remaining = new ArrayList<>(scoredEntries.size());
-      for (ScoredValue<V> sv : scoredEntries) {
-         if (!subset.contains(sv)) remaining.add(sv);
+      ImmutableSortedSet<ScoredValue<V>> remaining = scoredEntries;
+      ImmutableHashMap<MultimapObjectWrapper<V>, Double> remainingEntries = entries;
+      for (ScoredValue<V> sv : subset) {
+         remaining = remaining.without(sv);
+         remainingEntries = remainingEntries.without(sv.wrappedValue());
       }
       long size = subset.size();
-      return new SortedSetResult<>(size, new SortedSetBucket<>(remaining));
+      return new SortedSetResult<>(size, new SortedSetBucket<>(remaining, remainingEntries));
    }
 
    public List<ScoredValue<V>> subsetByIndex(long from, long to, boolean rev) {
@@ -387,7 +390,7 @@ public List<ScoredValue<V>> subset(Double startScore, boolean includeStart, Doub
       boolean unboundedMax = max == null || max == Double.MAX_VALUE;
 
       if (unboundedMin && unboundedMax) {
-         return applyLimit(scoredEntries, offset, count, isRev);
+         return applyLimit(scoredEntries.iterator(null, false, null, false, isRev), offset, count);
       }
 
       ScoredValue<V> startSv;
@@ -426,13 +429,14 @@ public List<ScoredValue<V>> subset(Double startScore, boolean includeStart, Doub
          return Collections.emptyList();
       }
 
-      NavigableSet<ScoredValue<V>> subset = scoredEntries.subSet(
+      Iterator<ScoredValue<V>> subset = scoredEntries.iterator(
             startSv,
             unboundedMin || (startSv.score() > min || (includeMin && startSv.score().equals(min))),
             stopSv,
-            unboundedMax || (stopSv.score() < max || (includeMax && stopSv.score().equals(max))));
+            unboundedMax || (stopSv.score() < max || (includeMax && stopSv.score().equals(max))),
+            isRev);
 
-      return applyLimit(subset, offset, count, isRev);
+      return applyLimit(subset, offset, count);
    }
 
    public List<ScoredValue<V>> subset(V startValue, boolean includeStart, V stopValue, boolean includeStop, boolean isRev, Long offset, Long count) {
@@ -448,7 +452,7 @@ public List<ScoredValue<V>> subset(V startValue, boolean includeStart, V stopVal
       boolean unboundedMax = maxValue == null;
 
       if (unboundedMin && unboundedMax) {
-         return applyLimit(scoredEntries, offset, count, isRev);
+         return applyLimit(scoredEntries.iterator(null, false, null, false, isRev), offset, count);
       }
       // if all the scoredEntries have the same score, then we can pick up first score for lex
       // when all the entries don't have the same score, this method can't work. This is the expected behaviour.
@@ -458,27 +462,20 @@ public List<ScoredValue<V>> subset(V startValue, boolean includeStart, V stopVal
       ScoredValue<V> maxScoredValue = ScoredValue.of(score, maxValue);
 
       if (unboundedMin) {
-         NavigableSet<ScoredValue<V>> entries = scoredEntries.headSet(maxScoredValue, includeMax);
-         return applyLimit(entries, offset, count, isRev);
+         return applyLimit(scoredEntries.iterator(null, false, maxScoredValue, includeMax, isRev), offset, count);
       }
 
       if (unboundedMax) {
-         NavigableSet<ScoredValue<V>> entries = scoredEntries.tailSet(minScoredValue, includeMin);
-         return applyLimit(entries, offset, count, isRev);
+         return applyLimit(scoredEntries.iterator(minScoredValue, includeMin, null, false, isRev), offset, count);
       }
 
-      try {
-         NavigableSet<ScoredValue<V>> entries = scoredEntries.subSet(minScoredValue, includeMin, maxScoredValue, includeMax);
-         return applyLimit(entries, offset, count, isRev);
-      } catch (IllegalArgumentException e) {
-         return Collections.emptyList();
-      }
+      // Empty if the minimum is greater than the maximum
+      return applyLimit(scoredEntries.iterator(minScoredValue, includeMin, maxScoredValue, includeMax, isRev), offset, count);
    }
 
-   private List<ScoredValue<V>> applyLimit(NavigableSet<ScoredValue<V>> subset, final Long offset, final Long count, boolean isRev) {
+   private List<ScoredValue<V>> applyLimit(Iterator<ScoredValue<V>> ite, final Long offset, final Long count) {
       if (!isLimited(offset, count)) {
-         List<ScoredValue<V>> result = new ArrayList<>(entries.size());
-         Iterator<ScoredValue<V>> ite = isRev ? subset.descendingIterator() : subset.iterator();
+         List<ScoredValue<V>> result = new ArrayList<>();
          while (ite.hasNext()) {
             result.add(ite.next());
          }
@@ -486,7 +483,6 @@ private List<ScoredValue<V>> applyLimit(NavigableSet<ScoredValue<V>> subset, fin
       }
 
       List<ScoredValue<V>> result = new ArrayList<>();
-      Iterator<ScoredValue<V>> ite = isRev ? subset.descendingIterator() : subset.iterator();
       if (count < 0) {
          skipOffset(offset, ite);
          while (ite.hasNext()) {
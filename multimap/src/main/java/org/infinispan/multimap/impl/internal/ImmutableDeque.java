@@ -0,0 +1,236 @@
+package org.infinispan.multimap.impl.internal;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable double-ended queue where every update returns a new instance sharing most of its structure with the
+ * previous one.
+ * <p>
+ * The elements are kept in two linked lists, one with the head of the queue and one with its tail in reverse order, so
+ * adding or removing an element at either end is O(1). When one of the lists runs out while the other one still has
+ * more than one element, the elements are split again in two halves, which keeps the removals O(1) amortized.
+ * <p>
+ * Instances can be read by any number of threads while new versions are created from them.
+ *
+ * @param <E> the type of the elements
+ * @since 16.0
+ */
+public final class ImmutableDeque<E> extends AbstractCollection<E> {
+   private static final ImmutableDeque<?> EMPTY = new ImmutableDeque<>(null, 0, null, 0);
+
+   // Invariant: front is empty only if the deque is empty, and rear is empty only if the deque has at most 1 element
+   private final Node<E> front;
+   private final int frontSize;
+   private final Node<E> rear;
+   private final int rearSize;
+
+   private ImmutableDeque(Node<E> front, int frontSize, Node<E> rear, int rearSize) {
+      this.front = front;
+      this.frontSize = frontSize;
+      this.rear = rear;
+      this.rearSize = rearSize;
+   }
+
+   @SuppressWarnings("unchecked")
+   public static <E> ImmutableDeque<E> empty() {
+      return (ImmutableDeque<E>) EMPTY;
+   }
+
+   /**
+    * @return a deque with the elements of the collection, in iteration order.
+    */
+   @SuppressWarnings("unchecked")
+   public static <E> ImmutableDeque<E> of(Collection<? extends E> elements) {
+      if (elements instanceof ImmutableDeque) {
+         return (ImmutableDeque<E>) elements;
+      }
+      return fromArray(elements.toArray());
+   }
+
+   @SuppressWarnings("unchecked")
+   private static <E> ImmutableDeque<E> fromArray(Object[] elements) {
+      int size = elements.length;
+      if (size == 0) {
+         return empty();
+      }
+      int frontSize = (size + 1) / 2;
+      Node<E> front = null;
+      for (int i = frontSize - 1; i >= 0; --i) {
+         front = new Node<>((E) elements[i], front);
+      }
+      Node<E> rear = null;
+      for (int i = frontSize; i < size; ++i) {
+         rear = new Node<>((E) elements[i], rear);
+      }
+      return new ImmutableDeque<>(front, frontSize, rear, size - frontSize);
+   }
+
+   @Override
+   public int size() {
+      return frontSize + rearSize;
+   }
+
+   @Override
+   public boolean isEmpty() {
+      return front == null;
+   }
+
+   /**
+    * @throws NoSuchElementException if the deque is empty
+    */
+   public E first() {
+      if (front == null) {
+         throw new NoSuchElementException();
+      }
+      return front.value;
+   }
+
+   /**
+    * @throws NoSuchElementException if the deque is empty
+    */
+   public E last() {
+      if (rear != null) {
+         return rear.value;
+      }
+      if (front == null) {
+         throw new NoSuchElementException();
+      }
+      return front.value;
+   }
+
+   public ImmutableDeque<E> addFirst(E element) {
+      if (front != null && rear == null) {
+         // Moving the only element to the rear keeps both ends available in O(1)
+         return new ImmutableDeque<>(new Node<>(element, null), 1, front, 1);
+      }
+      return new ImmutableDeque<>(new Node<>(element, front), frontSize + 1, rear, rearSize);
+   }
+
+   public ImmutableDeque<E> addLast(E element) {
+      if (front == null) {
+         return new ImmutableDeque<>(new Node<>(element, null), 1, null, 0);
+      }
+      return new ImmutableDeque<>(front, frontSize, new Node<>(element, rear), rearSize + 1);
+   }
+
+   /**
+    * @return the deque without its first element
+    * @throws NoSuchElementException if the deque is empty
+    */
+   public ImmutableDeque<E> removeFirst() {
+      if (front == null) {
+         throw new NoSuchElementException();
+      }
+      if (front.next != null || rearSize <= 1) {
+         ImmutableDeque<E> deque = new ImmutableDeque<>(front.next, frontSize - 1, rear, rearSize);
+         return deque.front == null && rear != null ? new ImmutableDeque<>(rear, 1, null, 0) : deque;
+      }
+      Object[] elements = new Object[rearSize];
+      copyReversed(rear, elements, rearSize);
+      return fromArray(elements);
+   }
+
+   /**
+    * @return the deque without its last element
+    * @throws NoSuchElementException if the deque is empty
+    */
+   public ImmutableDeque<E> removeLast() {
+      if (front == null) {
+         throw new NoSuchElementException();
+      }
+      if (rear == null) {
+         return empty();
+      }
+      if (rear.next != null || frontSize <= 1) {
+         return new ImmutableDeque<>(front, frontSize, rear.next, rearSize - 1);
+      }
+      Object[] elements = new Object[frontSize];
+      int i = 0;
+      for (Node<E> node = front; node != null; node = node.next) {
+         elements[i++] = node.value;
+      }
+      return fromArray(elements);
+   }
+
+   @Override
+   public Object[] toArray() {
+      Object[] elements = new Object[size()];
+      int i = 0;
+      for (Node<E> node = front; node != null; node = node.next) {
+         elements[i++] = node.value;
+      }
+      copyReversed(rear, elements, elements.length);
+      return elements;
+   }
+
+   @Override
+   public Iterator<E> iterator() {
+      return new DequeIterator<>(front, rear, rearSize);
+   }
+
+   public Iterator<E> descendingIterator() {
+      return new DequeIterator<>(rear, front, frontSize);
+   }
+
+   // Copies the list to the end of the array, reversing its order
+   private static void copyReversed(Node<?> list, Object[] elements, int end) {
+      int i = end;
+      for (Node<?> node = list; node != null; node = node.next) {
+         elements[--i] = node.value;
+      }
+   }
+
+   private static final class Node<E> {
+      final E value;
+      final Node<E> next;
+
+      Node(E value, Node<E> next) {
+         this.value = value;
+         this.next = next;
+      }
+   }
+
+   /**
+    * Iterates one list in order and then the other one in reverse order.
+    */
+   private static final class DequeIterator<E> implements Iterator<E> {
+      private Node<E> next;
+      private Node<E> reversed;
+      private final int reversedSize;
+      private Object[] elements;
+      private int index;
+
+      DequeIterator(Node<E> inOrder, Node<E> reversed, int reversedSize) {
+         this.next = inOrder;
+         this.reversed = reversed;
+         this.reversedSize = reversedSize;
+      }
+
+      @Override
+      public boolean hasNext() {
+         return next != null || reversed != null || (elements != null && index < elements.length);
+      }
+
+      @SuppressWarnings("unchecked")
+      @Override
+      public E next() {
+         if (next != null) {
+            E value = next.value;
+            next = next.next;
+            return value;
+         }
+         if (reversed != null) {
+            elements = new Object[reversedSize];
+            copyReversed(reversed, elements, reversedSize);
+            reversed = null;
+         }
+         if (elements == null || index >= elements.length) {
+            throw new NoSuchElementException();
+         }
+         return (E) elements[index++];
+      }
+   }
+}
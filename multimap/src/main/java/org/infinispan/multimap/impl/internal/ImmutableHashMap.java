@@ -0,0 +1,374 @@
+package org.infinispan.multimap.impl.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable hash map where every update returns a new instance sharing most of its structure with the previous one.
+ * <p>
+ * The entries are kept in a hash array mapped trie, so {@link #with(Object, Object)} and {@link #without(Object)} only
+ * copy the O(log<sub>32</sub> n) nodes on the path to the entry. Keys cannot be {@code null}, values can.
+ * <p>
+ * Instances can be read by any number of threads while new versions are created from them. The {@link Map} mutators
+ * inherited from {@link AbstractMap} are not supported.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @since 16.0
+ */
+public final class ImmutableHashMap<K, V> extends AbstractMap<K, V> {
+   private static final ImmutableHashMap<?, ?> EMPTY = new ImmutableHashMap<>(null, 0);
+   private static final Object NOT_FOUND = new Object();
+   private static final int BITS = 5;
+   private static final int MASK = (1 << BITS) - 1;
+
+   private final Node root;
+   private final int size;
+
+   private ImmutableHashMap(Node root, int size) {
+      this.root = root;
+      this.size = size;
+   }
+
+   @SuppressWarnings("unchecked")
+   public static <K, V> ImmutableHashMap<K, V> empty() {
+      return (ImmutableHashMap<K, V>) EMPTY;
+   }
+
+   @SuppressWarnings("unchecked")
+   public static <K, V> ImmutableHashMap<K, V> of(Map<? extends K, ? extends V> map) {
+      if (map instanceof ImmutableHashMap) {
+         return (ImmutableHashMap<K, V>) map;
+      }
+      ImmutableHashMap<K, V> result = empty();
+      for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+         result = result.with(entry.getKey(), entry.getValue());
+      }
+      return result;
+   }
+
+   @Override
+   public int size() {
+      return size;
+   }
+
+   @Override
+   public boolean isEmpty() {
+      return size == 0;
+   }
+
+   @SuppressWarnings("unchecked")
+   @Override
+   public V get(Object key) {
+      Object value = find(key);
+      return value == NOT_FOUND ? null : (V) value;
+   }
+
+   @Override
+   public boolean containsKey(Object key) {
+      return find(key) != NOT_FOUND;
+   }
+
+   private Object find(Object key) {
+      if (root == null || key == null) {
+         return NOT_FOUND;
+      }
+      return root.find(0, hash(key), key);
+   }
+
+   /**
+    * @return a map with the given mapping, or this map if it already had it
+    */
+   public ImmutableHashMap<K, V> with(K key, V value) {
+      Objects.requireNonNull(key);
+      boolean[] added = new boolean[1];
+      Node newRoot = (root == null ? BitmapNode.EMPTY : root).put(0, hash(key), key, value, added);
+      if (newRoot == root) {
+         return this;
+      }
+      return new ImmutableHashMap<>(newRoot, added[0] ? size + 1 : size);
+   }
+
+   /**
+    * @return a map without the key, or this map if it did not have it
+    */
+   public ImmutableHashMap<K, V> without(Object key) {
+      if (root == null || key == null) {
+         return this;
+      }
+      Node newRoot = root.remove(0, hash(key), key);
+      if (newRoot == root) {
+         return this;
+      }
+      return newRoot == null ? empty() : new ImmutableHashMap<>(newRoot, size - 1);
+   }
+
+   @Override
+   public Set<Entry<K, V>> entrySet() {
+      return new AbstractSet<>() {
+         @Override
+         public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator<>(root);
+         }
+
+         @Override
+         public int size() {
+            return size;
+         }
+      };
+   }
+
+   private static int hash(Object key) {
+      int h = key.hashCode();
+      return h ^ (h >>> 16);
+   }
+
+   private static int bit(int hash, int shift) {
+      return 1 << ((hash >>> shift) & MASK);
+   }
+
+   /**
+    * A trie node. The entries are stored in pairs in {@link #array}: a key followed by its value, or {@code null}
+    * followed by a child node.
+    */
+   private abstract static class Node {
+      final Object[] array;
+
+      Node(Object[] array) {
+         this.array = array;
+      }
+
+      abstract Object find(int shift, int hash, Object key);
+
+      abstract Node put(int shift, int hash, Object key, Object value, boolean[] added);
+
+      /**
+       * @return the node without the key, {@code this} if the key was not present or {@code null} if it becomes empty
+       */
+      abstract Node remove(int shift, int hash, Object key);
+   }
+
+   private static final class BitmapNode extends Node {
+      static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+      final int bitmap;
+
+      BitmapNode(int bitmap, Object[] array) {
+         super(array);
+         this.bitmap = bitmap;
+      }
+
+      private int index(int bit) {
+         return Integer.bitCount(bitmap & (bit - 1));
+      }
+
+      @Override
+      Object find(int shift, int hash, Object key) {
+         int bit = bit(hash, shift);
+         if ((bitmap & bit) == 0) {
+            return NOT_FOUND;
+         }
+         int idx = 2 * index(bit);
+         Object keyOrNull = array[idx];
+         Object valueOrNode = array[idx + 1];
+         if (keyOrNull == null) {
+            return ((Node) valueOrNode).find(shift + BITS, hash, key);
+         }
+         return key.equals(keyOrNull) ? valueOrNode : NOT_FOUND;
+      }
+
+      @Override
+      Node put(int shift, int hash, Object key, Object value, boolean[] added) {
+         int bit = bit(hash, shift);
+         int idx = 2 * index(bit);
+         if ((bitmap & bit) == 0) {
+            Object[] newArray = new Object[array.length + 2];
+            System.arraycopy(array, 0, newArray, 0, idx);
+            newArray[idx] = key;
+            newArray[idx + 1] = value;
+            System.arraycopy(array, idx, newArray, idx + 2, array.length - idx);
+            added[0] = true;
+            return new BitmapNode(bitmap | bit, newArray);
+         }
+         Object keyOrNull = array[idx];
+         Object valueOrNode = array[idx + 1];
+         if (keyOrNull == null) {
+            Node child = ((Node) valueOrNode).put(shift + BITS, hash, key, value, added);
+            return child == valueOrNode ? this : new BitmapNode(bitmap, copyWith(array, idx + 1, child));
+         }
+         if (key.equals(keyOrNull)) {
+            return value == valueOrNode ? this : new BitmapNode(bitmap, copyWith(array, idx + 1, value));
+         }
+         added[0] = true;
+         Node child = createNode(shift + BITS, keyOrNull, valueOrNode, hash, key, value);
+         Object[] newArray = copyWith(array, idx + 1, child);
+         newArray[idx] = null;
+         return new BitmapNode(bitmap, newArray);
+      }
+
+      @Override
+      Node remove(int shift, int hash, Object key) {
+         int bit = bit(hash, shift);
+         if ((bitmap & bit) == 0) {
+            return this;
+         }
+         int idx = 2 * index(bit);
+         Object keyOrNull = array[idx];
+         Object valueOrNode = array[idx + 1];
+         if (keyOrNull == null) {
+            Node child = ((Node) valueOrNode).remove(shift + BITS, hash, key);
+            if (child == valueOrNode) {
+               return this;
+            }
+            if (child != null) {
+               return new BitmapNode(bitmap, copyWith(array, idx + 1, child));
+            }
+         } else if (!key.equals(keyOrNull)) {
+            return this;
+         }
+         return bitmap == bit ? null : new BitmapNode(bitmap ^ bit, copyWithoutPair(array, idx));
+      }
+
+      private static Node createNode(int shift, Object key1, Object value1, int hash2, Object key2, Object value2) {
+         int hash1 = hash(key1);
+         if (hash1 == hash2) {
+            return new CollisionNode(hash1, new Object[]{key1, value1, key2, value2});
+         }
+         boolean[] added = new boolean[1];
+         return EMPTY.put(shift, hash1, key1, value1, added).put(shift, hash2, key2, value2, added);
+      }
+   }
+
+   /**
+    * Holds the entries whose keys have the same hash.
+    */
+   private static final class CollisionNode extends Node {
+      final int hash;
+
+      CollisionNode(int hash, Object[] array) {
+         super(array);
+         this.hash = hash;
+      }
+
+      private int indexOf(Object key) {
+         for (int i = 0; i < array.length; i += 2) {
+            if (key.equals(array[i])) {
+               return i;
+            }
+         }
+         return -1;
+      }
+
+      @Override
+      Object find(int shift, int hash, Object key) {
+         if (hash != this.hash) {
+            return NOT_FOUND;
+         }
+         int idx = indexOf(key);
+         return idx < 0 ? NOT_FOUND : array[idx + 1];
+      }
+
+      @Override
+      Node put(int shift, int hash, Object key, Object value, boolean[] added) {
+         if (hash != this.hash) {
+            // Push this node one level down, next to the new key
+            return new BitmapNode(bit(this.hash, shift), new Object[]{null, this})
+                  .put(shift, hash, key, value, added);
+         }
+         int idx = indexOf(key);
+         if (idx >= 0) {
+            return array[idx + 1] == value ? this : new CollisionNode(hash, copyWith(array, idx + 1, value));
+         }
+         Object[] newArray = new Object[array.length + 2];
+         System.arraycopy(array, 0, newArray, 0, array.length);
+         newArray[array.length] = key;
+         newArray[array.length + 1] = value;
+         added[0] = true;
+         return new CollisionNode(hash, newArray);
+      }
+
+      @Override
+      Node remove(int shift, int hash, Object key) {
+         if (hash != this.hash) {
+            return this;
+         }
+         int idx = indexOf(key);
+         if (idx < 0) {
+            return this;
+         }
+         return array.length == 2 ? null : new CollisionNode(hash, copyWithoutPair(array, idx));
+      }
+   }
+
+   private static Object[] copyWith(Object[] array, int index, Object value) {
+      Object[] copy = array.clone();
+      copy[index] = value;
+      return copy;
+   }
+
+   private static Object[] copyWithoutPair(Object[] array, int index) {
+      Object[] copy = new Object[array.length - 2];
+      System.arraycopy(array, 0, copy, 0, index);
+      System.arraycopy(array, index + 2, copy, index, array.length - index - 2);
+      return copy;
+   }
+
+   private static final class EntryIterator<K, V> implements Iterator<Entry<K, V>> {
+      private final Deque<Object[]> arrays = new ArrayDeque<>();
+      private final Deque<Integer> positions = new ArrayDeque<>();
+      private Entry<K, V> next;
+
+      EntryIterator(Node root) {
+         if (root != null) {
+            arrays.push(root.array);
+            positions.push(0);
+         }
+         advance();
+      }
+
+      @SuppressWarnings("unchecked")
+      private void advance() {
+         next = null;
+         while (!arrays.isEmpty()) {
+            Object[] array = arrays.peek();
+            int position = positions.pop();
+            if (position >= array.length) {
+               arrays.pop();
+               continue;
+            }
+            positions.push(position + 2);
+            Object key = array[position];
+            Object valueOrNode = array[position + 1];
+            if (key == null) {
+               arrays.push(((Node) valueOrNode).array);
+               positions.push(0);
+            } else {
+               next = new SimpleImmutableEntry<>((K) key, (V) valueOrNode);
+               return;
+            }
+         }
+      }
+
+      @Override
+      public boolean hasNext() {
+         return next != null;
+      }
+
+      @Override
+      public Entry<K, V> next() {
+         if (next == null) {
+            throw new NoSuchElementException();
+         }
+         Entry<K, V> entry = next;
+         advance();
+         return entry;
+      }
+   }
+}
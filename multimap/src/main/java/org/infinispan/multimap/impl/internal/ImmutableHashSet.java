@@ -0,0 +1,75 @@
+package org.infinispan.multimap.impl.internal;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * An immutable hash set where every update returns a new instance sharing most of its structure with the previous one,
+ * backed by an {@link ImmutableHashMap}.
+ *
+ * @param <E> the type of the elements
+ * @since 16.0
+ */
+public final class ImmutableHashSet<E> extends AbstractSet<E> {
+   private static final ImmutableHashSet<?> EMPTY = new ImmutableHashSet<>(ImmutableHashMap.empty());
+
+   private final ImmutableHashMap<E, Boolean> map;
+
+   private ImmutableHashSet(ImmutableHashMap<E, Boolean> map) {
+      this.map = map;
+   }
+
+   @SuppressWarnings("unchecked")
+   public static <E> ImmutableHashSet<E> empty() {
+      return (ImmutableHashSet<E>) EMPTY;
+   }
+
+   @SuppressWarnings("unchecked")
+   public static <E> ImmutableHashSet<E> of(Collection<? extends E> elements) {
+      if (elements instanceof ImmutableHashSet) {
+         return (ImmutableHashSet<E>) elements;
+      }
+      ImmutableHashSet<E> result = empty();
+      for (E element : elements) {
+         result = result.with(element);
+      }
+      return result;
+   }
+
+   @Override
+   public int size() {
+      return map.size();
+   }
+
+   @Override
+   public boolean isEmpty() {
+      return map.isEmpty();
+   }
+
+   @Override
+   public boolean contains(Object o) {
+      return map.containsKey(o);
+   }
+
+   /**
+    * @return a set with the element, or this set if it already had it
+    */
+   public ImmutableHashSet<E> with(E element) {
+      ImmutableHashMap<E, Boolean> newMap = map.with(element, Boolean.TRUE);
+      return newMap == map ? this : new ImmutableHashSet<>(newMap);
+   }
+
+   /**
+    * @return a set without the element, or this set if it did not have it
+    */
+   public ImmutableHashSet<E> without(Object element) {
+      ImmutableHashMap<E, Boolean> newMap = map.without(element);
+      return newMap == map ? this : new ImmutableHashSet<>(newMap);
+   }
+
+   @Override
+   public Iterator<E> iterator() {
+      return map.keySet().iterator();
+   }
+}
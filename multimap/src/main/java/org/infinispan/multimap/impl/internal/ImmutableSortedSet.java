@@ -0,0 +1,379 @@
+package org.infinispan.multimap.impl.internal;
+
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable sorted set where every update returns a new instance sharing most of its structure with the previous
+ * one.
+ * <p>
+ * The elements are kept in an AVL tree that also tracks the size of every subtree, so {@link #with(Comparable)},
+ * {@link #without(Comparable)} and {@link #rank(Comparable)} are O(log n) and only copy the nodes on the path to the
+ * element. Elements are ordered by their natural ordering, and elements comparing equal are considered the same.
+ * <p>
+ * Instances can be read by any number of threads while new versions are created from them. The {@link java.util.Set}
+ * mutators inherited from {@link AbstractSet} are not supported.
+ *
+ * @param <E> the type of the elements
+ * @since 16.0
+ */
+public final class ImmutableSortedSet<E extends Comparable<? super E>> extends AbstractSet<E> {
+   private static final ImmutableSortedSet<?> EMPTY = new ImmutableSortedSet<>(null);
+
+   private final Node<E> root;
+
+   private ImmutableSortedSet(Node<E> root) {
+      this.root = root;
+   }
+
+   @SuppressWarnings("unchecked")
+   public static <E extends Comparable<? super E>> ImmutableSortedSet<E> empty() {
+      return (ImmutableSortedSet<E>) EMPTY;
+   }
+
+   @SuppressWarnings("unchecked")
+   public static <E extends Comparable<? super E>> ImmutableSortedSet<E> of(Collection<? extends E> elements) {
+      if (elements instanceof ImmutableSortedSet) {
+         return (ImmutableSortedSet<E>) elements;
+      }
+      Object[] sorted = elements.toArray();
+      Arrays.sort(sorted);
+      // Keep only the first of the elements comparing equal
+      int size = 0;
+      for (Object element : sorted) {
+         if (size == 0 || ((E) sorted[size - 1]).compareTo((E) element) != 0) {
+            sorted[size++] = element;
+         }
+      }
+      return size == 0 ? empty() : new ImmutableSortedSet<>(ImmutableSortedSet.<E>build(sorted, 0, size));
+   }
+
+   @SuppressWarnings("unchecked")
+   private static <E> Node<E> build(Object[] sorted, int from, int to) {
+      if (from >= to) {
+         return null;
+      }
+      int middle = (from + to) >>> 1;
+      return node((E) sorted[middle], build(sorted, from, middle), build(sorted, middle + 1, to));
+   }
+
+   @Override
+   public int size() {
+      return size(root);
+   }
+
+   @Override
+   public boolean isEmpty() {
+      return root == null;
+   }
+
+   @SuppressWarnings("unchecked")
+   @Override
+   public boolean contains(Object o) {
+      E element = (E) o;
+      Node<E> node = root;
+      while (node != null) {
+         int c = element.compareTo(node.value);
+         if (c == 0) {
+            return true;
+         }
+         node = c < 0 ? node.left : node.right;
+      }
+      return false;
+   }
+
+   /**
+    * @return a set with the element, or this set if it already had an element comparing equal
+    */
+   public ImmutableSortedSet<E> with(E element) {
+      Node<E> newRoot = insert(root, element);
+      return newRoot == root ? this : new ImmutableSortedSet<>(newRoot);
+   }
+
+   /**
+    * @return a set without the element comparing equal to the given one, or this set if it did not have it
+    */
+   public ImmutableSortedSet<E> without(E element) {
+      Node<E> newRoot = delete(root, element);
+      if (newRoot == root) {
+         return this;
+      }
+      return newRoot == null ? empty() : new ImmutableSortedSet<>(newRoot);
+   }
+
+   /**
+    * @throws NoSuchElementException if the set is empty
+    */
+   public E first() {
+      if (root == null) {
+         throw new NoSuchElementException();
+      }
+      Node<E> node = root;
+      while (node.left != null) {
+         node = node.left;
+      }
+      return node.value;
+   }
+
+   /**
+    * @throws NoSuchElementException if the set is empty
+    */
+   public E last() {
+      if (root == null) {
+         throw new NoSuchElementException();
+      }
+      Node<E> node = root;
+      while (node.right != null) {
+         node = node.right;
+      }
+      return node.value;
+   }
+
+   /**
+    * @return the greatest element strictly less than the given one, or {@code null} if there is none
+    */
+   public E lower(E element) {
+      E result = null;
+      Node<E> node = root;
+      while (node != null) {
+         if (element.compareTo(node.value) > 0) {
+            result = node.value;
+            node = node.right;
+         } else {
+            node = node.left;
+         }
+      }
+      return result;
+   }
+
+   /**
+    * @return the least element strictly greater than the given one, or {@code null} if there is none
+    */
+   public E higher(E element) {
+      E result = null;
+      Node<E> node = root;
+      while (node != null) {
+         if (element.compareTo(node.value) < 0) {
+            result = node.value;
+            node = node.left;
+         } else {
+            node = node.right;
+         }
+      }
+      return result;
+   }
+
+   /**
+    * @return the number of elements strictly less than the given one
+    */
+   public int rank(E element) {
+      int rank = 0;
+      Node<E> node = root;
+      while (node != null) {
+         if (element.compareTo(node.value) > 0) {
+            rank += size(node.left) + 1;
+            node = node.right;
+         } else {
+            node = node.left;
+         }
+      }
+      return rank;
+   }
+
+   @Override
+   public Iterator<E> iterator() {
+      return iterator(null, false, null, false, false);
+   }
+
+   public Iterator<E> descendingIterator() {
+      return iterator(null, false, null, false, true);
+   }
+
+   /**
+    * Iterates the elements between two bounds. The iteration is empty if {@code from} is greater than {@code to}.
+    *
+    * @param from          the lower bound, or {@code null} to start from the first element
+    * @param fromInclusive whether an element comparing equal to {@code from} is included
+    * @param to            the upper bound, or {@code null} to end with the last element
+    * @param toInclusive   whether an element comparing equal to {@code to} is included
+    * @param descending    whether the elements are iterated from the greatest to the least
+    */
+   public Iterator<E> iterator(E from, boolean fromInclusive, E to, boolean toInclusive, boolean descending) {
+      return new RangeIterator<>(root, from, fromInclusive, to, toInclusive, descending);
+   }
+
+   private static int size(Node<?> node) {
+      return node == null ? 0 : node.size;
+   }
+
+   private static int height(Node<?> node) {
+      return node == null ? 0 : node.height;
+   }
+
+   private static <E> Node<E> node(E value, Node<E> left, Node<E> right) {
+      return new Node<>(value, left, right);
+   }
+
+   private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+      int hl = height(left);
+      int hr = height(right);
+      if (hl > hr + 1) {
+         if (height(left.left) >= height(left.right)) {
+            return node(left.value, left.left, node(value, left.right, right));
+         }
+         return node(left.right.value, node(left.value, left.left, left.right.left),
+               node(value, left.right.right, right));
+      }
+      if (hr > hl + 1) {
+         if (height(right.right) >= height(right.left)) {
+            return node(right.value, node(value, left, right.left), right.right);
+         }
+         return node(right.left.value, node(value, left, right.left.left),
+               node(right.value, right.left.right, right.right));
+      }
+      return node(value, left, right);
+   }
+
+   private static <E extends Comparable<? super E>> Node<E> insert(Node<E> node, E element) {
+      if (node == null) {
+         return node(element, null, null);
+      }
+      int c = element.compareTo(node.value);
+      if (c < 0) {
+         Node<E> left = insert(node.left, element);
+         return left == node.left ? node : balance(node.value, left, node.right);
+      }
+      if (c > 0) {
+         Node<E> right = insert(node.right, element);
+         return right == node.right ? node : balance(node.value, node.left, right);
+      }
+      return node;
+   }
+
+   private static <E extends Comparable<? super E>> Node<E> delete(Node<E> node, E element) {
+      if (node == null) {
+         return null;
+      }
+      int c = element.compareTo(node.value);
+      if (c < 0) {
+         Node<E> left = delete(node.left, element);
+         return left == node.left ? node : balance(node.value, left, node.right);
+      }
+      if (c > 0) {
+         Node<E> right = delete(node.right, element);
+         return right == node.right ? node : balance(node.value, node.left, right);
+      }
+      if (node.left == null) {
+         return node.right;
+      }
+      if (node.right == null) {
+         return node.left;
+      }
+      Node<E> min = node.right;
+      while (min.left != null) {
+         min = min.left;
+      }
+      return balance(min.value, node.left, deleteMin(node.right));
+   }
+
+   private static <E> Node<E> deleteMin(Node<E> node) {
+      if (node.left == null) {
+         return node.right;
+      }
+      return balance(node.value, deleteMin(node.left), node.right);
+   }
+
+   private static final class Node<E> {
+      final E value;
+      final Node<E> left;
+      final Node<E> right;
+      final int height;
+      final int size;
+
+      Node(E value, Node<E> left, Node<E> right) {
+         this.value = value;
+         this.left = left;
+         this.right = right;
+         this.height = Math.max(height(left), height(right)) + 1;
+         this.size = size(left) + size(right) + 1;
+      }
+   }
+
+   private static final class RangeIterator<E extends Comparable<? super E>> implements Iterator<E> {
+      private final Deque<Node<E>> stack = new ArrayDeque<>();
+      private final E end;
+      private final boolean endInclusive;
+      private final boolean descending;
+      private E next;
+
+      RangeIterator(Node<E> root, E from, boolean fromInclusive, E to, boolean toInclusive, boolean descending) {
+         this.descending = descending;
+         E start = descending ? to : from;
+         boolean startInclusive = descending ? toInclusive : fromInclusive;
+         this.end = descending ? from : to;
+         this.endInclusive = descending ? fromInclusive : toInclusive;
+         // Push the path to the first element in the range
+         Node<E> node = root;
+         while (node != null) {
+            if (start == null || afterStart(node.value, start, startInclusive)) {
+               stack.push(node);
+               node = descending ? node.right : node.left;
+            } else {
+               node = descending ? node.left : node.right;
+            }
+         }
+         advance();
+      }
+
+      private int compare(E a, E b) {
+         return descending ? b.compareTo(a) : a.compareTo(b);
+      }
+
+      private boolean afterStart(E value, E start, boolean inclusive) {
+         int c = compare(value, start);
+         return inclusive ? c >= 0 : c > 0;
+      }
+
+      private void advance() {
+         if (stack.isEmpty()) {
+            next = null;
+            return;
+         }
+         Node<E> node = stack.pop();
+         next = node.value;
+         if (end != null) {
+            int c = compare(next, end);
+            if (c > 0 || (c == 0 && !endInclusive)) {
+               next = null;
+               stack.clear();
+               return;
+            }
+         }
+         Node<E> child = descending ? node.left : node.right;
+         while (child != null) {
+            stack.push(child);
+            child = descending ? child.right : child.left;
+         }
+      }
+
+      @Override
+      public boolean hasNext() {
+         return next != null;
+      }
+
+      @Override
+      public E next() {
+         if (next == null) {
+            throw new NoSuchElementException();
+         }
+         E value = next;
+         advance();
+         return value;
+      }
+   }
+}
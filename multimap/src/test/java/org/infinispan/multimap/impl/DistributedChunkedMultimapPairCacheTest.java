@@ -0,0 +1,61 @@
+package org.infinispan.multimap.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.infinispan.functional.FunctionalTestUtils.await;
+import static org.infinispan.multimap.impl.MultimapTestUtils.FELIX;
+import static org.infinispan.multimap.impl.MultimapTestUtils.KOLDO;
+import static org.infinispan.multimap.impl.MultimapTestUtils.OIHANA;
+import static org.infinispan.multimap.impl.MultimapTestUtils.RAMON;
+
+import java.util.Map;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.distribution.LocalizedCacheTopology;
+import org.infinispan.distribution.ch.impl.AffinityPartitioner;
+import org.infinispan.test.data.Person;
+import org.testng.annotations.Test;
+
+@Test(groups = "functional", testName = "distribution.DistributedChunkedMultimapPairCacheTest")
+public class DistributedChunkedMultimapPairCacheTest extends DistributedMultimapPairCacheTest {
+
+   private static final int CHUNKS = 4;
+
+   @Override
+   protected EmbeddedMultimapPairCache<String, byte[], Person> create(EmbeddedMultimapCacheManager<String, Map<byte[], Person>> manager) {
+      return manager.getMultimapPair(cacheName, CHUNKS);
+   }
+
+   @Override
+   protected ConfigurationBuilder buildConfiguration() {
+      ConfigurationBuilder builder = super.buildConfiguration();
+      builder.clustering().hash().keyPartitioner(new AffinityPartitioner());
+      return builder;
+   }
+
+   @Override
+   public Object[] factory() {
+      return super.factory(DistributedChunkedMultimapPairCacheTest::new);
+   }
+
+   public void testChunksAreColocated() {
+      String key = getEntryKey();
+      EmbeddedMultimapPairCache<String, byte[], Person> multimap = getMultimapMember();
+      await(multimap.set(key, Map.entry("oihana".getBytes(), OIHANA), Map.entry("koldo".getBytes(), KOLDO),
+            Map.entry("felix".getBytes(), FELIX), Map.entry("ramon".getBytes(), RAMON)));
+
+      Cache<Object, Object> cache = cache(0, cacheName);
+      LocalizedCacheTopology topology = cache.getAdvancedCache().getDistributionManager().getCacheTopology();
+      int stored = 0;
+      for (int i = 0; i < CHUNKS; i++) {
+         BucketChunkKey<String> chunkKey = new BucketChunkKey<>(key, i, topology.getSegment(key));
+         assertThat(topology.getDistribution(chunkKey).primary()).isEqualTo(topology.getDistribution(key).primary());
+         if (cache.get(chunkKey) != null) {
+            stored++;
+         }
+      }
+      assertThat(stored).isGreaterThan(1);
+      assertThat(cache.containsKey(key)).isFalse();
+      assertThat(await(multimap.size(key))).isEqualTo(4);
+   }
+}
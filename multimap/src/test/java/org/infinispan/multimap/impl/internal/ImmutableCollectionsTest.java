@@ -0,0 +1,179 @@
+package org.infinispan.multimap.impl.internal;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.testng.annotations.Test;
+
+/**
+ * Compares the immutable collections used by the buckets with their mutable counterparts.
+ */
+@Test(groups = "unit", testName = "multimap.impl.internal.ImmutableCollectionsTest")
+public class ImmutableCollectionsTest {
+   private static final int OPERATIONS = 20_000;
+
+   public void testDeque() {
+      Random random = new Random(42);
+      Deque<Integer> expected = new ArrayDeque<>();
+      ImmutableDeque<Integer> deque = ImmutableDeque.empty();
+      for (int i = 0; i < OPERATIONS; ++i) {
+         ImmutableDeque<Integer> previous = deque;
+         List<Integer> previousContent = new ArrayList<>(expected);
+         switch (random.nextInt(4)) {
+            case 0 -> {
+               expected.addFirst(i);
+               deque = deque.addFirst(i);
+            }
+            case 1 -> {
+               expected.addLast(i);
+               deque = deque.addLast(i);
+            }
+            case 2 -> {
+               if (!expected.isEmpty()) {
+                  expected.removeFirst();
+                  deque = deque.removeFirst();
+               }
+            }
+            default -> {
+               if (!expected.isEmpty()) {
+                  expected.removeLast();
+                  deque = deque.removeLast();
+               }
+            }
+         }
+         assertEquals(expected.size(), deque.size());
+         if (!expected.isEmpty()) {
+            assertEquals(expected.getFirst(), deque.first());
+            assertEquals(expected.getLast(), deque.last());
+         }
+         if (i % 1000 == 0) {
+            assertDequeContent(expected, deque);
+            // Previous versions are not affected by the updates
+            assertEquals(previousContent, new ArrayList<>(previous));
+         }
+      }
+      assertDequeContent(expected, ImmutableDeque.of(expected));
+   }
+
+   private static void assertDequeContent(Deque<Integer> expected, ImmutableDeque<Integer> deque) {
+      assertEquals(new ArrayList<>(expected), new ArrayList<>(deque));
+      assertEquals(new ArrayList<>(expected), List.of(deque.toArray()));
+      List<Integer> descending = new ArrayList<>();
+      deque.descendingIterator().forEachRemaining(descending::add);
+      List<Integer> expectedDescending = new ArrayList<>();
+      expected.descendingIterator().forEachRemaining(expectedDescending::add);
+      assertEquals(expectedDescending, descending);
+   }
+
+   public void testHashMap() {
+      Random random = new Random(42);
+      Map<Key, Integer> expected = new HashMap<>();
+      ImmutableHashMap<Key, Integer> map = ImmutableHashMap.empty();
+      for (int i = 0; i < OPERATIONS; ++i) {
+         // Few distinct hashes, so collisions are exercised too
+         Key key = new Key(random.nextInt(2000));
+         ImmutableHashMap<Key, Integer> previous = map;
+         int previousSize = expected.size();
+         if (random.nextInt(3) == 0) {
+            expected.remove(key);
+            map = map.without(key);
+         } else {
+            Integer value = random.nextInt(10) == 0 ? null : i;
+            expected.put(key, value);
+            map = map.with(key, value);
+         }
+         assertEquals(expected.size(), map.size());
+         assertEquals(expected.get(key), map.get(key));
+         assertEquals(expected.containsKey(key), map.containsKey(key));
+         assertEquals(previousSize, previous.size());
+      }
+      assertEquals(expected, map);
+      assertEquals(expected, new HashMap<>(map));
+      assertEquals(expected, ImmutableHashMap.of(expected));
+      assertSame(map, map.without(new Key(-1)));
+      assertNull(map.get(null));
+   }
+
+   public void testSortedSet() {
+      Random random = new Random(42);
+      TreeSet<Integer> expected = new TreeSet<>();
+      ImmutableSortedSet<Integer> set = ImmutableSortedSet.empty();
+      for (int i = 0; i < OPERATIONS; ++i) {
+         int element = random.nextInt(5000);
+         ImmutableSortedSet<Integer> previous = set;
+         int previousSize = expected.size();
+         if (random.nextInt(3) == 0) {
+            assertEquals(expected.remove(element), set.without(element) != set);
+            set = set.without(element);
+         } else {
+            assertEquals(expected.add(element), set.with(element) != set);
+            set = set.with(element);
+         }
+         assertEquals(expected.size(), set.size());
+         assertEquals(previousSize, previous.size());
+         int probe = random.nextInt(5000);
+         assertEquals(expected.lower(probe), set.lower(probe));
+         assertEquals(expected.higher(probe), set.higher(probe));
+         assertEquals(expected.headSet(probe).size(), set.rank(probe));
+      }
+      assertEquals(expected, set);
+      assertEquals(expected.first(), set.first());
+      assertEquals(expected.last(), set.last());
+      assertEquals(new ArrayList<>(expected), new ArrayList<>(set));
+      assertEquals(new ArrayList<>(expected.descendingSet()), toList(set.descendingIterator()));
+      assertEquals(new ArrayList<>(expected), new ArrayList<>(ImmutableSortedSet.of(new ArrayList<>(expected))));
+
+      for (int i = 0; i < 1000; ++i) {
+         int from = random.nextInt(5000);
+         int to = from + random.nextInt(500);
+         boolean fromInclusive = random.nextBoolean();
+         boolean toInclusive = random.nextBoolean();
+         NavigableSet<Integer> subSet = expected.subSet(from, fromInclusive, to, toInclusive);
+         assertEquals(new ArrayList<>(subSet), toList(set.iterator(from, fromInclusive, to, toInclusive, false)));
+         assertEquals(new ArrayList<>(subSet.descendingSet()),
+               toList(set.iterator(from, fromInclusive, to, toInclusive, true)));
+         assertEquals(new ArrayList<>(expected.headSet(to, toInclusive)),
+               toList(set.iterator(null, false, to, toInclusive, false)));
+         assertEquals(new ArrayList<>(expected.tailSet(from, fromInclusive).descendingSet()),
+               toList(set.iterator(from, fromInclusive, null, false, true)));
+      }
+      assertFalse(set.iterator(10, true, 5, true, false).hasNext());
+      assertTrue(ImmutableSortedSet.<Integer>empty().isEmpty());
+   }
+
+   public void testHashSet() {
+      ImmutableHashSet<String> set = ImmutableHashSet.of(List.of("a", "b"));
+      assertSame(set, set.with("a"));
+      assertSame(set, set.without("c"));
+      ImmutableHashSet<String> updated = set.with("c").without("a");
+      assertEquals(Map.of("a", 1, "b", 1).keySet(), set);
+      assertEquals(Map.of("b", 1, "c", 1).keySet(), updated);
+   }
+
+   private static <E> List<E> toList(Iterator<E> iterator) {
+      List<E> list = new ArrayList<>();
+      iterator.forEachRemaining(list::add);
+      return list;
+   }
+
+   private record Key(int id) {
+      @Override
+      public int hashCode() {
+         return id % 500;
+      }
+   }
+}
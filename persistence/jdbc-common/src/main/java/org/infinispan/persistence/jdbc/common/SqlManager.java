@@ -15,6 +15,17 @@
 public interface SqlManager {
    String getSelectStatement(List<String> keyColumns, List<String> allColumns);
 
+   /**
+    * Returns the statement that selects the rows of several keys at once. The statement always uses positional
+    * parameters, with the key columns of every key in order.
+    *
+    * @param keyColumns the columns of the primary key
+    * @param allColumns the columns to select
+    * @param keyCount   how many keys are selected
+    * @return the select statement
+    */
+   String getSelectMultipleStatement(List<String> keyColumns, List<String> allColumns, int keyCount);
+
    String getSelectAllStatement(List<String> allColumns);
 
    String getDeleteStatement(List<String> keyColumns);
@@ -25,6 +36,17 @@ public interface SqlManager {
 
    String getSizeCommand();
 
+   /**
+    * Returns the fetch size to use when reading all the rows of the table, so that the driver streams them from a
+    * server side cursor instead of reading the whole table in memory.
+    *
+    * @param fetchSize the configured fetch size
+    * @return the fetch size to set on the statement
+    */
+   default int getFetchSize(int fetchSize) {
+      return fetchSize;
+   }
+
    static SqlManager fromDatabaseType(DatabaseType databaseType, String tableName) {
       return fromDatabaseType(databaseType, tableName, false);
    }
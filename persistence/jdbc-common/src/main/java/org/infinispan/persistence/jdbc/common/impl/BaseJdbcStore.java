@@ -4,7 +4,9 @@
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
@@ -26,6 +28,7 @@
 import org.reactivestreams.Publisher;
 
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.internal.functions.Functions;
 import jakarta.transaction.Transaction;
 
@@ -136,6 +139,33 @@ public CompletionStage<MarshallableEntry<K, V>> load(int segment, Object key) {
       }, "jdbcstore-load");
    }
 
+   @Override
+   public Publisher<MarshallableEntry<K, V>> batchLoad(int publisherCount, Publisher<SegmentedPublisher<Object>> keyPublisher) {
+      return Flowable.fromPublisher(keyPublisher)
+            .concatMap(Functions.identity())
+            .toList()
+            .flatMapPublisher(keys -> {
+               if (keys.isEmpty()) {
+                  return Flowable.empty();
+               }
+               CompletionStage<List<MarshallableEntry<K, V>>> stage = blockingManager.supplyBlocking(() -> {
+                  Connection conn = null;
+                  try {
+                     conn = connectionFactory.getConnection();
+                     List<MarshallableEntry<K, V>> entries = new ArrayList<>();
+                     tableOperations.loadEntries(conn, keys, entries::add);
+                     return entries;
+                  } catch (SQLException e) {
+                     throw new PersistenceException(String.format(
+                           "SQL error while fetching the stored entries of %d keys", keys.size()), e);
+                  } finally {
+                     connectionFactory.releaseConnection(conn);
+                  }
+               }, "jdbcstore-batchload");
+               return Single.fromCompletionStage(stage).flattenAsFlowable(Functions.identity());
+            });
+   }
+
    @Override
    public CompletionStage<Void> write(int segment, MarshallableEntry<? extends K, ? extends V> entry) {
       return blockingManager.runBlocking(() -> {
@@ -190,13 +220,39 @@ public CompletionStage<Void> batch(int publisherCount,
          Publisher<SegmentedPublisher<MarshallableEntry<K, V>>> writePublisher) {
       return blockingManager.runBlocking(() -> {
          Connection connection = null;
+         boolean autoCommit = false;
          try {
             connection = connectionFactory.getConnection();
+            // The whole batch is written in a single local transaction, instead of committing every statement
+            autoCommit = connection.getAutoCommit();
+            if (autoCommit) {
+               connection.setAutoCommit(false);
+            }
             tableOperations.batchUpdates(connection, publisherCount, Flowable.fromPublisher(removePublisher)
                   .concatMapEager(Functions.identity(), publisherCount, publisherCount), writePublisher);
-         } catch (SQLException e) {
-            throw PERSISTENCE.sqlFailureWritingBatch(e);
+            if (autoCommit) {
+               connection.commit();
+            }
+         } catch (SQLException | RuntimeException e) {
+            if (autoCommit) {
+               try {
+                  connection.rollback();
+               } catch (SQLException rollbackException) {
+                  PERSISTENCE.sqlFailureTxRollback(rollbackException);
+               }
+            }
+            if (e instanceof SQLException) {
+               throw PERSISTENCE.sqlFailureWritingBatch((SQLException) e);
+            }
+            throw (RuntimeException) e;
          } finally {
+            if (autoCommit) {
+               try {
+                  connection.setAutoCommit(true);
+               } catch (SQLException e) {
+                  log.debug("Unable to restore auto commit on the connection", e);
+               }
+            }
             connectionFactory.releaseConnection(connection);
          }
       }, "jdbcstore-batch");
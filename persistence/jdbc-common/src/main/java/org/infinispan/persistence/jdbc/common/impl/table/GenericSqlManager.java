@@ -28,6 +28,32 @@ public String getSelectStatement(List<String> keyColumns, List<String> allColumn
       return select.toString();
    }
 
+   @Override
+   public String getSelectMultipleStatement(List<String> keyColumns, List<String> allColumns, int keyCount) {
+      StringBuilder select = new StringBuilder("SELECT ");
+      appendStrings(select, allColumns, Function.identity(), ", ");
+      select.append(" FROM ").append(tableName);
+      select.append(" WHERE ");
+      if (keyColumns.size() == 1) {
+         select.append(keyColumns.get(0)).append(" IN (?");
+         for (int i = 1; i < keyCount; ++i) {
+            select.append(", ?");
+         }
+         select.append(')');
+      } else {
+         // Row value constructors are not supported by every database, so each key gets its own condition
+         for (int i = 0; i < keyCount; ++i) {
+            if (i > 0) {
+               select.append(" OR ");
+            }
+            select.append('(');
+            appendStrings(select, keyColumns, key -> key + " = ?", " AND ");
+            select.append(')');
+         }
+      }
+      return select.toString();
+   }
+
    @Override
    public String getSelectAllStatement(List<String> allColumns) {
       StringBuilder selectAll = new StringBuilder("SELECT ");
@@ -8,6 +8,12 @@ public MySQLSqlManager(String tableName, boolean namedParameters) {
       super(tableName, namedParameters);
    }
 
+   @Override
+   public int getFetchSize(int fetchSize) {
+      // The driver only streams the rows with this fetch size, any other value reads the whole result in memory
+      return Integer.MIN_VALUE;
+   }
+
    @Override
    public String getUpsertStatement(List<String> keyColumns, List<String> allColumns) {
       StringBuilder upsert = new StringBuilder("INSERT INTO ").append(tableName);
@@ -8,6 +8,7 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -28,7 +29,6 @@
 import org.infinispan.util.logging.LogFactory;
 import org.reactivestreams.Publisher;
 
-import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
 
 public abstract class BaseTableOperations<K, V> implements TableOperations<K, V> {
@@ -44,6 +44,18 @@ public BaseTableOperations(AbstractJdbcStoreConfiguration<?> configuration) {
 
    public abstract String getSelectAllSql(IntSet segments);
 
+   /**
+    * Returns the sql that selects the rows of the given number of keys at once, or null if the rows can only be selected
+    * one key at a time with {@link #getSelectRowSql()}. The keys are set with {@link #prepareKeysStatement(PreparedStatement, List)}
+    * and read back from the rows.
+    *
+    * @param keyCount how many keys are selected, never more than the max batch size
+    * @return the sql to select the rows or null
+    */
+   public String getSelectRowsSql(int keyCount) {
+      return null;
+   }
+
    public abstract String getDeleteRowSql();
 
    public abstract String getDeleteAllSql();
@@ -57,6 +69,11 @@ protected abstract MarshallableEntry<K, V> entryFromResultSet(ResultSet rs, Obje
 
    protected abstract void prepareKeyStatement(PreparedStatement ps, Object key) throws SQLException;
 
+   /**
+    * Sets the keys of a statement created from {@link #getSelectRowsSql(int)}, in the order of the list.
+    */
+   protected abstract void prepareKeysStatement(PreparedStatement ps, List<?> keys) throws SQLException;
+
    protected abstract void prepareValueStatement(PreparedStatement ps, int segment, MarshallableEntry<? extends K, ? extends V> entry) throws SQLException;
 
    protected void prepareSizeStatement(PreparedStatement ps) throws SQLException {
@@ -67,6 +84,16 @@ protected void preparePublishStatement(PreparedStatement ps, IntSet segments) th
       // Do nothing by default
    }
 
+   /**
+    * Returns the fetch size of the statement that publishes the entries. Some drivers only stream the rows with a
+    * server side cursor when a specific value is used, and otherwise read the whole table in memory.
+    *
+    * @return the fetch size to set on the publish statement
+    */
+   public int getFetchSize() {
+      return configuration.maxBatchSize();
+   }
+
    @Override
    public MarshallableEntry<K, V> loadEntry(Connection connection, int segment, Object key) throws SQLException {
       PreparedStatement ps = null;
@@ -90,6 +117,58 @@ public MarshallableEntry<K, V> loadEntry(Connection connection, int segment, Obj
       return null;
    }
 
+   @Override
+   public void loadEntries(Connection connection, List<?> keys, Consumer<? super MarshallableEntry<K, V>> entryConsumer)
+         throws SQLException {
+      int maxBatchSize = configuration.maxBatchSize();
+      for (int start = 0; start < keys.size(); start += maxBatchSize) {
+         List<?> batch = keys.subList(start, Math.min(keys.size(), start + maxBatchSize));
+         String selectSql = batch.size() > 1 ? getSelectRowsSql(batch.size()) : null;
+         if (selectSql == null) {
+            loadEntriesOneByOne(connection, batch, entryConsumer);
+            continue;
+         }
+         if (log.isTraceEnabled()) {
+            log.tracef("Running select rows sql '%s'", selectSql);
+         }
+         try (PreparedStatement ps = connection.prepareStatement(selectSql)) {
+            ps.setQueryTimeout(configuration.readQueryTimeout());
+            prepareKeysStatement(ps, batch);
+            try (ResultSet rs = ps.executeQuery()) {
+               while (rs.next()) {
+                  MarshallableEntry<K, V> entry = entryFromResultSet(rs, null, true, null);
+                  if (entry != null) {
+                     entryConsumer.accept(entry);
+                  }
+               }
+            }
+         }
+      }
+   }
+
+   private void loadEntriesOneByOne(Connection connection, List<?> keys,
+         Consumer<? super MarshallableEntry<K, V>> entryConsumer) throws SQLException {
+      String selectSql = getSelectRowSql();
+      if (log.isTraceEnabled()) {
+         log.tracef("Running select row sql '%s' for %d keys", selectSql, keys.size());
+      }
+      // The statement is prepared once and executed for every key
+      try (PreparedStatement ps = connection.prepareStatement(selectSql)) {
+         ps.setQueryTimeout(configuration.readQueryTimeout());
+         for (Object key : keys) {
+            prepareKeyStatement(ps, key);
+            try (ResultSet rs = ps.executeQuery()) {
+               if (rs.next()) {
+                  MarshallableEntry<K, V> entry = entryFromResultSet(rs, key, true, null);
+                  if (entry != null) {
+                     entryConsumer.accept(entry);
+                  }
+               }
+            }
+         }
+      }
+   }
+
    @Override
    public boolean deleteEntry(Connection connection, int segment, Object key) throws SQLException {
       PreparedStatement ps = null;
@@ -169,35 +248,41 @@ public void batchUpdates(Connection connection, int writePublisherCount, Publish
          Publisher<NonBlockingStore.SegmentedPublisher<MarshallableEntry<K, V>>> writePublisher) throws SQLException {
       String upsertSql = getUpsertRowSql();
       String deleteSql = getDeleteRowSql();
+      int maxBatchSize = configuration.maxBatchSize();
       if (log.isTraceEnabled()) {
          log.tracef("Running batch upsert sql '%s'", upsertSql);
          log.tracef("Running batch delete sql '%s'", deleteSql);
       }
       try (PreparedStatement upsertBatch = connection.prepareStatement(upsertSql);
            PreparedStatement deleteBatch = connection.prepareStatement(deleteSql)) {
+         upsertBatch.setQueryTimeout(configuration.writeQueryTimeout());
+         deleteBatch.setQueryTimeout(configuration.writeQueryTimeout());
 
-         // Note this one is non blocking as we need to subscribe to both Publishers before anything is processed.
-         CompletionStage<Void> removeStage = Flowable.fromPublisher(removePublisher)
-               .doOnNext(key -> {
-                  prepareKeyStatement(deleteBatch, key);
-                  deleteBatch.addBatch();
-               }).lastElement()
-               .doAfterSuccess(ignore -> deleteBatch.executeBatch())
-               .flatMapCompletable(ignore -> Completable.complete())
-               .toCompletionStage(null);
+         // The batches are sent every maxBatchSize rows, so the driver never has to hold all the rows at once.
+         // Note this one is non blocking as we need to subscribe to both Publishers before anything is processed. The
+         // keys are only collected, the deletes are sent on this thread after the upserts, as both share the connection
+         CompletionStage<List<Object>> removeStage = Flowable.fromPublisher(removePublisher)
+               .toList()
+               .toCompletionStage();
 
          ByRef<Throwable> throwableRef = new ByRef<>(null);
-         ByRef<Object> hadValue = new ByRef<>(null);
+         ByRef.Integer upsertBatchSize = new ByRef.Integer(0);
          Flowable.fromPublisher(writePublisher)
                .concatMapEager(sp ->
                      Flowable.fromPublisher(sp)
                            .doOnNext(me -> {
                               prepareValueStatement(upsertBatch, sp.getSegment(), me);
                               upsertBatch.addBatch();
+                              upsertBatchSize.inc();
+                              if (upsertBatchSize.get() == maxBatchSize) {
+                                 upsertBatchSize.set(0);
+                                 upsertBatch.executeBatch();
+                                 upsertBatch.clearBatch();
+                              }
                            }), writePublisherCount, writePublisherCount
-               ).lastElement()
-               .blockingSubscribe(hadValue::set, throwableRef::set);
-         if (hadValue.get() != null) {
+               ).ignoreElements()
+               .blockingSubscribe(() -> { }, throwableRef::set);
+         if (throwableRef.get() == null && upsertBatchSize.get() != 0) {
             upsertBatch.executeBatch();
          }
 
@@ -209,7 +294,20 @@ public void batchUpdates(Connection connection, int writePublisherCount, Publish
             throw Util.rewrapAsCacheException(t);
          }
 
-         CompletionStages.join(removeStage);
+         List<Object> keysToRemove = CompletionStages.join(removeStage);
+         int deleteBatchSize = 0;
+         for (Object key : keysToRemove) {
+            prepareKeyStatement(deleteBatch, key);
+            deleteBatch.addBatch();
+            if (++deleteBatchSize == maxBatchSize) {
+               deleteBatchSize = 0;
+               deleteBatch.executeBatch();
+               deleteBatch.clearBatch();
+            }
+         }
+         if (deleteBatchSize != 0) {
+            deleteBatch.executeBatch();
+         }
       }
    }
 
@@ -225,7 +323,7 @@ public Flowable<MarshallableEntry<K, V>> publishEntries(Supplier<Connection> con
       }, fc -> {
          PreparedStatement ps = fc.statement;
          preparePublishStatement(ps, segments);
-         ps.setFetchSize(configuration.maxBatchSize());
+         ps.setFetchSize(getFetchSize());
          ResultSet rs = ps.executeQuery();
          return Flowable.fromIterable(() -> new ResultSetEntryIterator(rs, filter, fetchValue))
                .doFinally(() -> JdbcUtil.safeClose(rs));
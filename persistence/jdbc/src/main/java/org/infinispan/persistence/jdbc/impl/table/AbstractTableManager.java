@@ -12,6 +12,7 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
 import java.util.Objects;
 import java.util.PrimitiveIterator;
 import java.util.function.Predicate;
@@ -424,6 +425,37 @@ public String getSelectRowSql() {
       return selectRowSql;
    }
 
+   @Override
+   public String getSelectRowsSql(int keyCount) {
+      // The keys are read back from the rows, which requires a two way mapper and the stored ids to be the mapped keys
+      if (!(key2StringMapper instanceof TwoWayKey2StringMapper) || isStringEncodingRequired()) {
+         return null;
+      }
+      StringBuilder stringBuilder = new StringBuilder("SELECT ");
+      stringBuilder.append(config.dataColumnName());
+      stringBuilder.append(", ");
+      stringBuilder.append(config.idColumnName());
+      stringBuilder.append(" FROM ");
+      stringBuilder.append(dataTableName);
+      stringBuilder.append(" WHERE ");
+      stringBuilder.append(config.idColumnName());
+      stringBuilder.append(" IN (");
+      stringBuilder.append(idParameter());
+      for (int i = 1; i < keyCount; ++i) {
+         stringBuilder.append(", ");
+         stringBuilder.append(idParameter());
+      }
+      stringBuilder.append(")");
+      return stringBuilder.toString();
+   }
+
+   /**
+    * @return the parameter matched against the id column, for databases that have to convert it to the column type
+    */
+   protected String idParameter() {
+      return "?";
+   }
+
    protected String initSelectIdRowSql() {
       return String.format("SELECT %s FROM %s WHERE %s = ?", config.idColumnName(), dataTableName, config.idColumnName());
    }
@@ -616,6 +648,13 @@ protected void prepareKeyStatement(PreparedStatement ps, Object key) throws SQLE
       ps.setString(1, lockingKey);
    }
 
+   @Override
+   protected void prepareKeysStatement(PreparedStatement ps, List<?> keys) throws SQLException {
+      for (int i = 0; i < keys.size(); ++i) {
+         ps.setString(i + 1, key2Str(keys.get(i)));
+      }
+   }
+
    @Override
    protected MarshallableEntry<K, V> entryFromResultSet(ResultSet rs, Object keyIfPresent, boolean fetchValue,
          Predicate<? super K> keyPredicate) throws SQLException {
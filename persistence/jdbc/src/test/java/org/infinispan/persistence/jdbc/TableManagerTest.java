@@ -1,20 +1,31 @@
 package org.infinispan.persistence.jdbc;
 
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.testng.AssertJUnit.assertEquals;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Random;
 
 import org.infinispan.Cache;
+import org.infinispan.commons.marshall.Marshaller;
 import org.infinispan.configuration.cache.ConfigurationBuilder;
 import org.infinispan.configuration.global.GlobalConfiguration;
 import org.infinispan.marshall.TestObjectStreamMarshaller;
+import org.infinispan.marshall.persistence.impl.MarshalledEntryUtil;
 import org.infinispan.persistence.DummyInitializationContext;
+import org.infinispan.persistence.jdbc.common.DatabaseType;
 import org.infinispan.persistence.jdbc.common.JdbcUtil;
 import org.infinispan.persistence.jdbc.common.configuration.ConnectionFactoryConfiguration;
 import org.infinispan.persistence.jdbc.common.configuration.PooledConnectionFactoryConfiguration;
@@ -22,19 +33,26 @@
 import org.infinispan.persistence.jdbc.common.connectionfactory.ConnectionFactory;
 import org.infinispan.persistence.jdbc.common.impl.connectionfactory.PooledConnectionFactory;
 import org.infinispan.persistence.jdbc.common.impl.connectionfactory.SimpleConnectionFactory;
+import org.infinispan.persistence.jdbc.common.sql.BaseTableOperations;
 import org.infinispan.persistence.jdbc.configuration.JdbcStringBasedStoreConfiguration;
 import org.infinispan.persistence.jdbc.configuration.JdbcStringBasedStoreConfigurationBuilder;
+import org.infinispan.persistence.jdbc.impl.table.DbMetaData;
 import org.infinispan.persistence.jdbc.impl.table.TableManager;
 import org.infinispan.persistence.jdbc.impl.table.TableManagerFactory;
 import org.infinispan.persistence.jdbc.impl.table.TableName;
 import org.infinispan.persistence.spi.InitializationContext;
 import org.infinispan.persistence.spi.PersistenceException;
+import org.infinispan.persistence.support.SingleSegmentPublisher;
 import org.infinispan.test.AbstractInfinispanTest;
 import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.infinispan.util.EmbeddedTimeService;
+import org.mockito.ArgumentCaptor;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import io.reactivex.rxjava3.core.Flowable;
+
 /**
  * Tester class for {@link TableManager}.
  *
@@ -158,6 +176,80 @@ public void testTableQuoting() throws Exception {
       assert existsTable(connection, tableManager.getDataTableName());
    }
 
+   public void testBatchUpdatesFlushEveryMaxBatchSize() throws Exception {
+      JdbcStringBasedStoreConfiguration config = storeConfiguration(10);
+      InitializationContext batchCtx = initializationContext(config);
+      TableManager<Object, Object> batchManager = TableManagerFactory.getManager(batchCtx, connectionFactory, config, "batches");
+      batchManager.start();
+      try {
+         Connection spyConnection = spy(connection);
+         Map<String, PreparedStatement> statements = new HashMap<>();
+         doAnswer(invocation -> {
+            PreparedStatement ps = spy((PreparedStatement) invocation.callRealMethod());
+            statements.put(invocation.getArgument(0), ps);
+            return ps;
+         }).when(spyConnection).prepareStatement(anyString());
+
+         Marshaller marshaller = batchCtx.getPersistenceMarshaller();
+         batchManager.batchUpdates(spyConnection, 1, Flowable.range(0, 25).map(i -> "removed" + i),
+               Flowable.just(SingleSegmentPublisher.singleSegment(0, Flowable.range(0, 25)
+                     .map(i -> MarshalledEntryUtil.create("written" + i, "value" + i, marshaller)))));
+
+         // 25 rows with a max batch size of 10 are sent in 3 batches
+         verify(statements.get(((BaseTableOperations<?, ?>) batchManager).getUpsertRowSql()), times(3)).executeBatch();
+         verify(statements.get(((BaseTableOperations<?, ?>) batchManager).getDeleteRowSql()), times(3)).executeBatch();
+         assertEquals(25L, batchManager.size(connection));
+      } finally {
+         batchManager.dropTables(connection);
+         batchManager.stop();
+      }
+   }
+
+   public void testPublishEntriesFetchSize() throws Exception {
+      JdbcStringBasedStoreConfiguration config = storeConfiguration(10);
+      InitializationContext fetchCtx = initializationContext(config);
+      TableManager<Object, Object> h2Manager = TableManagerFactory.getManager(
+            new DbMetaData(DatabaseType.H2, null, null, 64, false, false, false), fetchCtx, connectionFactory, config, "fetch");
+      assertEquals(config.table().fetchSize(), publishEntriesFetchSize(h2Manager));
+
+      // The MySQL driver only streams the rows with this fetch size, otherwise it reads the whole table in memory
+      TableManager<Object, Object> mysqlManager = TableManagerFactory.getManager(
+            new DbMetaData(DatabaseType.MYSQL, 8, 0, 64, false, false, false), fetchCtx, connectionFactory, config, "fetch");
+      assertEquals(Integer.MIN_VALUE, publishEntriesFetchSize(mysqlManager));
+   }
+
+   private int publishEntriesFetchSize(TableManager<Object, Object> manager) throws SQLException {
+      Connection mockConnection = mock(Connection.class);
+      PreparedStatement ps = mock(PreparedStatement.class);
+      when(mockConnection.prepareStatement(anyString())).thenReturn(ps);
+      when(ps.executeQuery()).thenReturn(mock(ResultSet.class));
+      assertEquals(0L, (long) manager.publishEntries(() -> mockConnection, c -> { }, null, null, true).count().blockingGet());
+      ArgumentCaptor<Integer> fetchSize = ArgumentCaptor.forClass(Integer.class);
+      verify(ps).setFetchSize(fetchSize.capture());
+      return fetchSize.getValue();
+   }
+
+   private JdbcStringBasedStoreConfiguration storeConfiguration(int maxBatchSize) {
+      JdbcStringBasedStoreConfigurationBuilder storeBuilder = TestCacheManagerFactory
+            .getDefaultCacheConfiguration(false)
+            .persistence()
+            .addStore(JdbcStringBasedStoreConfigurationBuilder.class)
+            .maxBatchSize(maxBatchSize);
+      UnitTestDatabaseManager.setDialect(storeBuilder);
+      UnitTestDatabaseManager.buildTableManipulation(storeBuilder.table());
+      UnitTestDatabaseManager.configureUniqueConnectionFactory(storeBuilder);
+      return storeBuilder.create();
+   }
+
+   private InitializationContext initializationContext(JdbcStringBasedStoreConfiguration config) {
+      Cache<?, ?> cache = mock(Cache.class);
+      when(cache.getCacheConfiguration()).thenReturn(new ConfigurationBuilder().build());
+      GlobalConfiguration globalConfiguration = mock(GlobalConfiguration.class);
+      when(globalConfiguration.classLoader()).thenReturn(getClass().getClassLoader());
+      return new DummyInitializationContext(config, cache, new TestObjectStreamMarshaller(), null, null, null,
+            globalConfiguration, null, null, new EmbeddedTimeService());
+   }
+
    static boolean existsTable(Connection connection, TableName tableName) throws Exception {
       Statement st = connection.createStatement();
       ResultSet rs = null;
@@ -1,6 +1,7 @@
 package org.infinispan.persistence.remote;
 
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -61,6 +62,7 @@
 
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 
 /**
@@ -269,6 +271,35 @@ public CompletionStage<MarshallableEntry<K, V>> load(int segment, Object key) {
       }
    }
 
+   @Override
+   public Publisher<MarshallableEntry<K, V>> batchLoad(int publisherCount, Publisher<SegmentedPublisher<Object>> keyPublisher) {
+      if (configuration.rawValues()) {
+         // Only single key reads return the metadata of raw values
+         return NonBlockingStore.super.batchLoad(publisherCount, keyPublisher);
+      }
+      // A single GET_ALL, which the client splits by the owners of the keys
+      return Flowable.fromPublisher(keyPublisher)
+            .concatMap(sp -> Flowable.fromPublisher(sp).map(RemoteStore::unwrap))
+            .<Set<Object>>collect(HashSet::new, Set::add)
+            .flatMapPublisher(keys -> {
+               if (keys.isEmpty()) {
+                  return Flowable.empty();
+               }
+               return Single.fromCompletionStage(remoteCache.getAllAsync(keys))
+                     .observeOn(Schedulers.from(nonBlockingExecutor))
+                     .flattenAsFlowable(Map::entrySet)
+                     .map(e -> {
+                        // The keys of the map are unwrapped, so they are wrapped again to match the requested keys
+                        Object key = wrap(e.getKey());
+                        Object value = e.getValue();
+                        if (value instanceof MarshalledValue) {
+                           return entryFactory.create(key, (MarshalledValue) value);
+                        }
+                        return entryFactory.create(key, value);
+                     });
+            });
+   }
+
    @Override
    public CompletionStage<Boolean> containsKey(int segment, Object key) {
       key = unwrap(key);
@@ -5,6 +5,7 @@
 import java.io.File;
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -12,7 +13,6 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -59,11 +59,14 @@
 import org.infinispan.util.concurrent.BlockingManager;
 import org.infinispan.util.logging.LogFactory;
 import org.reactivestreams.Publisher;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.BuiltinComparator;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
+import org.rocksdb.LRUCache;
 import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
@@ -88,10 +91,15 @@
    static final String COLUMN_FAMILY_PROPERTY_NAME_WITH_SUFFIX = "data.";
    static final byte[] META_COLUMN_FAMILY = "meta-cf".getBytes();
    static final byte[] META_COLUMN_FAMILY_KEY = "metadata".getBytes();
+   static final byte[] EXPIRATION_COLUMN_FAMILY = "expiration-cf".getBytes();
+   private static final byte[] EMPTY_VALUE = new byte[0];
+   // The expiration time and the segment precede the key bytes in the expiration column family keys
+   private static final int EXPIRATION_KEY_PREFIX_LENGTH = Long.BYTES + Integer.BYTES;
+   // How many keys are read with a single multiGet
+   private static final int BATCH_LOAD_SIZE = 256;
 
    protected RocksDBStoreConfiguration configuration;
    private RocksDB db;
-   private RocksDB expiredDb;
    private InitializationContext ctx;
    private TimeService timeService;
    private WriteOptions dataWriteOptions;
@@ -102,6 +110,9 @@
    private KeyPartitioner keyPartitioner;
    private MarshallableEntryFactory<K, V> entryFactory;
    private BlockingManager blockingManager;
+   // Shared by the data column families, only set when configured
+   private LRUCache blockCache;
+   private BloomFilter filterPolicy;
 
    @Override
    public CompletionStage<Void> start(InitializationContext ctx) {
@@ -134,6 +145,12 @@ public CompletionStage<Void> start(InitializationContext ctx) {
 
       return blockingManager.runBlocking(() -> {
          try {
+            if (configuration.blockCacheSize() > 0) {
+               blockCache = new LRUCache(configuration.blockCacheSize());
+            }
+            if (configuration.bloomFilterBitsPerKey() > 0) {
+               filterPolicy = new BloomFilter(configuration.bloomFilterBitsPerKey());
+            }
             initDefaultHandler();
             MetadataImpl existingMeta = handler.loadMetadata();
             if (existingMeta == null && !configuration.purgeOnStartup()) {
@@ -143,6 +160,7 @@ public CompletionStage<Void> start(InitializationContext ctx) {
                migrateFromV11();
                PERSISTENCE.persistedDataSuccessfulMigrated(cacheName);
             }
+            migrateExpiredDb();
             // Update the metadata entry to use the current Infinispan version
             handler.writeMetadata();
          } catch (Exception e) {
@@ -152,17 +170,16 @@ public CompletionStage<Void> start(InitializationContext ctx) {
    }
 
    private void initDefaultHandler() throws RocksDBException {
-      this.handler = createHandler(getLocation(), getExpirationLocation());
+      this.handler = createHandler(getLocation());
       this.db = handler.db;
-      this.expiredDb = handler.expiredDb;
    }
 
-   private RocksDBHandler createHandler(Path data, Path expired) throws RocksDBException {
+   private RocksDBHandler createHandler(Path data) throws RocksDBException {
       AdvancedCache<?, ?> cache = ctx.getCache().getAdvancedCache();
       if (configuration.segmented()) {
-         return new SegmentedRocksDBHandler(data, expired, cache.getCacheConfiguration().clustering().hash().numSegments());
+         return new SegmentedRocksDBHandler(data, cache.getCacheConfiguration().clustering().hash().numSegments());
       }
-      return new NonSegmentedRocksDBHandler(data, expired, keyPartitioner);
+      return new NonSegmentedRocksDBHandler(data, keyPartitioner);
    }
 
    @SuppressWarnings("checkstyle:ForbiddenMethod")
@@ -180,10 +197,9 @@ private void migrateFromV11() throws IOException, RocksDBException {
          return;
 
       Path newDbLocation = getQualifiedLocation("new_data");
-      Path newExpiredDbLocation = getQualifiedLocation("new_expired");
       try {
          // Create new DB and open handle
-         RocksDBHandler migrationHandler = createHandler(newDbLocation, newExpiredDbLocation);
+         RocksDBHandler migrationHandler = createHandler(newDbLocation);
 
          Function<RocksIterator, Flowable<MarshallableEntry<K, V>>> function =
                it -> Flowable.fromIterable(() -> new RocksLegacyEntryIterator(it));
@@ -194,21 +210,20 @@ private void migrateFromV11() throws IOException, RocksDBException {
                handler.publish(-1, function);
 
          WriteBatch batch = new WriteBatch();
-         Set<MarshallableEntry<K, V>> expirableEntries = new HashSet<>();
          Flowable.fromPublisher(publisher)
                .blockingSubscribe(e -> {
-                  ColumnFamilyHandle handle = migrationHandler.getHandle(keyPartitioner.getSegment(e.getKey()));
-                  batch.put(handle, e.getKeyBytes().copy().getBuf(), marshall(e.getMarshalledValue()));
-                  if (e.expiryTime() > 1)
-                     expirableEntries.add(e);
+                  int segment = keyPartitioner.getSegment(e.getKey());
+                  ColumnFamilyHandle handle = migrationHandler.getHandle(segment);
+                  byte[] keyBytes = e.getKeyBytes().copy().getBuf();
+                  batch.put(handle, keyBytes, marshall(e.getMarshalledValue()));
+                  if (e.expiryTime() > -1)
+                     addExpiration(batch, migrationHandler.expirationColumnFamilyHandle, segment, keyBytes, e);
                });
 
          if (batch.count() <= 0)
             batch.close();
 
          migrationHandler.db.write(dataWriteOptions(), batch);
-         for (MarshallableEntry<K, V> e : expirableEntries)
-            addNewExpiry(migrationHandler.expiredDb, e);
 
          // Close original and new handler
          handler.close();
@@ -220,17 +235,50 @@ private void migrateFromV11() throws IOException, RocksDBException {
          Util.recursiveFileRemove(dataLocation);
          Util.recursiveFileRemove(expirationLocation);
          Files.move(newDbLocation, dataLocation, StandardCopyOption.REPLACE_EXISTING);
-         Files.move(newExpiredDbLocation, expirationLocation, StandardCopyOption.REPLACE_EXISTING);
 
          // Open db handle to new db at original location
          initDefaultHandler();
       } finally {
          // In the event of a failure, always remove the new dbs
          Util.recursiveFileRemove(newDbLocation);
-         Util.recursiveFileRemove(newExpiredDbLocation);
       }
    }
 
+   /**
+    * Moves the expiration times of the separate expired database, used before 16.0, into the expiration column family
+    * of the data database, and removes the expired database.
+    */
+   private void migrateExpiredDb() throws RocksDBException {
+      Path expirationLocation = getExpirationLocation();
+      if (!expirationLocation.toFile().exists())
+         return;
+
+      try (Options options = expiredDbOptions();
+           RocksDB expiredDb = openDatabase(expirationLocation, options);
+           ReadOptions readOptions = new ReadOptions().setFillCache(false);
+           RocksIterator it = expiredDb.newIterator(readOptions);
+           WriteBatch batch = new WriteBatch()) {
+         for (it.seekToFirst(); it.isValid(); it.next()) {
+            long expiry = unmarshall(it.key());
+            byte[] valueBytes = it.value();
+            Object bucketKey = unmarshall(valueBytes);
+            if (bucketKey instanceof ExpiryBucket) {
+               for (byte[] keyBytes : ((ExpiryBucket) bucketKey).entries) {
+                  int segment = keyPartitioner.getSegment(unmarshall(keyBytes));
+                  batch.put(handler.expirationColumnFamilyHandle, expirationKey(expiry, segment, keyBytes), EMPTY_VALUE);
+               }
+            } else {
+               // The bucketKey is an actual key
+               int segment = keyPartitioner.getSegment(bucketKey);
+               batch.put(handler.expirationColumnFamilyHandle, expirationKey(expiry, segment, valueBytes), EMPTY_VALUE);
+            }
+         }
+         if (batch.count() > 0)
+            db.write(dataWriteOptions(), batch);
+      }
+      Util.recursiveFileRemove(expirationLocation);
+   }
+
    private Path getQualifiedLocation(String qualifier) {
       return org.infinispan.persistence.PersistenceUtil.getQualifiedLocation(ctx.getGlobalConfiguration(), configuration.location(), ctx.getCache().getName(), qualifier);
    }
@@ -239,6 +287,9 @@ private Path getLocation() {
       return getQualifiedLocation("data");
    }
 
+   /**
+    * @return the location of the separate expired database used before 16.0, only read to migrate its contents
+    */
    private Path getExpirationLocation() {
       return getQualifiedLocation("expired");
    }
@@ -290,6 +341,15 @@ public CompletionStage<Void> stop() {
          if (handler != null) {
             handler.close();
          }
+         // The column families referencing them must be closed first
+         if (blockCache != null) {
+            blockCache.close();
+            blockCache = null;
+         }
+         if (filterPolicy != null) {
+            filterPolicy.close();
+            filterPolicy = null;
+         }
       }, "rocksdb-stop");
    }
 
@@ -300,8 +360,7 @@ public Set<Characteristic> characteristics() {
 
    @Override
    public CompletionStage<Boolean> isAvailable() {
-      return blockingManager.supplyBlocking(() -> getLocation().toFile().exists() && getExpirationLocation().toFile().exists(),
-            "rocksdb-available");
+      return blockingManager.supplyBlocking(() -> getLocation().toFile().exists(), "rocksdb-available");
    }
 
    @Override
@@ -352,11 +411,16 @@ public CompletionStage<MarshallableEntry<K, V>> load(int segment, Object key) {
       return handler.load(segment, key);
    }
 
+   @Override
+   public Publisher<MarshallableEntry<K, V>> batchLoad(int publisherCount,
+                                                     Publisher<SegmentedPublisher<Object>> keyPublisher) {
+      return handler.batchLoad(publisherCount, keyPublisher);
+   }
+
    @Override
    public CompletionStage<Void> batch(int publisherCount, Publisher<SegmentedPublisher<Object>> removePublisher,
                                       Publisher<SegmentedPublisher<MarshallableEntry<K, V>>> writePublisher) {
       WriteBatch batch = new WriteBatch();
-      Set<MarshallableEntry<K, V>> expirableEntries = new HashSet<>();
       Flowable.fromPublisher(removePublisher)
             .subscribe(sp -> {
                ColumnFamilyHandle handle = handler.getHandle(sp.getSegment());
@@ -368,9 +432,10 @@ public CompletionStage<Void> batch(int publisherCount, Publisher<SegmentedPublis
                ColumnFamilyHandle handle = handler.getHandle(sp.getSegment());
                Flowable.fromPublisher(sp)
                      .subscribe(me -> {
-                        batch.put(handle, marshall(me.getKey()), marshall(me.getMarshalledValue()));
+                        byte[] keyBytes = marshall(me.getKey());
+                        batch.put(handle, keyBytes, marshall(me.getMarshalledValue()));
                         if (me.expiryTime() > -1) {
-                           expirableEntries.add(me);
+                           addExpiration(batch, handler.expirationColumnFamilyHandle, sp.getSegment(), keyBytes, me);
                         }
                      });
             });
@@ -381,9 +446,6 @@ public CompletionStage<Void> batch(int publisherCount, Publisher<SegmentedPublis
       return blockingManager.runBlocking(() -> {
          try {
             db.write(dataWriteOptions(), batch);
-            for (MarshallableEntry<K, V> me : expirableEntries) {
-               addNewExpiry(expiredDb, me);
-            }
          } catch (RocksDBException e) {
             throw new PersistenceException(e);
          }
@@ -407,11 +469,11 @@ public Publisher<MarshallableEntry<K, V>> purgeExpired() {
    }
 
    private Flowable<MarshallableEntry<K, V>> actualPurgeExpired(long now) {
-      // The following flowable is responsible for emitting entries that have expired from expiredDb and removing the
-      // given entries
+      // The following flowable is responsible for emitting the keys of the expiration column family with an expiration
+      // time before now. The keys are sorted by expiration time, so the iteration stops at the first later one
       Flowable<byte[]> expiredFlowable = Flowable.using(() -> {
          ReadOptions readOptions = new ReadOptions().setFillCache(false);
-         return new AbstractMap.SimpleImmutableEntry<>(readOptions, expiredDb.newIterator(readOptions));
+         return new AbstractMap.SimpleImmutableEntry<>(readOptions, db.newIterator(handler.expirationColumnFamilyHandle, readOptions));
       }, entry -> {
          if (entry.getValue() == null) {
             return Flowable.empty();
@@ -423,24 +485,12 @@ private Flowable<MarshallableEntry<K, V>> actualPurgeExpired(long now) {
                new BaseRocksIterator<>(iterator) {
                   @Override
                   protected byte[] getNext() {
-                     byte[] keyBytes = readKey();
-                     if (keyBytes == null)
-                        return null;
-
-                     Long time = unmarshall(keyBytes);
-                     if (time > now)
+                     byte[] expirationKey = readKey();
+                     if (expirationKey == null || ByteBuffer.wrap(expirationKey).getLong() > now)
                         return null;
-                     try {
-                        expiredDb.delete(keyBytes);
-                     } catch (RocksDBException e) {
-                        throw new PersistenceException(e);
-                     }
-                     byte[] value = readValue();
                      moveNext();
-                     return value;
+                     return expirationKey;
                   }
-
-
                });
       }, entry -> {
          entry.getKey().close();
@@ -452,21 +502,11 @@ protected byte[] getNext() {
          }
       });
 
-      Flowable<MarshallableEntry<K, V>> expiredEntryFlowable = expiredFlowable.flatMap(expiredBytes -> {
-         Object bucketKey = unmarshall(expiredBytes);
-         if (bucketKey instanceof ExpiryBucket) {
-            return Flowable.fromIterable(((ExpiryBucket) bucketKey).entries)
-                  .flatMapMaybe(marshalledKey -> {
-                     ColumnFamilyHandle columnFamilyHandle = handler.getHandleForMarshalledKey(marshalledKey);
-                     MarshalledValue mv = handlePossiblyExpiredKey(columnFamilyHandle, marshalledKey, now);
-                     return mv == null ? Maybe.empty() : Maybe.just(entryFactory.create(unmarshall(marshalledKey), mv));
-                  });
-         } else {
-            // The bucketKey is an actual key
-            ColumnFamilyHandle columnFamilyHandle = handler.getHandle(bucketKey);
-            MarshalledValue mv = handlePossiblyExpiredKey(columnFamilyHandle, marshall(bucketKey), now);
-            return mv == null ? Flowable.empty() : Flowable.just(entryFactory.create(bucketKey, mv));
-         }
+      Flowable<MarshallableEntry<K, V>> expiredEntryFlowable = expiredFlowable.flatMapMaybe(expirationKey -> {
+         int segment = ByteBuffer.wrap(expirationKey, Long.BYTES, Integer.BYTES).getInt();
+         byte[] marshalledKey = Arrays.copyOfRange(expirationKey, EXPIRATION_KEY_PREFIX_LENGTH, expirationKey.length);
+         MarshalledValue mv = handlePossiblyExpiredKey(handler.getHandle(segment), expirationKey, marshalledKey, now);
+         return mv == null ? Maybe.empty() : Maybe.just(entryFactory.create(unmarshall(marshalledKey), mv));
       });
 
       if (log.isTraceEnabled()) {
@@ -482,23 +522,27 @@ protected byte[] getNext() {
       return expiredEntryFlowable;
    }
 
-   private MarshalledValue handlePossiblyExpiredKey(ColumnFamilyHandle columnFamilyHandle, byte[] marshalledKey,
-                                                    long now) throws RocksDBException {
-      byte[] valueBytes = db.get(columnFamilyHandle, marshalledKey);
-      if (valueBytes == null) {
-         return null;
-      }
-      MarshalledValue mv = unmarshall(valueBytes);
-      if (mv != null) {
-         // TODO race condition: the entry could be updated between the get and delete!
-         Metadata metadata = unmarshall(MarshallUtil.toByteArray(mv.getMetadataBytes()));
-         if (MarshallableEntryImpl.isExpired(metadata, now, mv.getCreated(), mv.getLastUsed())) {
-            // somewhat inefficient to FIND then REMOVE... but required if the value is updated
-            db.delete(columnFamilyHandle, marshalledKey);
-            return mv;
+   private MarshalledValue handlePossiblyExpiredKey(ColumnFamilyHandle columnFamilyHandle, byte[] expirationKey,
+                                                    byte[] marshalledKey, long now) throws RocksDBException {
+      try (WriteBatch batch = new WriteBatch()) {
+         // The expiration key is removed even if the entry was updated since, as the update added its own key
+         batch.delete(handler.expirationColumnFamilyHandle, expirationKey);
+         // The handle is null if the segment was removed from the store
+         byte[] valueBytes = columnFamilyHandle == null ? null : db.get(columnFamilyHandle, marshalledKey);
+         MarshalledValue mv = unmarshall(valueBytes);
+         if (mv != null) {
+            // TODO race condition: the entry could be updated between the get and delete!
+            Metadata metadata = unmarshall(MarshallUtil.toByteArray(mv.getMetadataBytes()));
+            if (MarshallableEntryImpl.isExpired(metadata, now, mv.getCreated(), mv.getLastUsed())) {
+               // somewhat inefficient to FIND then REMOVE... but required if the value is updated
+               batch.delete(columnFamilyHandle, marshalledKey);
+            } else {
+               mv = null;
+            }
          }
+         db.write(dataWriteOptions(), batch);
+         return mv;
       }
-      return null;
    }
 
    @Override
@@ -546,7 +590,12 @@ private MarshallableEntry<K, V> unmarshallEntry(Object key, byte[] valueBytes) {
             value.getCreated(), value.getLastUsed());
    }
 
-   private void addNewExpiry(RocksDB expiredDb, MarshallableEntry<? extends K, ? extends V> entry) throws RocksDBException {
+   /**
+    * Adds the expiration time of the entry to the expiration column family in the same batch as the entry itself, so
+    * that both are written atomically.
+    */
+   private void addExpiration(WriteBatch batch, ColumnFamilyHandle expirationHandle, int segment, byte[] keyBytes,
+                              MarshallableEntry<? extends K, ? extends V> entry) throws RocksDBException {
       long expiry = entry.expiryTime();
       long maxIdle = entry.getMetadata().maxIdle();
       if (maxIdle > 0) {
@@ -554,8 +603,20 @@ private void addNewExpiry(RocksDB expiredDb, MarshallableEntry<? extends K, ? ex
          // which could lead to unexpected results, hence, InternalCacheEntry calls are required
          expiry = maxIdle + ctx.getTimeService().wallClockTime();
       }
-      byte[] keyBytes = entry.getKeyBytes().copy().getBuf();
-      putExpireDbData(expiredDb, new ExpiryEntry(expiry, keyBytes));
+      batch.put(expirationHandle, expirationKey(expiry, segment, keyBytes), EMPTY_VALUE);
+   }
+
+   /**
+    * The big endian expiration time sorts the keys by expiration with the bytewise comparator. The segment lets purge
+    * find the column family of the entry without unmarshalling its key.
+    */
+   private static byte[] expirationKey(long expiry, int segment, byte[] keyBytes) {
+      byte[] expirationKey = new byte[EXPIRATION_KEY_PREFIX_LENGTH + keyBytes.length];
+      ByteBuffer.wrap(expirationKey)
+            .putLong(expiry)
+            .putInt(segment)
+            .put(keyBytes);
+      return expirationKey;
    }
 
    @ProtoTypeId(ProtoStreamTypeIds.ROCKSDB_EXPIRY_BUCKET)
@@ -584,33 +645,6 @@ static final class MetadataImpl {
       }
    }
 
-   private static final class ExpiryEntry {
-
-      final long expiry;
-      final byte[] keyBytes;
-
-      ExpiryEntry(long expiry, byte[] keyBytes) {
-         this.expiry = expiry;
-         this.keyBytes = keyBytes;
-      }
-
-      @Override
-      public boolean equals(Object o) {
-         if (this == o) return true;
-         if (o == null || getClass() != o.getClass()) return false;
-         ExpiryEntry that = (ExpiryEntry) o;
-         return expiry == that.expiry &&
-               Arrays.equals(keyBytes, that.keyBytes);
-      }
-
-      @Override
-      public int hashCode() {
-         int result = Objects.hash(expiry);
-         result = 31 * result + Arrays.hashCode(keyBytes);
-         return result;
-      }
-   }
-
    private class RocksLegacyEntryIterator extends BaseRocksIterator<MarshallableEntry<K, V>> {
       private final long now;
       private final PersistenceMarshaller pm;
@@ -720,8 +754,8 @@ protected MarshallableEntry<K, V> getNext() {
    private abstract class RocksDBHandler {
 
       protected RocksDB db;
-      protected RocksDB expiredDb;
       protected ColumnFamilyHandle metaColumnFamilyHandle;
+      protected ColumnFamilyHandle expirationColumnFamilyHandle;
 
       abstract RocksDB open(Path location, DBOptions options) throws RocksDBException;
 
@@ -731,8 +765,6 @@ private abstract class RocksDBHandler {
 
       abstract ColumnFamilyHandle getHandle(Object key);
 
-      abstract ColumnFamilyHandle getHandleForMarshalledKey(byte[] marshalledKey);
-
       void writeMetadata() throws RocksDBException {
          MetadataImpl metadata = new MetadataImpl(Version.getVersionShort());
          db.put(metaColumnFamilyHandle, META_COLUMN_FAMILY_KEY, marshall(metadata));
@@ -755,6 +787,16 @@ ColumnFamilyDescriptor newDescriptor(byte[] name) {
          if (configuration.attributes().attribute(RocksDBStoreConfiguration.COMPRESSION_TYPE).isModified()) {
             columnFamilyOptions.setCompressionType(configuration.compressionType().getValue());
          }
+         if (blockCache != null || filterPolicy != null) {
+            BlockBasedTableConfig tableConfig = new BlockBasedTableConfig();
+            if (blockCache != null) {
+               tableConfig.setBlockCache(blockCache);
+            }
+            if (filterPolicy != null) {
+               tableConfig.setFilterPolicy(filterPolicy);
+            }
+            columnFamilyOptions.setTableFormatConfig(tableConfig);
+         }
          return new ColumnFamilyDescriptor(name, columnFamilyOptions);
       }
 
@@ -784,6 +826,44 @@ CompletionStage<MarshallableEntry<K, V>> load(int segment, Object key) {
          }
       }
 
+      /**
+       * Reads the keys with a multiGet per batch of {@link #BATCH_LOAD_SIZE} keys, which can span several column
+       * families and lets RocksDB look up the keys of the same data block together.
+       */
+      Publisher<MarshallableEntry<K, V>> batchLoad(int publisherCount, Publisher<SegmentedPublisher<Object>> keyPublisher) {
+         return Flowable.fromPublisher(keyPublisher)
+               .concatMap(sp -> {
+                  ColumnFamilyHandle handle = getHandle(sp.getSegment());
+                  if (handle == null) {
+                     log.trace("Ignoring load as handle is not currently configured");
+                     return Flowable.<KeyLookup>empty();
+                  }
+                  return Flowable.fromPublisher(sp).map(key -> new KeyLookup(handle, key));
+               })
+               .buffer(BATCH_LOAD_SIZE)
+               .flatMap(lookups -> blockingManager.blockingPublisher(Flowable.defer(() ->
+                     Flowable.fromIterable(multiGet(lookups)))), publisherCount);
+      }
+
+      private List<MarshallableEntry<K, V>> multiGet(List<KeyLookup> lookups) throws RocksDBException {
+         List<ColumnFamilyHandle> handles = new ArrayList<>(lookups.size());
+         List<byte[]> keys = new ArrayList<>(lookups.size());
+         for (KeyLookup lookup : lookups) {
+            handles.add(lookup.handle());
+            keys.add(marshall(lookup.key()));
+         }
+         List<byte[]> values = db.multiGetAsList(handles, keys);
+         long now = timeService.wallClockTime();
+         List<MarshallableEntry<K, V>> entries = new ArrayList<>(values.size());
+         for (int i = 0; i < values.size(); ++i) {
+            MarshallableEntry<K, V> me = unmarshallEntry(lookups.get(i).key(), values.get(i));
+            if (me != null && !me.isExpired(now)) {
+               entries.add(me);
+            }
+         }
+         return entries;
+      }
+
       CompletionStage<Void> write(int segment, MarshallableEntry<? extends K, ? extends V> me) {
          ColumnFamilyHandle handle = getHandle(segment);
          if (handle == null) {
@@ -795,9 +875,14 @@ CompletionStage<Void> write(int segment, MarshallableEntry<? extends K, ? extend
             byte[] marshalledValue = marshall(me.getMarshalledValue());
             return blockingManager.runBlocking(() -> {
                try {
-                  db.put(handle, marshalledKey, marshalledValue);
                   if (me.expiryTime() > -1) {
-                     addNewExpiry(expiredDb, me);
+                     try (WriteBatch batch = new WriteBatch()) {
+                        batch.put(handle, marshalledKey, marshalledValue);
+                        addExpiration(batch, expirationColumnFamilyHandle, segment, marshalledKey, me);
+                        db.write(dataWriteOptions(), batch);
+                     }
+                  } else {
+                     db.put(handle, marshalledKey, marshalledValue);
                   }
                } catch (RocksDBException e) {
                   throw new PersistenceException(e);
@@ -864,14 +949,16 @@ <P> Publisher<P> publish(int segment, Function<RocksIterator, Flowable<P>> funct
       abstract CompletionStage<Void> removeSegments(IntSet segments);
    }
 
+   private record KeyLookup(ColumnFamilyHandle handle, Object key) {
+   }
+
    private final class NonSegmentedRocksDBHandler extends RocksDBHandler {
       private final KeyPartitioner keyPartitioner;
 
       private ColumnFamilyHandle defaultColumnFamilyHandle;
 
-      private NonSegmentedRocksDBHandler(Path data, Path expired, KeyPartitioner keyPartitioner) throws RocksDBException {
+      private NonSegmentedRocksDBHandler(Path data, KeyPartitioner keyPartitioner) throws RocksDBException {
          this.db = open(data, dataDbOptions());
-         this.expiredDb = openDatabase(expired, expiredDbOptions());
          this.keyPartitioner = keyPartitioner;
       }
 
@@ -885,23 +972,20 @@ ColumnFamilyHandle getHandle(Object key) {
          return defaultColumnFamilyHandle;
       }
 
-      @Override
-      ColumnFamilyHandle getHandleForMarshalledKey(byte[] marshalledKey) {
-         return defaultColumnFamilyHandle;
-      }
-
       @Override
       RocksDB open(Path location, DBOptions options) throws RocksDBException {
          File dir = location.toFile();
          dir.mkdirs();
-         List<ColumnFamilyDescriptor> descriptors = new ArrayList<>(2);
-         List<ColumnFamilyHandle> handles = new ArrayList<>(2);
+         List<ColumnFamilyDescriptor> descriptors = new ArrayList<>(3);
+         List<ColumnFamilyHandle> handles = new ArrayList<>(3);
          descriptors.add(newDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY));
          descriptors.add(newDescriptor(META_COLUMN_FAMILY));
+         descriptors.add(new ColumnFamilyDescriptor(EXPIRATION_COLUMN_FAMILY, new ColumnFamilyOptions()));
          RocksDB rocksDB = RocksDB.open(options, location.toString(), descriptors, handles);
 
          defaultColumnFamilyHandle = handles.get(0);
          metaColumnFamilyHandle = handles.get(1);
+         expirationColumnFamilyHandle = handles.get(2);
          return rocksDB;
       }
 
@@ -914,6 +998,7 @@ CompletionStage<Void> clear(IntSet segments) {
          return blockingManager.runBlocking(() -> {
             if (segments == null) {
                clearColumnFamily(defaultColumnFamilyHandle);
+               clearColumnFamily(expirationColumnFamilyHandle);
             } else {
                try (ReadOptions readOptions = new ReadOptions().setFillCache(false)) {
                   try (RocksIterator it = db.newIterator(defaultColumnFamilyHandle, readOptions)) {
@@ -936,9 +1021,9 @@ CompletionStage<Void> clear(IntSet segments) {
       @Override
       void close() {
          defaultColumnFamilyHandle.close();
+         expirationColumnFamilyHandle.close();
 
          db.close();
-         expiredDb.close();
       }
 
       protected RocksIterator wrapIterator(RocksDB db, ReadOptions readOptions, int segment) {
@@ -983,10 +1068,9 @@ CompletionStage<Long> approximateSize(IntSet segments) {
    private class SegmentedRocksDBHandler extends RocksDBHandler {
       private final AtomicReferenceArray<ColumnFamilyHandle> handles;
 
-      private SegmentedRocksDBHandler(Path data, Path expired, int segmentCount) throws RocksDBException {
+      private SegmentedRocksDBHandler(Path data, int segmentCount) throws RocksDBException {
          this.handles = new AtomicReferenceArray<>(segmentCount);
          this.db = open(data, dataDbOptions());
-         this.expiredDb = openDatabase(expired, expiredDbOptions());
       }
 
       byte[] byteArrayFromInt(int val) {
@@ -1008,32 +1092,31 @@ ColumnFamilyHandle getHandle(Object key) {
          return handles.get(keyPartitioner.getSegment(key));
       }
 
-      @Override
-      ColumnFamilyHandle getHandleForMarshalledKey(byte[] marshalledKey) {
-         return getHandle(unmarshall(marshalledKey));
-      }
-
       @Override
       RocksDB open(Path location, DBOptions options) throws RocksDBException {
          File dir = location.toFile();
          dir.mkdirs();
          int segmentCount = handles.length();
-         List<ColumnFamilyDescriptor> descriptors = new ArrayList<>(segmentCount + 2);
-         List<ColumnFamilyHandle> outHandles = new ArrayList<>(segmentCount + 2);
+         List<ColumnFamilyDescriptor> descriptors = new ArrayList<>(segmentCount + 3);
+         List<ColumnFamilyHandle> outHandles = new ArrayList<>(segmentCount + 3);
          // You have to open the default column family
          descriptors.add(new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, new ColumnFamilyOptions()));
 
          // Create the meta column family
          descriptors.add(new ColumnFamilyDescriptor(META_COLUMN_FAMILY, new ColumnFamilyOptions()));
 
+         // Create the expiration column family
+         descriptors.add(new ColumnFamilyDescriptor(EXPIRATION_COLUMN_FAMILY, new ColumnFamilyOptions()));
+
          for (int i = 0; i < segmentCount; ++i) {
             descriptors.add(newDescriptor(byteArrayFromInt(i)));
          }
 
          RocksDB rocksDB = RocksDB.open(options, location.toString(), descriptors, outHandles);
          metaColumnFamilyHandle = outHandles.get(1);
+         expirationColumnFamilyHandle = outHandles.get(2);
          for (int i = 0; i < segmentCount; ++i) {
-            handles.set(i, outHandles.get(i + 2));
+            handles.set(i, outHandles.get(i + 3));
          }
          return rocksDB;
       }
@@ -1044,6 +1127,7 @@ CompletionStage<Void> clear() {
             for (int i = 0; i < handles.length(); ++i) {
                clearForSegment(i);
             }
+            RocksDBStore.this.clearColumnFamily(expirationColumnFamilyHandle);
          }, "rocksdb-clear");
       }
 
@@ -1065,9 +1149,9 @@ void close() {
                handle.close();
             }
          }
+         expirationColumnFamilyHandle.close();
 
          db.close();
-         expiredDb.close();
       }
 
       @Override
@@ -1155,25 +1239,6 @@ CompletionStage<Long> approximateSize(IntSet segments) {
       }
    }
 
-   private void putExpireDbData(RocksDB expiredDb, ExpiryEntry entry) throws RocksDBException {
-      final byte[] expiryBytes = marshall(entry.expiry);
-      final byte[] existingBytes = expiredDb.get(expiryBytes);
-
-      if (existingBytes != null) {
-         // in the case of collision make the value a List ...
-         final Object existing = unmarshall(existingBytes);
-         if (existing instanceof ExpiryBucket) {
-            ((ExpiryBucket) existing).entries.add(entry.keyBytes);
-            expiredDb.put(expiryBytes, marshall(existing));
-         } else {
-            ExpiryBucket bucket = new ExpiryBucket(existingBytes, entry.keyBytes);
-            expiredDb.put(expiryBytes, marshall(bucket));
-         }
-      } else {
-         expiredDb.put(expiryBytes, entry.keyBytes);
-      }
-   }
-
    /*
     * Instead of iterate in RocksIterator we use the first and last byte array
     */
@@ -12,7 +12,9 @@ public enum Attribute {
    // must be first
    UNKNOWN(null),
 
+   BLOCK_CACHE_SIZE("block-cache-size"),
    BLOCK_SIZE("block-size"),
+   BLOOM_FILTER_BITS_PER_KEY("bloom-filter-bits-per-key"),
    CACHE_SIZE("cache-size"),
    CLEAR_THRESHOLD("clear-threshold"),
    COMPRESSION_TYPE("compressionType"),
@@ -21,9 +21,11 @@ public class RocksDBStoreConfiguration extends AbstractStoreConfiguration<RocksD
 
    static final AttributeDefinition<String> LOCATION = AttributeDefinition.builder(org.infinispan.persistence.rocksdb.configuration.Attribute.PATH, null, String.class).immutable().build();
    public static final AttributeDefinition<CompressionType> COMPRESSION_TYPE = AttributeDefinition.builder(org.infinispan.persistence.rocksdb.configuration.Attribute.COMPRESSION_TYPE, CompressionType.NONE).immutable().autoPersist(false).build();
+   public static final AttributeDefinition<Long> BLOCK_CACHE_SIZE = AttributeDefinition.builder(org.infinispan.persistence.rocksdb.configuration.Attribute.BLOCK_CACHE_SIZE, 0L).immutable().build();
+   public static final AttributeDefinition<Integer> BLOOM_FILTER_BITS_PER_KEY = AttributeDefinition.builder(org.infinispan.persistence.rocksdb.configuration.Attribute.BLOOM_FILTER_BITS_PER_KEY, 0).immutable().build();
 
    public static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(RocksDBStoreConfiguration.class, AbstractStoreConfiguration.attributeDefinitionSet(), LOCATION, COMPRESSION_TYPE);
+      return new AttributeSet(RocksDBStoreConfiguration.class, AbstractStoreConfiguration.attributeDefinitionSet(), LOCATION, COMPRESSION_TYPE, BLOCK_CACHE_SIZE, BLOOM_FILTER_BITS_PER_KEY);
    }
 
    private final RocksDBExpirationConfiguration expiration;
@@ -48,4 +50,19 @@ public String expiredLocation() {
    public CompressionType compressionType() {
       return attributes.attribute(COMPRESSION_TYPE).get();
    }
+
+   /**
+    * @return the size in bytes of the block cache shared by all the column families of the store, 0 to keep the
+    * RocksDB default of a small cache per column family
+    */
+   public long blockCacheSize() {
+      return attributes.attribute(BLOCK_CACHE_SIZE).get();
+   }
+
+   /**
+    * @return the bits per key of the Bloom filters written to the data tables, 0 when the tables have no filter
+    */
+   public int bloomFilterBitsPerKey() {
+      return attributes.attribute(BLOOM_FILTER_BITS_PER_KEY).get();
+   }
 }
@@ -1,9 +1,13 @@
 package org.infinispan.persistence.rocksdb.configuration;
 
 import static org.infinispan.persistence.rocksdb.configuration.RocksDBExpirationConfiguration.EXPIRED_LOCATION;
+import static org.infinispan.persistence.rocksdb.configuration.RocksDBStoreConfiguration.BLOCK_CACHE_SIZE;
+import static org.infinispan.persistence.rocksdb.configuration.RocksDBStoreConfiguration.BLOOM_FILTER_BITS_PER_KEY;
 import static org.infinispan.persistence.rocksdb.configuration.RocksDBStoreConfiguration.COMPRESSION_TYPE;
 import static org.infinispan.persistence.rocksdb.configuration.RocksDBStoreConfiguration.LOCATION;
 
+import java.lang.invoke.MethodHandles;
+
 import org.infinispan.commons.configuration.Builder;
 import org.infinispan.commons.configuration.Combine;
 import org.infinispan.commons.configuration.attributes.AttributeSet;
@@ -11,11 +15,14 @@
 import org.infinispan.configuration.cache.PersistenceConfigurationBuilder;
 import org.infinispan.configuration.global.GlobalConfiguration;
 import org.infinispan.persistence.PersistenceUtil;
+import org.infinispan.persistence.rocksdb.logging.Log;
+import org.infinispan.util.logging.LogFactory;
 
 /**
  * @author <a href="mailto:rtsang@redhat.com">Ray Tsang</a>
  */
 public class RocksDBStoreConfigurationBuilder extends AbstractStoreConfigurationBuilder<RocksDBStoreConfiguration, RocksDBStoreConfigurationBuilder> {
+   private static final Log log = LogFactory.getLog(MethodHandles.lookup().lookupClass(), Log.class);
 
    protected RocksDBExpirationConfigurationBuilder expiration = new RocksDBExpirationConfigurationBuilder();
 
@@ -50,10 +57,36 @@ public RocksDBStoreConfigurationBuilder compressionType(CompressionType compress
       return self();
    }
 
+   /**
+    * Sets the size in bytes of an LRU block cache shared by all the column families of the store. Defaults to 0, which
+    * keeps the RocksDB default of a small cache per column family.
+    */
+   public RocksDBStoreConfigurationBuilder blockCacheSize(long blockCacheSize) {
+      attributes.attribute(BLOCK_CACHE_SIZE).set(blockCacheSize);
+      return self();
+   }
+
+   /**
+    * Sets the bits per key of the Bloom filters written to the data tables, which let loads of missing keys skip
+    * reading the data blocks. Defaults to 0, which writes no filter. 10 bits per key give about 1% false positives.
+    */
+   public RocksDBStoreConfigurationBuilder bloomFilterBitsPerKey(int bloomFilterBitsPerKey) {
+      attributes.attribute(BLOOM_FILTER_BITS_PER_KEY).set(bloomFilterBitsPerKey);
+      return self();
+   }
+
    @Override
    public void validate() {
       // how do you validate required attributes?
       super.validate();
+      long blockCacheSize = attributes.attribute(BLOCK_CACHE_SIZE).get();
+      if (blockCacheSize < 0) {
+         throw log.rocksDBNegativeAttribute(Attribute.BLOCK_CACHE_SIZE.getLocalName(), blockCacheSize);
+      }
+      int bloomFilterBitsPerKey = attributes.attribute(BLOOM_FILTER_BITS_PER_KEY).get();
+      if (bloomFilterBitsPerKey < 0) {
+         throw log.rocksDBNegativeAttribute(Attribute.BLOOM_FILTER_BITS_PER_KEY.getLocalName(), bloomFilterBitsPerKey);
+      }
       expiration.validate();
    }
 
@@ -69,6 +69,14 @@ private void parseRocksDBCacheStore(ConfigurationReader reader, RocksDBStoreConf
                   throw ParseUtils.attributeRemoved(reader, i);
                }
             }
+            case BLOCK_CACHE_SIZE: {
+               builder.blockCacheSize(Long.parseLong(value));
+               break;
+            }
+            case BLOOM_FILTER_BITS_PER_KEY: {
+               builder.bloomFilterBitsPerKey(Integer.parseInt(value));
+               break;
+            }
             case BLOCK_SIZE:
             case CACHE_SIZE: {
                if (!reader.getSchema().since(11, 0)) {
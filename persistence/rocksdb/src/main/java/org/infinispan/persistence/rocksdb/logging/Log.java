@@ -22,4 +22,7 @@ public interface Log extends BasicLogger {
 
    @Message(value = "RocksDB properties %s, contains an unknown property", id = 23001)
    CacheConfigurationException rocksDBUnknownPropertiesSupplied(String properties);
+
+   @Message(value = "The '%s' attribute of the RocksDB store must not be negative, but was %d", id = 23002)
+   CacheConfigurationException rocksDBNegativeAttribute(String attribute, long value);
 }
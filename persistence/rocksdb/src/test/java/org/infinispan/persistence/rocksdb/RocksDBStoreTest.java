@@ -199,6 +199,30 @@ public void testClear() {
       assertEmpty(null);
    }
 
+   public void testPurgeOnlyReadsExpiredEntries() {
+      for (int i = 0; i < 10; ++i) {
+         store.write(marshalledEntry(internalCacheEntry("k" + i, "v" + i, (i + 1) * 1000L)));
+      }
+      store.write(marshalledEntry(internalCacheEntry("immortal", "v", -1)));
+      // Making the entry immortal leaves its previous expiration behind, which must not purge it
+      store.write(marshalledEntry(internalCacheEntry("k0", "v0", -1)));
+
+      // The expiration times are persisted with the entries
+      store.stopAndWait();
+      startStore(store);
+
+      timeService.advance(5001);
+      purgeExpired(internalCacheEntry("k1", "v1", 2000), internalCacheEntry("k2", "v2", 3000),
+            internalCacheEntry("k3", "v3", 4000), internalCacheEntry("k4", "v4", 5000));
+      assertTrue(store.contains("k0"));
+      assertTrue(store.contains("k5"));
+      assertTrue(store.contains("immortal"));
+
+      timeService.advance(5000);
+      assertEquals(5, store.purge().size());
+      assertEquals(Arrays.asList("immortal", "k0"), listKeys(null));
+   }
+
    private void assertEmpty(IntSet segments) {
       assertEquals(0, (long) join(store.size(segments)));
 
@@ -82,5 +82,7 @@ public void testXmlConfig() throws IOException {
       RocksDBStoreConfiguration rocksdbConfig = (RocksDBStoreConfiguration) cacheLoaderConfig;
       assertEquals("/tmp/rocksdb/52/data", rocksdbConfig.location());
       assertEquals("/tmp/rocksdb/52/expired", rocksdbConfig.expiredLocation());
+      assertEquals(33554432, rocksdbConfig.blockCacheSize());
+      assertEquals(10, rocksdbConfig.bloomFilterBitsPerKey());
    }
 }
@@ -620,6 +620,18 @@ protected MarshallableEntry<K, V> entryFromResultSet(ResultSet rs, Object keyIfP
 
       @Override
       protected void prepareKeyStatement(PreparedStatement ps, Object key) throws SQLException {
+         prepareKeyStatement(ps, key, 0);
+      }
+
+      @Override
+      protected void prepareKeysStatement(PreparedStatement ps, List<?> keys) throws SQLException {
+         int keyParameterCount = schemaOptions.keyParameters.length;
+         for (int i = 0; i < keys.size(); ++i) {
+            prepareKeyStatement(ps, keys.get(i), i * keyParameterCount);
+         }
+      }
+
+      private void prepareKeyStatement(PreparedStatement ps, Object key, int offset) throws SQLException {
          Object jsonString = schemaOptions.keyConversion.fromStorage(key);
          Json json = Json.read((String) jsonString);
          for (int i = 0; i < schemaOptions.keyParameters.length; ++i) {
@@ -629,9 +641,9 @@ protected void prepareKeyStatement(PreparedStatement ps, Object key) throws SQLE
             }
             Json innerJson = parameter.unwrapJsonKey.apply(json);
             if (innerJson != null) {
-               setParameter(ps, parameter.getType(), i + 1, innerJson);
+               setParameter(ps, parameter.getType(), offset + i + 1, innerJson);
             } else {
-               ps.setNull(i + 1, parameter.getSqlType());
+               ps.setNull(offset + i + 1, parameter.getSqlType());
             }
          }
       }
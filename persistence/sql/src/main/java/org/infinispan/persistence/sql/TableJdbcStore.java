@@ -36,6 +36,10 @@ public class TableTableOperations extends SchemaTableOperations<K, V, TableJdbcS
       private final String deleteAllSql;
       private final String upsertSql;
       private final String sizeSql;
+      private final int fetchSize;
+      private final SqlManager statements;
+      private final List<String> keyNames;
+      private final List<String> allNames;
 
       public TableTableOperations(ProtoSchemaOptions<K, V, TableJdbcStoreConfiguration> options, Parameter[] upsertParameters) {
          super(options, upsertParameters);
@@ -55,10 +59,10 @@ public TableTableOperations(ProtoSchemaOptions<K, V, TableJdbcStoreConfiguration
                connectionFactory.releaseConnection(connection);
             }
          }
-         SqlManager statements = SqlManager.fromDatabaseType(type, config.tableName());
-         List<String> keyNames = Arrays.stream(options.keyParameters)
+         statements = SqlManager.fromDatabaseType(type, config.tableName());
+         keyNames = Arrays.stream(options.keyParameters)
                .map(Parameter::getName).collect(Collectors.toList());
-         List<String> allNames = Arrays.stream(options.valueParameters)
+         allNames = Arrays.stream(options.valueParameters)
                .map(Parameter::getName).collect(Collectors.toList());
          selectSql = statements.getSelectStatement(keyNames, allNames);
          selectAllSql = statements.getSelectAllStatement(allNames);
@@ -66,6 +70,7 @@ public TableTableOperations(ProtoSchemaOptions<K, V, TableJdbcStoreConfiguration
          deleteAllSql = statements.getDeleteAllStatement();
          upsertSql = statements.getUpsertStatement(keyNames, allNames);
          sizeSql = statements.getSizeCommand();
+         fetchSize = statements.getFetchSize(config.maxBatchSize());
       }
 
       @Override
@@ -73,6 +78,11 @@ public String getSelectRowSql() {
          return selectSql;
       }
 
+      @Override
+      public String getSelectRowsSql(int keyCount) {
+         return statements.getSelectMultipleStatement(keyNames, allNames, keyCount);
+      }
+
       @Override
       public String getDeleteRowSql() {
          return deleteSql;
@@ -97,6 +107,11 @@ public String getDeleteAllSql() {
       public String getSizeSql() {
          return sizeSql;
       }
+
+      @Override
+      public int getFetchSize() {
+         return fetchSize;
+      }
    }
 
    @Override
@@ -0,0 +1,38 @@
+package org.infinispan.server.core.transport;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+/**
+ * A {@link ByteToMessageDecoder.Cumulator} that merges the inbound buffers into a single buffer while the pending bytes
+ * are few, and composes them without copying once they reach {@link #THRESHOLD}.
+ * <p>
+ * Merging keeps the parsing of small requests on a contiguous buffer, but it copies all the pending bytes every time
+ * the cumulation has to grow, so a large key or value received in many reads would be copied several times before
+ * being decoded. Composing the buffers instead means large keys and values are only copied once, when the decoder
+ * reads them into the arrays passed to the cache.
+ * <p>
+ * Ownership follows {@link ByteToMessageDecoder}: every inbound buffer is either released here or becomes a component
+ * of the returned cumulation, which the decoder releases once it has been fully read or the channel is closed.
+ *
+ * @since 16.0
+ */
+public final class LargeFrameCumulator implements ByteToMessageDecoder.Cumulator {
+   public static final LargeFrameCumulator INSTANCE = new LargeFrameCumulator();
+
+   /**
+    * The number of pending bytes from which the inbound buffers are composed instead of merged.
+    */
+   public static final int THRESHOLD = 64 * 1024;
+
+   private LargeFrameCumulator() { }
+
+   @Override
+   public ByteBuf cumulate(ByteBufAllocator alloc, ByteBuf cumulation, ByteBuf in) {
+      if (cumulation.readableBytes() + in.readableBytes() >= THRESHOLD) {
+         return ByteToMessageDecoder.COMPOSITE_CUMULATOR.cumulate(alloc, cumulation, in);
+      }
+      return ByteToMessageDecoder.MERGE_CUMULATOR.cumulate(alloc, cumulation, in);
+   }
+}
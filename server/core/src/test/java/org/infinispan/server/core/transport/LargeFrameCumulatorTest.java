@@ -0,0 +1,70 @@
+package org.infinispan.server.core.transport;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import org.testng.annotations.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+
+@Test(groups = "unit", testName = "server.core.transport.LargeFrameCumulatorTest")
+public class LargeFrameCumulatorTest {
+   private final ByteBufAllocator alloc = UnpooledByteBufAllocator.DEFAULT;
+
+   public void testSmallFramesAreMerged() {
+      ByteBuf first = chunk(0, 100);
+      ByteBuf second = chunk(100, 100);
+      ByteBuf cumulation = LargeFrameCumulator.INSTANCE.cumulate(alloc, first, second);
+      try {
+         assertFalse(cumulation instanceof CompositeByteBuf);
+         assertEquals(0, second.refCnt());
+         assertContent(cumulation, 200);
+      } finally {
+         cumulation.release();
+      }
+   }
+
+   public void testLargeFramesAreComposed() {
+      int chunkSize = LargeFrameCumulator.THRESHOLD / 4;
+      ByteBuf cumulation = chunk(0, LargeFrameCumulator.THRESHOLD);
+      ByteBuf[] chunks = new ByteBuf[8];
+      for (int i = 0; i < chunks.length; ++i) {
+         chunks[i] = chunk(LargeFrameCumulator.THRESHOLD + i * chunkSize, chunkSize);
+         cumulation = LargeFrameCumulator.INSTANCE.cumulate(alloc, cumulation, chunks[i]);
+      }
+      try {
+         assertTrue(cumulation instanceof CompositeByteBuf);
+         // The inbound buffers are not copied, they are owned by the cumulation
+         for (ByteBuf chunk : chunks) {
+            assertEquals(1, chunk.refCnt());
+         }
+         assertContent(cumulation, LargeFrameCumulator.THRESHOLD + chunks.length * chunkSize);
+      } finally {
+         cumulation.release();
+      }
+      for (ByteBuf chunk : chunks) {
+         assertEquals(0, chunk.refCnt());
+      }
+   }
+
+   private ByteBuf chunk(int offset, int length) {
+      ByteBuf buf = alloc.buffer(length);
+      for (int i = 0; i < length; ++i) {
+         buf.writeByte(offset + i);
+      }
+      return buf;
+   }
+
+   private static void assertContent(ByteBuf cumulation, int length) {
+      assertEquals(length, cumulation.readableBytes());
+      byte[] bytes = new byte[length];
+      cumulation.readBytes(bytes);
+      for (int i = 0; i < length; ++i) {
+         assertEquals((byte) i, bytes[i]);
+      }
+   }
+}
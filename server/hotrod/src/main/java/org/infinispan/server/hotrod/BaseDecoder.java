@@ -16,6 +16,7 @@
 import org.infinispan.security.actions.SecurityActions;
 import org.infinispan.server.core.ServerConstants;
 import org.infinispan.server.core.logging.Log;
+import org.infinispan.server.core.transport.LargeFrameCumulator;
 import org.infinispan.server.hotrod.configuration.HotRodServerConfiguration;
 import org.infinispan.telemetry.InfinispanTelemetry;
 
@@ -46,6 +47,8 @@ protected BaseDecoder(EmbeddedCacheManager cacheManager, Executor executor, HotR
       this.server = server;
       HotRodServerConfiguration configuration = server.getConfiguration();
       this.maxContentLength = configuration.maxContentLengthBytes();
+      // Large keys and values are only copied once, when they are read into arrays
+      setCumulator(LargeFrameCumulator.INSTANCE);
    }
 
    public Executor getExecutor() {
@@ -0,0 +1,86 @@
+package org.infinispan.server.hotrod;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import org.infinispan.distribution.DistributionInfo;
+import org.infinispan.distribution.LocalizedCacheTopology;
+import org.infinispan.remoting.transport.Address;
+
+/**
+ * Splits the keys of a {@code PUT_ALL} or {@code GET_ALL} request received by a clustered cache into groups that are
+ * executed as separate commands.
+ * <p>
+ * The keys owned by other nodes are grouped by primary owner, so each of them is handled by a single command sent to
+ * that owner. The keys owned locally are grouped by segment and the segments are spread over up to {@code parallelism}
+ * groups, so they can be executed concurrently instead of one key after the other in the thread receiving the request.
+ *
+ * @since 16.0
+ */
+final class BulkRequestSplitter {
+   /**
+    * Requests with fewer keys are executed as a single command.
+    */
+   static final int THRESHOLD = 64;
+
+   /**
+    * The minimum number of local keys executed by a single command, so small requests are not split too finely.
+    */
+   static final int MIN_LOCAL_GROUP = 16;
+
+   private BulkRequestSplitter() { }
+
+   /**
+    * @param topology      the topology used to locate the keys
+    * @param keyToStorage  converts the keys in the request to their storage format, used to find their segment
+    * @param items         the keys or entries of the request
+    * @param keyFunction   extracts the key from an item
+    * @param write         whether the keys are written, which has to be done by the primary owner, or read, which any
+    *                      read owner can do
+    * @param parallelism   the maximum number of groups the local keys are split into
+    */
+   static <T> Split<T> split(LocalizedCacheTopology topology, UnaryOperator<Object> keyToStorage,
+                             Collection<? extends T> items, Function<? super T, ?> keyFunction, boolean write,
+                             int parallelism) {
+      Map<Address, List<T>> remote = new HashMap<>();
+      // Sorted so that the keys of a segment end up in the same local group
+      Map<Integer, List<T>> localBySegment = new TreeMap<>();
+      int localCount = 0;
+      for (T item : items) {
+         Object storageKey = keyToStorage.apply(keyFunction.apply(item));
+         DistributionInfo info = topology.getDistribution(storageKey);
+         if (write ? info.isPrimary() : info.isReadOwner()) {
+            localBySegment.computeIfAbsent(info.segmentId(), s -> new ArrayList<>()).add(item);
+            localCount++;
+         } else {
+            remote.computeIfAbsent(info.primary(), a -> new ArrayList<>()).add(item);
+         }
+      }
+
+      List<List<T>> local = new ArrayList<>();
+      if (localCount > 0) {
+         int groupSize = Math.max(MIN_LOCAL_GROUP, (localCount + parallelism - 1) / Math.max(parallelism, 1));
+         List<T> group = null;
+         for (List<T> segmentItems : localBySegment.values()) {
+            if (group == null || group.size() >= groupSize) {
+               group = new ArrayList<>(groupSize);
+               local.add(group);
+            }
+            group.addAll(segmentItems);
+         }
+      }
+      return new Split<>(new ArrayList<>(remote.values()), local);
+   }
+
+   /**
+    * @param remote the groups of keys with a remote primary owner, one per owner
+    * @param local  the groups of keys owned locally
+    */
+   record Split<T>(List<List<T>> remote, List<List<T>> local) { }
+}
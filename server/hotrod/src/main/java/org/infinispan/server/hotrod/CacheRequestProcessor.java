@@ -1,7 +1,10 @@
 package org.infinispan.server.hotrod;
 
 import java.io.StreamCorruptedException;
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -11,6 +14,8 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.security.auth.Subject;
 
@@ -19,8 +24,11 @@
 import org.infinispan.commons.util.BloomFilter;
 import org.infinispan.commons.util.IntSets;
 import org.infinispan.commons.util.MurmurHash3BloomFilter;
+import org.infinispan.commons.util.ProcessorInfo;
 import org.infinispan.commons.util.Util;
+import org.infinispan.commons.util.concurrent.AggregateCompletionStage;
 import org.infinispan.commons.util.concurrent.CompletableFutures;
+import org.infinispan.commons.util.concurrent.CompletionStages;
 import org.infinispan.container.entries.CacheEntry;
 import org.infinispan.container.versioning.NumericVersion;
 import org.infinispan.context.Flag;
@@ -499,14 +507,58 @@ void putAll(HotRodHeader header, Subject subject, Map<byte[], byte[]> entries, M
       InfinispanSpan<Void> span = requestStart(header, cacheInfo.getInfinispanSpanAttributes());
       try (var ignored = span.makeCurrent()) {
          metadata.version(cacheInfo.versionGenerator.generateNew());
-         putAllInternal(header, cache, entries, metadata.build(), span);
+         putAllInternal(header, cacheInfo, cache, entries, metadata.build(), span);
       }
    }
 
-   private void putAllInternal(HotRodHeader header, AdvancedCache<byte[], byte[]> cache, Map<byte[], byte[]> entries,
-                               Metadata metadata, InfinispanSpan<Void> span) {
-      cache.putAllAsync(entries, metadata)
-            .whenComplete((nil, throwable) -> handleGenericResponse(header, throwable, span));
+   private void putAllInternal(HotRodHeader header, ExtendedCacheInfo cacheInfo, AdvancedCache<byte[], byte[]> cache,
+                               Map<byte[], byte[]> entries, Metadata metadata, InfinispanSpan<Void> span) {
+      CompletionStage<Void> stage;
+      if (splitBulkRequest(cacheInfo, entries.size())) {
+         BulkRequestSplitter.Split<Map.Entry<byte[], byte[]>> split = BulkRequestSplitter.split(
+               cacheInfo.distributionManager.getCacheTopology(), cache.getKeyDataConversion()::toStorage,
+               entries.entrySet(), Map.Entry::getKey, true, ProcessorInfo.availableProcessors());
+         AggregateCompletionStage<Void> aggregate = CompletionStages.aggregateCompletionStage();
+         for (List<Map.Entry<byte[], byte[]>> group : split.remote()) {
+            aggregate.dependsOn(cache.putAllAsync(toMap(group), metadata));
+         }
+         for (List<Map.Entry<byte[], byte[]>> group : split.local()) {
+            aggregate.dependsOn(invokeNonBlocking(span, () -> cache.putAllAsync(toMap(group), metadata)));
+         }
+         stage = aggregate.freeze();
+      } else {
+         stage = cache.putAllAsync(entries, metadata);
+      }
+      stage.whenComplete((nil, throwable) -> handleGenericResponse(header, throwable, span));
+   }
+
+   /**
+    * Large bulk requests to a clustered non-transactional cache are split with {@link BulkRequestSplitter}. They are
+    * not atomic to begin with, so executing them as several commands doesn't change what the client can observe.
+    */
+   private static boolean splitBulkRequest(ExtendedCacheInfo cacheInfo, int size) {
+      return size >= BulkRequestSplitter.THRESHOLD && cacheInfo.clustered && !cacheInfo.transactional &&
+            !cacheInfo.configuration.clustering().cacheMode().isInvalidation();
+   }
+
+   /**
+    * Starts the invocation in the non-blocking executor, so it runs in parallel with the other parts of the request.
+    * The span of the request is made current on the executor thread as well.
+    */
+   private <R> CompletableFuture<R> invokeNonBlocking(InfinispanSpan<?> span, Supplier<CompletableFuture<R>> invocation) {
+      return CompletableFuture.supplyAsync(() -> {
+         try (var ignored = span.makeCurrent()) {
+            return invocation.get();
+         }
+      }, server.getNonBlockingExecutor()).thenCompose(Function.identity());
+   }
+
+   private static Map<byte[], byte[]> toMap(List<Map.Entry<byte[], byte[]>> entries) {
+      Map<byte[], byte[]> map = new HashMap<>(entries.size() * 4 / 3, 0.75f);
+      for (Map.Entry<byte[], byte[]> entry : entries) {
+         map.put(entry.getKey(), entry.getValue());
+      }
+      return map;
    }
 
    private void handleGenericResponse(HotRodHeader header, Throwable throwable, InfinispanSpan<Void> span) {
@@ -525,19 +577,49 @@ private void handleGenericResponse(HotRodHeader header, Throwable throwable, Inf
    void getAll(HotRodHeader header, Subject subject, Set<?> keys) {
       ExtendedCacheInfo cacheInfo = server.getCacheInfo(header);
       AdvancedCache<byte[], byte[]> cache = server.cache(cacheInfo, header, subject);
-      getAllInternal(header, cache, keys);
+      InfinispanSpan<Map<byte[], byte[]>> span = requestStart(header, cacheInfo.getInfinispanSpanAttributes());
+      try (var ignored = span.makeCurrent()) {
+         getAllInternal(header, cacheInfo, cache, keys, span);
+      }
    }
 
-   private void getAllInternal(HotRodHeader header, AdvancedCache<byte[], byte[]> cache, Set<?> keys) {
-      cache.getAllAsync(keys)
-            .whenComplete((map, throwable) -> handleGetAll(header, map, throwable));
+   private void getAllInternal(HotRodHeader header, ExtendedCacheInfo cacheInfo, AdvancedCache<byte[], byte[]> cache,
+                               Set<?> keys, InfinispanSpan<Map<byte[], byte[]>> span) {
+      CompletionStage<Map<byte[], byte[]>> stage;
+      if (splitBulkRequest(cacheInfo, keys.size())) {
+         BulkRequestSplitter.Split<Object> split = BulkRequestSplitter.split(
+               cacheInfo.distributionManager.getCacheTopology(), cache.getKeyDataConversion()::toStorage, keys,
+               Function.identity(), false, ProcessorInfo.availableProcessors());
+         List<CompletableFuture<Map<byte[], byte[]>>> futures =
+               new ArrayList<>(split.remote().size() + split.local().size());
+         for (List<Object> group : split.remote()) {
+            futures.add(cache.getAllAsync(new HashSet<>(group)));
+         }
+         for (List<Object> group : split.local()) {
+            futures.add(invokeNonBlocking(span, () -> cache.getAllAsync(new HashSet<>(group))));
+         }
+         stage = CompletableFutures.sequence(futures).thenApply(maps -> {
+            Map<byte[], byte[]> map = new HashMap<>(keys.size() * 4 / 3, 0.75f);
+            maps.forEach(map::putAll);
+            return map;
+         });
+      } else {
+         stage = cache.getAllAsync(keys);
+      }
+      stage.whenComplete((map, throwable) -> handleGetAll(header, map, throwable, span));
    }
 
-   private void handleGetAll(HotRodHeader header, Map<byte[], byte[]> map, Throwable throwable) {
-      if (throwable != null) {
-         writeException(header, throwable);
-      } else {
-         writeResponse(header, header.encoder().getAllResponse(header, server, channel, map));
+   private void handleGetAll(HotRodHeader header, Map<byte[], byte[]> map, Throwable throwable,
+                             InfinispanSpan<Map<byte[], byte[]>> span) {
+      try {
+         if (throwable != null) {
+            writeException(header, throwable);
+            span.recordException(throwable);
+         } else {
+            writeResponse(header, header.encoder().getAllResponse(header, server, channel, map));
+         }
+      } finally {
+         span.complete();
       }
    }
 
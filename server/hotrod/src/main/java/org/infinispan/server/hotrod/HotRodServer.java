@@ -15,6 +15,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -136,6 +137,7 @@ public class HotRodServer extends AbstractProtocolServer<HotRodServerConfigurati
    private InternalCacheRegistry internalCacheRegistry;
    private ConfigurationManager configurationManager;
    private BlockingManager blockingManager;
+   private Executor nonBlockingExecutor;
 
    public HotRodServer() {
       super("HotRod");
@@ -161,6 +163,10 @@ byte[] query(AdvancedCache<byte[], byte[]> cache, byte[] query) {
       return queryFacade.query(cache, query);
    }
 
+   Executor getNonBlockingExecutor() {
+      return nonBlockingExecutor;
+   }
+
    public ClientListenerRegistry getClientListenerRegistry() {
       return clientListenerRegistry;
    }
@@ -242,8 +248,8 @@ protected void startInternal() {
 
       // Initialize query-specific stuff
       queryFacade = loadQueryFacade();
-      clientListenerRegistry = new ClientListenerRegistry(gcr.getComponent(EncoderRegistry.class),
-            gcr.getComponent(ExecutorService.class, NON_BLOCKING_EXECUTOR));
+      nonBlockingExecutor = gcr.getComponent(ExecutorService.class, NON_BLOCKING_EXECUTOR);
+      clientListenerRegistry = new ClientListenerRegistry(gcr.getComponent(EncoderRegistry.class), nonBlockingExecutor);
       clientCounterNotificationManager = new ClientCounterManagerNotificationManager(asCounterManager(cacheManager));
 
       addKeyValueFilterConverterFactory(ToEmptyBytesKeyValueFilterConverter.class.getName(), new ToEmptyBytesFactory());
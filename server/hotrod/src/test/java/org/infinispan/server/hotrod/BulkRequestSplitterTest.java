@@ -0,0 +1,104 @@
+package org.infinispan.server.hotrod;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.distribution.DistributionInfo;
+import org.infinispan.distribution.LocalizedCacheTopology;
+import org.infinispan.distribution.ch.ConsistentHash;
+import org.infinispan.distribution.ch.impl.DefaultConsistentHashFactory;
+import org.infinispan.distribution.ch.impl.HashFunctionPartitioner;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.remoting.transport.jgroups.JGroupsAddress;
+import org.infinispan.topology.CacheTopology;
+import org.testng.annotations.Test;
+
+@Test(groups = "unit", testName = "server.hotrod.BulkRequestSplitterTest")
+public class BulkRequestSplitterTest {
+   private static final int NUM_SEGMENTS = 40;
+   private static final int PARALLELISM = 4;
+
+   private final LocalizedCacheTopology topology = createTopology();
+   private final List<Integer> keys = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+
+   public void testWriteSplitByPrimaryOwner() {
+      BulkRequestSplitter.Split<Integer> split = split(true);
+      assertAllKeysOnce(split);
+      assertEquals(2, split.remote().size());
+      for (List<Integer> group : split.remote()) {
+         Address primary = topology.getDistribution(group.get(0)).primary();
+         assertFalse(topology.getLocalAddress().equals(primary));
+         for (Integer key : group) {
+            assertEquals(primary, topology.getDistribution(key).primary());
+         }
+      }
+      assertLocalGroups(split, DistributionInfo::isPrimary);
+   }
+
+   public void testReadSplitByReadOwner() {
+      BulkRequestSplitter.Split<Integer> split = split(false);
+      assertAllKeysOnce(split);
+      for (List<Integer> group : split.remote()) {
+         for (Integer key : group) {
+            assertFalse(topology.getDistribution(key).isReadOwner());
+         }
+      }
+      // With 2 owners in 3 nodes, more keys are read locally than written locally
+      assertTrue(count(split.local()) > count(split(true).local()));
+      assertLocalGroups(split, DistributionInfo::isReadOwner);
+   }
+
+   private BulkRequestSplitter.Split<Integer> split(boolean write) {
+      return BulkRequestSplitter.split(topology, UnaryOperator.identity(), keys, Function.identity(), write,
+            PARALLELISM);
+   }
+
+   private void assertLocalGroups(BulkRequestSplitter.Split<Integer> split, Function<DistributionInfo, Boolean> local) {
+      assertFalse(split.local().isEmpty());
+      assertTrue(split.local().size() <= PARALLELISM);
+      Set<Integer> seenSegments = new HashSet<>();
+      for (List<Integer> group : split.local()) {
+         Set<Integer> groupSegments = new HashSet<>();
+         for (Integer key : group) {
+            DistributionInfo info = topology.getDistribution(key);
+            assertTrue(local.apply(info));
+            groupSegments.add(info.segmentId());
+         }
+         // The keys of a segment are never spread over several groups
+         for (Integer segment : groupSegments) {
+            assertTrue(seenSegments.add(segment));
+         }
+      }
+   }
+
+   private void assertAllKeysOnce(BulkRequestSplitter.Split<Integer> split) {
+      List<Integer> all = new ArrayList<>();
+      split.remote().forEach(all::addAll);
+      split.local().forEach(all::addAll);
+      assertEquals(keys.size(), all.size());
+      assertEquals(new HashSet<>(keys), new HashSet<>(all));
+   }
+
+   private static int count(List<List<Integer>> groups) {
+      return groups.stream().mapToInt(List::size).sum();
+   }
+
+   private static LocalizedCacheTopology createTopology() {
+      List<Address> members = List.of(JGroupsAddress.random(), JGroupsAddress.random(), JGroupsAddress.random());
+      ConsistentHash hash = DefaultConsistentHashFactory.getInstance().create(2, NUM_SEGMENTS, members, null);
+      CacheTopology topology = new CacheTopology(-1, -1, hash, null, CacheTopology.Phase.NO_REBALANCE, members, null);
+      return new LocalizedCacheTopology(CacheMode.DIST_SYNC, topology, new HashFunctionPartitioner(NUM_SEGMENTS),
+            members.get(0), true);
+   }
+}
@@ -0,0 +1,113 @@
+package org.infinispan.server.hotrod;
+
+import static org.infinispan.server.hotrod.OperationStatus.Success;
+import static org.infinispan.server.hotrod.test.HotRodTestingUtil.assertStatus;
+import static org.infinispan.server.hotrod.test.HotRodTestingUtil.hotRodCacheConfiguration;
+import static org.infinispan.server.hotrod.test.HotRodTestingUtil.k;
+import static org.infinispan.server.hotrod.test.HotRodTestingUtil.v;
+import static org.testng.AssertJUnit.assertArrayEquals;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertNull;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.commons.marshall.WrappedByteArray;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.distribution.DistributionInfo;
+import org.infinispan.distribution.LocalizedCacheTopology;
+import org.infinispan.server.hotrod.test.TestGetAllResponse;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that PUT_ALL and GET_ALL requests above {@link BulkRequestSplitter#THRESHOLD} keys, which the server splits by
+ * owner, store every key on its owner and read it back from there.
+ *
+ * @since 16.0
+ */
+@Test(groups = "functional", testName = "server.hotrod.HotRodSplitBulkRequestTest")
+public class HotRodSplitBulkRequestTest extends HotRodMultiNodeTest {
+
+   private static final int NUM_KEYS = BulkRequestSplitter.THRESHOLD * 4;
+
+   @Override
+   protected String cacheName() {
+      return "hotRodSplitBulk";
+   }
+
+   @Override
+   protected ConfigurationBuilder createCacheConfig() {
+      ConfigurationBuilder cfg = hotRodCacheConfiguration(
+            getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false));
+      // A single owner per key, so that every node has a part of the request to run locally
+      cfg.clustering().hash().numOwners(1).l1().disable();
+      return cfg;
+   }
+
+   @Override
+   protected int nodeCount() {
+      return 3;
+   }
+
+   public void testPutAllAndGetAll(Method m) {
+      Map<byte[], byte[]> entries = entries(m);
+      assertStatus(clients().get(0).putAll(entries), Success);
+      entries.forEach(this::assertStoredOnOwner);
+
+      TestGetAllResponse response = clients().get(1).getAll(entries.keySet());
+      assertStatus(response, Success);
+      assertEntries(entries, response.entries);
+   }
+
+   public void testGetAllWithMissingKeys(Method m) {
+      Map<byte[], byte[]> entries = entries(m);
+      Map<byte[], byte[]> written = new HashMap<>();
+      int i = 0;
+      for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+         if (i++ % 2 == 0) {
+            assertStatus(clients().get(i % nodeCount()).put(entry.getKey(), 0, 0, entry.getValue()), Success);
+            written.put(entry.getKey(), entry.getValue());
+         }
+      }
+
+      TestGetAllResponse response = clients().get(2).getAll(entries.keySet());
+      assertStatus(response, Success);
+      assertEntries(written, response.entries);
+   }
+
+   private static Map<byte[], byte[]> entries(Method m) {
+      Map<byte[], byte[]> entries = new HashMap<>();
+      for (int i = 0; i < NUM_KEYS; i++) {
+         entries.put(k(m, i + "-"), v(m, i + "-"));
+      }
+      return entries;
+   }
+
+   private static void assertEntries(Map<byte[], byte[]> expected, Map<byte[], byte[]> actual) {
+      assertEquals(expected.size(), actual.size());
+      Map<WrappedByteArray, byte[]> wrapped = new HashMap<>();
+      actual.forEach((key, value) -> wrapped.put(new WrappedByteArray(key), value));
+      expected.forEach((key, value) -> assertArrayEquals(value, wrapped.get(new WrappedByteArray(key))));
+   }
+
+   private void assertStoredOnOwner(byte[] key, byte[] value) {
+      AdvancedCache<?, ?> cache = advancedCache(0, cacheName()).withStorageMediaType();
+      Object storageKey = cache.getKeyDataConversion().toStorage(key);
+      LocalizedCacheTopology topology = cache.getDistributionManager().getCacheTopology();
+      DistributionInfo info = topology.getDistribution(storageKey);
+      for (int i = 0; i < nodeCount(); i++) {
+         InternalCacheEntry<Object, Object> entry = advancedCache(i, cacheName()).getDataContainer().peek(storageKey);
+         if (address(i).equals(info.primary())) {
+            assertNotNull(entry);
+            assertArrayEquals(value, ((WrappedByteArray) entry.getValue()).getBytes());
+         } else {
+            assertNull(entry);
+         }
+      }
+   }
+}
@@ -435,6 +435,16 @@ public TestBulkGetResponse bulkGet(int count) {
       return execute(op);
    }
 
+   public TestResponse putAll(Map<byte[], byte[]> entries) {
+      PutAllOp op = new PutAllOp(0xA0, protocolVersion, defaultCacheName, (byte) 1, 0, entries);
+      return execute(op);
+   }
+
+   public TestGetAllResponse getAll(Set<byte[]> keys) {
+      GetAllOp op = new GetAllOp(0xA0, protocolVersion, defaultCacheName, (byte) 1, 0, keys);
+      return execute(op);
+   }
+
    public TestBulkGetKeysResponse bulkGetKeys() {
       return bulkGetKeys(0);
    }
@@ -635,7 +645,8 @@ protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf buffer) {
                && op.code != 0x17 && op.code != 0x19
                && op.code != 0x1D && op.code != 0x1F
                && op.code != 0x21 && op.code != 0x23
-               && op.code != 0x29 && op.code != 0x31
+               && op.code != 0x29 && op.code != 0x2D
+               && op.code != 0x2F && op.code != 0x31
                && op.code != 0x33 && op.code != 0x35) { // if it's a key based op...
             writeRangedBytes(op.key, buffer); // key length + key
             if (op.code == 0x37) {
@@ -679,6 +690,23 @@ protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf buffer) {
             writeUnsignedInt(((BulkGetKeysOp) op).scope, buffer); // Bulk Get Keys Scope
          } else if (op.code == 0x1F) {
             writeRangedBytes(((QueryOp) op).query, buffer);
+         } else if (op.code == 0x2D) {
+            Map<byte[], byte[]> entries = ((PutAllOp) op).entries;
+            if (protocolVersion >= 22) {
+               buffer.writeByte(0x88); // default lifespan and maxIdle
+            } else {
+               writeUnsignedInt(0, buffer); // lifespan
+               writeUnsignedInt(0, buffer); // maxIdle
+            }
+            writeUnsignedInt(entries.size(), buffer);
+            entries.forEach((k, v) -> {
+               writeRangedBytes(k, buffer);
+               writeRangedBytes(v, buffer);
+            });
+         } else if (op.code == 0x2F) {
+            Set<byte[]> keys = ((GetAllOp) op).keys;
+            writeUnsignedInt(keys.size(), buffer);
+            keys.forEach(k -> writeRangedBytes(k, buffer));
          } else if (op.code == 0x23) {
             AuthOp authop = (AuthOp) op;
             if (!authop.mech.isEmpty()) {
@@ -852,6 +880,7 @@ protected void decode(ChannelHandlerContext ctx, ByteBuf buf, List<Object> out)
             break;
          case CONTAINS_KEY:
          case CLEAR:
+         case PUT_ALL:
          case PING:
          case ADD_CLIENT_LISTENER:
          case REMOVE_CLIENT_LISTENER:
@@ -917,6 +946,20 @@ protected void decode(ChannelHandlerContext ctx, ByteBuf buf, List<Object> out)
             resp = new TestBulkGetResponse(op.version, id, op.cacheName, op.clientIntel,
                   op.topologyId, topologyChangeResponse, bulkBuffer);
             break;
+         case GET_ALL:
+            if (status == Success) {
+               size = readUnsignedInt(buf);
+               Map<byte[], byte[]> entries = new HashMap<>();
+               for (int i = 0; i < size; ++i) {
+                  entries.put(ExtendedByteBuf.readRangedBytes(buf), ExtendedByteBuf.readRangedBytes(buf));
+               }
+               resp = new TestGetAllResponse(op.version, id, op.cacheName, op.clientIntel, status,
+                     op.topologyId, topologyChangeResponse, entries);
+            } else {
+               resp = new TestGetAllResponse(op.version, id, op.cacheName, op.clientIntel, status,
+                     op.topologyId, topologyChangeResponse, Map.of());
+            }
+            break;
          case BULK_GET_KEYS:
             done = buf.readByte();
             Set<byte[]> bulkKeys = new HashSet<>();
@@ -1278,6 +1321,24 @@ public BulkGetOp(int magic, byte version, byte code, String cacheName, byte clie
    }
 }
 
+class PutAllOp extends AbstractOp {
+   final Map<byte[], byte[]> entries;
+
+   public PutAllOp(int magic, byte version, String cacheName, byte clientIntel, int topologyId, Map<byte[], byte[]> entries) {
+      super(magic, version, (byte) 0x2D, cacheName, clientIntel, topologyId);
+      this.entries = entries;
+   }
+}
+
+class GetAllOp extends AbstractOp {
+   final Set<byte[]> keys;
+
+   public GetAllOp(int magic, byte version, String cacheName, byte clientIntel, int topologyId, Set<byte[]> keys) {
+      super(magic, version, (byte) 0x2F, cacheName, clientIntel, topologyId);
+      this.keys = keys;
+   }
+}
+
 class BulkGetKeysOp extends AbstractOp {
    final int scope;
 
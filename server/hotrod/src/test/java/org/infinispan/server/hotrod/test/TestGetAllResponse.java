@@ -0,0 +1,19 @@
+package org.infinispan.server.hotrod.test;
+
+import java.util.Map;
+
+import org.infinispan.server.hotrod.HotRodOperation;
+import org.infinispan.server.hotrod.OperationStatus;
+
+/**
+ * @since 16.0
+ */
+public class TestGetAllResponse extends TestResponse {
+   public final Map<byte[], byte[]> entries;
+
+   protected TestGetAllResponse(byte version, long messageId, String cacheName, short clientIntel, OperationStatus status,
+                                int topologyId, AbstractTestTopologyAwareResponse topologyResponse, Map<byte[], byte[]> entries) {
+      super(version, messageId, cacheName, clientIntel, HotRodOperation.GET_ALL, status, topologyId, topologyResponse);
+      this.entries = entries;
+   }
+}
@@ -55,6 +55,7 @@ public void setCache(AdvancedCache<byte[], byte[]> cache) {
       ignorePreviousValueCache = cache.withFlags(Flag.SKIP_CACHE_LOAD, Flag.IGNORE_RETURN_VALUES);
       Cache toMultimap = cache.withMediaType(MediaType.APPLICATION_OCTET_STREAM, valueMediaType);
       listMultimap = new EmbeddedMultimapListCache<>(toMultimap);
+      // Hashes are not chunked: DEL, EXPIRE, TYPE, RENAME and the other generic commands address them by their key
       mapMultimap = new EmbeddedMultimapPairCache<>(toMultimap);
       embeddedSetCache = new EmbeddedSetCache<>(toMultimap);
       sortedSetMultimap = new EmbeddedMultimapSortedSetCache<>(toMultimap);
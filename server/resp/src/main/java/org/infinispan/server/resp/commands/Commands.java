@@ -60,6 +60,8 @@
 import org.infinispan.server.resp.commands.hash.HSTRLEN;
 import org.infinispan.server.resp.commands.hash.HVALS;
 import org.infinispan.server.resp.commands.hll.PFADD;
+import org.infinispan.server.resp.commands.hll.PFCOUNT;
+import org.infinispan.server.resp.commands.hll.PFMERGE;
 import org.infinispan.server.resp.commands.json.JSONARRAPPEND;
 import org.infinispan.server.resp.commands.json.JSONARRINDEX;
 import org.infinispan.server.resp.commands.json.JSONARRINSERT;
@@ -165,10 +167,16 @@
 import org.infinispan.server.resp.commands.sortedset.ZUNION;
 import org.infinispan.server.resp.commands.sortedset.ZUNIONSTORE;
 import org.infinispan.server.resp.commands.string.APPEND;
+import org.infinispan.server.resp.commands.string.BITCOUNT;
+import org.infinispan.server.resp.commands.string.BITFIELD;
+import org.infinispan.server.resp.commands.string.BITFIELD_RO;
+import org.infinispan.server.resp.commands.string.BITOP;
+import org.infinispan.server.resp.commands.string.BITPOS;
 import org.infinispan.server.resp.commands.string.DECR;
 import org.infinispan.server.resp.commands.string.DECRBY;
 import org.infinispan.server.resp.commands.string.DEL;
 import org.infinispan.server.resp.commands.string.GET;
+import org.infinispan.server.resp.commands.string.GETBIT;
 import org.infinispan.server.resp.commands.string.GETDEL;
 import org.infinispan.server.resp.commands.string.GETEX;
 import org.infinispan.server.resp.commands.string.GETRANGE;
@@ -182,6 +190,7 @@
 import org.infinispan.server.resp.commands.string.MSETNX;
 import org.infinispan.server.resp.commands.string.PSETEX;
 import org.infinispan.server.resp.commands.string.SET;
+import org.infinispan.server.resp.commands.string.SETBIT;
 import org.infinispan.server.resp.commands.string.SETEX;
 import org.infinispan.server.resp.commands.string.SETNX;
 import org.infinispan.server.resp.commands.string.SETRANGE;
@@ -206,21 +215,21 @@ public final class Commands {
       // NOTE that the order within the sub array matters, commands we want to have the lowest latency should be first
       // in this array as they are looked up sequentially for matches
       ALL_COMMANDS[0] = new RespCommand[] { new APPEND(), new AUTH() };
-      ALL_COMMANDS[1] = new RespCommand[] { new BLPOP(), new BRPOP(), new BLMPOP() };
+      ALL_COMMANDS[1] = new RespCommand[] { new BLPOP(), new BRPOP(), new BLMPOP(), new BITCOUNT(), new BITPOS(), new BITOP(), new BITFIELD(), new BITFIELD_RO() };
       ALL_COMMANDS[2] = new RespCommand[] { new CONFIG(), new COMMAND(), new CLUSTER(), new CLIENT() };
       // DEL should always be first here
       ALL_COMMANDS[3] = new RespCommand[]{new DEL(), new DECR(), new DECRBY(), new DBSIZE(), new DISCARD()};
       ALL_COMMANDS[4] = new RespCommand[]{new ECHO(), new EXISTS(), new EXPIRE(), new EXPIREAT(), new EXPIRETIME(), new EXEC(), new EVAL(), new EVAL_RO(), new EVALSHA(), new EVALSHA_RO()};
       ALL_COMMANDS[5] = new RespCommand[]{new FLUSHDB(), new FLUSHALL(), new FT_LIST()};
       // GET should always be first here
-      ALL_COMMANDS[6] = new RespCommand[]{new GET(), new GETDEL(), new GETEX(), new GETRANGE(), new GETSET()};
+      ALL_COMMANDS[6] = new RespCommand[]{new GET(), new GETDEL(), new GETEX(), new GETRANGE(), new GETSET(), new GETBIT()};
       ALL_COMMANDS[7] = new RespCommand[]{new HELLO(), new HGET(), new HSET(), new HLEN(), new HEXISTS(), new HDEL(), new HMGET(), new HSETNX(), new HKEYS(), new HVALS(), new HSCAN(), new HGETALL(), new HMSET(), new HINCRBY(), new HINCRBYFLOAT(), new HRANDFIELD(), new HSTRLEN()};
       ALL_COMMANDS[8] = new RespCommand[]{new INCR(), new INCRBY(), new INCRBYFLOAT(), new INFO()};
       ALL_COMMANDS[9] = new RespCommand[]{new JSONGET(), new JSONSET(), new JSONARRLEN(), new JSONOBJLEN(), new JSONSTRLEN(), new JSONTYPE(), new JSONDEL(), new JSONSTRAPPEND(), new JSONARRAPPEND(), new JSONTOGGLE(), new JSONOBJKEYS(), new JSONNUMINCRBY(), new JSONNUMMULTBY(), new JSONFORGET(), new JSONARRINDEX(), new JSONARRINSERT(), new JSONARRTRIM(), new JSONCLEAR(), new JSONARRPOP(), new JSONMSET(), new JSONMERGE(), new JSONMGET(), new JSONRESP()};
       ALL_COMMANDS[10] = new RespCommand[]{new KEYS()};
       ALL_COMMANDS[11] = new RespCommand[]{new LINDEX(), new LINSERT(), new LPUSH(), new LPUSHX(), new LPOP(), new LRANGE(), new LLEN(), new LPOS(), new LREM(), new LSET(), new LTRIM(), new LMOVE(), new LMPOP(), new LCS(), new LOLWUT()};
       ALL_COMMANDS[12] = new RespCommand[]{new MGET(), new MSET(), new MSETNX(), new MULTI(), new MODULE(), new MEMORY()};
-      ALL_COMMANDS[15] = new RespCommand[]{new PUBLISH(), new PING(), new PSUBSCRIBE(), new PUNSUBSCRIBE(), new PUBSUB(), new PTTL(), new PEXPIREAT(), new PEXPIRE(), new PEXPIRETIME(), new PERSIST(), new PFADD(), new PSETEX()};
+      ALL_COMMANDS[15] = new RespCommand[]{new PUBLISH(), new PING(), new PSUBSCRIBE(), new PUNSUBSCRIBE(), new PUBSUB(), new PTTL(), new PEXPIREAT(), new PEXPIRE(), new PEXPIRETIME(), new PERSIST(), new PFADD(), new PFCOUNT(), new PFMERGE(), new PSETEX()};
       ALL_COMMANDS[16] = new RespCommand[]{new QUIT()};
       ALL_COMMANDS[17] = new RespCommand[]{new RPUSH(), new RPUSHX(), new RPOP(), new RESET(), new READWRITE(), new READONLY(), new RPOPLPUSH(), new RENAME(), new RENAMENX(), new RANDOMKEY() };
       // SET should always be first here
@@ -228,7 +237,7 @@ public final class Commands {
             new SMISMEMBER(), new SADD(), new STRLEN(), new SMOVE(), new SCARD(), new SINTER(), new SINTERSTORE(),
             new SINTERCARD(), new SUNION(), new SUNIONSTORE(), new SPOP(), new SRANDMEMBER(), new SREM(), new SDIFF(),
             new SDIFFSTORE(), new SUBSCRIBE(), new SELECT(), new STRALGO(), new SCAN(), new SSCAN(), new SETRANGE(),
-            new SORT(), new SORT_RO(), new SUBSTR(), new SCRIPT()};
+            new SORT(), new SORT_RO(), new SUBSTR(), new SCRIPT(), new SETBIT()};
       ALL_COMMANDS[19] = new RespCommand[] { new TTL(), new TYPE(), new TOUCH(), new TIME() };
       ALL_COMMANDS[20] = new RespCommand[] { new UNSUBSCRIBE(), new UNWATCH() };
       ALL_COMMANDS[22] = new RespCommand[] { new WATCH() };
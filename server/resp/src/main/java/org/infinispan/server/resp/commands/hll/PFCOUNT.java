@@ -0,0 +1,66 @@
+package org.infinispan.server.resp.commands.hll;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collector;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.commons.util.concurrent.CompletionStages;
+import org.infinispan.server.resp.AclCategory;
+import org.infinispan.server.resp.Resp3Handler;
+import org.infinispan.server.resp.RespCommand;
+import org.infinispan.server.resp.RespRequestHandler;
+import org.infinispan.server.resp.commands.Resp3Command;
+import org.infinispan.server.resp.hll.HyperLogLog;
+import org.infinispan.server.resp.serialization.ResponseWriter;
+
+import io.netty.channel.ChannelHandlerContext;
+
+/**
+ * PFCOUNT
+ * <p>
+ * Returns the estimated cardinality of the HyperLogLog stored at key. With multiple keys, returns the estimated
+ * cardinality of their union, computed by merging the keys into a temporary HyperLogLog. Missing keys are handled as
+ * empty HyperLogLogs.
+ *
+ * @see <a href="https://redis.io/commands/pfcount/">PFCOUNT</a>
+ * @since 16.0
+ */
+public class PFCOUNT extends RespCommand implements Resp3Command {
+
+   public PFCOUNT() {
+      super(-2, 1, -1, 1, AclCategory.READ.mask() | AclCategory.HYPERLOGLOG.mask() | AclCategory.SLOW.mask());
+   }
+
+   @Override
+   public CompletionStage<RespRequestHandler> perform(Resp3Handler handler, ChannelHandlerContext ctx, List<byte[]> arguments) {
+      AdvancedCache<byte[], Object> cache = handler.typedCache(null);
+      if (arguments.size() == 1) {
+         // The estimate is cached by the stored HyperLogLog until it changes.
+         CompletionStage<Long> cs = cache.getAsync(arguments.get(0))
+               .thenApply(value -> {
+                  HyperLogLog hll = toHLL(value);
+                  return hll == null ? 0L : hll.cardinality();
+               });
+         return handler.stageToReturn(cs, ctx, ResponseWriter.INTEGER);
+      }
+
+      Collector<HyperLogLog, HyperLogLog, Long> union = Collector.of(HyperLogLog::new, (res, hll) -> {
+         if (hll != null) res.merge(hll);
+      }, (left, right) -> {
+         left.merge(right);
+         return left;
+      }, HyperLogLog::cardinality);
+      CompletionStage<Long> cs = CompletionStages.performSequentially(arguments.iterator(),
+            k -> cache.getAsync(k).thenApply(PFCOUNT::toHLL), union);
+      return handler.stageToReturn(cs, ctx, ResponseWriter.INTEGER);
+   }
+
+   static HyperLogLog toHLL(Object stored) {
+      // Storing something which is not an HLL.
+      if (stored != null && !(stored instanceof HyperLogLog))
+         throw new ClassCastException();
+
+      return (HyperLogLog) stored;
+   }
+}
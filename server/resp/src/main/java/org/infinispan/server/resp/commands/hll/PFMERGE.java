@@ -0,0 +1,70 @@
+package org.infinispan.server.resp.commands.hll;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.commons.util.concurrent.CompletionStages;
+import org.infinispan.functional.FunctionalMap;
+import org.infinispan.functional.impl.FunctionalMapImpl;
+import org.infinispan.functional.impl.ReadWriteMapImpl;
+import org.infinispan.server.resp.AclCategory;
+import org.infinispan.server.resp.Resp3Handler;
+import org.infinispan.server.resp.RespCommand;
+import org.infinispan.server.resp.RespRequestHandler;
+import org.infinispan.server.resp.commands.Resp3Command;
+import org.infinispan.server.resp.hll.HyperLogLog;
+
+import io.netty.channel.ChannelHandlerContext;
+
+/**
+ * PFMERGE
+ * <p>
+ * Merges the HyperLogLogs stored at the source keys into the HyperLogLog stored at the destination key, creating it
+ * if it does not exist. The sources are merged directly into the registers of the destination, without building an
+ * intermediate union.
+ *
+ * @see <a href="https://redis.io/commands/pfmerge/">PFMERGE</a>
+ * @since 16.0
+ */
+public class PFMERGE extends RespCommand implements Resp3Command {
+
+   public PFMERGE() {
+      super(-2, 1, -1, 1, AclCategory.WRITE.mask() | AclCategory.HYPERLOGLOG.mask() | AclCategory.SLOW.mask());
+   }
+
+   @Override
+   public CompletionStage<RespRequestHandler> perform(Resp3Handler handler, ChannelHandlerContext ctx, List<byte[]> arguments) {
+      byte[] destination = arguments.get(0);
+      AdvancedCache<byte[], Object> cache = handler.typedCache(null);
+      FunctionalMap.ReadWriteMap<byte[], Object> rw = ReadWriteMapImpl.create(FunctionalMapImpl.create(cache));
+
+      CompletionStage<Boolean> cs = CompletionStages.performSequentially(arguments.subList(1, arguments.size()).iterator(),
+                  k -> cache.getAsync(k).thenApply(PFCOUNT::toHLL), Collectors.toList())
+            .thenCompose(sources -> rw.eval(destination, view -> {
+               Object stored = view.find().orElse(null);
+
+               // Storing something which is not an HLL.
+               if (stored != null && !(stored instanceof HyperLogLog)) return false;
+
+               HyperLogLog hll = stored == null ? new HyperLogLog() : (HyperLogLog) stored;
+               boolean changed = stored == null;
+               for (HyperLogLog source : sources) {
+                  if (source != null && hll.merge(source)) changed = true;
+               }
+
+               // Skip the write when the sources were already merged, it avoids replicating a no-op.
+               if (changed) view.set(hll);
+               return true;
+            }));
+
+      return handler.stageToReturn(cs, ctx, (res, writer) -> {
+         if (res) {
+            writer.ok();
+         } else {
+            writer.wrongType();
+         }
+      });
+   }
+}
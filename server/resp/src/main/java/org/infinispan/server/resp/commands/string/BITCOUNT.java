@@ -0,0 +1,84 @@
+package org.infinispan.server.resp.commands.string;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.infinispan.server.resp.AclCategory;
+import org.infinispan.server.resp.Resp3Handler;
+import org.infinispan.server.resp.RespCommand;
+import org.infinispan.server.resp.RespRequestHandler;
+import org.infinispan.server.resp.RespUtil;
+import org.infinispan.server.resp.commands.ArgumentUtils;
+import org.infinispan.server.resp.commands.Resp3Command;
+import org.infinispan.server.resp.serialization.ResponseWriter;
+
+import io.netty.channel.ChannelHandlerContext;
+
+/**
+ * BITCOUNT
+ * <p>
+ * Counts the bits set in the string value stored at key, optionally between a start and an end offset, both
+ * inclusive. Offsets are in bytes unless <code>BIT</code> is given, and negative offsets count from the end of the
+ * string.
+ *
+ * @see <a href="https://redis.io/commands/bitcount/">BITCOUNT</a>
+ * @since 16.0
+ */
+public class BITCOUNT extends RespCommand implements Resp3Command {
+
+   public BITCOUNT() {
+      super(-2, 1, 1, 1, AclCategory.READ.mask() | AclCategory.BITMAP.mask() | AclCategory.SLOW.mask());
+   }
+
+   @Override
+   public CompletionStage<RespRequestHandler> perform(Resp3Handler handler,
+         ChannelHandlerContext ctx,
+         List<byte[]> arguments) {
+      byte[] keyBytes = arguments.get(0);
+      if (arguments.size() == 1) {
+         CompletionStage<Long> cs = handler.cache().getAsync(keyBytes)
+               .thenApply(value -> value == null ? 0L : Bitmaps.bitCount(value, 0, value.length));
+         return handler.stageToReturn(cs, ctx, ResponseWriter.INTEGER);
+      }
+      if (arguments.size() != 3 && arguments.size() != 4) {
+         handler.writer().syntaxError();
+         return handler.myStage();
+      }
+      long start = ArgumentUtils.toLong(arguments.get(1));
+      long end = ArgumentUtils.toLong(arguments.get(2));
+      boolean bits = false;
+      if (arguments.size() == 4) {
+         byte[] unit = arguments.get(3);
+         if (RespUtil.isAsciiBytesEquals(Bitmaps.BIT, unit)) {
+            bits = true;
+         } else if (!RespUtil.isAsciiBytesEquals(Bitmaps.BYTE, unit)) {
+            handler.writer().syntaxError();
+            return handler.myStage();
+         }
+      }
+      boolean countBits = bits;
+      CompletionStage<Long> cs = handler.cache().getAsync(keyBytes)
+            .thenApply(value -> count(value, start, end, countBits));
+      return handler.stageToReturn(cs, ctx, ResponseWriter.INTEGER);
+   }
+
+   private static long count(byte[] value, long start, long end, boolean bits) {
+      if (value == null || (start < 0 && end < 0 && start > end)) {
+         return 0;
+      }
+      long length = bits ? value.length * 8L : value.length;
+      if (start < 0) {
+         start = Math.max(0, length + start);
+      }
+      if (end < 0) {
+         end = Math.max(0, length + end);
+      }
+      end = Math.min(end, length - 1);
+      if (start > end) {
+         return 0;
+      }
+      return bits
+            ? Bitmaps.bitCountBits(value, start, end)
+            : Bitmaps.bitCount(value, (int) start, (int) end + 1);
+   }
+}
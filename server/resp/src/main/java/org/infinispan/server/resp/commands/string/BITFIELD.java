@@ -0,0 +1,198 @@
+package org.infinispan.server.resp.commands.string;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+
+import org.infinispan.commons.util.Util;
+import org.infinispan.server.resp.AclCategory;
+import org.infinispan.server.resp.Resp3Handler;
+import org.infinispan.server.resp.RespCommand;
+import org.infinispan.server.resp.RespRequestHandler;
+import org.infinispan.server.resp.commands.ArgumentUtils;
+import org.infinispan.server.resp.commands.Resp3Command;
+import org.infinispan.server.resp.serialization.ResponseWriter;
+
+import io.netty.channel.ChannelHandlerContext;
+
+/**
+ * BITFIELD
+ * <p>
+ * Reads, sets and increments integers of arbitrary width stored at arbitrary bit offsets of the string value stored
+ * at key. The <code>OVERFLOW</code> subcommand selects how the following <code>SET</code> and <code>INCRBY</code>
+ * subcommands handle values that do not fit: <code>WRAP</code> (the default), <code>SAT</code> or <code>FAIL</code>,
+ * which skips the update and replies with a null.
+ * <p>
+ * All the subcommands are applied to the same version of the value, which is written once at the end.
+ *
+ * @see <a href="https://redis.io/commands/bitfield/">BITFIELD</a>
+ * @since 16.0
+ */
+public class BITFIELD extends RespCommand implements Resp3Command {
+   private static final BiConsumer<List<Long>, ResponseWriter> RESPONSE = (res, writer) -> writer.array(res, (v, w) -> {
+      if (v == null) {
+         w.nulls();
+      } else {
+         w.integers(v);
+      }
+   });
+
+   private boolean readonly = false;
+
+   public BITFIELD() {
+      super(-2, 1, 1, 1, AclCategory.WRITE.mask() | AclCategory.BITMAP.mask() | AclCategory.SLOW.mask());
+   }
+
+   void readonly() {
+      readonly = true;
+   }
+
+   @Override
+   public CompletionStage<RespRequestHandler> perform(Resp3Handler handler,
+         ChannelHandlerContext ctx,
+         List<byte[]> arguments) {
+      byte[] keyBytes = arguments.get(0);
+      List<Operation> operations = new ArrayList<>();
+      Bitmaps.Overflow overflow = Bitmaps.Overflow.WRAP;
+      boolean write = false;
+      int pos = 1;
+      while (pos < arguments.size()) {
+         String subcommand = new String(arguments.get(pos++)).toUpperCase();
+         if (readonly && !"GET".equals(subcommand)) {
+            handler.writer().customError("BITFIELD_RO only supports the GET subcommand");
+            return handler.myStage();
+         }
+         if ("OVERFLOW".equals(subcommand)) {
+            if (pos >= arguments.size()) {
+               handler.writer().syntaxError();
+               return handler.myStage();
+            }
+            try {
+               overflow = Bitmaps.Overflow.valueOf(new String(arguments.get(pos++)).toUpperCase());
+            } catch (IllegalArgumentException e) {
+               handler.writer().customError("Invalid OVERFLOW type specified");
+               return handler.myStage();
+            }
+            continue;
+         }
+         Subcommand type;
+         try {
+            type = Subcommand.valueOf(subcommand);
+         } catch (IllegalArgumentException e) {
+            handler.writer().syntaxError();
+            return handler.myStage();
+         }
+         int needed = type == Subcommand.GET ? 2 : 3;
+         if (pos + needed > arguments.size()) {
+            handler.writer().syntaxError();
+            return handler.myStage();
+         }
+         byte[] encoding = arguments.get(pos++);
+         int bits = bits(encoding);
+         if (bits < 0) {
+            handler.writer().customError("Invalid bitfield type. Use something like i16 u8. Note that u64 is not supported but i64 is.");
+            return handler.myStage();
+         }
+         long offset = offset(arguments.get(pos++), bits);
+         if (offset < 0) {
+            handler.writer().customError(Bitmaps.ERR_BIT_OFFSET);
+            return handler.myStage();
+         }
+         long value = type == Subcommand.GET ? 0 : ArgumentUtils.toLong(arguments.get(pos++));
+         write |= type != Subcommand.GET;
+         operations.add(new Operation(type, isSigned(encoding), bits, offset, value, overflow));
+      }
+
+      CompletionStage<List<Long>> cs;
+      if (write) {
+         cs = StringMutators.update(handler.cache(), keyBytes, value -> apply(value, operations));
+      } else {
+         cs = handler.cache().getAsync(keyBytes).thenApply(value -> apply(value, operations).result());
+      }
+      return handler.stageToReturn(cs, ctx, RESPONSE);
+   }
+
+   private static boolean isSigned(byte[] encoding) {
+      return encoding[0] == 'i' || encoding[0] == 'I';
+   }
+
+   /**
+    * @return the number of bits of an encoding like i16 or u8, or -1 if it is not valid
+    */
+   private static int bits(byte[] encoding) {
+      if (encoding.length < 2) {
+         return -1;
+      }
+      boolean signed = isSigned(encoding);
+      if (!signed && encoding[0] != 'u' && encoding[0] != 'U') {
+         return -1;
+      }
+      int bits;
+      try {
+         bits = ArgumentUtils.toInt(Arrays.copyOfRange(encoding, 1, encoding.length));
+      } catch (NumberFormatException e) {
+         return -1;
+      }
+      int max = signed ? Long.SIZE : Long.SIZE - 1;
+      return bits < 1 || bits > max ? -1 : bits;
+   }
+
+   /**
+    * @return the bit offset of a field, multiplied by its width when prefixed with #, or -1 if it is not valid
+    */
+   private static long offset(byte[] argument, int bits) {
+      boolean multiply = argument.length > 1 && argument[0] == '#';
+      long offset;
+      try {
+         offset = ArgumentUtils.toLong(multiply ? Arrays.copyOfRange(argument, 1, argument.length) : argument);
+      } catch (NumberFormatException e) {
+         return -1;
+      }
+      if (offset < 0 || (multiply && offset > Bitmaps.MAX_BIT_OFFSET / bits)) {
+         return -1;
+      }
+      if (multiply) {
+         offset *= bits;
+      }
+      return offset + bits - 1 > Bitmaps.MAX_BIT_OFFSET ? -1 : offset;
+   }
+
+   private static StringMutators.Update<List<Long>> apply(byte[] current, List<Operation> operations) {
+      byte[] value = current == null ? Util.EMPTY_BYTE_ARRAY : current;
+      boolean copied = false;
+      List<Long> results = new ArrayList<>(operations.size());
+      for (Operation operation : operations) {
+         long old = Bitmaps.getField(value, operation.offset(), operation.bits(), operation.signed());
+         if (operation.type() == Subcommand.GET) {
+            results.add(old);
+            continue;
+         }
+         Long updated = operation.type() == Subcommand.SET
+               ? Bitmaps.set(operation.value(), operation.bits(), operation.signed(), operation.overflow())
+               : Bitmaps.increment(old, operation.value(), operation.bits(), operation.signed(), operation.overflow());
+         if (updated == null) {
+            results.add(null);
+            continue;
+         }
+         // The value read from the cache is copied before the first update, and grown as needed
+         int length = (int) ((operation.offset() + operation.bits() - 1) >>> 3) + 1;
+         if (!copied || length > value.length) {
+            value = Arrays.copyOf(value, Math.max(value.length, length));
+            copied = true;
+         }
+         Bitmaps.setField(value, operation.offset(), operation.bits(), updated);
+         results.add(operation.type() == Subcommand.SET ? old : updated);
+      }
+      return new StringMutators.Update<>(copied ? value : current, results);
+   }
+
+   private enum Subcommand {
+      GET, SET, INCRBY
+   }
+
+   private record Operation(Subcommand type, boolean signed, int bits, long offset, long value,
+                            Bitmaps.Overflow overflow) {
+   }
+}
@@ -0,0 +1,37 @@
+package org.infinispan.server.resp.commands.string;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.infinispan.server.resp.AclCategory;
+import org.infinispan.server.resp.Resp3Handler;
+import org.infinispan.server.resp.RespCommand;
+import org.infinispan.server.resp.RespRequestHandler;
+import org.infinispan.server.resp.commands.Resp3Command;
+
+import io.netty.channel.ChannelHandlerContext;
+
+/**
+ * BITFIELD_RO
+ * <p>
+ * Read-only variant of {@link BITFIELD} that only accepts the <code>GET</code> subcommand.
+ *
+ * @see <a href="https://redis.io/commands/bitfield_ro/">BITFIELD_RO</a>
+ * @since 16.0
+ */
+public class BITFIELD_RO extends RespCommand implements Resp3Command {
+   private final BITFIELD bitfield;
+
+   public BITFIELD_RO() {
+      super(-2, 1, 1, 1, AclCategory.READ.mask() | AclCategory.BITMAP.mask() | AclCategory.FAST.mask());
+      bitfield = new BITFIELD();
+      bitfield.readonly();
+   }
+
+   @Override
+   public CompletionStage<RespRequestHandler> perform(Resp3Handler handler,
+         ChannelHandlerContext ctx,
+         List<byte[]> arguments) {
+      return bitfield.perform(handler, ctx, arguments);
+   }
+}
@@ -0,0 +1,63 @@
+package org.infinispan.server.resp.commands.string;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collector;
+
+import org.infinispan.commons.util.concurrent.CompletionStages;
+import org.infinispan.server.resp.AclCategory;
+import org.infinispan.server.resp.Resp3Handler;
+import org.infinispan.server.resp.RespCommand;
+import org.infinispan.server.resp.RespRequestHandler;
+import org.infinispan.server.resp.commands.Resp3Command;
+import org.infinispan.server.resp.serialization.ResponseWriter;
+
+import io.netty.channel.ChannelHandlerContext;
+
+/**
+ * BITOP
+ * <p>
+ * Performs a bitwise AND, OR, XOR or NOT between the string values stored at the source keys and stores the result
+ * at the destination key. Missing keys are handled as empty strings and shorter strings as if padded with zeros. The
+ * destination is removed when the result is empty.
+ * <p>
+ * The sources are read one at a time and folded into the result, so at most one source value is held besides it.
+ *
+ * @see <a href="https://redis.io/commands/bitop/">BITOP</a>
+ * @since 16.0
+ */
+public class BITOP extends RespCommand implements Resp3Command {
+
+   public BITOP() {
+      super(-4, 2, -1, 1, AclCategory.WRITE.mask() | AclCategory.BITMAP.mask() | AclCategory.SLOW.mask());
+   }
+
+   @Override
+   public CompletionStage<RespRequestHandler> perform(Resp3Handler handler,
+         ChannelHandlerContext ctx,
+         List<byte[]> arguments) {
+      Bitmaps.Operation operation;
+      try {
+         operation = Bitmaps.Operation.valueOf(new String(arguments.get(0)).toUpperCase());
+      } catch (IllegalArgumentException e) {
+         handler.writer().syntaxError();
+         return handler.myStage();
+      }
+      byte[] destination = arguments.get(1);
+      List<byte[]> sources = arguments.subList(2, arguments.size());
+      if (operation == Bitmaps.Operation.NOT && sources.size() != 1) {
+         handler.writer().customError("BITOP NOT must be called with a single source key.");
+         return handler.myStage();
+      }
+      Collector<byte[], Bitmaps.BitOp, byte[]> collector = Collector.of(() -> new Bitmaps.BitOp(operation),
+            Bitmaps.BitOp::accept, Bitmaps.BitOp::combine, Bitmaps.BitOp::result);
+      CompletionStage<Long> cs = CompletionStages.performSequentially(sources.iterator(), handler.cache()::getAsync, collector)
+            .thenCompose(result -> {
+               CompletionStage<?> write = result.length == 0
+                     ? handler.cache().removeAsync(destination)
+                     : handler.cache().putAsync(destination, result);
+               return write.thenApply(ignore -> (long) result.length);
+            });
+      return handler.stageToReturn(cs, ctx, ResponseWriter.INTEGER);
+   }
+}
@@ -0,0 +1,93 @@
+package org.infinispan.server.resp.commands.string;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.infinispan.server.resp.AclCategory;
+import org.infinispan.server.resp.Resp3Handler;
+import org.infinispan.server.resp.RespCommand;
+import org.infinispan.server.resp.RespRequestHandler;
+import org.infinispan.server.resp.RespUtil;
+import org.infinispan.server.resp.commands.ArgumentUtils;
+import org.infinispan.server.resp.commands.Resp3Command;
+import org.infinispan.server.resp.serialization.ResponseWriter;
+
+import io.netty.channel.ChannelHandlerContext;
+
+/**
+ * BITPOS
+ * <p>
+ * Returns the position of the first bit set to 1 or 0 in the string value stored at key, optionally between a start
+ * and an end offset. Offsets are in bytes unless <code>BIT</code> is given, and negative offsets count from the end of
+ * the string.
+ * <p>
+ * When looking for a clear bit without an end offset, the string is considered padded with zeros on the right.
+ *
+ * @see <a href="https://redis.io/commands/bitpos/">BITPOS</a>
+ * @since 16.0
+ */
+public class BITPOS extends RespCommand implements Resp3Command {
+
+   public BITPOS() {
+      super(-3, 1, 1, 1, AclCategory.READ.mask() | AclCategory.BITMAP.mask() | AclCategory.SLOW.mask());
+   }
+
+   @Override
+   public CompletionStage<RespRequestHandler> perform(Resp3Handler handler,
+         ChannelHandlerContext ctx,
+         List<byte[]> arguments) {
+      if (arguments.size() > 5) {
+         handler.writer().syntaxError();
+         return handler.myStage();
+      }
+      byte[] keyBytes = arguments.get(0);
+      long bitArg = ArgumentUtils.toLong(arguments.get(1));
+      if (bitArg != 0 && bitArg != 1) {
+         handler.writer().customError("The bit argument must be 1 or 0.");
+         return handler.myStage();
+      }
+      int bit = (int) bitArg;
+      long start = arguments.size() > 2 ? ArgumentUtils.toLong(arguments.get(2)) : 0;
+      boolean endGiven = arguments.size() > 3;
+      long end = endGiven ? ArgumentUtils.toLong(arguments.get(3)) : -1;
+      boolean bits = false;
+      if (arguments.size() == 5) {
+         byte[] unit = arguments.get(4);
+         if (RespUtil.isAsciiBytesEquals(Bitmaps.BIT, unit)) {
+            bits = true;
+         } else if (!RespUtil.isAsciiBytesEquals(Bitmaps.BYTE, unit)) {
+            handler.writer().syntaxError();
+            return handler.myStage();
+         }
+      }
+      boolean inBits = bits;
+      CompletionStage<Long> cs = handler.cache().getAsync(keyBytes)
+            .thenApply(value -> position(value, bit, start, end, endGiven, inBits));
+      return handler.stageToReturn(cs, ctx, ResponseWriter.INTEGER);
+   }
+
+   private static long position(byte[] value, int bit, long start, long end, boolean endGiven, boolean bits) {
+      if (value == null) {
+         return bit == 1 ? -1 : 0;
+      }
+      long length = bits ? value.length * 8L : value.length;
+      if (start < 0) {
+         start = Math.max(0, length + start);
+      }
+      if (end < 0) {
+         end = Math.max(0, length + end);
+      }
+      end = Math.min(end, length - 1);
+      if (start > end) {
+         // Without an end, an empty value or a start past its end only has padding zeros left
+         return bit == 0 && !endGiven ? (bits ? start : start * 8) : -1;
+      }
+      long fromBit = bits ? start : start * 8;
+      long toBit = bits ? end : end * 8 + 7;
+      long position = Bitmaps.bitPos(value, bit, fromBit, toBit);
+      if (position < 0 && bit == 0 && !endGiven) {
+         return toBit + 1;
+      }
+      return position;
+   }
+}
@@ -0,0 +1,371 @@
+package org.infinispan.server.resp.commands.string;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.infinispan.commons.util.Util;
+import org.infinispan.server.resp.commands.ArgumentUtils;
+
+/**
+ * Bitmaps
+ * <p>
+ * Bit operations on string values used by the bitmap commands. Bits are numbered from the most significant bit of the
+ * first byte, so reading eight bytes as a big-endian <code>long</code> keeps the order of the bits and the operations
+ * process whole words whenever the range allows it.
+ * <p>
+ * Values stored in the cache are read without locks, so apart from {@link #setField(byte[], long, int, long)} no
+ * method modifies the given arrays.
+ *
+ * @since 16.0
+ */
+final class Bitmaps {
+   /**
+    * The greatest bit offset, keeping values within 512MB like Redis.
+    */
+   static final long MAX_BIT_OFFSET = (1L << 32) - 1;
+
+   static final byte[] BIT = "BIT".getBytes(StandardCharsets.US_ASCII);
+   static final byte[] BYTE = "BYTE".getBytes(StandardCharsets.US_ASCII);
+
+   static final String ERR_BIT_OFFSET = "bit offset is not an integer or out of range";
+
+   private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+   private Bitmaps() {
+   }
+
+   enum Operation {
+      AND, OR, XOR, NOT
+   }
+
+   enum Overflow {
+      WRAP, SAT, FAIL
+   }
+
+   /**
+    * @return the bit offset in the argument, or -1 if it is not an integer or it is out of range
+    */
+   static long bitOffset(byte[] argument) {
+      try {
+         long offset = ArgumentUtils.toLong(argument);
+         return offset < 0 || offset > MAX_BIT_OFFSET ? -1 : offset;
+      } catch (NumberFormatException e) {
+         return -1;
+      }
+   }
+
+   static int getBit(byte[] value, long offset) {
+      long index = offset >>> 3;
+      if (value == null || index >= value.length) {
+         return 0;
+      }
+      return (value[(int) index] >> (7 - (int) (offset & 7))) & 1;
+   }
+
+   /**
+    * @return a copy of the value with the bit updated and grown as needed, or the value itself when the bit is
+    * already set to the given value
+    */
+   static byte[] setBit(byte[] value, long offset, int bit) {
+      int index = (int) (offset >>> 3);
+      int mask = 1 << (7 - (int) (offset & 7));
+      byte[] current = value == null ? Util.EMPTY_BYTE_ARRAY : value;
+      byte[] result;
+      if (index < current.length) {
+         if (((current[index] & mask) != 0) == (bit == 1)) {
+            return value;
+         }
+         result = current.clone();
+      } else {
+         result = Arrays.copyOf(current, index + 1);
+      }
+      result[index] = (byte) (bit == 1 ? result[index] | mask : result[index] & ~mask);
+      return result;
+   }
+
+   /**
+    * Counts the bits set in the bytes from <code>from</code> (inclusive) to <code>to</code> (exclusive).
+    */
+   static long bitCount(byte[] value, int from, int to) {
+      long count = 0;
+      int i = from;
+      for (; i + Long.BYTES <= to; i += Long.BYTES) {
+         count += Long.bitCount((long) LONG.get(value, i));
+      }
+      for (; i < to; i++) {
+         count += Integer.bitCount(value[i] & 0xFF);
+      }
+      return count;
+   }
+
+   /**
+    * Counts the bits set between two bit offsets, both inclusive and within the value.
+    */
+   static long bitCountBits(byte[] value, long fromBit, long toBit) {
+      int first = (int) (fromBit >>> 3);
+      int last = (int) (toBit >>> 3);
+      int firstMask = firstByteMask(fromBit);
+      int lastMask = lastByteMask(toBit);
+      if (first == last) {
+         return Integer.bitCount(value[first] & firstMask & lastMask);
+      }
+      return Integer.bitCount(value[first] & firstMask) + bitCount(value, first + 1, last)
+            + Integer.bitCount(value[last] & lastMask);
+   }
+
+   /**
+    * Finds the first bit with the given value between two bit offsets, both inclusive and within the value.
+    *
+    * @return the offset of the bit, or -1 if there is none in the range
+    */
+   static long bitPos(byte[] value, int bit, long fromBit, long toBit) {
+      int first = (int) (fromBit >>> 3);
+      int last = (int) (toBit >>> 3);
+      // Looking for a clear bit is looking for a set bit in the complement
+      int invert = bit == 1 ? 0 : 0xFF;
+      long invertWord = bit == 1 ? 0 : -1L;
+      int b = ((value[first] & 0xFF) ^ invert) & firstByteMask(fromBit);
+      if (first == last) {
+         b &= lastByteMask(toBit);
+      }
+      if (b != 0 || first == last) {
+         return b == 0 ? -1 : position(first, b);
+      }
+      int i = first + 1;
+      for (; i + Long.BYTES <= last; i += Long.BYTES) {
+         long word = (long) LONG.get(value, i) ^ invertWord;
+         if (word != 0) {
+            return i * 8L + Long.numberOfLeadingZeros(word);
+         }
+      }
+      for (; i < last; i++) {
+         b = (value[i] & 0xFF) ^ invert;
+         if (b != 0) {
+            return position(i, b);
+         }
+      }
+      b = ((value[last] & 0xFF) ^ invert) & lastByteMask(toBit);
+      return b == 0 ? -1 : position(last, b);
+   }
+
+   private static long position(int index, int b) {
+      return index * 8L + Integer.numberOfLeadingZeros(b) - 24;
+   }
+
+   private static int firstByteMask(long fromBit) {
+      return 0xFF >>> (fromBit & 7);
+   }
+
+   private static int lastByteMask(long toBit) {
+      return (0xFF << (7 - (toBit & 7))) & 0xFF;
+   }
+
+   /**
+    * Reads an integer of the given number of bits starting at a bit offset. Missing bits are read as zero.
+    */
+   static long getField(byte[] value, long offset, int bits, boolean signed) {
+      long result = 0;
+      int length = value == null ? 0 : value.length;
+      long end = offset + bits;
+      long bit = offset;
+      // Whole bytes are read at once when the field is byte aligned
+      for (; bit < end && (bit & 7) != 0; bit++) {
+         result = (result << 1) | getBit(value, bit);
+      }
+      for (; bit + 8 <= end; bit += 8) {
+         long index = bit >>> 3;
+         result = (result << 8) | (index < length ? value[(int) index] & 0xFF : 0);
+      }
+      for (; bit < end; bit++) {
+         result = (result << 1) | getBit(value, bit);
+      }
+      if (signed && bits < Long.SIZE && (result & (1L << (bits - 1))) != 0) {
+         result |= -1L << bits;
+      }
+      return result;
+   }
+
+   /**
+    * Writes the lower bits of the given integer starting at a bit offset. Unlike the other methods this one updates
+    * the given array, which must be a private copy long enough to hold the field.
+    */
+   static void setField(byte[] target, long offset, int bits, long field) {
+      for (int i = 0; i < bits; i++) {
+         long bit = offset + i;
+         int index = (int) (bit >>> 3);
+         int mask = 1 << (7 - (int) (bit & 7));
+         if (((field >>> (bits - 1 - i)) & 1) != 0) {
+            target[index] = (byte) (target[index] | mask);
+         } else {
+            target[index] = (byte) (target[index] & ~mask);
+         }
+      }
+   }
+
+   /**
+    * @return the value to store when incrementing a field, or <code>null</code> when it overflows and the overflow
+    * policy is {@link Overflow#FAIL}
+    */
+   static Long increment(long current, long increment, int bits, boolean signed, Overflow overflow) {
+      long sum = current + increment;
+      boolean high;
+      boolean low;
+      long max;
+      long min;
+      if (signed) {
+         max = bits == Long.SIZE ? Long.MAX_VALUE : (1L << (bits - 1)) - 1;
+         min = -max - 1;
+         if (bits == Long.SIZE) {
+            high = increment > 0 && sum < current;
+            low = increment < 0 && sum > current;
+         } else {
+            high = increment > max - current;
+            low = increment < min - current;
+         }
+      } else {
+         max = (1L << bits) - 1;
+         min = 0;
+         high = increment > 0 && increment > max - current;
+         low = increment < 0 && increment < -current;
+      }
+      if (!high && !low) {
+         return sum;
+      }
+      return switch (overflow) {
+         case WRAP -> signed ? wrapSigned(sum, bits) : sum & max;
+         case SAT -> high ? max : min;
+         case FAIL -> null;
+      };
+   }
+
+   /**
+    * @return the value to store when setting a field, or <code>null</code> when it does not fit and the overflow
+    * policy is {@link Overflow#FAIL}
+    */
+   static Long set(long value, int bits, boolean signed, Overflow overflow) {
+      if (signed) {
+         return increment(0, value, bits, true, overflow);
+      }
+      // Negative values are too large when read as unsigned, like Redis does
+      long max = (1L << bits) - 1;
+      if (Long.compareUnsigned(value, max) <= 0) {
+         return value;
+      }
+      return switch (overflow) {
+         case WRAP -> value & max;
+         case SAT -> max;
+         case FAIL -> null;
+      };
+   }
+
+   private static long wrapSigned(long value, int bits) {
+      int shift = Long.SIZE - bits;
+      return (value << shift) >> shift;
+   }
+
+   /**
+    * Folds the sources of a BITOP into a single buffer, one source at a time. Missing sources are handled as empty
+    * strings, and shorter sources as if padded with zeros.
+    */
+   static final class BitOp {
+      private final Operation operation;
+      private byte[] result;
+      // The bytes of the result that hold the operation of every source so far
+      private int length;
+
+      BitOp(Operation operation) {
+         this.operation = operation;
+      }
+
+      void accept(byte[] source) {
+         byte[] src = source == null ? Util.EMPTY_BYTE_ARRAY : source;
+         if (result == null) {
+            result = operation == Operation.NOT ? not(src) : src.clone();
+            length = result.length;
+            return;
+         }
+         merge(src, src.length);
+      }
+
+      /**
+       * Adds the sources folded by another instance, as if they had been accepted by this one after its own sources.
+       */
+      BitOp combine(BitOp other) {
+         if (other.result == null) {
+            return this;
+         }
+         if (result == null) {
+            return other;
+         }
+         // NOT has a single source, so only the other operations get here
+         merge(other.result, other.length);
+         return this;
+      }
+
+      /**
+       * @param src the bytes to combine with the result
+       * @param srcLength the bytes of the source that are not known to be zero
+       */
+      private void merge(byte[] src, int srcLength) {
+         if (operation == Operation.AND) {
+            // Bytes past the shortest source are zero, so only the common prefix is computed
+            length = Math.min(length, srcLength);
+            apply(src, length);
+            if (src.length > result.length) {
+               result = Arrays.copyOf(result, src.length);
+            }
+            return;
+         }
+         if (src.length > result.length) {
+            result = Arrays.copyOf(result, src.length);
+         }
+         apply(src, src.length);
+      }
+
+      private static byte[] not(byte[] src) {
+         byte[] target = new byte[src.length];
+         int i = 0;
+         for (; i + Long.BYTES <= src.length; i += Long.BYTES) {
+            LONG.set(target, i, ~(long) LONG.get(src, i));
+         }
+         for (; i < src.length; i++) {
+            target[i] = (byte) ~src[i];
+         }
+         return target;
+      }
+
+      private void apply(byte[] src, int to) {
+         int i = 0;
+         for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            long a = (long) LONG.get(result, i);
+            long b = (long) LONG.get(src, i);
+            long word = switch (operation) {
+               case AND -> a & b;
+               case OR -> a | b;
+               default -> a ^ b;
+            };
+            LONG.set(result, i, word);
+         }
+         for (; i < to; i++) {
+            result[i] = (byte) switch (operation) {
+               case AND -> result[i] & src[i];
+               case OR -> result[i] | src[i];
+               default -> result[i] ^ src[i];
+            };
+         }
+      }
+
+      byte[] result() {
+         if (result == null) {
+            return Util.EMPTY_BYTE_ARRAY;
+         }
+         if (operation == Operation.AND) {
+            Arrays.fill(result, length, result.length, (byte) 0);
+         }
+         return result;
+      }
+   }
+}
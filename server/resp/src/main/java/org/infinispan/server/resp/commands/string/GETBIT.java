@@ -0,0 +1,44 @@
+package org.infinispan.server.resp.commands.string;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.infinispan.server.resp.AclCategory;
+import org.infinispan.server.resp.Resp3Handler;
+import org.infinispan.server.resp.RespCommand;
+import org.infinispan.server.resp.RespRequestHandler;
+import org.infinispan.server.resp.commands.Resp3Command;
+import org.infinispan.server.resp.serialization.ResponseWriter;
+
+import io.netty.channel.ChannelHandlerContext;
+
+/**
+ * GETBIT
+ * <p>
+ * Returns the bit at offset in the string value stored at key. Offsets past the end of the string, or in a missing
+ * key, are read as zero.
+ *
+ * @see <a href="https://redis.io/commands/getbit/">GETBIT</a>
+ * @since 16.0
+ */
+public class GETBIT extends RespCommand implements Resp3Command {
+
+   public GETBIT() {
+      super(3, 1, 1, 1, AclCategory.READ.mask() | AclCategory.BITMAP.mask() | AclCategory.FAST.mask());
+   }
+
+   @Override
+   public CompletionStage<RespRequestHandler> perform(Resp3Handler handler,
+         ChannelHandlerContext ctx,
+         List<byte[]> arguments) {
+      byte[] keyBytes = arguments.get(0);
+      long offset = Bitmaps.bitOffset(arguments.get(1));
+      if (offset < 0) {
+         handler.writer().customError(Bitmaps.ERR_BIT_OFFSET);
+         return handler.myStage();
+      }
+      CompletionStage<Long> cs = handler.cache().getAsync(keyBytes)
+            .thenApply(value -> (long) Bitmaps.getBit(value, offset));
+      return handler.stageToReturn(cs, ctx, ResponseWriter.INTEGER);
+   }
+}
@@ -0,0 +1,50 @@
+package org.infinispan.server.resp.commands.string;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.infinispan.server.resp.AclCategory;
+import org.infinispan.server.resp.Resp3Handler;
+import org.infinispan.server.resp.RespCommand;
+import org.infinispan.server.resp.RespRequestHandler;
+import org.infinispan.server.resp.commands.Resp3Command;
+import org.infinispan.server.resp.serialization.ResponseWriter;
+
+import io.netty.channel.ChannelHandlerContext;
+
+/**
+ * SETBIT
+ * <p>
+ * Sets or clears the bit at offset in the string value stored at key, growing the string with zeros as needed.
+ * Returns the previous value of the bit.
+ *
+ * @see <a href="https://redis.io/commands/setbit/">SETBIT</a>
+ * @since 16.0
+ */
+public class SETBIT extends RespCommand implements Resp3Command {
+
+   public SETBIT() {
+      super(4, 1, 1, 1, AclCategory.WRITE.mask() | AclCategory.BITMAP.mask() | AclCategory.SLOW.mask());
+   }
+
+   @Override
+   public CompletionStage<RespRequestHandler> perform(Resp3Handler handler,
+         ChannelHandlerContext ctx,
+         List<byte[]> arguments) {
+      byte[] keyBytes = arguments.get(0);
+      long offset = Bitmaps.bitOffset(arguments.get(1));
+      if (offset < 0) {
+         handler.writer().customError(Bitmaps.ERR_BIT_OFFSET);
+         return handler.myStage();
+      }
+      byte[] bitBytes = arguments.get(2);
+      if (bitBytes.length != 1 || (bitBytes[0] != '0' && bitBytes[0] != '1')) {
+         handler.writer().customError("bit is not an integer or out of range");
+         return handler.myStage();
+      }
+      int bit = bitBytes[0] - '0';
+      CompletionStage<Long> cs = StringMutators.update(handler.cache(), keyBytes,
+            value -> new StringMutators.Update<>(Bitmaps.setBit(value, offset, bit), (long) Bitmaps.getBit(value, offset)));
+      return handler.stageToReturn(cs, ctx, ResponseWriter.INTEGER);
+   }
+}
@@ -2,6 +2,7 @@
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 import org.infinispan.Cache;
 
@@ -38,4 +39,34 @@ static CompletionStage<Long> append(Cache<byte[], byte[]> cache, byte[] key, byt
                      });
             });
    }
+
+   /**
+    * Replaces the value of a key with the one computed from its current value, retrying when the value is changed
+    * concurrently. The function receives <code>null</code> when the key does not exist, and it must not modify the
+    * value it receives. Nothing is written when the function returns the value it received.
+    */
+   static <R> CompletionStage<R> update(Cache<byte[], byte[]> cache, byte[] key, Function<byte[], Update<R>> function) {
+      return cache.getAsync(key)
+            .thenCompose(currentValueBytes -> {
+               Update<R> update = function.apply(currentValueBytes);
+               if (update.value() == currentValueBytes) {
+                  return CompletableFuture.completedFuture(update.result());
+               }
+               CompletionStage<Boolean> written = currentValueBytes == null
+                     ? cache.putIfAbsentAsync(key, update.value()).thenApply(prev -> prev == null)
+                     : cache.replaceAsync(key, currentValueBytes, update.value());
+               return written.thenCompose(replaced -> {
+                  if (replaced) {
+                     return CompletableFuture.completedFuture(update.result());
+                  }
+                  return update(cache, key, function);
+               });
+            });
+   }
+
+   /**
+    * The new value of a key and the result of the command that computed it.
+    */
+   record Update<R>(byte[] value, R result) {
+   }
 }
@@ -9,6 +9,7 @@
 import org.infinispan.server.resp.hll.internal.CompactSet;
 import org.infinispan.server.resp.hll.internal.ExplicitSet;
 import org.infinispan.server.resp.hll.internal.HLLRepresentation;
+import org.infinispan.server.resp.hll.internal.Util;
 
 import net.jcip.annotations.GuardedBy;
 import net.jcip.annotations.ThreadSafe;
@@ -79,14 +80,18 @@ public HyperLogLog() { }
    }
 
    public boolean add(byte[] data) {
+      return add(Util.hash(data));
+   }
+
+   private boolean add(long hash) {
       ExplicitSet src = null;
       boolean ret;
       synchronized (this) {
-         if (compact != null) return compact.set(data);
+         if (compact != null) return compact.set(hash);
          if (explicit == null) explicit = new ExplicitSet();
 
          try {
-            ret = explicit.set(data);
+            ret = explicit.set(hash);
          } finally {
             // Changes from the explicit to the compact representation once the threshold is reached.
             if (explicit.needsMigration()) {
@@ -102,6 +107,47 @@ public boolean add(byte[] data) {
       return ret;
    }
 
+   /**
+    * Merges the elements of another HyperLogLog into this one.
+    * <p>
+    * The hashes of an explicit source are added one by one, which may change this HyperLogLog to the compact
+    * representation. A compact source changes this HyperLogLog to the compact representation, and the registers are
+    * merged in place, keeping the greatest value of each one.
+    * </p>
+    *
+    * @param other: The HyperLogLog to read the elements from. It is not modified.
+    * @return true if this HyperLogLog changed, and false otherwise.
+    */
+   public boolean merge(HyperLogLog other) {
+      if (other == this) return false;
+
+      HLLRepresentation source = other.store();
+      if (source == null) return false;
+
+      if (source instanceof ExplicitSet es) {
+         boolean changed = false;
+         for (long hash : es.hashes()) {
+            if (add(hash)) changed = true;
+         }
+         return changed;
+      }
+
+      ExplicitSet src = null;
+      CompactSet target;
+      synchronized (this) {
+         if (compact == null) {
+            src = explicit;
+            explicit = null;
+            compact = new CompactSet();
+         }
+         target = compact;
+      }
+
+      // Migrate outside the synchronized block, like when adding elements.
+      if (src != null) src.migrate(target);
+      return target.merge((CompactSet) source) || src != null;
+   }
+
    public long cardinality() {
       HLLRepresentation representation = store();
       return representation == null ? 0 : representation.cardinality();
@@ -97,6 +97,11 @@ public class CompactSet implements HLLRepresentation {
 
    private volatile byte minimum;
 
+   // The last estimate returned by {@link #cardinality()}, or -1 after a register changes. Like Redis, this avoids
+   // repeating the estimation for counters that are read more often than updated.
+   @GuardedBy("this")
+   private long cardinality = -1;
+
    public CompactSet() {
       this.store = new long[STORE_SIZE];
 
@@ -124,8 +129,34 @@ void readSource(Set<Long> hashes) {
    }
 
    @Override
-   public boolean set(byte[] data) {
-      return setRegister(Util.hash(data));
+   public boolean set(long hash) {
+      return setRegister(hash);
+   }
+
+   /**
+    * Merges the registers of another compact set into this one, keeping the greatest value of each register. The
+    * result is the same as adding to this set every element added to the other one.
+    *
+    * @param other: The set to read the registers from.
+    * @return true if any register changed, and false otherwise.
+    */
+   public boolean merge(CompactSet other) {
+      if (other == this) return false;
+
+      // Copy the registers so the locks of both sets are never held at the same time.
+      long[] registers;
+      synchronized (other) {
+         registers = other.store.clone();
+      }
+
+      boolean changed = false;
+      synchronized (this) {
+         for (int bucket = 0; bucket < HLL_BUCKET_TOTAL; bucket++) {
+            byte value = register(registers, bucket);
+            if (value > minimum && setRegister(bucket, value)) changed = true;
+         }
+      }
+      return changed;
    }
 
    /**
@@ -140,18 +171,20 @@ public boolean set(byte[] data) {
     */
    @Override
    public long cardinality() {
-      double z;
       synchronized (this) {
-         z = HLL_BUCKET_TOTAL * tau(1 - (double) multiplicity[HLL_MAX_CONSECUTIVE_ZEROES + 1] / HLL_BUCKET_TOTAL);
+         if (cardinality >= 0) return cardinality;
+
+         double z = HLL_BUCKET_TOTAL * tau(1 - (double) multiplicity[HLL_MAX_CONSECUTIVE_ZEROES + 1] / HLL_BUCKET_TOTAL);
 
          for (int k = HLL_MAX_CONSECUTIVE_ZEROES + 1; k >= 1; k--) {
             z = 0.5 * (z + multiplicity[k]);
          }
          z = z + HLL_BUCKET_TOTAL * sigma((double) multiplicity[0] / HLL_BUCKET_TOTAL);
-      }
 
-      double v = ALPHA_INF * HLL_BUCKET_TOTAL * HLL_BUCKET_TOTAL / z;
-      return Math.round(v);
+         double v = ALPHA_INF * HLL_BUCKET_TOTAL * HLL_BUCKET_TOTAL / z;
+         cardinality = Math.round(v);
+         return cardinality;
+      }
    }
 
    /**
@@ -251,22 +284,14 @@ private boolean setRegister(int bucket, byte value) {
 
       // The register is using two positions if the first and second indexes are different.
       boolean spilled = first != second;
-      byte stored;
 
       synchronized (this) {
-         if (spilled) {
-            // The register value spans across two positions.
-            // First halve, we use the remainder to skip unnecessary bits.
-            // Second halve, we now skip (MAX_SIZE - remainder) bits to retrieve the remaining bits.
-            // Then the | to append the two halves and a mask.
-            stored = (byte) (((store[first] >>> offset) | (store[second] << (MAX_REGISTER_ENTRY - offset))) & SINGLE_REGISTER_MASK);
-         } else {
-            // The value is within a single register. We simply use the remainder and a mask.
-            stored = (byte) ((store[first] >>> offset) & SINGLE_REGISTER_MASK);
-         }
+         byte stored = register(store, bucket);
 
          // We only update in case the sequence of zeroes is greater than seen previously.
          if (value > stored) {
+            cardinality = -1;
+
             // We update the multiplicity to skip the calculation during the cardinality.
             // This comes from Algorithm 7 in [2].
             multiplicity[stored] -= 1;
@@ -299,6 +324,31 @@ private boolean setRegister(int bucket, byte value) {
       return false;
    }
 
+   /**
+    * Reads the register of the {@param bucket} from the given {@param store}.
+    *
+    * @param store: The array holding the registers.
+    * @param bucket: The bucket identified by the hash P least-significant bits.
+    * @return the count of consecutive zeroes in the register.
+    */
+   private static byte register(long[] store, int bucket) {
+      int index = bucket * REGISTER_WIDTH;
+      int first = index >>> REGISTER_WIDTH;
+      int second = (index + REGISTER_WIDTH - 1) >>> REGISTER_WIDTH;
+      int offset = index & SINGLE_REGISTER_MASK;
+
+      if (first != second) {
+         // The register value spans across two positions.
+         // First halve, we use the remainder to skip unnecessary bits.
+         // Second halve, we now skip (MAX_SIZE - remainder) bits to retrieve the remaining bits.
+         // Then the | to append the two halves and a mask.
+         return (byte) (((store[first] >>> offset) | (store[second] << (MAX_REGISTER_ENTRY - offset))) & SINGLE_REGISTER_MASK);
+      }
+
+      // The value is within a single register. We simply use the remainder and a mask.
+      return (byte) ((store[first] >>> offset) & SINGLE_REGISTER_MASK);
+   }
+
    @ProtoField(number = 1, collectionImplementation = ArrayList.class)
    List<Long> store() {
       return LongStream.of(store)
@@ -3,6 +3,7 @@
 import static org.infinispan.server.resp.hll.internal.CompactSet.STORE_SIZE;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -44,8 +45,7 @@ public ExplicitSet() {
    }
 
    @Override
-   public boolean set(byte[] data) {
-      long hash = Util.hash(data);
+   public boolean set(long hash) {
       return storage.add(hash);
    }
 
@@ -62,6 +62,13 @@ public void migrate(CompactSet cs) {
       cs.readSource(storage);
    }
 
+   /**
+    * Iterates the hashes in the set. The iteration reflects the updates made concurrently with it.
+    */
+   public Set<Long> hashes() {
+      return Collections.unmodifiableSet(storage);
+   }
+
    @ProtoField(number = 1, collectionImplementation = HashSet.class)
    Collection<Long> storage() {
       return new HashSet<>(storage);
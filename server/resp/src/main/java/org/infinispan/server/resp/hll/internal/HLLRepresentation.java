@@ -13,8 +13,17 @@ public interface HLLRepresentation {
     * @param data: The data to include.
     * @return true if the data was added, and false otherwise.
     */
+   default boolean set(byte[] data) {
+      return set(Util.hash(data));
+   }
 
-   boolean set(byte[] data);
+   /**
+    * Add the element with the given {@param hash} to the representation set.
+    *
+    * @param hash: The hash of the element to include, as computed by {@link Util#hash(byte[])}.
+    * @return true if the representation changed, and false otherwise.
+    */
+   boolean set(long hash);
 
    /**
     * Estimates the cardinality of the set.
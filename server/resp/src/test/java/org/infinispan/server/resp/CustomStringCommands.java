@@ -1,5 +1,7 @@
 package org.infinispan.server.resp;
 
+import java.util.List;
+
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.dynamic.Commands;
 import io.lettuce.core.dynamic.RedisCommandFactory;
@@ -65,6 +67,18 @@ Long sintercard5Args(@Param("k1") byte[] k1, @Param("k2") byte[] k2,
    @Command("JSON.MERGE :key :path :value")
    String jsonMerge(@Param("key") String key, @Param("path") String path, @Param("value") String value);
 
+   @Command("BITCOUNT :key :start :end BIT")
+   Long bitcountBit(@Param("key") String key, @Param("start") int start, @Param("end") int end);
+
+   @Command("BITPOS :key :bit :start :end BIT")
+   Long bitposBit(@Param("key") String key, @Param("bit") int bit, @Param("start") int start, @Param("end") int end);
+
+   @Command("BITFIELD_RO :key GET :type :offset")
+   List<Object> bitfieldRo(@Param("key") String key, @Param("type") String type, @Param("offset") String offset);
+
+   @Command("BITFIELD_RO :key SET :type :offset :value")
+   List<Object> bitfieldRoSet(@Param("key") String key, @Param("type") String type, @Param("offset") String offset, @Param("value") int value);
+
    static CustomStringCommands instance(StatefulConnection<String, String> conn) {
       RedisCommandFactory factory = new RedisCommandFactory(conn);
       return factory.getCommands(CustomStringCommands.class);
@@ -1308,6 +1308,63 @@ public void testPFADD() {
       // assertWrongType(() -> redis.pfadd("data", "e1"), () -> redis.get("data"));
    }
 
+   @Test
+   public void testPFCOUNT() {
+      RedisCommands<String, String> redis = redisConnection.sync();
+
+      assertThat(redis.pfcount("hll-missing")).isZero();
+
+      redis.pfadd("hll-count-1", "el1", "el2", "el3");
+      redis.pfadd("hll-count-2", "el3", "el4");
+      assertThat(redis.pfcount("hll-count-1")).isEqualTo(3L);
+      assertThat(redis.pfcount("hll-count-1")).isEqualTo(3L);
+
+      // Multiple keys count the union, without changing the keys.
+      assertThat(redis.pfcount("hll-count-1", "hll-count-2", "hll-missing")).isEqualTo(4L);
+      assertThat(redis.pfcount("hll-count-2")).isEqualTo(2L);
+
+      for (int i = 0; i < 1000; i++) {
+         redis.pfadd("hll-count-large", "large-" + i);
+      }
+      long large = redis.pfcount("hll-count-large");
+      assertThat(((double) (large - 1000) / 1000)).isBetween(-0.015, 0.015);
+      assertThat(redis.pfcount("hll-count-large", "hll-count-1")).isBetween(large, large + 10);
+
+      assertWrongType(() -> redis.set("plain", "string"), () -> redis.pfcount("plain"));
+      assertWrongType(() -> {}, () -> redis.pfcount("hll-count-1", "plain"));
+   }
+
+   @Test
+   public void testPFMERGE() {
+      RedisCommands<String, String> redis = redisConnection.sync();
+
+      redis.pfadd("hll-merge-1", "el1", "el2", "el3");
+      redis.pfadd("hll-merge-2", "el3", "el4");
+      assertThat(redis.pfmerge("hll-merge-dest", "hll-merge-1", "hll-merge-2", "hll-merge-missing")).isEqualTo("OK");
+      assertThat(redis.pfcount("hll-merge-dest")).isEqualTo(4L);
+      assertThat(redis.pfcount("hll-merge-1")).isEqualTo(3L);
+
+      // Merging into an existing key keeps its elements.
+      assertThat(redis.pfmerge("hll-merge-2", "hll-merge-1")).isEqualTo("OK");
+      assertThat(redis.pfcount("hll-merge-2")).isEqualTo(4L);
+      assertThat(redis.pfadd("hll-merge-2", "el1")).isZero();
+
+      // Merging with a compact HyperLogLog changes the destination representation.
+      for (int i = 0; i < 1000; i++) {
+         redis.pfadd("hll-merge-large", "large-" + i);
+      }
+      assertThat(redis.pfmerge("hll-merge-2", "hll-merge-large")).isEqualTo("OK");
+      assertThat(redis.pfcount("hll-merge-2")).isEqualTo(redis.pfcount("hll-merge-large", "hll-merge-dest"));
+
+      // The destination is created when the sources are missing.
+      assertThat(redis.pfmerge("hll-merge-empty", "hll-merge-missing")).isEqualTo("OK");
+      assertThat(redis.exists("hll-merge-empty")).isEqualTo(1L);
+      assertThat(redis.pfcount("hll-merge-empty")).isZero();
+
+      assertWrongType(() -> redis.set("plain", "string"), () -> redis.pfmerge("plain", "hll-merge-1"));
+      assertWrongType(() -> {}, () -> redis.pfmerge("hll-merge-dest", "plain"));
+   }
+
    @Test
    public void testKeys() {
       RedisCommands<String, String> redis = redisConnection.sync();
@@ -384,6 +384,8 @@ public void testPfaddMultipleServers() throws Exception {
 
       assertThat(c1.get()).isEqualTo(1L);
       assertThat(c2.get()).isEqualTo(1L);
+      assertThat(redisConnection1.sync().pfcount(k0)).isEqualTo(4L);
+      assertThat(redisConnection2.sync().pfcount(k0)).isEqualTo(4L);
 
       String k1 = getStringKeyForCache(respCache(1));
       RedisCommands<String, String> syncC1 = redisConnection1.sync();
@@ -412,6 +414,42 @@ public void testPfaddMultipleServers() throws Exception {
       // TODO: Verify cardinality ISPN-14676
    }
 
+   public void testPfcountPfmergeMultipleServers() {
+      RedisCommands<String, String> r0 = redisConnection1.sync();
+      RedisCommands<String, String> r1 = redisConnection2.sync();
+      String k0 = getStringKeyForCache(respCache(0));
+      String k1 = getStringKeyForCache(respCache(1));
+      String dest = getStringKeyForCache(respCache(1));
+
+      // Each server adds to the key owned by the other one
+      assertThat(r1.pfadd(k0, "a", "b", "c")).isEqualTo(1L);
+      assertThat(r0.pfadd(k1, "c", "d")).isEqualTo(1L);
+
+      assertThat(r0.pfcount(k0, k1)).isEqualTo(4L);
+      assertThat(r1.pfcount(k0, k1)).isEqualTo(4L);
+      assertThat(r0.pfmerge(dest, k0, k1)).isEqualTo("OK");
+      assertThat(r0.pfcount(dest)).isEqualTo(4L);
+      assertThat(r1.pfcount(dest)).isEqualTo(4L);
+   }
+
+   public void testBitopMultipleServers() {
+      RedisCommands<String, String> r0 = redisConnection1.sync();
+      RedisCommands<String, String> r1 = redisConnection2.sync();
+      String k0 = getStringKeyForCache(respCache(0));
+      String k1 = getStringKeyForCache(respCache(1));
+      String dest = getStringKeyForCache(respCache(0));
+
+      r1.set(k0, "\u0001\u0003");
+      r0.set(k1, "\u0002");
+
+      assertThat(r0.bitopOr(dest, k0, k1)).isEqualTo(2L);
+      assertThat(r1.get(dest)).isEqualTo("\u0003\u0003");
+      assertThat(r1.bitopAnd(dest, k0, k1)).isEqualTo(2L);
+      assertThat(r0.get(dest)).isEqualTo("\u0000\u0000");
+      assertThat(r1.bitopXor(dest, k0, k1)).isEqualTo(2L);
+      assertThat(r0.bitcount(dest)).isEqualTo(4L);
+   }
+
    @Test
    public void testPubSub() throws InterruptedException {
       RedisPubSubCommands<String, String> connection = createPubSubConnection();
@@ -17,6 +17,7 @@
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import io.lettuce.core.BitFieldArgs;
 import io.lettuce.core.GetExArgs;
 import io.lettuce.core.KeyValue;
 import io.lettuce.core.RedisCommandExecutionException;
@@ -682,4 +683,166 @@ public void testMget() {
       expected.add(KeyValue.empty("k5"));
       assertThat(results).containsExactlyElementsOf(expected);
    }
+
+   @Test
+   public void testSetbitGetbit() {
+      RedisCommands<String, String> redis = redisConnection.sync();
+      String key = "bits";
+      assertThat(redis.getbit(key, 7)).isZero();
+      assertThat(redis.setbit(key, 7, 1)).isZero();
+      assertThat(redis.setbit(key, 7, 1)).isEqualTo(1);
+      assertThat(redis.getbit(key, 7)).isEqualTo(1);
+      assertThat(redis.get(key)).isEqualTo("\u0001");
+      // The string grows with zeros
+      assertThat(redis.setbit(key, 17, 1)).isZero();
+      assertThat(redis.strlen(key)).isEqualTo(3);
+      assertThat(redis.getbit(key, 1000)).isZero();
+      assertThat(redis.setbit(key, 7, 0)).isEqualTo(1);
+      assertThat(redis.getbit(key, 7)).isZero();
+
+      assertThatThrownBy(() -> redis.setbit(key, -1, 1))
+            .isInstanceOf(RedisCommandExecutionException.class)
+            .hasMessage("ERR bit offset is not an integer or out of range");
+      assertThatThrownBy(() -> redis.setbit(key, 1L << 32, 1))
+            .isInstanceOf(RedisCommandExecutionException.class)
+            .hasMessage("ERR bit offset is not an integer or out of range");
+      assertThatThrownBy(() -> redis.setbit(key, 1, 2))
+            .isInstanceOf(RedisCommandExecutionException.class)
+            .hasMessage("ERR bit is not an integer or out of range");
+
+      assertWrongType(() -> redis.sadd("bits-set", "a"), () -> redis.setbit("bits-set", 1, 1));
+   }
+
+   @Test
+   public void testBitcount() {
+      RedisCommands<String, String> redis = redisConnection.sync();
+      String key = "bitcount";
+      assertThat(redis.bitcount(key)).isZero();
+      redis.set(key, "foobar");
+      assertThat(redis.bitcount(key)).isEqualTo(26);
+      assertThat(redis.bitcount(key, 0, 0)).isEqualTo(4);
+      assertThat(redis.bitcount(key, 1, 1)).isEqualTo(6);
+      assertThat(redis.bitcount(key, -2, -1)).isEqualTo(7);
+      assertThat(redis.bitcount(key, 4, 2)).isZero();
+      assertThat(redis.bitcount(key, 0, 100)).isEqualTo(26);
+
+      CustomStringCommands commands = CustomStringCommands.instance(redisConnection);
+      assertThat(commands.bitcountBit(key, 5, 30)).isEqualTo(17);
+      assertThat(commands.bitcountBit(key, -8, -1)).isEqualTo(4);
+   }
+
+   @Test
+   public void testBitpos() {
+      RedisCommands<String, String> redis = redisConnection.sync();
+      String key = "bitpos";
+      assertThat(redis.bitpos(key, true)).isEqualTo(-1);
+      assertThat(redis.bitpos(key, false)).isZero();
+      setBytes(redis, key, 0xff, 0xf0, 0x00);
+      assertThat(redis.bitpos(key, false)).isEqualTo(12);
+      setBytes(redis, key, 0x00, 0xff, 0xf0);
+      assertThat(redis.bitpos(key, true, 0)).isEqualTo(8);
+      assertThat(redis.bitpos(key, true, 2)).isEqualTo(16);
+      assertThat(redis.bitpos(key, true, 2, -1)).isEqualTo(16);
+
+      setBytes(redis, key, 0xff, 0xff, 0xff);
+      // Without an end, the string is padded with zeros
+      assertThat(redis.bitpos(key, false)).isEqualTo(24);
+      assertThat(redis.bitpos(key, false, 0, -1)).isEqualTo(-1);
+      assertThat(redis.bitpos(key, false, 5)).isEqualTo(40);
+
+      // An empty string has no set bit, and only padding zeros without an end
+      redis.set(key, "");
+      assertThat(redis.bitpos(key, true)).isEqualTo(-1);
+      assertThat(redis.bitpos(key, false)).isZero();
+      assertThat(redis.bitpos(key, false, 0, -1)).isEqualTo(-1);
+
+      redis.set(key, "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001");
+      assertThat(redis.bitpos(key, true)).isEqualTo(87);
+
+      CustomStringCommands commands = CustomStringCommands.instance(redisConnection);
+      assertThat(commands.bitposBit(key, 1, 7, 86)).isEqualTo(-1);
+      assertThat(commands.bitposBit(key, 1, 7, 87)).isEqualTo(87);
+      assertThat(commands.bitposBit(key, 0, 7, 87)).isEqualTo(7);
+   }
+
+   @Test
+   public void testBitop() {
+      RedisCommands<String, String> redis = redisConnection.sync();
+      redis.set("bitop-1", "foobar-and-some-more");
+      redis.set("bitop-2", "abcdef");
+
+      assertThat(redis.bitopAnd("bitop-dest", "bitop-1", "bitop-2")).isEqualTo(20);
+      assertThat(redis.get("bitop-dest")).isEqualTo("`bc`ab" + "\u0000".repeat(14));
+      assertThat(redis.bitopOr("bitop-dest", "bitop-1", "bitop-2")).isEqualTo(20);
+      assertThat(redis.get("bitop-dest")).isEqualTo("goofev-and-some-more");
+      assertThat(redis.bitopXor("bitop-dest", "bitop-1", "bitop-2", "bitop-missing")).isEqualTo(20);
+      assertThat(redis.get("bitop-dest")).isEqualTo("\u0007\r\f\u0006\u0004\u0014-and-some-more");
+      assertThat(redis.bitopNot("bitop-dest", "bitop-2")).isEqualTo(6);
+      assertThat(redis.bitfield("bitop-dest", new BitFieldArgs()
+            .get(BitFieldArgs.unsigned(8), 0)
+            .get(BitFieldArgs.unsigned(8), 40)))
+            .containsExactly(0x9eL, 0x99L);
+
+      // An empty result removes the destination
+      assertThat(redis.bitopAnd("bitop-dest", "bitop-missing", "bitop-other-missing")).isZero();
+      assertThat(redis.exists("bitop-dest")).isZero();
+
+      assertWrongType(() -> redis.sadd("bitop-set", "a"), () -> redis.bitopOr("bitop-dest", "bitop-1", "bitop-set"));
+   }
+
+   @Test
+   public void testBitfield() {
+      RedisCommands<String, String> redis = redisConnection.sync();
+      String key = "bitfield";
+      assertThat(redis.bitfield(key, new BitFieldArgs().get(BitFieldArgs.unsigned(8), 0))).containsExactly(0L);
+      assertThat(redis.exists(key)).isZero();
+
+      assertThat(redis.bitfield(key, new BitFieldArgs()
+            .set(BitFieldArgs.signed(8), 0, -100)
+            .get(BitFieldArgs.signed(8), 0)
+            .get(BitFieldArgs.unsigned(8), 0)
+            .incrBy(BitFieldArgs.unsigned(4), 8, 5)))
+            .containsExactly(0L, -100L, 156L, 5L);
+      assertThat(redis.strlen(key)).isEqualTo(2);
+
+      // WRAP is the default
+      assertThat(redis.bitfield(key, new BitFieldArgs()
+            .incrBy(BitFieldArgs.unsigned(2), 100, 1)
+            .incrBy(BitFieldArgs.unsigned(2), 100, 1)
+            .incrBy(BitFieldArgs.unsigned(2), 100, 1)
+            .incrBy(BitFieldArgs.unsigned(2), 100, 1)))
+            .containsExactly(1L, 2L, 3L, 0L);
+      assertThat(redis.bitfield(key, new BitFieldArgs()
+            .overflow(BitFieldArgs.OverflowType.SAT)
+            .incrBy(BitFieldArgs.signed(8), 0, -100)
+            .incrBy(BitFieldArgs.unsigned(4), 8, 100)))
+            .containsExactly(-128L, 15L);
+      assertThat(redis.bitfield(key, new BitFieldArgs()
+            .overflow(BitFieldArgs.OverflowType.FAIL)
+            .incrBy(BitFieldArgs.unsigned(4), 8, 1)
+            .incrBy(BitFieldArgs.unsigned(4), 8, -1)))
+            .containsExactly(null, 14L);
+      assertThat(redis.bitfield(key, new BitFieldArgs()
+            .set(BitFieldArgs.signed(64), 0, Long.MIN_VALUE)
+            .get(BitFieldArgs.signed(64), 0)))
+            .containsExactly(-9160321642071588864L, Long.MIN_VALUE);
+
+      CustomStringCommands commands = CustomStringCommands.instance(redisConnection);
+      assertThat(commands.bitfieldRo(key, "i64", "#0")).containsExactly(Long.MIN_VALUE);
+      assertThatThrownBy(() -> commands.bitfieldRoSet(key, "i8", "0", 1))
+            .isInstanceOf(RedisCommandExecutionException.class)
+            .hasMessage("ERR BITFIELD_RO only supports the GET subcommand");
+      assertThatThrownBy(() -> commands.bitfieldRo(key, "u64", "0"))
+            .isInstanceOf(RedisCommandExecutionException.class)
+            .hasMessageContaining("ERR Invalid bitfield type");
+   }
+
+   private static void setBytes(RedisCommands<String, String> redis, String key, int... bytes) {
+      redis.del(key);
+      BitFieldArgs args = new BitFieldArgs();
+      for (int i = 0; i < bytes.length; i++) {
+         args.set(BitFieldArgs.unsigned(8), i * 8, bytes[i]);
+      }
+      redis.bitfield(key, args);
+   }
 }
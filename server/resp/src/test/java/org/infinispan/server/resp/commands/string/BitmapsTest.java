@@ -0,0 +1,173 @@
+package org.infinispan.server.resp.commands.string;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+/**
+ * Compares the word based bitmap operations with a bit by bit implementation.
+ */
+@Test(groups = "unit", testName = "server.resp.commands.string.BitmapsTest")
+public class BitmapsTest {
+
+   public void testBitCountAndPos() {
+      Random random = new Random(42);
+      for (int i = 0; i < 500; i++) {
+         byte[] value = randomValue(random, 1 + random.nextInt(40));
+         long bits = value.length * 8L;
+         long from = random.nextInt((int) bits);
+         long to = from + random.nextInt((int) (bits - from));
+         assertThat(Bitmaps.bitCountBits(value, from, to)).isEqualTo(naiveCount(value, from, to));
+         assertThat(Bitmaps.bitCount(value, (int) (from / 8), (int) (to / 8) + 1))
+               .isEqualTo(naiveCount(value, from / 8 * 8, to / 8 * 8 + 7));
+         for (int bit = 0; bit <= 1; bit++) {
+            assertThat(Bitmaps.bitPos(value, bit, from, to)).isEqualTo(naivePos(value, bit, from, to));
+         }
+      }
+   }
+
+   public void testSetBit() {
+      byte[] value = { 0x0F };
+      assertThat(Bitmaps.setBit(value, 4, 1)).isSameAs(value);
+      assertThat(Bitmaps.setBit(value, 0, 0)).isSameAs(value);
+      assertThat(Bitmaps.setBit(value, 0, 1)).containsExactly(0x8F);
+      assertThat(Bitmaps.setBit(value, 7, 0)).containsExactly(0x0E);
+      assertThat(Bitmaps.setBit(value, 23, 1)).containsExactly(0x0F, 0x00, 0x01);
+      assertThat(Bitmaps.setBit(null, 9, 0)).containsExactly(0x00, 0x00);
+      // The value is never updated in place
+      assertThat(value).containsExactly(0x0F);
+   }
+
+   public void testFields() {
+      Random random = new Random(42);
+      for (int i = 0; i < 500; i++) {
+         byte[] value = randomValue(random, 12);
+         int bits = 1 + random.nextInt(64);
+         long offset = random.nextInt(value.length * 8 - bits + 1);
+         long field = random.nextLong();
+         byte[] copy = value.clone();
+         Bitmaps.setField(copy, offset, bits, field);
+         for (long bit = 0; bit < value.length * 8L; bit++) {
+            int expected = bit >= offset && bit < offset + bits
+                  ? (int) (field >>> (bits - 1 - (bit - offset))) & 1
+                  : Bitmaps.getBit(value, bit);
+            assertThat(Bitmaps.getBit(copy, bit)).isEqualTo(expected);
+         }
+         long mask = bits == 64 ? -1L : (1L << bits) - 1;
+         assertThat(Bitmaps.getField(copy, offset, bits, false) & mask).isEqualTo(field & mask);
+         long signed = Bitmaps.getField(copy, offset, bits, true);
+         assertThat(signed).isEqualTo((field << (64 - bits)) >> (64 - bits));
+      }
+      // Bits past the end are read as zero
+      assertThat(Bitmaps.getField(new byte[]{ (byte) 0xFF }, 4, 8, false)).isEqualTo(0xF0);
+      assertThat(Bitmaps.getField(null, 0, 16, true)).isZero();
+   }
+
+   public void testOverflow() {
+      assertThat(Bitmaps.increment(100, 100, 8, true, Bitmaps.Overflow.WRAP)).isEqualTo(-56);
+      assertThat(Bitmaps.increment(100, 100, 8, true, Bitmaps.Overflow.SAT)).isEqualTo(127);
+      assertThat(Bitmaps.increment(-100, -100, 8, true, Bitmaps.Overflow.SAT)).isEqualTo(-128);
+      assertThat(Bitmaps.increment(100, 100, 8, true, Bitmaps.Overflow.FAIL)).isNull();
+      assertThat(Bitmaps.increment(100, 27, 8, true, Bitmaps.Overflow.FAIL)).isEqualTo(127);
+      assertThat(Bitmaps.increment(Long.MAX_VALUE, 1, 64, true, Bitmaps.Overflow.WRAP)).isEqualTo(Long.MIN_VALUE);
+      assertThat(Bitmaps.increment(Long.MIN_VALUE, -1, 64, true, Bitmaps.Overflow.SAT)).isEqualTo(Long.MIN_VALUE);
+      assertThat(Bitmaps.increment(3, 1, 2, false, Bitmaps.Overflow.WRAP)).isZero();
+      assertThat(Bitmaps.increment(3, 1, 2, false, Bitmaps.Overflow.SAT)).isEqualTo(3);
+      assertThat(Bitmaps.increment(1, -2, 2, false, Bitmaps.Overflow.WRAP)).isEqualTo(3);
+      assertThat(Bitmaps.increment(1, -2, 2, false, Bitmaps.Overflow.SAT)).isZero();
+      assertThat(Bitmaps.increment(1, Long.MIN_VALUE, 63, false, Bitmaps.Overflow.SAT)).isZero();
+
+      assertThat(Bitmaps.set(300, 8, false, Bitmaps.Overflow.WRAP)).isEqualTo(44);
+      assertThat(Bitmaps.set(-1, 8, false, Bitmaps.Overflow.SAT)).isEqualTo(255);
+      assertThat(Bitmaps.set(-1, 8, false, Bitmaps.Overflow.FAIL)).isNull();
+      assertThat(Bitmaps.set(200, 8, true, Bitmaps.Overflow.WRAP)).isEqualTo(-56);
+      assertThat(Bitmaps.set(-100, 8, true, Bitmaps.Overflow.FAIL)).isEqualTo(-100);
+   }
+
+   public void testBitOp() {
+      Random random = new Random(42);
+      for (Bitmaps.Operation operation : Bitmaps.Operation.values()) {
+         for (int i = 0; i < 100; i++) {
+            int sources = operation == Bitmaps.Operation.NOT ? 1 : 1 + random.nextInt(4);
+            byte[][] values = new byte[sources][];
+            Bitmaps.BitOp bitOp = new Bitmaps.BitOp(operation);
+            int length = 0;
+            for (int j = 0; j < sources; j++) {
+               values[j] = random.nextInt(10) == 0 ? null : randomValue(random, random.nextInt(40));
+               length = Math.max(length, values[j] == null ? 0 : values[j].length);
+               bitOp.accept(values[j]);
+            }
+            byte[] expected = new byte[length];
+            for (int k = 0; k < length; k++) {
+               int result = byteAt(values[0], k);
+               for (int j = 1; j < sources; j++) {
+                  result = switch (operation) {
+                     case AND -> result & byteAt(values[j], k);
+                     case OR -> result | byteAt(values[j], k);
+                     default -> result ^ byteAt(values[j], k);
+                  };
+               }
+               expected[k] = (byte) (operation == Bitmaps.Operation.NOT ? ~result : result);
+            }
+            assertThat(bitOp.result()).isEqualTo(expected);
+            for (byte[] value : values) {
+               assertThat(value == null || value != bitOp.result()).isTrue();
+            }
+         }
+      }
+   }
+
+   public void testBitOpCombine() {
+      Random random = new Random(42);
+      for (Bitmaps.Operation operation : Bitmaps.Operation.values()) {
+         for (int i = 0; i < 100; i++) {
+            int sources = operation == Bitmaps.Operation.NOT ? 1 : 1 + random.nextInt(6);
+            Bitmaps.BitOp all = new Bitmaps.BitOp(operation);
+            Bitmaps.BitOp left = new Bitmaps.BitOp(operation);
+            Bitmaps.BitOp right = new Bitmaps.BitOp(operation);
+            int split = random.nextInt(sources + 1);
+            for (int j = 0; j < sources; j++) {
+               byte[] value = random.nextInt(10) == 0 ? null : randomValue(random, random.nextInt(40));
+               all.accept(value);
+               (j < split ? left : right).accept(value);
+            }
+            assertThat(left.combine(right).result()).isEqualTo(all.result());
+         }
+      }
+   }
+
+   private static byte[] randomValue(Random random, int length) {
+      byte[] value = new byte[length];
+      random.nextBytes(value);
+      // Long runs of equal bits exercise the word scans
+      if (random.nextBoolean()) {
+         int from = random.nextInt(length + 1);
+         Arrays.fill(value, from, from + random.nextInt(length - from + 1), random.nextBoolean() ? (byte) 0 : (byte) -1);
+      }
+      return value;
+   }
+
+   private static int byteAt(byte[] value, int index) {
+      return value == null || index >= value.length ? 0 : value[index] & 0xFF;
+   }
+
+   private static long naiveCount(byte[] value, long from, long to) {
+      long count = 0;
+      for (long bit = from; bit <= to; bit++) {
+         count += Bitmaps.getBit(value, bit);
+      }
+      return count;
+   }
+
+   private static long naivePos(byte[] value, int expected, long from, long to) {
+      for (long bit = from; bit <= to; bit++) {
+         if (Bitmaps.getBit(value, bit) == expected) {
+            return bit;
+         }
+      }
+      return -1;
+   }
+}
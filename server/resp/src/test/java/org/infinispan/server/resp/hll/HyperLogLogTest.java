@@ -139,6 +139,72 @@ public void testConcurrentOperationsRepresentation(HLLRepresentation representat
       assertThat(representation.cardinality()).isEqualTo(expected);
    }
 
+   @Test(dataProvider = "mergeSizes")
+   public void testMerge(int left, int right) {
+      HyperLogLog first = new HyperLogLog();
+      HyperLogLog second = new HyperLogLog();
+      HyperLogLog all = new HyperLogLog();
+      for (int i = 0; i < left; i++) {
+         byte[] data = ("left-" + i).getBytes(StandardCharsets.US_ASCII);
+         first.add(data);
+         all.add(data);
+      }
+      for (int i = 0; i < right; i++) {
+         byte[] data = ("right-" + i).getBytes(StandardCharsets.US_ASCII);
+         second.add(data);
+         all.add(data);
+      }
+      HLLRepresentation source = second.store();
+
+      assertThat(first.merge(second)).isTrue();
+
+      // Merging is the same as adding every element, and the source does not change.
+      assertThat(first).isEqualTo(all);
+      assertThat(first.cardinality()).isEqualTo(all.cardinality());
+      assertThat(second.store()).isSameAs(source);
+
+      // Merging again has no effect.
+      assertThat(first.merge(second)).isFalse();
+      assertThat(first.merge(first)).isFalse();
+      assertThat(first.merge(new HyperLogLog())).isFalse();
+   }
+
+   @DataProvider
+   protected Object[][] mergeSizes() {
+      return new Object[][] {
+            {10, 20},
+            {150, 150},
+            {1000, 50},
+            {50, 1000},
+            {0, 1000},
+            {5000, 5000},
+      };
+   }
+
+   public void testCardinalityIsCachedUntilChange() {
+      CompactSet cs = new CompactSet();
+      for (int i = 0; i < 10_000; i++) {
+         cs.set(("cached-" + i).getBytes(StandardCharsets.US_ASCII));
+      }
+      long cardinality = cs.cardinality();
+      assertThat(cs.cardinality()).isEqualTo(cardinality);
+
+      // Adding an element that does not change any register keeps the estimate.
+      assertThat(cs.set("cached-0".getBytes(StandardCharsets.US_ASCII))).isFalse();
+      assertThat(cs.cardinality()).isEqualTo(cardinality);
+
+      // Any register update recomputes it.
+      int i = 10_000;
+      while (!cs.set(("cached-" + i).getBytes(StandardCharsets.US_ASCII))) {
+         i++;
+      }
+      CompactSet expected = new CompactSet();
+      for (int j = 0; j <= i; j++) {
+         expected.set(("cached-" + j).getBytes(StandardCharsets.US_ASCII));
+      }
+      assertThat(cs.cardinality()).isEqualTo(expected.cardinality());
+   }
+
    @DataProvider
    protected Object[][] representations() {
       return new Object[][] {